@@ -0,0 +1,173 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 heimuheimu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.heimuheimu.naiveconfig.redis;
+
+import com.heimuheimu.naiveconfig.redis.data.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link RedisDataReader} 与基于 {@link BufferedInputStream#mark(int)}、{@link BufferedInputStream#reset()} 实现的旧版读取器的性能对比。
+ *
+ * <p>运行方式：{@code mvn -Pjmh test-compile exec:exec}</p>
+ *
+ * @author heimuheimu
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class RedisDataReaderBenchmark {
+
+    /**
+     * 响应数据类型：get 为单个 1 KB Bulk strings，mget 为包含 100 个 64 字节 Bulk strings 的 Arrays，large 为单个 64 KB Bulk strings
+     */
+    @Param({"get", "mget", "large"})
+    public String response;
+
+    private byte[] responseBytes;
+
+    @Setup
+    public void setup() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        if ("mget".equals(response)) {
+            RedisData[] datas = new RedisData[100];
+            for (int i = 0; i < datas.length; i++) {
+                datas[i] = new RedisBulkString(createValueBytes(64));
+            }
+            outputStream.write(new RedisArray(datas).getRespByteArray());
+        } else if ("large".equals(response)) {
+            outputStream.write(new RedisBulkString(createValueBytes(64 * 1024)).getRespByteArray());
+        } else {
+            outputStream.write(new RedisBulkString(createValueBytes(1024)).getRespByteArray());
+        }
+        responseBytes = outputStream.toByteArray();
+    }
+
+    @Benchmark
+    public RedisData legacyReader() throws IOException {
+        return new LegacyRedisDataReader(new ByteArrayInputStream(responseBytes)).read();
+    }
+
+    @Benchmark
+    public RedisData currentReader() throws IOException {
+        return new RedisDataReader(new ByteArrayInputStream(responseBytes)).read();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(RedisDataReaderBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    private static byte[] createValueBytes(int length) {
+        byte[] valueBytes = new byte[length];
+        Arrays.fill(valueBytes, (byte) 'v');
+        return valueBytes;
+    }
+
+    /**
+     * 旧版 Redis 数据读取器，每行数据通过 mark、reset 扫描两次，长度前缀通过 {@link Integer#parseInt(String)} 解析，仅用于性能对比。
+     */
+    private static class LegacyRedisDataReader {
+
+        private final BufferedInputStream bis;
+
+        private LegacyRedisDataReader(InputStream inputStream) {
+            this.bis = new BufferedInputStream(inputStream);
+        }
+
+        private RedisData read() throws IOException {
+            int firstByte = bis.read();
+            switch (firstByte) {
+                case RedisSimpleString.FIRST_BYTE:
+                    return new RedisSimpleString(readLine());
+                case RedisError.FIRST_BYTE:
+                    return new RedisError(readLine());
+                case RedisInteger.FIRST_BYTE:
+                    return new RedisInteger(readLine());
+                case RedisBulkString.FIRST_BYTE:
+                    return readBulkString();
+                case RedisArray.FIRST_BYTE:
+                    return readArray();
+                default:
+                    throw new IOException("Unknown first byte: `" + firstByte + "`.");
+            }
+        }
+
+        private RedisBulkString readBulkString() throws IOException {
+            int length = Integer.parseInt(new String(readLine(), RedisData.UTF8));
+            if (length == -1) {
+                return new RedisBulkString(null);
+            }
+            byte[] valueBytes = new byte[length];
+            int valuePos = 0;
+            while (valuePos < length) {
+                valuePos += bis.read(valueBytes, valuePos, length - valuePos);
+            }
+            bis.read();
+            bis.read();
+            return new RedisBulkString(valueBytes);
+        }
+
+        private RedisArray readArray() throws IOException {
+            int length = Integer.parseInt(new String(readLine(), RedisData.UTF8));
+            if (length == -1) {
+                return new RedisArray(null);
+            }
+            RedisData[] datas = new RedisData[length];
+            for (int i = 0; i < length; i++) {
+                datas[i] = read();
+            }
+            return new RedisArray(datas);
+        }
+
+        private byte[] readLine() throws IOException {
+            bis.mark(Integer.MAX_VALUE);
+            int length = 0;
+            while (bis.read() != RedisData.CR) {
+                length++;
+            }
+            bis.reset();
+            byte[] valueBytes = new byte[length];
+            if (length > 0) {
+                bis.read(valueBytes);
+            }
+            bis.read();
+            bis.read();
+            return valueBytes;
+        }
+    }
+}
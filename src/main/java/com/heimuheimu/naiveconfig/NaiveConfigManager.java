@@ -26,6 +26,11 @@ package com.heimuheimu.naiveconfig;
 
 import com.heimuheimu.naiveconfig.exception.NaiveConfigException;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * NaiveConfig 配置管理器，提供配置信息获取、设置等管理操作。
  *
@@ -61,6 +66,80 @@ public interface NaiveConfigManager {
      */
     <T> T get(String key) throws NullPointerException, IllegalArgumentException, NaiveConfigException;
 
+    /**
+     * 批量获取 Key 列表对应的配置信息 Map，Map 的 Key 为配置信息 Key，Value 为对应的配置信息，不存在的 Key 不会出现在返回的 Map 中。
+     *
+     * <p>默认实现将依次调用 {@link #get(String)} 方法逐个获取，实现类应尽量通过批量操作减少网络往返次数。</p>
+     *
+     * @param keys 配置信息 Key 列表，不允许为 {@code null}
+     * @param <T> 配置信息 Value 类型
+     * @return Key 列表对应的配置信息 Map，不会返回 {@code null}
+     * @throws NullPointerException 如果 Key 列表为 {@code null}，或 Key 列表中存在为 {@code null} 的 Key，将抛出此异常
+     * @throws IllegalArgumentException Key 字节长度超过 {@link #MAX_KEY_LENGTH}，将抛出此异常
+     * @throws NaiveConfigException 获取配置信息过程中如果发生异常，将抛出此异常
+     */
+    default <T> Map<String, T> getAll(Collection<String> keys) throws NullPointerException, IllegalArgumentException, NaiveConfigException {
+        if (keys == null) {
+            throw new NullPointerException("Get all failed: `keys could not be null`. Host: `" + getHost() + "`.");
+        }
+        Map<String, T> result = new HashMap<>();
+        for (String key : keys) {
+            T value = get(key);
+            if (value != null) {
+                result.put(key, value);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 异步获取 Key 对应的配置信息值，如果 Key 不存在，异步结果为 {@code null}。
+     *
+     * <p>默认实现在调用线程中同步执行 {@link #get(String)} 方法，返回已完成的异步结果，超时时间将被忽略，
+     * 实现类应尽量提供非阻塞的实现。</p>
+     *
+     * @param key 配置信息 Key
+     * @param timeout 超时时间，单位：毫秒，如果小于等于 0，则使用实现类默认的超时时间
+     * @param <T> 配置信息 Value 类型
+     * @return 配置信息异步结果，如果获取配置信息过程中发生异常，将以 {@link NaiveConfigException} 异常完成
+     * @throws NullPointerException 如果 Key 为 {@code null}，将抛出此异常
+     * @throws IllegalArgumentException Key 字节长度超过 {@link #MAX_KEY_LENGTH}，将抛出此异常
+     */
+    default <T> CompletableFuture<T> getAsync(String key, long timeout) throws NullPointerException, IllegalArgumentException {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            T value = get(key);
+            future.complete(value);
+        } catch (NaiveConfigException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    /**
+     * 异步批量获取 Key 列表对应的配置信息 Map，不存在的 Key 不会出现在 Map 中。
+     *
+     * <p>默认实现在调用线程中同步执行 {@link #getAll(Collection)} 方法，返回已完成的异步结果，超时时间将被忽略，
+     * 实现类应尽量提供非阻塞的实现。</p>
+     *
+     * @param keys 配置信息 Key 列表，不允许为 {@code null}
+     * @param timeout 超时时间，单位：毫秒，如果小于等于 0，则使用实现类默认的超时时间
+     * @param <T> 配置信息 Value 类型
+     * @return Key 列表对应的配置信息 Map 异步结果，如果获取配置信息过程中发生异常，将以 {@link NaiveConfigException} 异常完成
+     * @throws NullPointerException 如果 Key 列表为 {@code null}，或 Key 列表中存在为 {@code null} 的 Key，将抛出此异常
+     * @throws IllegalArgumentException Key 字节长度超过 {@link #MAX_KEY_LENGTH}，将抛出此异常
+     */
+    default <T> CompletableFuture<Map<String, T>> getAllAsync(Collection<String> keys, long timeout) throws NullPointerException, IllegalArgumentException {
+        CompletableFuture<Map<String, T>> future = new CompletableFuture<>();
+        try {
+            Map<String, T> result = getAll(keys);
+            future.complete(result);
+        } catch (NaiveConfigException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
     /**
      * 在配置中心设置 Key 对应的配置信息，并通知已监听该配置信息变更的 NaiveConfig 客户端，返回成功接收该变更信息的 NaiveConfig 客户端数量。
      *
@@ -76,4 +155,29 @@ public interface NaiveConfigManager {
      * @throws NaiveConfigException 设置配置信息过程中如果发生异常，将抛出此异常
      */
     int set(String key, Object value) throws NullPointerException, IllegalArgumentException, NaiveConfigException;
+
+    /**
+     * 异步在配置中心设置 Key 对应的配置信息，并通知已监听该配置信息变更的 NaiveConfig 客户端，异步结果为成功接收该变更信息的 NaiveConfig 客户端数量。
+     * 超时时间为设置及通知操作的总耗时上限。
+     *
+     * <p>默认实现在调用线程中同步执行 {@link #set(String, Object)} 方法，返回已完成的异步结果，超时时间将被忽略，
+     * 实现类应尽量提供非阻塞的实现。</p>
+     *
+     * @param key 配置信息 Key，不允许为 {@code null}
+     * @param value 配置信息 Value，允许为 {@code null}，如果为 {@code null}，仅进行配置信息变更通知，不会在配置中心设置 Key 对应的配置信息
+     * @param timeout 超时时间，单位：毫秒，如果小于等于 0，则使用实现类默认的超时时间
+     * @return 成功接收该变更信息的 NaiveConfig 客户端数量异步结果，如果设置配置信息过程中发生异常，将以 {@link NaiveConfigException} 异常完成
+     * @throws NullPointerException 如果 Key 为 {@code null}，将抛出此异常
+     * @throws IllegalArgumentException Key 字节长度超过 {@link #MAX_KEY_LENGTH}，将抛出此异常
+     * @throws NaiveConfigException 如果配置信息编码失败，将抛出此异常
+     */
+    default CompletableFuture<Integer> setAsync(String key, Object value, long timeout) throws NullPointerException, IllegalArgumentException, NaiveConfigException {
+        CompletableFuture<Integer> future = new CompletableFuture<>();
+        try {
+            future.complete(set(key, value));
+        } catch (NaiveConfigException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
 }
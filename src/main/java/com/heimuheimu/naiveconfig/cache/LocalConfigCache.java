@@ -0,0 +1,257 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 heimuheimu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.heimuheimu.naiveconfig.cache;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 配置信息本地缓存，缓存已解码的配置信息，不存在的 Key 同样会被缓存（值为 {@code null}），避免重复访问配置中心。
+ *
+ * <p>缓存本身不设置过期时间，由使用方在配置信息变更时调用 {@link #invalidate(String)} 使缓存失效，在无法确认配置信息是否变更时
+ * （例如订阅连接断开）调用 {@link #clear()} 清空缓存。</p>
+ *
+ * <p>为避免失效操作与缓存写入并发执行时写入已过期的值，写入前需通过 {@link #getStamp()} 获取版本号，在访问配置中心后使用该版本号调用
+ * {@link #put(String, Object, long)}，如果期间发生过失效或清空操作，该值将不会被写入缓存。</p>
+ *
+ * <p>缓存数量超过最大数量时，将淘汰部分已缓存的配置信息，淘汰顺序不做保证。</p>
+ *
+ * <p><strong>说明：</strong>{@code LocalConfigCache} 类是线程安全的，可在多个线程中使用同一个实例。</p>
+ *
+ * @author heimuheimu
+ */
+public class LocalConfigCache {
+
+    /**
+     * 默认最大缓存数量
+     */
+    public static final int DEFAULT_MAX_SIZE = 1000;
+
+    /**
+     * 最大缓存数量
+     */
+    private final int maxSize;
+
+    /**
+     * 缓存 Map，Key 为配置信息 Key，Value 为缓存的配置信息
+     */
+    private final ConcurrentHashMap<String, CachedValue> cacheMap = new ConcurrentHashMap<>();
+
+    /**
+     * 缓存版本号，每次失效或清空操作都会使版本号递增
+     */
+    private final AtomicLong stamp = new AtomicLong();
+
+    /**
+     * 缓存命中次数
+     */
+    private final AtomicLong hitCount = new AtomicLong();
+
+    /**
+     * 缓存未命中次数
+     */
+    private final AtomicLong missCount = new AtomicLong();
+
+    /**
+     * 因缓存数量超过最大数量被淘汰的次数
+     */
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    /**
+     * 构造一个配置信息本地缓存，最大缓存数量为 {@link #DEFAULT_MAX_SIZE}。
+     */
+    public LocalConfigCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * 构造一个配置信息本地缓存。
+     *
+     * @param maxSize 最大缓存数量，不允许小于等于 0
+     * @throws IllegalArgumentException 如果最大缓存数量小于等于 0，将会抛出此异常
+     */
+    public LocalConfigCache(int maxSize) throws IllegalArgumentException {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Create LocalConfigCache failed: `invalid maxSize`. Max size: `" + maxSize + "`.");
+        }
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * 获取 Key 对应的缓存，如果未缓存，将返回 {@code null}。
+     *
+     * @param key 配置信息 Key
+     * @return Key 对应的缓存，可能为 {@code null}
+     */
+    public CachedValue get(String key) {
+        CachedValue cachedValue = cacheMap.get(key);
+        if (cachedValue != null) {
+            hitCount.incrementAndGet();
+        } else {
+            missCount.incrementAndGet();
+        }
+        return cachedValue;
+    }
+
+    /**
+     * 获得当前缓存版本号，应在访问配置中心前获取，并在写入缓存时传入。
+     *
+     * @return 当前缓存版本号
+     */
+    public long getStamp() {
+        return stamp.get();
+    }
+
+    /**
+     * 将配置信息写入缓存，如果自获取版本号后发生过失效或清空操作，将放弃本次写入。
+     *
+     * @param key 配置信息 Key
+     * @param value 配置信息，允许为 {@code null}，表示该 Key 不存在
+     * @param expectedStamp 访问配置中心前通过 {@link #getStamp()} 获取的版本号
+     * @return 是否写入成功
+     */
+    public boolean put(String key, Object value, long expectedStamp) {
+        if (stamp.get() != expectedStamp) {
+            return false;
+        }
+        CachedValue cachedValue = new CachedValue(value);
+        cacheMap.put(key, cachedValue);
+        if (stamp.get() != expectedStamp) {
+            cacheMap.remove(key, cachedValue);
+            return false;
+        }
+        if (cacheMap.size() > maxSize) {
+            evict(key);
+        }
+        return true;
+    }
+
+    /**
+     * 使 Key 对应的缓存失效。
+     *
+     * @param key 配置信息 Key
+     */
+    public void invalidate(String key) {
+        stamp.incrementAndGet();
+        cacheMap.remove(key);
+    }
+
+    /**
+     * 清空所有缓存。
+     */
+    public void clear() {
+        stamp.incrementAndGet();
+        cacheMap.clear();
+    }
+
+    /**
+     * 获得当前缓存数量。
+     *
+     * @return 当前缓存数量
+     */
+    public int size() {
+        return cacheMap.size();
+    }
+
+    /**
+     * 获得最大缓存数量。
+     *
+     * @return 最大缓存数量
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * 获得缓存命中次数，包括不存在的 Key 的命中次数。
+     *
+     * @return 缓存命中次数
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * 获得缓存未命中次数。
+     *
+     * @return 缓存未命中次数
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * 获得因缓存数量超过最大数量被淘汰的次数。
+     *
+     * @return 淘汰次数
+     */
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    @Override
+    public String toString() {
+        return "LocalConfigCache{" +
+                "maxSize=" + maxSize +
+                ", size=" + cacheMap.size() +
+                ", hitCount=" + hitCount +
+                ", missCount=" + missCount +
+                ", evictionCount=" + evictionCount +
+                '}';
+    }
+
+    private void evict(String excludedKey) {
+        Iterator<String> iterator = cacheMap.keySet().iterator();
+        while (cacheMap.size() > maxSize && iterator.hasNext()) {
+            String key = iterator.next();
+            if (!key.equals(excludedKey)) {
+                iterator.remove();
+                evictionCount.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * 缓存的配置信息，配置信息允许为 {@code null}，表示该 Key 不存在。
+     */
+    public static class CachedValue {
+
+        private final Object value;
+
+        private CachedValue(Object value) {
+            this.value = value;
+        }
+
+        /**
+         * 获得缓存的配置信息，如果为 {@code null}，表示该 Key 不存在。
+         *
+         * @return 缓存的配置信息，可能为 {@code null}
+         */
+        public Object getValue() {
+            return value;
+        }
+    }
+}
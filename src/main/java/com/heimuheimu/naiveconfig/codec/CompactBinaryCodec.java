@@ -0,0 +1,408 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 heimuheimu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.heimuheimu.naiveconfig.codec;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 紧凑二进制编解码器，支持以下类型的 Java 对象，集合最多允许嵌套 {@link #MAX_NESTING_DEPTH} 层：
+ * <ul>
+ *     <li>{@link String}、{@link Boolean}、{@link Byte}、{@link Short}、{@link Integer}、{@link Long}、{@link Float}、
+ *     {@link Double}、{@link Character}、{@code byte[]}</li>
+ *     <li>{@link List}，解码后的类型为 {@link ArrayList}</li>
+ *     <li>{@link Set}，解码后的类型为 {@link LinkedHashSet}</li>
+ *     <li>{@link Map}，解码后的类型为 {@link LinkedHashMap}</li>
+ * </ul>
+ *
+ * <p>整数使用 ZigZag + 变长编码，字符串使用 UTF-8 编码，相比 Java 序列化不包含类描述信息，编码结果更小，编解码速度更快。
+ * 集合中允许包含 {@code null} 元素。集合嵌套层级超过 {@link #MAX_NESTING_DEPTH} 时（例如包含自身的集合），编码及解码均将失败，
+ * 避免栈溢出。</p>
+ *
+ * <p><strong>注意：</strong>集合解码后的具体类型与编码前可能不同，如果 {@link com.heimuheimu.naiveconfig.listener.ConfigSyncHandler}
+ * 依赖具体的集合类型，应使用 {@link JavaSerializationCodec}。</p>
+ *
+ * <p><strong>说明：</strong>{@code CompactBinaryCodec} 类是线程安全的，可在多个线程中使用同一个实例。</p>
+ *
+ * @author heimuheimu
+ */
+public class CompactBinaryCodec implements ValueCodec {
+
+    /**
+     * 集合最大嵌套层级
+     */
+    public static final int MAX_NESTING_DEPTH = 32;
+
+    private static final Charset UTF8 = Charset.forName("utf-8");
+
+    private static final byte TYPE_NULL = 0;
+
+    private static final byte TYPE_TRUE = 1;
+
+    private static final byte TYPE_FALSE = 2;
+
+    private static final byte TYPE_BYTE = 3;
+
+    private static final byte TYPE_SHORT = 4;
+
+    private static final byte TYPE_INT = 5;
+
+    private static final byte TYPE_LONG = 6;
+
+    private static final byte TYPE_FLOAT = 7;
+
+    private static final byte TYPE_DOUBLE = 8;
+
+    private static final byte TYPE_CHAR = 9;
+
+    private static final byte TYPE_STRING = 10;
+
+    private static final byte TYPE_BYTES = 11;
+
+    private static final byte TYPE_LIST = 12;
+
+    private static final byte TYPE_SET = 13;
+
+    private static final byte TYPE_MAP = 14;
+
+    @Override
+    public byte getFormat() {
+        return ValueCodecs.FORMAT_COMPACT_BINARY;
+    }
+
+    @Override
+    public byte[] encode(Object value) throws IOException {
+        Encoder encoder = new Encoder();
+        encoder.writeByte(ValueCodecs.FORMAT_COMPACT_BINARY);
+        encoder.writeValue(value, 0);
+        return encoder.toByteArray();
+    }
+
+    @Override
+    public Object decode(byte[] encodedBytes) throws IOException {
+        if (encodedBytes.length == 0 || encodedBytes[0] != ValueCodecs.FORMAT_COMPACT_BINARY) {
+            throw new IOException("Decode value failed: `invalid format`. Codec: `" + this + "`.");
+        }
+        Decoder decoder = new Decoder(encodedBytes, 1);
+        Object value = decoder.readValue(0);
+        if (decoder.position != encodedBytes.length) {
+            throw new IOException("Decode value failed: `unexpected trailing bytes`. Position: `" + decoder.position
+                    + "`. Length: `" + encodedBytes.length + "`. Codec: `" + this + "`.");
+        }
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return "CompactBinaryCodec{}";
+    }
+
+    private static class Encoder {
+
+        private byte[] buffer = new byte[64];
+
+        private int count = 0;
+
+        private void ensureCapacity(int additional) {
+            int required = count + additional;
+            if (required > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length << 1, required));
+            }
+        }
+
+        private void writeByte(int b) {
+            ensureCapacity(1);
+            buffer[count++] = (byte) b;
+        }
+
+        private void writeVarLong(long value) {
+            ensureCapacity(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[count++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[count++] = (byte) value;
+        }
+
+        private void writeSignedVarLong(long value) {
+            writeVarLong((value << 1) ^ (value >> 63));
+        }
+
+        private void writeFixedLong(long value, int bytes) {
+            ensureCapacity(bytes);
+            for (int i = bytes - 1; i >= 0; i--) {
+                buffer[count++] = (byte) (value >>> (i << 3));
+            }
+        }
+
+        private void writeString(String value) {
+            int length = value.length();
+            boolean isAscii = true;
+            for (int i = 0; i < length; i++) {
+                if (value.charAt(i) >= 0x80) {
+                    isAscii = false;
+                    break;
+                }
+            }
+            if (isAscii) {
+                //ASCII 快速路径
+                writeVarLong(length);
+                ensureCapacity(length);
+                for (int i = 0; i < length; i++) {
+                    buffer[count++] = (byte) value.charAt(i);
+                }
+            } else {
+                //长度以实际编码后的字节数为准，未配对的代理字符会被编码为 '?'
+                byte[] utf8Bytes = value.getBytes(UTF8);
+                writeVarLong(utf8Bytes.length);
+                ensureCapacity(utf8Bytes.length);
+                System.arraycopy(utf8Bytes, 0, buffer, count, utf8Bytes.length);
+                count += utf8Bytes.length;
+            }
+        }
+
+        private void writeBytes(byte[] value) {
+            writeVarLong(value.length);
+            ensureCapacity(value.length);
+            System.arraycopy(value, 0, buffer, count, value.length);
+            count += value.length;
+        }
+
+        private void writeValue(Object value, int depth) throws IOException {
+            if (value == null) {
+                writeByte(TYPE_NULL);
+            } else if (value instanceof String) {
+                writeByte(TYPE_STRING);
+                writeString((String) value);
+            } else if (value instanceof Integer) {
+                writeByte(TYPE_INT);
+                writeSignedVarLong((Integer) value);
+            } else if (value instanceof Long) {
+                writeByte(TYPE_LONG);
+                writeSignedVarLong((Long) value);
+            } else if (value instanceof Boolean) {
+                writeByte((Boolean) value ? TYPE_TRUE : TYPE_FALSE);
+            } else if (value instanceof Double) {
+                writeByte(TYPE_DOUBLE);
+                writeFixedLong(Double.doubleToLongBits((Double) value), 8);
+            } else if (value instanceof Float) {
+                writeByte(TYPE_FLOAT);
+                writeFixedLong(Float.floatToIntBits((Float) value), 4);
+            } else if (value instanceof Short) {
+                writeByte(TYPE_SHORT);
+                writeSignedVarLong((Short) value);
+            } else if (value instanceof Byte) {
+                writeByte(TYPE_BYTE);
+                writeByte((Byte) value);
+            } else if (value instanceof Character) {
+                writeByte(TYPE_CHAR);
+                writeVarLong((Character) value);
+            } else if (value instanceof byte[]) {
+                writeByte(TYPE_BYTES);
+                writeBytes((byte[]) value);
+            } else if (value instanceof List) {
+                checkDepth(depth);
+                writeByte(TYPE_LIST);
+                writeElements((List<?>) value, depth);
+            } else if (value instanceof Set) {
+                checkDepth(depth);
+                writeByte(TYPE_SET);
+                writeElements((Set<?>) value, depth);
+            } else if (value instanceof Map) {
+                checkDepth(depth);
+                Map<?, ?> map = (Map<?, ?>) value;
+                writeByte(TYPE_MAP);
+                writeVarLong(map.size());
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    writeValue(entry.getKey(), depth + 1);
+                    writeValue(entry.getValue(), depth + 1);
+                }
+            } else {
+                throw new IOException("Encode value failed: `unsupported type`. Type: `" + value.getClass().getName() + "`. Value: `" + value + "`.");
+            }
+        }
+
+        private void writeElements(Collection<?> collection, int depth) throws IOException {
+            writeVarLong(collection.size());
+            for (Object element : collection) {
+                writeValue(element, depth + 1);
+            }
+        }
+
+        private void checkDepth(int depth) throws IOException {
+            if (depth >= MAX_NESTING_DEPTH) {
+                throw new IOException("Encode value failed: `nesting is too deep`. Max nesting depth: `" + MAX_NESTING_DEPTH + "`.");
+            }
+        }
+
+        private byte[] toByteArray() {
+            return Arrays.copyOf(buffer, count);
+        }
+    }
+
+    private static class Decoder {
+
+        private final byte[] bytes;
+
+        private int position;
+
+        private Decoder(byte[] bytes, int position) {
+            this.bytes = bytes;
+            this.position = position;
+        }
+
+        private byte readByte() throws IOException {
+            if (position >= bytes.length) {
+                throw new IOException("Decode value failed: `unexpected end of bytes`. Length: `" + bytes.length + "`.");
+            }
+            return bytes[position++];
+        }
+
+        private long readVarLong() throws IOException {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IOException("Decode value failed: `malformed variable-length integer`. Position: `" + position + "`.");
+        }
+
+        private long readSignedVarLong() throws IOException {
+            long value = readVarLong();
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        private long readFixedLong(int length) throws IOException {
+            long value = 0;
+            for (int i = 0; i < length; i++) {
+                value = (value << 8) | (readByte() & 0xFF);
+            }
+            return value;
+        }
+
+        private int readLength() throws IOException {
+            long length = readVarLong();
+            if (length < 0 || length > bytes.length - position) {
+                throw new IOException("Decode value failed: `invalid length`. Length: `" + length + "`. Position: `" + position + "`.");
+            }
+            return (int) length;
+        }
+
+        private void checkDepth(int depth) throws IOException {
+            if (depth >= MAX_NESTING_DEPTH) {
+                throw new IOException("Decode value failed: `nesting is too deep`. Max nesting depth: `" + MAX_NESTING_DEPTH
+                        + "`. Position: `" + (position - 1) + "`.");
+            }
+        }
+
+        private int readCount() throws IOException {
+            long count = readVarLong();
+            //每个元素至少占用 1 个字节
+            if (count < 0 || count > bytes.length - position) {
+                throw new IOException("Decode value failed: `invalid element count`. Count: `" + count + "`. Position: `" + position + "`.");
+            }
+            return (int) count;
+        }
+
+        private Object readValue(int depth) throws IOException {
+            byte type = readByte();
+            switch (type) {
+                case TYPE_NULL:
+                    return null;
+                case TYPE_TRUE:
+                    return Boolean.TRUE;
+                case TYPE_FALSE:
+                    return Boolean.FALSE;
+                case TYPE_BYTE:
+                    return readByte();
+                case TYPE_SHORT:
+                    return (short) readSignedVarLong();
+                case TYPE_INT:
+                    return (int) readSignedVarLong();
+                case TYPE_LONG:
+                    return readSignedVarLong();
+                case TYPE_FLOAT:
+                    return Float.intBitsToFloat((int) readFixedLong(4));
+                case TYPE_DOUBLE:
+                    return Double.longBitsToDouble(readFixedLong(8));
+                case TYPE_CHAR:
+                    return (char) readVarLong();
+                case TYPE_STRING: {
+                    int length = readLength();
+                    String value = new String(bytes, position, length, UTF8);
+                    position += length;
+                    return value;
+                }
+                case TYPE_BYTES: {
+                    int length = readLength();
+                    byte[] value = Arrays.copyOfRange(bytes, position, position + length);
+                    position += length;
+                    return value;
+                }
+                case TYPE_LIST: {
+                    checkDepth(depth);
+                    int count = readCount();
+                    List<Object> list = new ArrayList<>(count);
+                    for (int i = 0; i < count; i++) {
+                        list.add(readValue(depth + 1));
+                    }
+                    return list;
+                }
+                case TYPE_SET: {
+                    checkDepth(depth);
+                    int count = readCount();
+                    Set<Object> set = new LinkedHashSet<>(count * 4 / 3 + 1);
+                    for (int i = 0; i < count; i++) {
+                        set.add(readValue(depth + 1));
+                    }
+                    return set;
+                }
+                case TYPE_MAP: {
+                    checkDepth(depth);
+                    int count = readCount();
+                    Map<Object, Object> map = new LinkedHashMap<>(count * 4 / 3 + 1);
+                    for (int i = 0; i < count; i++) {
+                        Object key = readValue(depth + 1);
+                        map.put(key, readValue(depth + 1));
+                    }
+                    return map;
+                }
+                default:
+                    throw new IOException("Decode value failed: `unknown type`. Type: `" + type + "`. Position: `" + (position - 1) + "`.");
+            }
+        }
+    }
+}
@@ -0,0 +1,347 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 heimuheimu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.heimuheimu.naiveconfig.codec;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 支持压缩的配置信息编解码器，对被装饰编解码器的编码结果进行压缩，适用于路由表、黑名单等较大的配置信息。
+ *
+ * <p>仅当编码结果字节数大于等于压缩阈值，且压缩后字节数更小时才会进行压缩，压缩后的字节数组格式为：
+ * 格式标识 {@link ValueCodecs#FORMAT_DEFLATE}（1 字节） + 压缩前字节数（4 字节，大端） + Deflate 压缩数据，
+ * 未压缩的字节数组与被装饰编解码器的编码结果一致。</p>
+ *
+ * <p>解码时将根据格式标识判断是否需要解压，因此未使用 {@code DeflateCodec} 的客户端同样可以读取压缩后的配置信息，
+ * 解压后的字节数组如果仍为压缩数据格式，将被视为非法数据，不会再次解压。解压后字节数不允许超过 {@link #getMaxDecompressedLength()}
+ * （默认为 {@link #DEFAULT_MAX_DECOMPRESSED_LENGTH}），解压缓冲区按实际解压的字节数逐步扩容，不会按压缩数据头中的字节数一次性分配。
+ * 可通过 {@link #getRawByteCount()}、{@link #getCompressedByteCount()} 等方法获取压缩统计信息，用于调整压缩阈值。</p>
+ *
+ * <p><strong>说明：</strong>{@code DeflateCodec} 类是线程安全的，可在多个线程中使用同一个实例。</p>
+ *
+ * @author heimuheimu
+ */
+public class DeflateCodec implements ValueCodec {
+
+    /**
+     * 默认压缩阈值：16 KB
+     */
+    public static final int DEFAULT_THRESHOLD = 16 * 1024;
+
+    /**
+     * 默认允许解压的最大字节数：16 MB
+     */
+    public static final int DEFAULT_MAX_DECOMPRESSED_LENGTH = 16 * 1024 * 1024;
+
+    /**
+     * 解压时使用的初始缓冲区最大字节数，压缩前字节数来自压缩数据头，不可信任，缓冲区将在解压过程中按需扩容
+     */
+    private static final int MAX_INITIAL_BUFFER_LENGTH = 64 * 1024;
+
+    /**
+     * 压缩数据头长度：格式标识 1 字节 + 压缩前字节数 4 字节
+     */
+    private static final int HEADER_LENGTH = 5;
+
+    /**
+     * 被装饰的编解码器
+     */
+    private final ValueCodec delegate;
+
+    /**
+     * 压缩阈值，编码结果字节数大于等于该值时才会进行压缩
+     */
+    private final int threshold;
+
+    /**
+     * Deflate 压缩级别
+     */
+    private final int level;
+
+    /**
+     * 允许解压的最大字节数
+     */
+    private final int maxDecompressedLength;
+
+    /**
+     * 压缩次数
+     */
+    private final AtomicLong compressedCount = new AtomicLong();
+
+    /**
+     * 已压缩的配置信息在压缩前的总字节数
+     */
+    private final AtomicLong rawByteCount = new AtomicLong();
+
+    /**
+     * 已压缩的配置信息在压缩后的总字节数
+     */
+    private final AtomicLong compressedByteCount = new AtomicLong();
+
+    /**
+     * 解压次数
+     */
+    private final AtomicLong decompressedCount = new AtomicLong();
+
+    /**
+     * 构造一个支持压缩的配置信息编解码器，使用 Java 序列化编码，压缩阈值为 {@link #DEFAULT_THRESHOLD}。
+     */
+    public DeflateCodec() {
+        this(ValueCodecs.JAVA_SERIALIZATION, DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * 构造一个支持压缩的配置信息编解码器，使用默认的压缩级别。
+     *
+     * @param delegate 被装饰的编解码器，不允许为 {@code null}
+     * @param threshold 压缩阈值，单位：字节，编码结果字节数大于等于该值时才会进行压缩
+     * @throws NullPointerException 如果被装饰的编解码器为 {@code null}，将会抛出此异常
+     */
+    public DeflateCodec(ValueCodec delegate, int threshold) throws NullPointerException {
+        this(delegate, threshold, Deflater.DEFAULT_COMPRESSION);
+    }
+
+    /**
+     * 构造一个支持压缩的配置信息编解码器。
+     *
+     * @param delegate 被装饰的编解码器，不允许为 {@code null}
+     * @param threshold 压缩阈值，单位：字节，编码结果字节数大于等于该值时才会进行压缩
+     * @param level Deflate 压缩级别，取值范围：0-9，或 {@link Deflater#DEFAULT_COMPRESSION}
+     * @throws NullPointerException 如果被装饰的编解码器为 {@code null}，将会抛出此异常
+     * @throws IllegalArgumentException 如果被装饰的编解码器为 {@code DeflateCodec}，或压缩级别不合法，将会抛出此异常
+     */
+    public DeflateCodec(ValueCodec delegate, int threshold, int level) throws NullPointerException, IllegalArgumentException {
+        this(delegate, threshold, level, DEFAULT_MAX_DECOMPRESSED_LENGTH);
+    }
+
+    /**
+     * 构造一个支持压缩的配置信息编解码器，并设置允许解压的最大字节数，解压后字节数超过该值的配置信息将解码失败。
+     *
+     * @param delegate 被装饰的编解码器，不允许为 {@code null}
+     * @param threshold 压缩阈值，单位：字节，编码结果字节数大于等于该值时才会进行压缩
+     * @param level Deflate 压缩级别，取值范围：0-9，或 {@link Deflater#DEFAULT_COMPRESSION}
+     * @param maxDecompressedLength 允许解压的最大字节数，不允许小于等于 0
+     * @throws NullPointerException 如果被装饰的编解码器为 {@code null}，将会抛出此异常
+     * @throws IllegalArgumentException 如果被装饰的编解码器为 {@code DeflateCodec}，或压缩级别、允许解压的最大字节数不合法，将会抛出此异常
+     */
+    public DeflateCodec(ValueCodec delegate, int threshold, int level, int maxDecompressedLength) throws NullPointerException, IllegalArgumentException {
+        if (delegate == null) {
+            throw new NullPointerException("Create DeflateCodec failed: `delegate could not be null`. Threshold: `" + threshold + "`.");
+        }
+        if (delegate instanceof DeflateCodec) {
+            throw new IllegalArgumentException("Create DeflateCodec failed: `delegate could not be DeflateCodec`. Delegate: `" + delegate + "`.");
+        }
+        if ((level < 0 || level > 9) && level != Deflater.DEFAULT_COMPRESSION) {
+            throw new IllegalArgumentException("Create DeflateCodec failed: `invalid level`. Level: `" + level + "`.");
+        }
+        if (maxDecompressedLength <= 0) {
+            throw new IllegalArgumentException("Create DeflateCodec failed: `invalid max decompressed length`. Max decompressed length: `"
+                    + maxDecompressedLength + "`.");
+        }
+        this.delegate = delegate;
+        this.threshold = threshold;
+        this.level = level;
+        this.maxDecompressedLength = maxDecompressedLength;
+    }
+
+    @Override
+    public byte getFormat() {
+        return ValueCodecs.FORMAT_DEFLATE;
+    }
+
+    @Override
+    public byte[] encode(Object value) throws IOException {
+        byte[] rawBytes = delegate.encode(value);
+        if (rawBytes.length < threshold) {
+            return rawBytes;
+        }
+        byte[] compressedBytes = compress(rawBytes);
+        if (compressedBytes.length >= rawBytes.length) {
+            return rawBytes;
+        }
+        compressedCount.incrementAndGet();
+        rawByteCount.addAndGet(rawBytes.length);
+        compressedByteCount.addAndGet(compressedBytes.length);
+        return compressedBytes;
+    }
+
+    @Override
+    public Object decode(byte[] encodedBytes) throws IOException, ClassNotFoundException {
+        if (encodedBytes.length > 0 && encodedBytes[0] == ValueCodecs.FORMAT_DEFLATE) {
+            byte[] rawBytes = decompress(encodedBytes);
+            //编码时不会对压缩数据再次压缩，解压后仍为压缩数据格式的字节数组视为非法数据，避免嵌套解压
+            if (rawBytes[0] == ValueCodecs.FORMAT_DEFLATE) {
+                throw new IOException("Decode value failed: `nested deflate data`. Raw length: `" + rawBytes.length + "`. Codec: `" + this + "`.");
+            }
+            return ValueCodecs.decode(rawBytes, delegate);
+        }
+        return ValueCodecs.decode(encodedBytes, delegate);
+    }
+
+    /**
+     * 获得被装饰的编解码器。
+     *
+     * @return 被装饰的编解码器
+     */
+    public ValueCodec getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * 获得压缩阈值，单位：字节。
+     *
+     * @return 压缩阈值
+     */
+    public int getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * 获得允许解压的最大字节数。
+     *
+     * @return 允许解压的最大字节数
+     */
+    public int getMaxDecompressedLength() {
+        return maxDecompressedLength;
+    }
+
+    /**
+     * 获得压缩次数。
+     *
+     * @return 压缩次数
+     */
+    public long getCompressedCount() {
+        return compressedCount.get();
+    }
+
+    /**
+     * 获得已压缩的配置信息在压缩前的总字节数。
+     *
+     * @return 压缩前的总字节数
+     */
+    public long getRawByteCount() {
+        return rawByteCount.get();
+    }
+
+    /**
+     * 获得已压缩的配置信息在压缩后的总字节数（包含 5 字节的压缩数据头）。
+     *
+     * @return 压缩后的总字节数
+     */
+    public long getCompressedByteCount() {
+        return compressedByteCount.get();
+    }
+
+    /**
+     * 获得解压次数。
+     *
+     * @return 解压次数
+     */
+    public long getDecompressedCount() {
+        return decompressedCount.get();
+    }
+
+    @Override
+    public String toString() {
+        return "DeflateCodec{" +
+                "delegate=" + delegate +
+                ", threshold=" + threshold +
+                ", level=" + level +
+                ", maxDecompressedLength=" + maxDecompressedLength +
+                ", compressedCount=" + compressedCount +
+                ", rawByteCount=" + rawByteCount +
+                ", compressedByteCount=" + compressedByteCount +
+                ", decompressedCount=" + decompressedCount +
+                '}';
+    }
+
+    private byte[] compress(byte[] rawBytes) {
+        Deflater deflater = new Deflater(level);
+        try {
+            deflater.setInput(rawBytes);
+            deflater.finish();
+            ByteArrayOutputStream bos = new ByteArrayOutputStream(Math.max(64, rawBytes.length / 2));
+            bos.write(ValueCodecs.FORMAT_DEFLATE);
+            bos.write(rawBytes.length >>> 24);
+            bos.write(rawBytes.length >>> 16);
+            bos.write(rawBytes.length >>> 8);
+            bos.write(rawBytes.length);
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                int length = deflater.deflate(buffer);
+                bos.write(buffer, 0, length);
+            }
+            return bos.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private byte[] decompress(byte[] encodedBytes) throws IOException {
+        if (encodedBytes.length < HEADER_LENGTH) {
+            throw new IOException("Decompress value failed: `incomplete header`. Length: `" + encodedBytes.length + "`. Codec: `" + this + "`.");
+        }
+        int rawLength = ((encodedBytes[1] & 0xFF) << 24) | ((encodedBytes[2] & 0xFF) << 16)
+                | ((encodedBytes[3] & 0xFF) << 8) | (encodedBytes[4] & 0xFF);
+        if (rawLength <= 0) {
+            throw new IOException("Decompress value failed: `invalid raw length`. Raw length: `" + rawLength + "`. Codec: `" + this + "`.");
+        }
+        if (rawLength > maxDecompressedLength) {
+            throw new IOException("Decompress value failed: `raw length exceeds limit`. Raw length: `" + rawLength + "`. Codec: `" + this + "`.");
+        }
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(encodedBytes, HEADER_LENGTH, encodedBytes.length - HEADER_LENGTH);
+            //压缩前字节数不可信任，不按该值一次性分配缓冲区，避免伪造的数据头导致内存溢出
+            byte[] rawBytes = new byte[Math.min(rawLength, MAX_INITIAL_BUFFER_LENGTH)];
+            int offset = 0;
+            while (offset < rawLength && !inflater.finished()) {
+                if (offset == rawBytes.length) {
+                    rawBytes = Arrays.copyOf(rawBytes, (int) Math.min(rawLength, 2L * rawBytes.length));
+                }
+                int length = inflater.inflate(rawBytes, offset, rawBytes.length - offset);
+                if (length == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                offset += length;
+            }
+            if (offset != rawLength || !inflater.finished()) {
+                throw new IOException("Decompress value failed: `length mismatch`. Expected: `" + rawLength + "`. Actual: `" + offset
+                        + "`. Codec: `" + this + "`.");
+            }
+            decompressedCount.incrementAndGet();
+            return rawBytes;
+        } catch (DataFormatException e) {
+            throw new IOException("Decompress value failed: `corrupted data`. Codec: `" + this + "`.", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 heimuheimu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.heimuheimu.naiveconfig.codec;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+/**
+ * 基于 Java 序列化实现的配置信息编解码器，Java 对象必须实现 {@link java.io.Serializable} 接口。
+ *
+ * <p>Java 序列化的字节数组以固定的 0xACED 开头，因此不需要额外写入格式标识，编码结果与早期版本完全一致，可被未使用编解码器的客户端读取。</p>
+ *
+ * <p><strong>说明：</strong>{@code JavaSerializationCodec} 类是线程安全的，可在多个线程中使用同一个实例。</p>
+ *
+ * @author heimuheimu
+ */
+public class JavaSerializationCodec implements ValueCodec {
+
+    @Override
+    public byte getFormat() {
+        return ValueCodecs.FORMAT_JAVA_SERIALIZATION;
+    }
+
+    @Override
+    public byte[] encode(Object value) throws IOException {
+        ByteArrayOutputStream valueBos = new ByteArrayOutputStream();
+        ObjectOutputStream oos = new ObjectOutputStream(valueBos);
+        oos.writeObject(value);
+        oos.flush();
+        return valueBos.toByteArray();
+    }
+
+    @Override
+    public Object decode(byte[] encodedBytes) throws IOException, ClassNotFoundException {
+        ByteArrayInputStream valueBis = new ByteArrayInputStream(encodedBytes);
+        ObjectInputStream ois = new ObjectInputStream(valueBis);
+        return ois.readObject();
+    }
+
+    @Override
+    public String toString() {
+        return "JavaSerializationCodec{}";
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 heimuheimu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.heimuheimu.naiveconfig.codec;
+
+import java.io.IOException;
+
+/**
+ * 配置信息编解码器，负责将 Java 对象编码为字节数组，以及将字节数组解码还原成 Java 对象。
+ *
+ * <p>编码后字节数组的第一个字节必须为编解码器的格式标识 {@link #getFormat()}，解码时将根据该标识选择对应的编解码器，
+ * 因此使用不同编解码器写入的配置信息可以同时存在，便于在集群中逐步迁移编码格式。装饰类编解码器（例如 {@link DeflateCodec}）
+ * 可以直接返回被装饰编解码器的编码结果。</p>
+ *
+ * <p>Java 序列化的字节数组总是以 {@link ValueCodecs#FORMAT_JAVA_SERIALIZATION}（0xAC）开头，自定义编解码器不应使用该格式标识。</p>
+ *
+ * <p><strong>说明：</strong> {@code ValueCodec} 的实现类必须是线程安全的。</p>
+ *
+ * @see ValueCodecs
+ * @author heimuheimu
+ */
+public interface ValueCodec {
+
+    /**
+     * 获得编解码器的格式标识，编码后字节数组的第一个字节必须为该标识。
+     *
+     * @return 编解码器的格式标识
+     */
+    byte getFormat();
+
+    /**
+     * 将 Java 对象编码为字节数组，字节数组的第一个字节为编解码器的格式标识。
+     *
+     * @param value Java 对象，不允许为 {@code null}
+     * @return 编码后的字节数组
+     * @throws IOException 如果编码过程中发生错误，或 Java 对象类型不被支持，将会抛出此异常
+     */
+    byte[] encode(Object value) throws IOException;
+
+    /**
+     * 将字节数组解码还原成 Java 对象，字节数组的第一个字节为编解码器的格式标识。
+     *
+     * @param encodedBytes 编码后的字节数组
+     * @return Java 对象
+     * @throws IOException 如果解码过程中发生错误，将会抛出此异常
+     * @throws ClassNotFoundException 如果 Java 对象对应的类无法找到，将会抛出此异常
+     */
+    Object decode(byte[] encodedBytes) throws IOException, ClassNotFoundException;
+}
@@ -0,0 +1,116 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 heimuheimu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.heimuheimu.naiveconfig.codec;
+
+import java.io.IOException;
+
+/**
+ * {@link ValueCodec} 工具类，定义内置编解码器的格式标识，并根据字节数组的格式标识选择对应的编解码器。
+ *
+ * @author heimuheimu
+ */
+public final class ValueCodecs {
+
+    /**
+     * Java 序列化格式标识，即 Java 序列化字节数组的第一个字节（0xAC）
+     */
+    public static final byte FORMAT_JAVA_SERIALIZATION = (byte) 0xAC;
+
+    /**
+     * {@link CompactBinaryCodec} 格式标识
+     */
+    public static final byte FORMAT_COMPACT_BINARY = 0x01;
+
+    /**
+     * {@link DeflateCodec} 压缩数据格式标识
+     */
+    public static final byte FORMAT_DEFLATE = 0x02;
+
+    /**
+     * 默认使用的编解码器，使用 Java 序列化，与早期版本保持兼容
+     */
+    public static final ValueCodec JAVA_SERIALIZATION = new JavaSerializationCodec();
+
+    /**
+     * 紧凑二进制编解码器
+     */
+    public static final ValueCodec COMPACT_BINARY = new CompactBinaryCodec();
+
+    /**
+     * 解码未使用 {@link DeflateCodec} 的客户端读取到的压缩数据时使用的编解码器
+     */
+    private static final ValueCodec DEFLATE = new DeflateCodec();
+
+    private ValueCodecs() {
+        //private constructor
+    }
+
+    /**
+     * 根据字节数组的格式标识，将字节数组解码还原成 Java 对象。如果格式标识与传入的编解码器一致，将优先使用该编解码器，
+     * 否则使用对应的内置编解码器。
+     *
+     * @param encodedBytes 编码后的字节数组，不允许为 {@code null} 或空数组
+     * @param codec 当前使用的编解码器，不允许为 {@code null}
+     * @return Java 对象
+     * @throws IOException 如果格式标识无法识别，或解码过程中发生错误，将会抛出此异常
+     * @throws ClassNotFoundException 如果 Java 对象对应的类无法找到，将会抛出此异常
+     */
+    public static Object decode(byte[] encodedBytes, ValueCodec codec) throws IOException, ClassNotFoundException {
+        if (encodedBytes.length == 0) {
+            throw new IOException("Decode value failed: `empty bytes`. Codec: `" + codec + "`.");
+        }
+        return getCodec(encodedBytes[0], codec).decode(encodedBytes);
+    }
+
+    /**
+     * 根据格式标识获得对应的编解码器。如果当前使用的编解码器为 {@link DeflateCodec}，其装饰的编解码器同样会被优先使用。
+     *
+     * @param format 格式标识
+     * @param codec 当前使用的编解码器，如果格式标识与之一致，将返回该编解码器
+     * @return 格式标识对应的编解码器
+     * @throws IOException 如果格式标识无法识别，将会抛出此异常
+     */
+    public static ValueCodec getCodec(byte format, ValueCodec codec) throws IOException {
+        if (codec.getFormat() == format) {
+            return codec;
+        }
+        if (codec instanceof DeflateCodec) {
+            ValueCodec delegate = ((DeflateCodec) codec).getDelegate();
+            if (delegate.getFormat() == format) {
+                return delegate;
+            }
+        }
+        switch (format) {
+            case FORMAT_JAVA_SERIALIZATION:
+                return JAVA_SERIALIZATION;
+            case FORMAT_COMPACT_BINARY:
+                return COMPACT_BINARY;
+            case FORMAT_DEFLATE:
+                return DEFLATE;
+            default:
+                throw new IOException("Decode value failed: `unknown format`. Format: `" + (format & 0xFF) + "`. Codec: `" + codec + "`.");
+        }
+    }
+}
@@ -33,8 +33,12 @@ import com.heimuheimu.naivemonitor.util.MonitorUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * {@code NoticeableConfigClientListener} 提供以下功能：
@@ -43,6 +47,9 @@ import java.util.Map;
  *     <li>当 NaiveConfig 客户端与配置中心远程主机数据交互通道不可用时，将会进行实时报警通知</li>
  * </ul>
  *
+ * <p>如果获取到的配置信息与 {@link ConfigSyncHandler} 上一次成功同步的配置信息为同一个实例（配置信息未发生变化），
+ * 将跳过本次同步，避免 {@link ConfigSyncHandler} 重复构建相关数据。</p>
+ *
  * <p><strong>说明：</strong>{@code NoticeableConfigClientListener} 类是线程安全的，可在多个线程中使用同一个实例。</p>
  *
  * @author heimuheimu
@@ -51,6 +58,11 @@ public class NoticeableConfigClientListener extends NaiveConfigClientListenerSke
 
     private static final Logger LOG = LoggerFactory.getLogger(NoticeableConfigClientListener.class);
 
+    /**
+     * 配置信息为 {@code null} 时，在 {@link #lastSyncedValueMap} 中使用的占位对象
+     */
+    private static final Object NULL_VALUE = new Object();
+
     /**
      * 调用 NaiveConfig 服务的项目名称
      */
@@ -71,6 +83,12 @@ public class NoticeableConfigClientListener extends NaiveConfigClientListenerSke
      */
     private final List<ConfigSyncHandler> handlerList;
 
+    /**
+     * 最近一次成功同步的配置信息 Map，Key 为配置信息同步处理器，Value 为该处理器最近一次成功同步的配置信息，{@code null} 值使用 {@link #NULL_VALUE} 代替。
+     * 同一个配置信息 Key 可能对应多个处理器，因此按处理器实例（而非配置信息 Key）记录
+     */
+    private final Map<ConfigSyncHandler, Object> lastSyncedValueMap = Collections.synchronizedMap(new IdentityHashMap<ConfigSyncHandler, Object>());
+
     /**
      * 构造一个 NaiveConfig 客户端事件监听器。
      *
@@ -106,9 +124,7 @@ public class NoticeableConfigClientListener extends NaiveConfigClientListenerSke
     @Override
     @SuppressWarnings("unchecked")
     public void onInitialized(NaiveConfigClient client) {
-        for (ConfigSyncHandler handler : handlerList) {
-            syncConfig(client, handler);
-        }
+        syncAllConfig(client);
     }
 
     @Override
@@ -134,25 +150,82 @@ public class NoticeableConfigClientListener extends NaiveConfigClientListenerSke
     @Override
     public void onRecovered(NaiveConfigClient client) {
         naiveServiceAlarm.onRecovered(getServiceContext(client));
+        syncAllConfig(client);
+    }
+
+    /**
+     * 通过一次批量获取操作同步所有配置信息，如果批量获取失败，将逐个同步配置信息。
+     *
+     * @param client NaiveConfig 客户端
+     */
+    @SuppressWarnings("unchecked")
+    private void syncAllConfig(NaiveConfigClient client) {
+        if (handlerList.isEmpty()) {
+            return;
+        }
+        long startTime = System.currentTimeMillis();
+        Map<String, Object> configMap;
+        try {
+            Set<String> keySet = new LinkedHashSet<>();
+            for (ConfigSyncHandler handler : handlerList) {
+                keySet.add(handler.getKey());
+            }
+            configMap = client.getAll(keySet);
+        } catch (Exception e) {
+            LOG.error("Sync all config failed: `" + e.getMessage() + "`. Sync config one by one. Handler list: `" + handlerList + "`.", e);
+            for (ConfigSyncHandler handler : handlerList) {
+                syncConfig(client, handler);
+            }
+            return;
+        }
         for (ConfigSyncHandler handler : handlerList) {
-            syncConfig(client, handler);
+            try {
+                syncIfChanged(client, handler, configMap.get(handler.getKey()), startTime);
+            } catch (Exception e) {
+                LOG.error("Sync config failed: `" + e.getMessage() + "`. Key: `" + handler.getKey() + "`. Handler: `"
+                        + handler + "`.", e);
+            }
         }
     }
 
-    @SuppressWarnings("unchecked")
     private void syncConfig(NaiveConfigClient client, ConfigSyncHandler handler) {
         try {
             long startTime = System.currentTimeMillis();
             Object value = client.get(handler.getKey());
-            handler.sync(value);
-            LOG.info("Sync config success. Cost: `{}ms`. Key: `{}`. Config: `{}`.",
-                    (System.currentTimeMillis() - startTime), handler.getKey(), value);
+            syncIfChanged(client, handler, value, startTime);
         } catch (Exception e) {
             LOG.error("Sync config failed: `" + e.getMessage() + "`. Key: `" + handler.getKey() + "`. Handler: `"
                     + handler + "`.", e);
         }
     }
 
+    /**
+     * 如果配置信息与上一次成功同步的配置信息不是同一个实例，则调用 {@link ConfigSyncHandler#sync(Object)} 进行同步。
+     * 服务降级期间获取的旧配置信息不进行同步，由 NaiveConfig 客户端在重新获取成功后再次通知。
+     *
+     * @param client NaiveConfig 客户端
+     * @param handler 配置信息同步处理器
+     * @param value 配置信息
+     * @param startTime 同步开始时间
+     */
+    @SuppressWarnings("unchecked")
+    private void syncIfChanged(NaiveConfigClient client, ConfigSyncHandler handler, Object value, long startTime) {
+        String key = handler.getKey();
+        if (client.isStale(key)) {
+            LOG.warn("Config is stale, skip sync. Key: `{}`. Host: `{}`.", key, client.getHost());
+            return;
+        }
+        Object syncedValue = value != null ? value : NULL_VALUE;
+        if (lastSyncedValueMap.get(handler) == syncedValue) {
+            LOG.debug("Config is not changed, skip sync. Key: `{}`.", key);
+            return;
+        }
+        handler.sync(value);
+        lastSyncedValueMap.put(handler, syncedValue);
+        LOG.info("Sync config success. Cost: `{}ms`. Key: `{}`. Config: `{}`.",
+                (System.currentTimeMillis() - startTime), key, value);
+    }
+
     /**
      * 根据 NaiveConfig 客户端构造一个服务及服务所在的运行环境信息。
      *
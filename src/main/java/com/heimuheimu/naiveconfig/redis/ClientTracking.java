@@ -0,0 +1,137 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 heimuheimu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.heimuheimu.naiveconfig.redis;
+
+import com.heimuheimu.naiveconfig.redis.data.RedisCommand;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Redis 服务端辅助的客户端缓存（Client-side caching）配置，{@link RedisNaiveConfigClient} 将在连接上执行 CLIENT TRACKING 命令，
+ * 由 Redis 服务在 Key 变更时推送失效通知，即使 Key 未通过 {@link RedisNaiveConfigManager} 修改，本地缓存也能及时失效。
+ *
+ * <p>支持两种模式：</p>
+ * <ul>
+ *     <li>默认模式：Redis 服务记录当前连接读取过的 Key，仅推送这些 Key 的失效通知，服务端需为每个 Key 保存追踪信息。</li>
+ *     <li>广播（BCAST）模式：Redis 服务推送所有匹配指定前缀的 Key 的失效通知，服务端无需保存追踪信息，适合 Key 数量较多、前缀固定的场景。</li>
+ * </ul>
+ *
+ * <p>广播模式下，不匹配任何前缀的 Key 不会收到失效通知，其本地缓存仍仅依赖 {@link RedisNaiveConfigManager} 发布的变更通知失效。</p>
+ *
+ * <p>更多信息请参考文档：<a href="https://redis.io/docs/manual/client-side-caching/">https://redis.io/docs/manual/client-side-caching/</a></p>
+ *
+ * <p><strong>说明：</strong>{@code ClientTracking} 类是线程安全的，可在多个线程中使用同一个实例。</p>
+ *
+ * @author heimuheimu
+ */
+public class ClientTracking {
+
+    /**
+     * 是否使用广播（BCAST）模式
+     */
+    private final boolean broadcast;
+
+    /**
+     * 广播模式下追踪的 Key 前缀列表，如果为空，将追踪所有 Key
+     */
+    private final List<String> prefixes;
+
+    /**
+     * 构造一个默认模式的客户端缓存配置，Redis 服务仅推送当前连接读取过的 Key 的失效通知。
+     */
+    public ClientTracking() {
+        this(false, null);
+    }
+
+    /**
+     * 构造一个客户端缓存配置。
+     *
+     * @param broadcast 是否使用广播（BCAST）模式
+     * @param prefixes 广播模式下追踪的 Key 前缀列表，允许为 {@code null} 或空列表，此时将追踪所有 Key，默认模式下必须为 {@code null} 或空列表
+     * @throws IllegalArgumentException 如果在默认模式下指定了 Key 前缀，将会抛出此异常
+     * @throws IllegalArgumentException 如果 Key 前缀列表中存在 {@code null} 或空字符串，将会抛出此异常
+     */
+    public ClientTracking(boolean broadcast, List<String> prefixes) throws IllegalArgumentException {
+        List<String> prefixList = prefixes != null ? new ArrayList<>(prefixes) : new ArrayList<String>();
+        if (!broadcast && !prefixList.isEmpty()) {
+            throw new IllegalArgumentException("Create ClientTracking failed: `prefixes require broadcast mode`. Prefixes: `" + prefixList + "`.");
+        }
+        for (String prefix : prefixList) {
+            if (prefix == null || prefix.isEmpty()) {
+                throw new IllegalArgumentException("Create ClientTracking failed: `prefix could not be null or empty`. Prefixes: `" + prefixList + "`.");
+            }
+        }
+        this.broadcast = broadcast;
+        this.prefixes = Collections.unmodifiableList(prefixList);
+    }
+
+    /**
+     * 判断是否使用广播（BCAST）模式。
+     *
+     * @return 是否使用广播模式
+     */
+    public boolean isBroadcast() {
+        return broadcast;
+    }
+
+    /**
+     * 获得广播模式下追踪的 Key 前缀列表，如果为空，将追踪所有 Key。
+     *
+     * @return Key 前缀列表，不会为 {@code null}
+     */
+    public List<String> getPrefixes() {
+        return prefixes;
+    }
+
+    /**
+     * 创建开启客户端缓存追踪的 CLIENT TRACKING 命令。
+     *
+     * @return CLIENT TRACKING 命令
+     */
+    RedisCommand createCommand() {
+        List<String> arguments = new ArrayList<>(3 + prefixes.size() * 2);
+        arguments.add("CLIENT");
+        arguments.add("TRACKING");
+        arguments.add("ON");
+        if (broadcast) {
+            arguments.add("BCAST");
+            for (String prefix : prefixes) {
+                arguments.add("PREFIX");
+                arguments.add(prefix);
+            }
+        }
+        return RedisCommand.of(arguments.toArray(new String[0]));
+    }
+
+    @Override
+    public String toString() {
+        return "ClientTracking{" +
+                "broadcast=" + broadcast +
+                ", prefixes=" + prefixes +
+                '}';
+    }
+}
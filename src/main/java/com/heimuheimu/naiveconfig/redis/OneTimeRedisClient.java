@@ -25,19 +25,69 @@
 package com.heimuheimu.naiveconfig.redis;
 
 import com.heimuheimu.naiveconfig.NaiveConfigManager;
+import com.heimuheimu.naiveconfig.codec.ValueCodec;
+import com.heimuheimu.naiveconfig.codec.ValueCodecs;
 import com.heimuheimu.naiveconfig.exception.NaiveConfigException;
-import com.heimuheimu.naiveconfig.redis.data.RedisArray;
-import com.heimuheimu.naiveconfig.redis.data.RedisBulkString;
+import com.heimuheimu.naiveconfig.redis.cluster.ClusterCommandExecutor;
+import com.heimuheimu.naiveconfig.redis.cluster.ClusterSlots;
+import com.heimuheimu.naiveconfig.redis.data.RedisCommand;
 import com.heimuheimu.naiveconfig.redis.data.RedisData;
+import com.heimuheimu.naiveconfig.redis.transport.CircuitBreakerOpenException;
+import com.heimuheimu.naiveconfig.redis.transport.FailoverCommandExecutor;
+import com.heimuheimu.naiveconfig.redis.transport.OneTimeCommandExecutor;
+import com.heimuheimu.naiveconfig.redis.transport.RedisCommandExecutor;
+import com.heimuheimu.naiveconfig.redis.transport.RedisCommandExecutors;
+import com.heimuheimu.naiveconfig.redis.transport.RedisConnectionPool;
+import com.heimuheimu.naiveconfig.redis.transport.RedisConnectionPoolConfig;
+import com.heimuheimu.naiveconfig.redis.transport.RedisTlsSocketFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.*;
-import java.net.InetSocketAddress;
-import java.net.Socket;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.zip.CRC32;
 
 /**
- * 一次性 Redis 客户端，每次 Redis 操作都会新建立 Socket 连接，在操作结束后关闭该连接。
+ * 一次性 Redis 客户端，默认每次 Redis 操作都会新建立 Socket 连接，在操作结束后关闭该连接。
+ *
+ * <p>如果 Redis 操作较为频繁，可使用 {@link RedisConnectionPool} 构造 {@code OneTimeRedisClient}，复用已建立的长连接，
+ * 同一个连接池可由多个 {@code OneTimeRedisClient} 实例共享。</p>
+ *
+ * <p>{@code OneTimeRedisClient} 同时提供返回 {@link CompletableFuture} 的异步方法，每次调用可指定超时时间。如果 Redis 命令执行器为非阻塞实现，
+ * 例如 {@link com.heimuheimu.naiveconfig.redis.transport.nio.NioRedisCommandExecutor}，异步结果将在 IO 线程中完成，不会占用调用线程，
+ * 因此不应在异步结果的回调中执行阻塞操作。</p>
+ *
+ * <p>同一个 Key 的并发 GET 操作将被合并：在该 Key 的 GET 命令返回前，其它调用方不会再发送 GET 命令，而是等待并共享同一个结果，
+ * 因此这些调用方获得的是同一个 Java 对象实例，不应对其进行修改。收到配置变更通知后，应调用 {@link #detachInFlightGet(String)}，
+ * 使之后的 GET 操作不再合并至变更前已发送的 GET 命令。仅当正在执行中的 GET 操作的超时时间不早于本次 GET 操作的截止时间时才会合并，
+ * 调用方不会因其它调用方设置的较短超时时间而提前失败。</p>
+ *
+ * <p>{@code OneTimeRedisClient} 会记录每个 Key 最近一次解码的字节数组，如果再次获取到的字节数组未发生变化（校验值一致后再逐字节比较），
+ * 将直接返回上一次解码的 Java 对象实例，不再重复进行反序列化，调用方可通过对象实例是否相同判断配置信息是否发生变更。
+ * 最多记录最近访问的 {@link #MAX_DECODED_VALUE_COUNT} 个 Key，超出的 Key 再次获取时将重新解码。</p>
+ *
+ * <p>使用 {@link com.heimuheimu.naiveconfig.redis.transport.CircuitBreakerCommandExecutor} 构造 {@code OneTimeRedisClient} 时，
+ * 熔断器打开期间的 GET、MGET 操作将返回该 Key 最近一次成功获取的 Java 对象，没有获取记录的 Key 仍将立即失败。</p>
+ *
+ * <p>Java 对象的编解码由 {@link ValueCodec} 完成，默认使用 Java 序列化。解码时将根据字节数组的格式标识选择对应的编解码器，
+ * 因此在切换编解码器期间，使用不同编码格式写入的配置信息均可以被正确读取。</p>
  *
  * <p><strong>说明：</strong>{@code OneTimeRedisClient} 类是线程安全的，可在多个线程中使用同一个实例。</p>
  *
@@ -47,34 +97,90 @@ public class OneTimeRedisClient {
 
     private static final Logger LOG = LoggerFactory.getLogger(OneTimeRedisClient.class);
 
+    /**
+     * 单次 MGET 命令允许包含的最大 Key 数量，超过该数量的 Key 列表将被拆分成多个 MGET 命令执行
+     */
+    public static final int MGET_BATCH_SIZE = 100;
+
+    /**
+     * 默认的连接建立超时时间，单位：毫秒
+     */
+    public static final int DEFAULT_CONNECT_TIMEOUT = 3000;
+
+    /**
+     * 默认的 Redis 操作超时时间，单位：毫秒
+     */
+    public static final int DEFAULT_TIMEOUT = 30000;
+
+    /**
+     * 同步 GET 操作等待正在执行中的同一个 Key 的 GET 操作的最长时间，单位：毫秒，避免正在执行中的 GET 操作未能正常结束时调用方永久阻塞
+     */
+    private static final long MAX_IN_FLIGHT_GET_WAIT = DEFAULT_CONNECT_TIMEOUT + DEFAULT_TIMEOUT;
+
+    /**
+     * 最多保留最近一次解码结果的 Key 数量，超过该数量时将移除最久未被访问的 Key 的解码结果
+     */
+    public static final int MAX_DECODED_VALUE_COUNT = 1024;
+
     /**
      * Redis 服务主机地址，由主机名和端口组成，":"符号分割，例如：localhost:6379
      */
     private final String host;
 
     /**
-     * Redis 服务主机名，例如：localhost
+     * Redis 命令执行器
+     */
+    private final RedisCommandExecutor executor;
+
+    /**
+     * 配置信息编解码器，用于编码写入的 Java 对象
+     */
+    private final ValueCodec codec;
+
+    /**
+     * 正在执行中的 GET 操作 Map，Key 为 Redis key，Value 为该 Key 正在执行中的 GET 操作，用于合并同一个 Key 的并发 GET 操作
+     */
+    private final ConcurrentHashMap<String, InFlightGet> inFlightGetMap = new ConcurrentHashMap<>();
+
+    /**
+     * 被合并的 GET 操作次数
+     */
+    private final AtomicLong coalescedGetCount = new AtomicLong();
+
+    /**
+     * 最近一次解码结果 Map，Key 为 Redis key，Value 为该 Key 最近一次解码的字节数组及解码得到的 Java 对象，
+     * 按访问顺序排列，最多保留 {@link #MAX_DECODED_VALUE_COUNT} 个 Key
      */
-    private final String hostname;
+    private final Map<String, DecodedValue> lastDecodedValueMap = Collections.synchronizedMap(
+            new LinkedHashMap<String, DecodedValue>(16, 0.75f, true) {
+
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, DecodedValue> eldest) {
+                    return size() > MAX_DECODED_VALUE_COUNT;
+                }
+            });
 
     /**
-     * Redis 服务端口号
+     * 因字节数组未发生变化而跳过解码的次数
      */
-    private final int port;
+    private final AtomicLong reusedDecodeCount = new AtomicLong();
 
     /**
-     * Redis 操作超时时间
+     * 熔断器打开期间，使用最近一次成功获取的配置信息作为结果的次数
      */
-    private final int timeout;
+    private final AtomicLong staleValueCount = new AtomicLong();
 
     /**
-     * 构造一个一次性 Redis 客户端，默认 Redis 操作超时时间为 30 秒。
+     * 构造一个一次性 Redis 客户端，默认连接建立超时时间为 {@link #DEFAULT_CONNECT_TIMEOUT} 毫秒，Redis 操作超时时间为
+     * {@link #DEFAULT_TIMEOUT} 毫秒。
      *
      * @param host Redis 服务主机地址，由主机名和端口组成，":"符号分割，例如：localhost:6379
      * @throws IllegalArgumentException 如果 Redis 服务主机地址不符合规则，将会抛出此异常
      */
     public OneTimeRedisClient(String host) throws IllegalArgumentException {
-        this(host, 30000);
+        this(host, DEFAULT_CONNECT_TIMEOUT, DEFAULT_TIMEOUT);
     }
 
     /**
@@ -86,22 +192,98 @@ public class OneTimeRedisClient {
      * @throws IllegalArgumentException 如果 Redis 服务主机地址不符合规则，将会抛出此异常
      */
     public OneTimeRedisClient(String host, int timeout) throws IllegalArgumentException {
-        if (timeout <= 0) {
-            LOG.error("Create OneTimeRedisClient failed: `invalid timeout`. Host: `{}`. Timeout: `{}`.", host, timeout);
-            throw new IllegalArgumentException("Create OneTimeRedisClient failed: `invalid timeout`. Host: `" + host
-                    + "`. Timeout: `" + timeout + "`.");
+        this(new OneTimeCommandExecutor(host, timeout));
+    }
+
+    /**
+     * 构造一个分别设置连接建立超时时间与 Redis 操作超时时间的一次性 Redis 客户端。
+     *
+     * @param host Redis 服务主机地址，由主机名和端口组成，":"符号分割，例如：localhost:6379
+     * @param connectTimeout 连接建立超时时间，单位：毫秒，不允许小于等于 0
+     * @param timeout Redis 操作超时时间，单位：毫秒，不允许小于等于 0
+     * @throws IllegalArgumentException 如果连接建立超时时间或 Redis 操作超时时间小于等于 0，将会抛出此异常
+     * @throws IllegalArgumentException 如果 Redis 服务主机地址不符合规则，将会抛出此异常
+     */
+    public OneTimeRedisClient(String host, int connectTimeout, int timeout) throws IllegalArgumentException {
+        this(new OneTimeCommandExecutor(host, connectTimeout, timeout));
+    }
+
+    /**
+     * 构造一个使用 TLS 连接的一次性 Redis 客户端，默认连接建立超时时间为 {@link #DEFAULT_CONNECT_TIMEOUT} 毫秒，Redis 操作超时时间为
+     * {@link #DEFAULT_TIMEOUT} 毫秒。
+     *
+     * <p>每次 Redis 操作都会进行一次 TLS 握手，共享同一个 {@link RedisTlsSocketFactory} 可恢复已缓存的 TLS 会话，
+     * 如果 Redis 操作较为频繁，应通过 {@link RedisConnectionPoolConfig#setTlsSocketFactory(RedisTlsSocketFactory)}
+     * 使用 {@link RedisConnectionPool}，握手仅在连接建立时进行。</p>
+     *
+     * @param host Redis 服务主机地址，由主机名和端口组成，":"符号分割，例如：localhost:6379
+     * @param tlsSocketFactory Redis TLS 连接工厂，允许为 {@code null}，为 {@code null} 时不使用 TLS
+     * @throws IllegalArgumentException 如果 Redis 服务主机地址不符合规则，将会抛出此异常
+     */
+    public OneTimeRedisClient(String host, RedisTlsSocketFactory tlsSocketFactory) throws IllegalArgumentException {
+        this(new OneTimeCommandExecutor(host, DEFAULT_CONNECT_TIMEOUT, DEFAULT_TIMEOUT, tlsSocketFactory));
+    }
+
+    /**
+     * 构造一个支持多个 Redis 服务地址故障转移的一次性 Redis 客户端，命令将优先在可用且平均响应时间最小的地址上执行，
+     * 更多信息请参考 {@link FailoverCommandExecutor}。
+     *
+     * @param hosts Redis 服务主机地址列表，由主机名和端口组成，":"符号分割，例如：localhost:6379，不允许为 {@code null} 或空列表
+     * @param timeout Redis 操作超时时间，单位：毫秒，不允许小于等于 0
+     * @throws IllegalArgumentException 如果 Redis 服务主机地址列表为 {@code null} 或空列表，将会抛出此异常
+     * @throws IllegalArgumentException 如果 Redis 操作超时时间小于等于 0，将会抛出此异常
+     * @throws IllegalArgumentException 如果 Redis 服务主机地址不符合规则，将会抛出此异常
+     */
+    public OneTimeRedisClient(List<String> hosts, int timeout) throws IllegalArgumentException {
+        this(FailoverCommandExecutor.create(hosts, timeout));
+    }
+
+    /**
+     * 构造一个使用指定配置信息编解码器的一次性 Redis 客户端。
+     *
+     * @param host Redis 服务主机地址，由主机名和端口组成，":"符号分割，例如：localhost:6379
+     * @param timeout Redis 操作超时时间，单位：毫秒，不允许小于等于 0
+     * @param codec 配置信息编解码器，用于编码写入的 Java 对象，不允许为 {@code null}
+     * @throws IllegalArgumentException 如果 Redis 操作超时时间小于等于 0，将会抛出此异常
+     * @throws IllegalArgumentException 如果 Redis 服务主机地址不符合规则，将会抛出此异常
+     * @throws NullPointerException 如果配置信息编解码器为 {@code null}，将会抛出此异常
+     */
+    public OneTimeRedisClient(String host, int timeout, ValueCodec codec) throws IllegalArgumentException, NullPointerException {
+        this(new OneTimeCommandExecutor(host, timeout), codec);
+    }
+
+    /**
+     * 使用指定的 Redis 命令执行器构造一个 Redis 客户端，例如使用 {@link RedisConnectionPool} 复用已建立的长连接。
+     *
+     * <p><strong>注意：</strong>{@code OneTimeRedisClient} 不负责关闭传入的 Redis 命令执行器，命令执行器不再使用时，应由调用方关闭。</p>
+     *
+     * @param executor Redis 命令执行器，不允许为 {@code null}
+     * @throws NullPointerException 如果 Redis 命令执行器为 {@code null}，将会抛出此异常
+     */
+    public OneTimeRedisClient(RedisCommandExecutor executor) throws NullPointerException {
+        this(executor, ValueCodecs.JAVA_SERIALIZATION);
+    }
+
+    /**
+     * 使用指定的 Redis 命令执行器及配置信息编解码器构造一个 Redis 客户端。
+     *
+     * <p><strong>注意：</strong>{@code OneTimeRedisClient} 不负责关闭传入的 Redis 命令执行器，命令执行器不再使用时，应由调用方关闭。</p>
+     *
+     * @param executor Redis 命令执行器，不允许为 {@code null}
+     * @param codec 配置信息编解码器，用于编码写入的 Java 对象，不允许为 {@code null}
+     * @throws NullPointerException 如果 Redis 命令执行器为 {@code null}，将会抛出此异常
+     * @throws NullPointerException 如果配置信息编解码器为 {@code null}，将会抛出此异常
+     */
+    public OneTimeRedisClient(RedisCommandExecutor executor, ValueCodec codec) throws NullPointerException {
+        if (executor == null) {
+            throw new NullPointerException("Create OneTimeRedisClient failed: `executor could not be null`.");
         }
-        this.timeout = timeout;
-        this.host = host;
-        try {
-            String[] hostParts = host.split(":");
-            hostname = hostParts[0];
-            port = Integer.parseInt(hostParts[1]);
-        } catch (Exception e) {
-            LOG.error("Create OneTimeRedisClient failed: `invalid host`. Host: `{}`. Timeout: `{}`.", host, timeout);
-            throw new IllegalArgumentException("Create OneTimeRedisClient failed: `invalid timeout`. Host: `" + host
-                    + "`. Timeout: `" + timeout + "`.", e);
+        if (codec == null) {
+            throw new NullPointerException("Create OneTimeRedisClient failed: `codec could not be null`. Host: `" + executor.getHost() + "`.");
         }
+        this.executor = executor;
+        this.codec = codec;
+        this.host = executor.getHost();
     }
 
     /**
@@ -113,6 +295,24 @@ public class OneTimeRedisClient {
         return host;
     }
 
+    /**
+     * 获得当前客户端使用的 Redis 命令执行器。
+     *
+     * @return Redis 命令执行器，不会为 {@code null}
+     */
+    public RedisCommandExecutor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * 获得用于编码写入的 Java 对象的配置信息编解码器。
+     *
+     * @return 配置信息编解码器
+     */
+    public ValueCodec getCodec() {
+        return codec;
+    }
+
     /**
      * 从 Redis 中获取 Key 对应的 Java 对象，如果 Key 不存在，将返回 {@code null}。Key 不允许为 {@code null}，
      * 且字节长度不应超过 {@link NaiveConfigManager#MAX_KEY_LENGTH}。
@@ -126,52 +326,329 @@ public class OneTimeRedisClient {
      */
     @SuppressWarnings("unchecked")
     public <T> T get(String key) throws NullPointerException, IllegalArgumentException, NaiveConfigException {
+        return (T) unwrapStaleValue(getOrStale(key));
+    }
+
+    /**
+     * 从 Redis 中获取 Key 对应的 Java 对象，熔断器打开期间使用的最近一次获取结果将以 {@link StaleValue} 返回。
+     */
+    Object getOrStale(String key) throws NullPointerException, IllegalArgumentException, NaiveConfigException {
         if (key == null) {
             throw new NullPointerException("Key could not be null. Key: `null`. Host: `" + host + "`.");
         }
-        Socket socket = null;
+        InFlightGet flight = new InFlightGet(0);
+        InFlightGet existingFlight = joinInFlightGet(key, flight);
+        if (existingFlight != null) {
+            coalescedGetCount.incrementAndGet();
+            return awaitGet(key, existingFlight.future, MAX_IN_FLIGHT_GET_WAIT);
+        }
         try {
-            byte[] keyBytes = getKeyBytes(key);
-            RedisData[] getCommandDatas = new RedisData[2];
-            getCommandDatas[0] = new RedisBulkString("GET".getBytes(RedisData.UTF8));
-            getCommandDatas[1] = new RedisBulkString(keyBytes);
-            RedisArray getCommand = new RedisArray(getCommandDatas);
-            socket = createSocket();
-            OutputStream outputStream = socket.getOutputStream();
-            outputStream.write(getCommand.getRespByteArray());
-            outputStream.flush();
-            InputStream inputStream = socket.getInputStream();
-            RedisDataReader reader = new RedisDataReader(inputStream);
-            RedisData responseData = reader.read();
-            if (responseData.isBulkString()) {
-                byte[] valueBytes = responseData.getValueBytes();
-                if (valueBytes != null) {
-                    return (T) decode(valueBytes);
-                } else {
-                    return null;
-                }
-            } else if (responseData.isError()) {
-                LOG.error("Get `" + key + "` failed. Redis error message: `" + responseData.getText() + "`. Host: `" + host + "`.");
-                throw new NaiveConfigException("Get `" + key + "` failed. Redis error message: `" + responseData.getText() + "`. Host: `" + host + "`.");
-            } else {
-                //should not happen
-                LOG.error("Unrecognized redis response data for `GET` command. Expect data type: `Bulk strings`. Actual: `"
-                        + responseData + "`. Key: `" + key + "`. Host: `" + host + "`.");
-                throw new NaiveConfigException("Unrecognized redis response data for `GET` command. Expect data type: `Bulk strings`. Actual: `"
-                        + responseData + "`. Key: `" + key + "`. Host: `" + host + "`.");
-            }
+            RedisData responseData = executor.execute(createGetCommand(key));
+            Object value = parseGetResponse(key, responseData);
+            inFlightGetMap.remove(key, flight);
+            flight.future.complete(value);
+            return value;
         } catch (Exception e) {
+            DecodedValue staleValue = getStaleValue(key, e);
+            if (staleValue != null) {
+                StaleValue value = new StaleValue(staleValue.value);
+                inFlightGetMap.remove(key, flight);
+                flight.future.complete(value);
+                return value;
+            }
             LOG.error("Unexpected error. Get `" + key + "` failed. Host: `" + host + "`.", e);
-            throw new NaiveConfigException("Unexpected error. Get `" + key + "` failed. Host: `" + host + "`.", e);
+            NaiveConfigException exception = new NaiveConfigException("Unexpected error. Get `" + key + "` failed. Host: `" + host + "`.", e);
+            inFlightGetMap.remove(key, flight);
+            flight.future.completeExceptionally(exception);
+            throw exception;
         } finally {
-            if (socket != null) {
-                try {
-                    socket.close();
-                } catch (Exception e) {
-                    LOG.error("Close socket failed. Get `" + key + "`. Host: `" + host + "`.", e);
+            if (!flight.future.isDone()) {
+                inFlightGetMap.remove(key, flight);
+                //执行过程中抛出 Error，仍需结束正在执行中的 GET 操作，避免等待的调用方永久阻塞
+                flight.future.completeExceptionally(new NaiveConfigException("Unexpected error. Get `" + key + "` failed: `unexpected error`. Host: `" + host + "`."));
+            }
+        }
+    }
+
+    /**
+     * 在指定的超时时间内从 Redis 中获取 Key 对应的 Java 对象，如果 Key 不存在，将返回 {@code null}。超时时间为本次操作的总耗时上限，
+     * 包含命令执行器故障转移时的重试时间。
+     *
+     * @param key Redis key，不允许为 {@code null}，且字节长度不应超过 {@link NaiveConfigManager#MAX_KEY_LENGTH}
+     * @param timeout 超时时间，单位：毫秒，如果小于等于 0，则使用 Redis 命令执行器默认的超时时间
+     * @param <T> Java 对象类型
+     * @return Key 对应的 Java 对象，如果 Key 不存在，将返回 {@code null}
+     * @throws NullPointerException 如果 Key 为 {@code null}，将抛出此异常
+     * @throws IllegalArgumentException Key 字节长度超过 {@link NaiveConfigManager#MAX_KEY_LENGTH}，将抛出此异常
+     * @throws NaiveConfigException 获取过程中如果发生异常或超时，将抛出此异常
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String key, long timeout) throws NullPointerException, IllegalArgumentException, NaiveConfigException {
+        if (timeout <= 0) {
+            return get(key);
+        }
+        return (T) unwrapStaleValue(awaitGet(key, getOrStaleAsync(key, timeout), timeout + MAX_IN_FLIGHT_GET_WAIT));
+    }
+
+    /**
+     * 异步从 Redis 中获取 Key 对应的 Java 对象，如果 Key 不存在，异步结果为 {@code null}。
+     *
+     * <p>如果 Redis 命令执行器为阻塞实现（例如 {@link OneTimeCommandExecutor}、{@link RedisConnectionPool}），每次调用在命令执行期间将占用一个
+     * {@link RedisCommandExecutors} 中的工作线程，超时不会中断正在进行的 Socket IO；工作线程及等待队列已满时，异步结果将立即以异常完成。</p>
+     *
+     * @param key Redis key，不允许为 {@code null}，且字节长度不应超过 {@link NaiveConfigManager#MAX_KEY_LENGTH}
+     * @param timeout 超时时间，单位：毫秒，如果小于等于 0，则使用 Redis 命令执行器默认的超时时间
+     * @param <T> Java 对象类型
+     * @return Key 对应的 Java 对象异步结果，如果获取过程中发生异常，将以 {@link NaiveConfigException} 异常完成
+     * @throws NullPointerException 如果 Key 为 {@code null}，将抛出此异常
+     * @throws IllegalArgumentException Key 字节长度超过 {@link NaiveConfigManager#MAX_KEY_LENGTH}，将抛出此异常
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> getAsync(final String key, long timeout) throws NullPointerException, IllegalArgumentException {
+        return (CompletableFuture<T>) unwrapStaleValueAsync(getOrStaleAsync(key, timeout));
+    }
+
+    /**
+     * 异步从 Redis 中获取 Key 对应的 Java 对象，熔断器打开期间使用的最近一次获取结果将以 {@link StaleValue} 作为异步结果。
+     */
+    CompletableFuture<Object> getOrStaleAsync(final String key, long timeout) throws NullPointerException, IllegalArgumentException {
+        if (key == null) {
+            throw new NullPointerException("Key could not be null. Key: `null`. Host: `" + host + "`.");
+        }
+        RedisCommand getCommand = createGetCommand(key);
+        final InFlightGet flight = new InFlightGet(timeout);
+        InFlightGet existingFlight = joinInFlightGet(key, flight);
+        if (existingFlight != null) {
+            coalescedGetCount.incrementAndGet();
+            return followInFlightGet(key, existingFlight.future, timeout);
+        }
+        CompletableFuture<Object> result = withStaleValue(key, executeAsync(getCommand, timeout, "Get `" + key + "`", new ResponseParser<Object>() {
+
+            @Override
+            public Object parse(RedisData responseData) throws Exception {
+                return parseGetResponse(key, responseData);
+            }
+
+        }));
+        result.whenComplete(new BiConsumer<Object, Throwable>() {
+
+            @Override
+            public void accept(Object value, Throwable throwable) {
+                inFlightGetMap.remove(key, flight);
+                if (throwable != null) {
+                    flight.future.completeExceptionally(unwrap(throwable));
+                } else {
+                    flight.future.complete(value);
+                }
+            }
+
+        });
+        return result;
+    }
+
+    /**
+     * 使 Key 正在执行中的 GET 操作不再被合并，之后对该 Key 的 GET 操作将重新发送 GET 命令，已在等待的调用方仍将获得原 GET 命令的结果。
+     *
+     * <p>正在执行中的 GET 命令可能在配置信息变更前已发送，收到变更通知后调用该方法，可避免变更后的 GET 操作获得变更前的配置信息。</p>
+     *
+     * @param key Redis key，不允许为 {@code null}
+     * @throws NullPointerException 如果 Key 为 {@code null}，将抛出此异常
+     */
+    public void detachInFlightGet(String key) throws NullPointerException {
+        if (key == null) {
+            throw new NullPointerException("Key could not be null. Key: `null`. Host: `" + host + "`.");
+        }
+        inFlightGetMap.remove(key);
+    }
+
+    /**
+     * 使所有正在执行中的 GET 操作不再被合并，之后的 GET 操作将重新发送 GET 命令，用于变更通知可能已丢失的场景。
+     */
+    public void detachInFlightGets() {
+        inFlightGetMap.clear();
+    }
+
+    /**
+     * 获得熔断器打开期间，使用最近一次成功获取的配置信息作为结果的次数。
+     *
+     * @return 使用最近一次获取结果的次数
+     */
+    public long getStaleValueCount() {
+        return staleValueCount.get();
+    }
+
+    /**
+     * 获得因字节数组未发生变化而跳过解码的次数。
+     *
+     * @return 跳过解码的次数
+     */
+    public long getReusedDecodeCount() {
+        return reusedDecodeCount.get();
+    }
+
+    /**
+     * 获得被合并的 GET 操作次数，即未发送 GET 命令、直接共享其它调用方 GET 结果的操作次数。
+     *
+     * @return 被合并的 GET 操作次数
+     */
+    public long getCoalescedGetCount() {
+        return coalescedGetCount.get();
+    }
+
+    /**
+     * 通过 Redis MGET 命令批量获取 Key 列表对应的 Java 对象 Map，Map 的 Key 为 Redis key，Value 为对应的 Java 对象，
+     * 不存在的 Key 不会出现在返回的 Map 中。Key 列表中的 Key 不允许为 {@code null}，且字节长度不应超过 {@link NaiveConfigManager#MAX_KEY_LENGTH}。
+     *
+     * <p>如果 Key 数量超过 {@link #MGET_BATCH_SIZE}，将会拆分成多个 MGET 命令依次执行。</p>
+     *
+     * @param keys Redis key 列表，不允许为 {@code null}
+     * @param <T> Java 对象类型
+     * @return Key 列表对应的 Java 对象 Map，不会返回 {@code null}
+     * @throws NullPointerException 如果 Key 列表为 {@code null}，或 Key 列表中存在为 {@code null} 的 Key，将抛出此异常
+     * @throws IllegalArgumentException Key 字节长度超过 {@link NaiveConfigManager#MAX_KEY_LENGTH}，将抛出此异常
+     * @throws NaiveConfigException 获取过程中如果发生异常，将抛出此异常
+     */
+    public <T> Map<String, T> getAll(Collection<String> keys) throws NullPointerException, IllegalArgumentException, NaiveConfigException {
+        return unwrapStaleValues(getAllOrStale(keys));
+    }
+
+    /**
+     * 批量获取 Key 列表对应的 Java 对象 Map，熔断器打开期间使用的最近一次获取结果将以 {@link StaleValue} 作为 Map 的 Value。
+     */
+    Map<String, Object> getAllOrStale(Collection<String> keys) throws NullPointerException, IllegalArgumentException, NaiveConfigException {
+        List<List<String>> batchKeyLists = splitKeys(keys);
+        if (executor instanceof ClusterCommandExecutor && batchKeyLists.size() > 1) {
+            //Redis Cluster 中不同哈希槽的 Key 可能位于不同节点，并行执行各个 MGET 命令
+            return awaitGetAll(keys, this.getAllAsync(batchKeyLists, 0));
+        }
+        Map<String, Object> result = new HashMap<>();
+        for (List<String> batchKeyList : batchKeyLists) {
+            RedisCommand mgetCommand = createMgetCommand(batchKeyList);
+            try {
+                RedisData responseData = executor.execute(mgetCommand);
+                result.putAll(this.parseMgetResponse(batchKeyList, responseData));
+            } catch (Exception e) {
+                Map<String, Object> staleValueMap = getStaleValues(batchKeyList, e);
+                if (staleValueMap != null) {
+                    result.putAll(staleValueMap);
+                    continue;
                 }
+                LOG.error("Unexpected error. Get all `" + batchKeyList + "` failed. Host: `" + host + "`.", e);
+                throw new NaiveConfigException("Unexpected error. Get all `" + batchKeyList + "` failed. Host: `" + host + "`.", e);
             }
         }
+        return result;
+    }
+
+    /**
+     * 在指定的超时时间内批量获取 Key 列表对应的 Java 对象 Map，不存在的 Key 不会出现在返回的 Map 中。
+     *
+     * <p>超时时间为本次操作的总耗时上限，拆分后的多个 MGET 命令依次执行，每个命令只能使用剩余的时间。如果剩余时间已不足以执行下一个
+     * MGET 命令（小于已执行命令的最大耗时），将立即失败，不再等待至超时。</p>
+     *
+     * @param keys Redis key 列表，不允许为 {@code null}
+     * @param timeout 超时时间，单位：毫秒，如果小于等于 0，则使用 Redis 命令执行器默认的超时时间
+     * @param <T> Java 对象类型
+     * @return Key 列表对应的 Java 对象 Map，不会返回 {@code null}
+     * @throws NullPointerException 如果 Key 列表为 {@code null}，或 Key 列表中存在为 {@code null} 的 Key，将抛出此异常
+     * @throws IllegalArgumentException Key 字节长度超过 {@link NaiveConfigManager#MAX_KEY_LENGTH}，将抛出此异常
+     * @throws NaiveConfigException 获取过程中如果发生异常或超时，将抛出此异常
+     */
+    public <T> Map<String, T> getAll(Collection<String> keys, long timeout) throws NullPointerException, IllegalArgumentException, NaiveConfigException {
+        if (timeout <= 0) {
+            return getAll(keys);
+        }
+        List<List<String>> batchKeyLists = splitKeys(keys);
+        if (executor instanceof ClusterCommandExecutor && batchKeyLists.size() > 1) {
+            return unwrapStaleValues(awaitGetAll(keys, this.getAllAsync(batchKeyLists, timeout)));
+        }
+        long deadline = System.currentTimeMillis() + timeout;
+        long maxBatchCost = 0;
+        Map<String, Object> result = new HashMap<>();
+        for (List<String> batchKeyList : batchKeyLists) {
+            long startTime = System.currentTimeMillis();
+            long remainingTime = deadline - startTime;
+            if (remainingTime <= maxBatchCost) {
+                LOG.error("Get all `" + keys + "` failed: `deadline exceeded`. Remaining time: `" + remainingTime + "ms`. Timeout: `"
+                        + timeout + "ms`. Host: `" + host + "`.");
+                throw new NaiveConfigException("Get all `" + keys + "` failed: `deadline exceeded`. Remaining time: `" + remainingTime
+                        + "ms`. Timeout: `" + timeout + "ms`. Host: `" + host + "`.", new TimeoutException());
+            }
+            result.putAll(awaitGetAll(batchKeyList, this.getAllAsync(Collections.singletonList(batchKeyList), remainingTime)));
+            maxBatchCost = Math.max(maxBatchCost, System.currentTimeMillis() - startTime);
+        }
+        return unwrapStaleValues(result);
+    }
+
+    /**
+     * 异步批量获取 Key 列表对应的 Java 对象 Map，不存在的 Key 不会出现在 Map 中。
+     *
+     * <p>如果 Key 数量超过 {@link #MGET_BATCH_SIZE}，将会拆分成多个 MGET 命令并发执行，每个 MGET 命令的超时时间均为指定的超时时间。</p>
+     *
+     * <p>如果 Redis 命令执行器为阻塞实现，每个 MGET 命令在执行期间将占用一个 {@link RedisCommandExecutors} 中的工作线程。</p>
+     *
+     * @param keys Redis key 列表，不允许为 {@code null}
+     * @param timeout 超时时间，单位：毫秒，如果小于等于 0，则使用 Redis 命令执行器默认的超时时间
+     * @param <T> Java 对象类型
+     * @return Key 列表对应的 Java 对象 Map 异步结果，如果获取过程中发生异常，将以 {@link NaiveConfigException} 异常完成
+     * @throws NullPointerException 如果 Key 列表为 {@code null}，或 Key 列表中存在为 {@code null} 的 Key，将抛出此异常
+     * @throws IllegalArgumentException Key 字节长度超过 {@link NaiveConfigManager#MAX_KEY_LENGTH}，将抛出此异常
+     */
+    public <T> CompletableFuture<Map<String, T>> getAllAsync(Collection<String> keys, long timeout) throws NullPointerException, IllegalArgumentException {
+        final CompletableFuture<Map<String, T>> result = new CompletableFuture<>();
+        getAllOrStaleAsync(keys, timeout).whenComplete(new BiConsumer<Map<String, Object>, Throwable>() {
+
+            @Override
+            public void accept(Map<String, Object> valueMap, Throwable throwable) {
+                if (throwable != null) {
+                    result.completeExceptionally(unwrap(throwable));
+                } else {
+                    result.complete(OneTimeRedisClient.<T>unwrapStaleValues(valueMap));
+                }
+            }
+
+        });
+        return result;
+    }
+
+    /**
+     * 异步批量获取 Key 列表对应的 Java 对象 Map，熔断器打开期间使用的最近一次获取结果将以 {@link StaleValue} 作为 Map 的 Value。
+     */
+    CompletableFuture<Map<String, Object>> getAllOrStaleAsync(Collection<String> keys, long timeout) throws NullPointerException, IllegalArgumentException {
+        return getAllAsync(splitKeys(keys), timeout);
+    }
+
+    private CompletableFuture<Map<String, Object>> getAllAsync(List<List<String>> batchKeyLists, long timeout) {
+        final List<CompletableFuture<Map<String, Object>>> batchFutureList = new ArrayList<>(batchKeyLists.size());
+        for (final List<String> batchKeyList : batchKeyLists) {
+            batchFutureList.add(withStaleValues(batchKeyList, executeAsync(createMgetCommand(batchKeyList), timeout,
+                    "Get all `" + batchKeyList + "`", new ResponseParser<Map<String, Object>>() {
+
+                        @Override
+                        public Map<String, Object> parse(RedisData responseData) throws Exception {
+                            return parseMgetResponse(batchKeyList, responseData);
+                        }
+
+                    })));
+        }
+        final CompletableFuture<Map<String, Object>> result = new CompletableFuture<>();
+        CompletableFuture.allOf(batchFutureList.toArray(new CompletableFuture<?>[0])).whenComplete(new BiConsumer<Void, Throwable>() {
+
+            @Override
+            public void accept(Void ignored, Throwable throwable) {
+                if (throwable != null) {
+                    result.completeExceptionally(unwrap(throwable));
+                } else {
+                    Map<String, Object> valueMap = new HashMap<>();
+                    for (CompletableFuture<Map<String, Object>> batchFuture : batchFutureList) {
+                        valueMap.putAll(batchFuture.join());
+                    }
+                    result.complete(valueMap);
+                }
+            }
+
+        });
+        return result;
     }
 
     /**
@@ -192,53 +669,56 @@ public class OneTimeRedisClient {
         if (value == null) {
             throw new NullPointerException("Value could not be null. Key: `" + key + "`. Value: `null`. Host: `" + host + "`.");
         }
-        Socket socket = null;
         try {
-            byte[] keyBytes = getKeyBytes(key);
-            RedisData[] setCommandDatas = new RedisData[3];
-            setCommandDatas[0] = new RedisBulkString("SET".getBytes(RedisData.UTF8));
-            setCommandDatas[1] = new RedisBulkString(keyBytes);
-            setCommandDatas[2] = new RedisBulkString(encode(value));
-            RedisArray setCommand = new RedisArray(setCommandDatas);
-            socket = createSocket();
-            OutputStream outputStream = socket.getOutputStream();
-            outputStream.write(setCommand.getRespByteArray());
-            outputStream.flush();
-            InputStream inputStream = socket.getInputStream();
-            RedisDataReader reader = new RedisDataReader(inputStream);
-            RedisData responseData = reader.read();
-            if (responseData.isError()) {
-                LOG.error("Set `" + key + "` failed. Value: `" + value + "`. Redis error message: `" + responseData.getText() + "`. Host: `" + host + "`.");
-                throw new NaiveConfigException("Set `" + key + "` failed. Value: `" + value + "`. Redis error message: `" + responseData.getText() + "`. Host: `" + host + "`.");
-            } else if(responseData.isSimpleString()) {
-                if( !"OK".equals(responseData.getText()) ) {
-                    //should not happen
-                    LOG.error("Unrecognized redis response data for `SET` command. Expect data type: `Simple strings`. Expect value: `OK`. Actual: `"
-                            + responseData + "`. Host: `" + host + "`. Key: `" + key + "`. Value: `" + value + "`.");
-                    throw new NaiveConfigException("Unrecognized redis response data for `SET` command. Expect data type: `Simple strings`. Expect value: `OK`. Actual: `"
-                            + responseData + "`. Host: `" + host + "`. Key: `" + key + "`. Value: `" + value + "`.");
-                }
-            } else {
-                //should not happen
-                LOG.error("Unrecognized redis response data for `SET` command. Expect data type: `Simple strings`. Expect value: `OK`. Actual: `"
-                        + responseData + "`. Host: `" + host + "`. Key: `" + key + "`. Value: `" + value + "`.");
-                throw new NaiveConfigException("Unrecognized redis response data for `SET` command. Expect data type: `Simple strings`. Expect value: `OK`. Actual: `"
-                        + responseData + "`. Host: `" + host + "`. Key: `" + key + "`. Value: `" + value + "`.");
-            }
+            RedisData responseData = executor.execute(createSetCommand(key, value));
+            parseSetResponse(key, value, responseData);
         } catch (Exception e) {
             LOG.error("Unexpected error. Set `" + key + "` failed. Value: `" + value + "`. Host: `" + host + "`.", e);
             throw new NaiveConfigException("Unexpected error. Set `" + key + "` failed. Value: `" + value + "`. Host: `" + host + "`.", e);
-        } finally {
-            if (socket != null) {
-                try {
-                    socket.close();
-                } catch (Exception e) {
-                    LOG.error("Close socket failed. Set `" + key + "`. Value: `" + value + "`. Host: `" + host + "`.", e);
-                }
-            }
         }
     }
 
+    /**
+     * 异步在 Redis 中设置 Key 对应的 Java 对象，Java 对象的编码操作将在调用线程中执行。
+     *
+     * <p>如果 Redis 命令执行器为阻塞实现（例如 {@link OneTimeCommandExecutor}、{@link RedisConnectionPool}），每次调用在命令执行期间将占用一个
+     * {@link RedisCommandExecutors} 中的工作线程，超时不会中断正在进行的 Socket IO；工作线程及等待队列已满时，异步结果将立即以异常完成。</p>
+     *
+     * @param key Redis key，不允许为 {@code null}，且字节长度不应超过 {@link NaiveConfigManager#MAX_KEY_LENGTH}
+     * @param value Key 对应的 Java 对象，不允许为 {@code null}，且字节长度不应超过 512 MB
+     * @param timeout 超时时间，单位：毫秒，如果小于等于 0，则使用 Redis 命令执行器默认的超时时间
+     * @return 设置操作异步结果，如果设置过程中发生异常，将以 {@link NaiveConfigException} 异常完成
+     * @throws NullPointerException 如果 Key 为 {@code null}，将抛出此异常
+     * @throws NullPointerException 如果 Value 为 {@code null}，将抛出此异常
+     * @throws IllegalArgumentException Key 字节长度超过 {@link NaiveConfigManager#MAX_KEY_LENGTH}，将抛出此异常
+     * @throws NaiveConfigException 如果 Java 对象编码失败，将抛出此异常
+     */
+    public CompletableFuture<Void> setAsync(final String key, final Object value, long timeout) throws NullPointerException,
+            IllegalArgumentException, NaiveConfigException {
+        if (key == null) {
+            throw new NullPointerException("Key could not be null. Key: `null`. Value: `" + value + "`. Host: `" + host + "`.");
+        }
+        if (value == null) {
+            throw new NullPointerException("Value could not be null. Key: `" + key + "`. Value: `null`. Host: `" + host + "`.");
+        }
+        RedisCommand setCommand;
+        try {
+            setCommand = createSetCommand(key, value);
+        } catch (IOException e) {
+            LOG.error("Encode value failed. Set `" + key + "` failed. Value: `" + value + "`. Host: `" + host + "`.", e);
+            throw new NaiveConfigException("Encode value failed. Set `" + key + "` failed. Value: `" + value + "`. Host: `" + host + "`.", e);
+        }
+        return executeAsync(setCommand, timeout, "Set `" + key + "`", new ResponseParser<Void>() {
+
+            @Override
+            public Void parse(RedisData responseData) throws Exception {
+                parseSetResponse(key, value, responseData);
+                return null;
+            }
+
+        });
+    }
+
     /**
      * 从 Redis 中删除指定的 Key，Key 不允许为 {@code null}，且字节长度不应超过 {@link NaiveConfigManager#MAX_KEY_LENGTH}。
      *
@@ -252,22 +732,13 @@ public class OneTimeRedisClient {
         if (key == null) {
             throw new NullPointerException("Key could not be null. Key: `null`. Host: `" + host + "`.");
         }
-        Socket socket = null;
         try {
-            byte[] keyBytes = getKeyBytes(key);
-            RedisData[] delCommandDatas = new RedisData[2];
-            delCommandDatas[0] = new RedisBulkString("DEL".getBytes(RedisData.UTF8));
-            delCommandDatas[1] = new RedisBulkString(keyBytes);
-            RedisArray delCommand = new RedisArray(delCommandDatas);
-            socket = createSocket();
-            OutputStream outputStream = socket.getOutputStream();
-            outputStream.write(delCommand.getRespByteArray());
-            outputStream.flush();
-            InputStream inputStream = socket.getInputStream();
-            RedisDataReader reader = new RedisDataReader(inputStream);
-            RedisData responseData = reader.read();
+            checkKey(key);
+            RedisCommand delCommand = RedisCommand.del(key);
+            RedisData responseData = executor.execute(delCommand);
             if (responseData.isInteger()) {
                 long deletedRows = Long.parseLong(responseData.getText());
+                lastDecodedValueMap.remove(key);
                 return deletedRows == 1;
             } else if (responseData.isError()) {
                 LOG.error("Delete `" + key + "` failed. Redis error message: `" + responseData.getText() + "`. Host: `" + host + "`.");
@@ -282,14 +753,6 @@ public class OneTimeRedisClient {
         } catch (Exception e) {
             LOG.error("Unexpected error. Delete `" + key + "` failed. Host: `" + host + "`.", e);
             throw new NaiveConfigException("Unexpected error. Delete `" + key + "` failed. Host: `" + host + "`.", e);
-        } finally {
-            if (socket != null) {
-                try {
-                    socket.close();
-                } catch (Exception e) {
-                    LOG.error("Close socket failed. Delete `" + key + "`. Host: `" + host + "`.", e);
-                }
-            }
         }
     }
 
@@ -310,87 +773,593 @@ public class OneTimeRedisClient {
         if (message == null) {
             throw new NullPointerException("Channel could not be null. Channel: `" + channel + "`. Message: `null`. Host: `" + host + "`.");
         }
-        Socket socket = null;
         try {
-            RedisData[] publishCommandDatas = new RedisData[3];
-            publishCommandDatas[0] = new RedisBulkString("PUBLISH".getBytes(RedisData.UTF8));
-            publishCommandDatas[1] = new RedisBulkString(channel.getBytes(RedisData.UTF8));
-            publishCommandDatas[2] = new RedisBulkString(message.getBytes(RedisData.UTF8));
-            RedisArray publishCommand = new RedisArray(publishCommandDatas);
-            socket = createSocket();
-            OutputStream outputStream = socket.getOutputStream();
-            outputStream.write(publishCommand.getRespByteArray());
-            outputStream.flush();
-            InputStream inputStream = socket.getInputStream();
-            RedisDataReader reader = new RedisDataReader(inputStream);
-            RedisData responseData = reader.read();
-            if (responseData.isInteger()) {
-                long receivedClients = Long.parseLong(responseData.getText());
-                return (int) receivedClients;
-            } else if (responseData.isError()) {
-                LOG.error("Publish `" + message + "` failed. Channel: `" + channel + "`. Redis error message: `" + responseData.getText() + "`. Host: `" + host + "`.");
-                throw new NaiveConfigException("Publish `" + message + "` failed. Channel: `" + channel + "`. Redis error message: `" + responseData.getText() + "`. Host: `" + host + "`.");
-            } else {
-                //should not happen
-                LOG.error("Unrecognized redis response data for `PUBLISH` command. Expect data type: `Integers`. Actual: `"
-                        + responseData + "`. Channel: `" + channel + "`. Message: `" + message + "`. Host: `" + host + "`.");
-                throw new NaiveConfigException("Unrecognized redis response data for `PUBLISH` command. Expect data type: `Integers`. Actual: `"
-                        + responseData + "`. Channel: `" + channel + "`. Message: `" + message + "`. Host: `" + host + "`.");
-            }
+            RedisData responseData = executor.execute(createPublishCommand(channel, message));
+            return parsePublishResponse(channel, message, responseData);
         } catch (Exception e) {
             LOG.error("Unexpected error. Publish `" + message + "` failed. Channel: `" + channel + "`. Host: `" + host + "`.", e);
             throw new NaiveConfigException("Unexpected error. Publish `" + message + "` failed. Channel: `" + channel + "`. Host: `" + host + "`.", e);
-        } finally {
-            if (socket != null) {
+        }
+    }
+
+    /**
+     * 异步调用 Redis PUBLISH 命令，在指定 Channel 发布一条消息。
+     *
+     * @param channel 消息发布所在的 Channel，仅允许订阅该 Channel 的客户端接收到当前消息
+     * @param message 发布的消息内容
+     * @param timeout 超时时间，单位：毫秒，如果小于等于 0，则使用 Redis 命令执行器默认的超时时间
+     * @return 接收到该消息的 Redis 客户端数量异步结果，如果发布过程中发生异常，将以 {@link NaiveConfigException} 异常完成
+     * @throws NullPointerException 如果 Channel 为 {@code null}，将抛出此异常
+     * @throws NullPointerException 如果 Message 为 {@code null}，将抛出此异常
+     */
+    public CompletableFuture<Integer> publishAsync(final String channel, final String message, long timeout) throws NullPointerException {
+        if (channel == null) {
+            throw new NullPointerException("Channel could not be null. Channel: `null`. Message: `" + message + "`. Host: `" + host + "`.");
+        }
+        if (message == null) {
+            throw new NullPointerException("Channel could not be null. Channel: `" + channel + "`. Message: `null`. Host: `" + host + "`.");
+        }
+        return executeAsync(createPublishCommand(channel, message), timeout, "Publish `" + message + "` at channel `" + channel + "`",
+                new ResponseParser<Integer>() {
+
+                    @Override
+                    public Integer parse(RedisData responseData) throws Exception {
+                        return parsePublishResponse(channel, message, responseData);
+                    }
+
+                });
+    }
+
+    /**
+     * 等待批量 GET 操作完成，并返回其结果。
+     *
+     * @param keys Redis key 列表，仅用于异常信息
+     * @param future 批量 GET 操作结果
+     * @param <T> Value 类型
+     * @return Key 列表对应的 Java 对象 Map
+     * @throws NaiveConfigException 如果批量 GET 操作失败或等待过程被中断，将抛出此异常
+     */
+    private <T> Map<String, T> awaitGetAll(Collection<String> keys, CompletableFuture<Map<String, T>> future) throws NaiveConfigException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof NaiveConfigException) {
+                throw (NaiveConfigException) cause;
+            }
+            throw new NaiveConfigException("Unexpected error. Get all `" + keys + "` failed. Host: `" + host + "`.", cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new NaiveConfigException("Get all `" + keys + "` failed: `interrupted`. Host: `" + host + "`.", e);
+        }
+    }
+
+    /**
+     * 等待正在执行中的 GET 操作完成，并返回其结果。
+     *
+     * @param key Redis key
+     * @param flight 正在执行中的 GET 操作结果
+     * @param timeout 最长等待时间，单位：毫秒
+     * @return Key 对应的 Java 对象
+     * @throws NaiveConfigException 如果 GET 操作失败、等待超时或等待过程被中断，将抛出此异常
+     */
+    private Object awaitGet(String key, CompletableFuture<Object> flight, long timeout) throws NaiveConfigException {
+        try {
+            return flight.get(timeout, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            LOG.error("Get `" + key + "` failed: `wait in-flight get timeout`. Timeout: `" + timeout + "ms`. Host: `" + host + "`.");
+            throw new NaiveConfigException("Get `" + key + "` failed: `wait in-flight get timeout`. Timeout: `" + timeout + "ms`. Host: `" + host + "`.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof NaiveConfigException) {
+                throw (NaiveConfigException) cause;
+            }
+            throw new NaiveConfigException("Unexpected error. Get `" + key + "` failed. Host: `" + host + "`.", cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new NaiveConfigException("Get `" + key + "` failed: `interrupted`. Host: `" + host + "`.", e);
+        }
+    }
+
+    /**
+     * 尝试合并 Key 正在执行中的 GET 操作。仅当正在执行中的 GET 操作的截止时间不早于本次 GET 操作的截止时间时才会合并，
+     * 避免本次 GET 操作因其它调用方设置的较短超时时间而提前失败；否则本次 GET 操作将替换为新的正在执行中的 GET 操作，已在等待的调用方不受影响。
+     *
+     * @param key Redis key
+     * @param flight 本次 GET 操作
+     * @return 可合并的正在执行中的 GET 操作，如果返回 {@code null}，本次 GET 操作需自行执行 GET 命令
+     */
+    private InFlightGet joinInFlightGet(String key, InFlightGet flight) {
+        while (true) {
+            InFlightGet existingFlight = inFlightGetMap.putIfAbsent(key, flight);
+            if (existingFlight == null) {
+                return null;
+            }
+            if (existingFlight.isDeadlineNotBefore(flight)) {
+                return existingFlight;
+            }
+            if (inFlightGetMap.replace(key, existingFlight, flight)) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * 跟随正在执行中的 GET 操作，返回一个独立的异步结果，该结果的超时不会影响正在执行中的 GET 操作。
+     *
+     * @param key Redis key
+     * @param flight 正在执行中的 GET 操作结果
+     * @param timeout 超时时间，单位：毫秒，如果小于等于 0，则不进行额外的超时控制
+     * @return Key 对应的 Java 对象异步结果
+     */
+    private CompletableFuture<Object> followInFlightGet(final String key, CompletableFuture<Object> flight, long timeout) {
+        final CompletableFuture<Object> result = new CompletableFuture<>();
+        final CompletableFuture<Object> follower = RedisCommandExecutors.withTimeout(flight.thenApply(new Function<Object, Object>() {
+
+            @Override
+            public Object apply(Object value) {
+                return value;
+            }
+
+        }), timeout, "Wait in-flight get timeout: `" + timeout + "ms`. Key: `" + key + "`. Host: `" + host + "`.");
+        follower.whenComplete(new BiConsumer<Object, Throwable>() {
+
+            @Override
+            public void accept(Object value, Throwable throwable) {
+                if (throwable != null) {
+                    Throwable cause = unwrap(throwable);
+                    if (cause instanceof NaiveConfigException) {
+                        result.completeExceptionally(cause);
+                    } else {
+                        result.completeExceptionally(new NaiveConfigException("Unexpected error. Get `" + key + "` failed. Host: `" + host + "`.", cause));
+                    }
+                } else {
+                    result.complete(value);
+                }
+            }
+
+        });
+        return result;
+    }
+
+    private RedisCommand createGetCommand(String key) throws IllegalArgumentException {
+        checkKey(key);
+        return RedisCommand.get(key);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T parseGetResponse(String key, RedisData responseData) throws NaiveConfigException, IOException, ClassNotFoundException {
+        if (responseData.isBulkString() || responseData.isNull()) {
+            //RESP3 协议中，Key 不存在时返回 Null 类型数据
+            byte[] valueBytes = responseData.getValueBytes();
+            if (valueBytes != null) {
+                return (T) decode(key, valueBytes);
+            } else {
+                lastDecodedValueMap.remove(key);
+                return null;
+            }
+        } else if (responseData.isError()) {
+            LOG.error("Get `" + key + "` failed. Redis error message: `" + responseData.getText() + "`. Host: `" + host + "`.");
+            throw new NaiveConfigException("Get `" + key + "` failed. Redis error message: `" + responseData.getText() + "`. Host: `" + host + "`.");
+        } else {
+            //should not happen
+            LOG.error("Unrecognized redis response data for `GET` command. Expect data type: `Bulk strings`. Actual: `"
+                    + responseData + "`. Key: `" + key + "`. Host: `" + host + "`.");
+            throw new NaiveConfigException("Unrecognized redis response data for `GET` command. Expect data type: `Bulk strings`. Actual: `"
+                    + responseData + "`. Key: `" + key + "`. Host: `" + host + "`.");
+        }
+    }
+
+    private List<List<String>> splitKeys(Collection<String> keys) throws NullPointerException {
+        if (keys == null) {
+            throw new NullPointerException("Keys could not be null. Keys: `null`. Host: `" + host + "`.");
+        }
+        if (keys.contains(null)) {
+            throw new NullPointerException("Key could not be null. Keys: `" + keys + "`. Host: `" + host + "`.");
+        }
+        List<String> keyList = new ArrayList<>(new LinkedHashSet<>(keys));
+        List<List<String>> batchKeyLists = new ArrayList<>();
+        if (executor instanceof ClusterCommandExecutor) {
+            //MGET 命令中的所有 Key 必须位于同一个哈希槽
+            Map<Integer, List<String>> slotKeyListMap = new LinkedHashMap<>();
+            for (String key : keyList) {
+                int slot = ClusterSlots.getSlot(key);
+                List<String> slotKeyList = slotKeyListMap.get(slot);
+                if (slotKeyList == null) {
+                    slotKeyList = new ArrayList<>();
+                    slotKeyListMap.put(slot, slotKeyList);
+                }
+                slotKeyList.add(key);
+            }
+            for (List<String> slotKeyList : slotKeyListMap.values()) {
+                for (int fromIndex = 0; fromIndex < slotKeyList.size(); fromIndex += MGET_BATCH_SIZE) {
+                    batchKeyLists.add(slotKeyList.subList(fromIndex, Math.min(fromIndex + MGET_BATCH_SIZE, slotKeyList.size())));
+                }
+            }
+            return batchKeyLists;
+        }
+        for (int fromIndex = 0; fromIndex < keyList.size(); fromIndex += MGET_BATCH_SIZE) {
+            batchKeyLists.add(keyList.subList(fromIndex, Math.min(fromIndex + MGET_BATCH_SIZE, keyList.size())));
+        }
+        return batchKeyLists;
+    }
+
+    private RedisCommand createMgetCommand(List<String> batchKeyList) throws IllegalArgumentException {
+        for (int i = 0; i < batchKeyList.size(); i++) {
+            checkKey(batchKeyList.get(i));
+        }
+        return RedisCommand.mget(batchKeyList);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Map<String, T> parseMgetResponse(List<String> batchKeyList, RedisData responseData)
+            throws NaiveConfigException, IOException, ClassNotFoundException {
+        if (responseData.isArray() && responseData.size() == batchKeyList.size()) {
+            Map<String, T> result = new HashMap<>();
+            for (int i = 0; i < batchKeyList.size(); i++) {
+                String key = batchKeyList.get(i);
+                byte[] valueBytes = responseData.get(i).getValueBytes();
+                if (valueBytes != null) {
+                    result.put(key, (T) decode(key, valueBytes));
+                } else {
+                    lastDecodedValueMap.remove(key);
+                }
+            }
+            return result;
+        } else if (responseData.isError()) {
+            LOG.error("Get all `" + batchKeyList + "` failed. Redis error message: `" + responseData.getText() + "`. Host: `" + host + "`.");
+            throw new NaiveConfigException("Get all `" + batchKeyList + "` failed. Redis error message: `" + responseData.getText() + "`. Host: `" + host + "`.");
+        } else {
+            //should not happen
+            LOG.error("Unrecognized redis response data for `MGET` command. Expect data type: `Arrays with " + batchKeyList.size()
+                    + " elements`. Actual: `" + responseData + "`. Keys: `" + batchKeyList + "`. Host: `" + host + "`.");
+            throw new NaiveConfigException("Unrecognized redis response data for `MGET` command. Expect data type: `Arrays with "
+                    + batchKeyList.size() + " elements`. Actual: `" + responseData + "`. Keys: `" + batchKeyList + "`. Host: `" + host + "`.");
+        }
+    }
+
+    private RedisCommand createSetCommand(String key, Object value) throws IllegalArgumentException, IOException {
+        checkKey(key);
+        return RedisCommand.set(key, encode(value));
+    }
+
+    private void parseSetResponse(String key, Object value, RedisData responseData) throws NaiveConfigException {
+        if (responseData.isError()) {
+            LOG.error("Set `" + key + "` failed. Value: `" + value + "`. Redis error message: `" + responseData.getText() + "`. Host: `" + host + "`.");
+            throw new NaiveConfigException("Set `" + key + "` failed. Value: `" + value + "`. Redis error message: `" + responseData.getText() + "`. Host: `" + host + "`.");
+        } else if(responseData.isSimpleString()) {
+            if( !"OK".equals(responseData.getText()) ) {
+                //should not happen
+                LOG.error("Unrecognized redis response data for `SET` command. Expect data type: `Simple strings`. Expect value: `OK`. Actual: `"
+                        + responseData + "`. Host: `" + host + "`. Key: `" + key + "`. Value: `" + value + "`.");
+                throw new NaiveConfigException("Unrecognized redis response data for `SET` command. Expect data type: `Simple strings`. Expect value: `OK`. Actual: `"
+                        + responseData + "`. Host: `" + host + "`. Key: `" + key + "`. Value: `" + value + "`.");
+            }
+        } else {
+            //should not happen
+            LOG.error("Unrecognized redis response data for `SET` command. Expect data type: `Simple strings`. Expect value: `OK`. Actual: `"
+                    + responseData + "`. Host: `" + host + "`. Key: `" + key + "`. Value: `" + value + "`.");
+            throw new NaiveConfigException("Unrecognized redis response data for `SET` command. Expect data type: `Simple strings`. Expect value: `OK`. Actual: `"
+                    + responseData + "`. Host: `" + host + "`. Key: `" + key + "`. Value: `" + value + "`.");
+        }
+    }
+
+    private RedisCommand createPublishCommand(String channel, String message) {
+        return RedisCommand.publish(channel, message);
+    }
+
+    private int parsePublishResponse(String channel, String message, RedisData responseData) throws NaiveConfigException {
+        if (responseData.isInteger()) {
+            long receivedClients = Long.parseLong(responseData.getText());
+            return (int) receivedClients;
+        } else if (responseData.isError()) {
+            LOG.error("Publish `" + message + "` failed. Channel: `" + channel + "`. Redis error message: `" + responseData.getText() + "`. Host: `" + host + "`.");
+            throw new NaiveConfigException("Publish `" + message + "` failed. Channel: `" + channel + "`. Redis error message: `" + responseData.getText() + "`. Host: `" + host + "`.");
+        } else {
+            //should not happen
+            LOG.error("Unrecognized redis response data for `PUBLISH` command. Expect data type: `Integers`. Actual: `"
+                    + responseData + "`. Channel: `" + channel + "`. Message: `" + message + "`. Host: `" + host + "`.");
+            throw new NaiveConfigException("Unrecognized redis response data for `PUBLISH` command. Expect data type: `Integers`. Actual: `"
+                    + responseData + "`. Channel: `" + channel + "`. Message: `" + message + "`. Host: `" + host + "`.");
+        }
+    }
+
+    /**
+     * 异步执行 Redis 命令，并使用响应数据解析器解析响应数据，执行过程中发生的异常将被包装为 {@link NaiveConfigException}。
+     *
+     * @param command Redis 命令
+     * @param timeout 超时时间，单位：毫秒
+     * @param operation 操作描述，用于日志及异常信息
+     * @param parser 响应数据解析器
+     * @param <T> 解析结果类型
+     * @return 解析结果异步结果
+     */
+    private <T> CompletableFuture<T> executeAsync(RedisData command, long timeout, final String operation, final ResponseParser<T> parser) {
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        executor.executeAsync(command, timeout).whenComplete(new BiConsumer<RedisData, Throwable>() {
+
+            @Override
+            public void accept(RedisData responseData, Throwable throwable) {
                 try {
-                    socket.close();
-                } catch (Exception e) {
-                    LOG.error("Close socket failed. Publish `" + message + "` at channel `" + channel + "`. Host: `" + host + "`.", e);
+                    if (throwable != null) {
+                        throw unwrap(throwable);
+                    }
+                    result.complete(parser.parse(responseData));
+                } catch (Throwable e) {
+                    if (!isCircuitBreakerOpen(e)) {
+                        LOG.error("Unexpected error. " + operation + " failed. Host: `" + host + "`.", e);
+                    }
+                    result.completeExceptionally(new NaiveConfigException("Unexpected error. " + operation + " failed. Host: `" + host + "`.", e));
+                }
+            }
+
+        });
+        return result;
+    }
+
+    /**
+     * 如果 GET 操作因熔断器打开而失败，使用该 Key 最近一次成功获取的配置信息作为异步结果，并以 {@link StaleValue} 标记。
+     *
+     * @param key Redis key
+     * @param future GET 操作异步结果
+     * @return 异步结果
+     */
+    private CompletableFuture<Object> withStaleValue(final String key, CompletableFuture<Object> future) {
+        final CompletableFuture<Object> result = new CompletableFuture<>();
+        future.whenComplete(new BiConsumer<Object, Throwable>() {
+
+            @Override
+            public void accept(Object value, Throwable throwable) {
+                if (throwable == null) {
+                    result.complete(value);
+                    return;
+                }
+                DecodedValue staleValue = getStaleValue(key, throwable);
+                if (staleValue != null) {
+                    result.complete(new StaleValue(staleValue.value));
+                } else {
+                    result.completeExceptionally(unwrap(throwable));
+                }
+            }
+
+        });
+        return result;
+    }
+
+    /**
+     * 如果 MGET 操作因熔断器打开而失败，使用 Key 列表中最近一次成功获取的配置信息作为异步结果，并以 {@link StaleValue} 标记。
+     *
+     * @param batchKeyList Redis key 列表
+     * @param future MGET 操作异步结果
+     * @return 异步结果
+     */
+    private CompletableFuture<Map<String, Object>> withStaleValues(final List<String> batchKeyList, CompletableFuture<Map<String, Object>> future) {
+        final CompletableFuture<Map<String, Object>> result = new CompletableFuture<>();
+        future.whenComplete(new BiConsumer<Map<String, Object>, Throwable>() {
+
+            @Override
+            public void accept(Map<String, Object> valueMap, Throwable throwable) {
+                if (throwable == null) {
+                    result.complete(valueMap);
+                    return;
+                }
+                Map<String, Object> staleValueMap = getStaleValues(batchKeyList, throwable);
+                if (staleValueMap != null) {
+                    result.complete(staleValueMap);
+                } else {
+                    result.completeExceptionally(unwrap(throwable));
+                }
+            }
+
+        });
+        return result;
+    }
+
+    /**
+     * 如果操作因熔断器打开而失败，返回该 Key 最近一次成功获取的配置信息，否则返回 {@code null}。
+     */
+    private DecodedValue getStaleValue(String key, Throwable throwable) {
+        if (isCircuitBreakerOpen(throwable)) {
+            DecodedValue staleValue = lastDecodedValueMap.get(key);
+            if (staleValue != null) {
+                staleValueCount.incrementAndGet();
+                return staleValue;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 如果操作因熔断器打开而失败，返回 Key 列表中最近一次成功获取的配置信息，并以 {@link StaleValue} 标记，
+     * Key 列表中的 Key 均不存在最近一次获取结果时，返回 {@code null}。
+     */
+    private Map<String, Object> getStaleValues(List<String> batchKeyList, Throwable throwable) {
+        if (isCircuitBreakerOpen(throwable)) {
+            Map<String, Object> staleValueMap = new HashMap<>();
+            for (String key : batchKeyList) {
+                DecodedValue staleValue = lastDecodedValueMap.get(key);
+                if (staleValue != null) {
+                    staleValueMap.put(key, new StaleValue(staleValue.value));
+                }
+            }
+            if (!staleValueMap.isEmpty()) {
+                staleValueCount.addAndGet(staleValueMap.size());
+                return staleValueMap;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 判断获取结果是否为熔断器打开期间使用的最近一次获取结果。
+     */
+    static boolean isStaleValue(Object value) {
+        return value instanceof StaleValue;
+    }
+
+    /**
+     * 如果获取结果为 {@link StaleValue}，返回其包含的 Java 对象，否则直接返回获取结果。
+     */
+    static Object unwrapStaleValue(Object value) {
+        return value instanceof StaleValue ? ((StaleValue) value).value : value;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> Map<String, T> unwrapStaleValues(Map<String, Object> valueMap) {
+        for (Map.Entry<String, Object> entry : valueMap.entrySet()) {
+            if (entry.getValue() instanceof StaleValue) {
+                entry.setValue(((StaleValue) entry.getValue()).value);
+            }
+        }
+        return (Map<String, T>) valueMap;
+    }
+
+    private CompletableFuture<Object> unwrapStaleValueAsync(CompletableFuture<Object> future) {
+        final CompletableFuture<Object> result = new CompletableFuture<>();
+        future.whenComplete(new BiConsumer<Object, Throwable>() {
+
+            @Override
+            public void accept(Object value, Throwable throwable) {
+                if (throwable != null) {
+                    result.completeExceptionally(unwrap(throwable));
+                } else {
+                    result.complete(unwrapStaleValue(value));
                 }
             }
+
+        });
+        return result;
+    }
+
+    private boolean isCircuitBreakerOpen(Throwable throwable) {
+        while (throwable != null) {
+            if (throwable instanceof CircuitBreakerOpenException) {
+                return true;
+            }
+            throwable = throwable.getCause();
+        }
+        return false;
+    }
+
+    private Throwable unwrap(Throwable throwable) {
+        if (throwable instanceof CompletionException && throwable.getCause() != null) {
+            return throwable.getCause();
         }
+        return throwable;
     }
 
     /**
-     * 将 Java 对象编码成字节数组后返回。
+     * 使用配置信息编解码器将 Java 对象编码成字节数组后返回。
      *
-     * @param value 需要进行编码的 Java 对象
-     * @return Java 对象编码后的字节数组
+     * @param value Java 对象
+     * @return 对象编码后的字节数组
      */
     private byte[] encode(Object value) throws IOException {
-        ByteArrayOutputStream bos = new ByteArrayOutputStream();
-        ObjectOutputStream oos = new ObjectOutputStream(bos);
-        oos.writeObject(value);
-        return bos.toByteArray();
+        return codec.encode(value);
     }
 
     /**
-     * 将字节数组解码还原成 Java 对象后返回。
+     * 根据字节数组的格式标识选择对应的配置信息编解码器，将字节数组解码还原成 Java 对象后返回。
      *
      * @param encodedBytes 对象编码后的字节数组
      * @return Java 对象
      */
     private Object decode(byte[] encodedBytes) throws IOException, ClassNotFoundException {
-        ByteArrayInputStream valueBis = new ByteArrayInputStream(encodedBytes);
-        ObjectInputStream ois = new ObjectInputStream(valueBis);
-        return ois.readObject();
+        return ValueCodecs.decode(encodedBytes, codec);
     }
 
-    private byte[] getKeyBytes(String key) throws IllegalArgumentException {
-        byte[] keyBytes = key.getBytes(RedisData.UTF8);
-        if (keyBytes.length > NaiveConfigManager.MAX_KEY_LENGTH) {
+    /**
+     * 将 Key 对应的字节数组解码还原成 Java 对象后返回，如果字节数组与该 Key 最近一次解码的字节数组完全相同，将直接返回上一次解码的 Java 对象。
+     *
+     * @param key Redis key
+     * @param encodedBytes 对象编码后的字节数组
+     * @return Java 对象
+     */
+    private Object decode(String key, byte[] encodedBytes) throws IOException, ClassNotFoundException {
+        CRC32 crc32 = new CRC32();
+        crc32.update(encodedBytes, 0, encodedBytes.length);
+        long checksum = crc32.getValue();
+        DecodedValue lastDecodedValue = lastDecodedValueMap.get(key);
+        if (lastDecodedValue != null && lastDecodedValue.checksum == checksum
+                && Arrays.equals(lastDecodedValue.encodedBytes, encodedBytes)) {
+            reusedDecodeCount.incrementAndGet();
+            return lastDecodedValue.value;
+        }
+        Object value = decode(encodedBytes);
+        lastDecodedValueMap.put(key, new DecodedValue(checksum, encodedBytes, value));
+        return value;
+    }
+
+    private void checkKey(String key) throws IllegalArgumentException {
+        if (RedisCommand.getUtf8Length(key) > NaiveConfigManager.MAX_KEY_LENGTH) {
             LOG.error("Key is too large. Key length could not greater than " + NaiveConfigManager.MAX_KEY_LENGTH + ". Invalid key: `"
                     + key + "`. Host: `" + host + "`.");
             throw new IllegalArgumentException("Key is too large. Key length could not greater than " + NaiveConfigManager.MAX_KEY_LENGTH
                     + ". Invalid key: `" + key + "`. Host: `" + host + "`.");
         }
-        return keyBytes;
     }
 
-    private Socket createSocket() throws IOException {
-        Socket socket = new Socket();
-        socket.setSoTimeout(timeout);
-        socket.connect(new InetSocketAddress(hostname, port), timeout);
-        return socket;
+    /**
+     * Key 最近一次解码的字节数组、字节数组校验值及解码得到的 Java 对象，校验值仅用于快速排除发生变化的字节数组
+     */
+    private static class DecodedValue {
+
+        private final long checksum;
+
+        private final byte[] encodedBytes;
+
+        private final Object value;
+
+        private DecodedValue(long checksum, byte[] encodedBytes, Object value) {
+            this.checksum = checksum;
+            this.encodedBytes = encodedBytes;
+            this.value = value;
+        }
+    }
+
+    /**
+     * 正在执行中的 GET 操作，记录本次操作的截止时间，用于判断其它 GET 操作是否可以合并
+     */
+    private static class InFlightGet {
+
+        private final CompletableFuture<Object> future = new CompletableFuture<>();
+
+        /**
+         * 截止时间，基于 {@link System#nanoTime()}，{@link Long#MAX_VALUE} 表示使用 Redis 命令执行器默认的超时时间
+         */
+        private final long deadline;
+
+        private InFlightGet(long timeout) {
+            this.deadline = timeout > 0 ? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout) : Long.MAX_VALUE;
+        }
+
+        private boolean isDeadlineNotBefore(InFlightGet other) {
+            if (deadline == Long.MAX_VALUE) {
+                return true;
+            }
+            return other.deadline != Long.MAX_VALUE && deadline - other.deadline >= 0;
+        }
+    }
+
+    /**
+     * 熔断器打开期间作为获取结果使用的最近一次获取结果，用于与正常获取的结果进行区分，此类结果不应写入本地缓存，也不应视为已同步的配置信息。
+     */
+    static final class StaleValue {
+
+        private final Object value;
+
+        private StaleValue(Object value) {
+            this.value = value;
+        }
+    }
+
+    /**
+     * Redis 响应数据解析器
+     *
+     * @param <T> 解析结果类型
+     */
+    private interface ResponseParser<T> {
+
+        T parse(RedisData responseData) throws Exception;
     }
 }
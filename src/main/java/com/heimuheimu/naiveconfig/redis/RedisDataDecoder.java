@@ -0,0 +1,446 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 heimuheimu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.heimuheimu.naiveconfig.redis;
+
+import com.heimuheimu.naiveconfig.redis.data.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Redis 数据解码器，从分段到达的 {@link ByteBuffer} 中解码 {@link RedisData}，适用于非阻塞 IO。
+ *
+ * <p>解码器使用状态机实现：每次调用 {@link #decode(ByteBuffer)} 时，缓冲区中的数据将被消费，不完整的数据帧（包括行数据、Bulk strings 内容
+ * 以及嵌套 Arrays 中已解码的元素）保存在解码器中，待接收到后续数据后继续解码，不会重复解析已接收的字节，也不会递归调用。</p>
+ *
+ * <p>支持 RESP2 及 RESP3 数据类型，RESP3 的 Maps、Sets、Pushes 类型与 Arrays 一样可以嵌套，并受最大嵌套深度限制。</p>
+ *
+ * <p>为防止异常数据耗尽内存，解码器限制了 Bulk strings 内容（以及单行数据）的最大字节数和 Arrays 的最大嵌套深度，超过限制时将抛出
+ * {@link IOException} 异常，此时解码器状态已不可用，应关闭对应的连接。</p>
+ *
+ * <p><strong>说明：</strong>{@code RedisDataDecoder} 类是非线程安全的，不允许多个线程使用同一个实例。</p>
+ *
+ * @author heimuheimu
+ */
+public class RedisDataDecoder {
+
+    /**
+     * 默认 Bulk strings 最大字节数：512 MB，与 Redis 服务端 proto-max-bulk-len 的默认值保持一致
+     */
+    public static final int DEFAULT_MAX_BULK_LENGTH = 512 * 1024 * 1024;
+
+    /**
+     * 默认 Arrays 最大嵌套深度：32
+     */
+    public static final int DEFAULT_MAX_NESTING_DEPTH = 32;
+
+    /**
+     * Arrays 元素数组的最大初始容量，元素数组将随已解码元素数量增长，避免异常的长度前缀导致预先分配过大的数组
+     */
+    private static final int MAX_INITIAL_ARRAY_CAPACITY = 1024;
+
+    /**
+     * 解码状态：等待数据类型字节
+     */
+    private static final int STATE_TYPE = 0;
+
+    /**
+     * 解码状态：读取行数据，直至遇到 CRLF
+     */
+    private static final int STATE_LINE = 1;
+
+    /**
+     * 解码状态：读取 Bulk strings 内容
+     */
+    private static final int STATE_BULK = 2;
+
+    /**
+     * 解码状态：读取 Bulk strings 内容结尾的 CRLF
+     */
+    private static final int STATE_BULK_CRLF = 3;
+
+    /**
+     * Bulk strings 内容最大字节数
+     */
+    private final int maxBulkLength;
+
+    /**
+     * Arrays 最大嵌套深度
+     */
+    private final int maxNestingDepth;
+
+    /**
+     * 当前解码状态
+     */
+    private int state = STATE_TYPE;
+
+    /**
+     * 当前数据帧的数据类型字节
+     */
+    private byte type;
+
+    /**
+     * 行数据缓冲区
+     */
+    private byte[] lineBytes = new byte[64];
+
+    /**
+     * 行数据缓冲区中已读取的字节数
+     */
+    private int lineLength = 0;
+
+    /**
+     * 正在读取的 Bulk strings 类型字节，Bulk strings 或 Verbatim strings
+     */
+    private byte bulkType;
+
+    /**
+     * 正在读取的 Bulk strings 内容
+     */
+    private byte[] bulkBytes;
+
+    /**
+     * Bulk strings 内容已读取的字节数
+     */
+    private int bulkPosition;
+
+    /**
+     * Bulk strings 结尾 CRLF 已读取的字节数
+     */
+    private int bulkCrlfPosition;
+
+    /**
+     * 未完成的聚合类型数据的类型字节，按嵌套深度保存
+     */
+    private byte[] arrayTypes = new byte[4];
+
+    /**
+     * 未完成的 Arrays 元素数组，按嵌套深度保存
+     */
+    private RedisData[][] arrayElements = new RedisData[4][];
+
+    /**
+     * 未完成的聚合类型数据包含的元素数量（Maps 类型为键值对数量的 2 倍），按嵌套深度保存
+     */
+    private int[] arrayLengths = new int[4];
+
+    /**
+     * 未完成的 Arrays 已解码的元素数量，按嵌套深度保存
+     */
+    private int[] arrayPositions = new int[4];
+
+    /**
+     * 当前 Arrays 嵌套深度，0 表示不在 Arrays 中
+     */
+    private int depth = 0;
+
+    /**
+     * 构造一个 Redis 数据解码器，Bulk strings 最大字节数为 {@link #DEFAULT_MAX_BULK_LENGTH}，
+     * Arrays 最大嵌套深度为 {@link #DEFAULT_MAX_NESTING_DEPTH}。
+     */
+    public RedisDataDecoder() {
+        this(DEFAULT_MAX_BULK_LENGTH, DEFAULT_MAX_NESTING_DEPTH);
+    }
+
+    /**
+     * 构造一个 Redis 数据解码器。
+     *
+     * @param maxBulkLength Bulk strings 内容（以及单行数据）最大字节数，如果小于等于 0，将使用默认值 {@link #DEFAULT_MAX_BULK_LENGTH}
+     * @param maxNestingDepth Arrays 最大嵌套深度，如果小于等于 0，将使用默认值 {@link #DEFAULT_MAX_NESTING_DEPTH}
+     */
+    public RedisDataDecoder(int maxBulkLength, int maxNestingDepth) {
+        this.maxBulkLength = maxBulkLength > 0 ? maxBulkLength : DEFAULT_MAX_BULK_LENGTH;
+        this.maxNestingDepth = maxNestingDepth > 0 ? maxNestingDepth : DEFAULT_MAX_NESTING_DEPTH;
+    }
+
+    /**
+     * 从缓冲区中解码下一个完整的 {@link RedisData}。
+     *
+     * <p>如果缓冲区中的数据不足一个完整的数据帧，缓冲区中的剩余数据将全部被消费并保存在解码器中，方法返回 {@code null}；
+     * 如果解码成功，缓冲区读取位置将移动至该数据帧结束位置，剩余数据可通过再次调用此方法继续解码。</p>
+     *
+     * @param buffer 处于读模式的缓冲区
+     * @return 解码出的 Redis 数据，如果数据不完整，将返回 {@code null}
+     * @throws IOException 如果数据格式不正确，或超过解码器限制，将会抛出此异常
+     */
+    public RedisData decode(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            RedisData data;
+            switch (state) {
+                case STATE_TYPE:
+                    type = buffer.get();
+                    if (!isKnownType(type)) {
+                        throw new IOException("Unknown first byte: `" + type + "`.");
+                    }
+                    lineLength = 0;
+                    state = STATE_LINE;
+                    continue;
+                case STATE_LINE:
+                    if (!readLine(buffer)) {
+                        continue;
+                    }
+                    data = onLine();
+                    break;
+                case STATE_BULK:
+                    int readBytes = Math.min(buffer.remaining(), bulkBytes.length - bulkPosition);
+                    buffer.get(bulkBytes, bulkPosition, readBytes);
+                    bulkPosition += readBytes;
+                    if (bulkPosition == bulkBytes.length) {
+                        bulkCrlfPosition = 0;
+                        state = STATE_BULK_CRLF;
+                    }
+                    continue;
+                case STATE_BULK_CRLF:
+                    byte expectedByte = bulkCrlfPosition == 0 ? RedisData.CR : RedisData.LF;
+                    if (buffer.get() != expectedByte) {
+                        throw new IOException("Invalid bulk string terminator. Expected: `CRLF`.");
+                    }
+                    if (++bulkCrlfPosition < 2) {
+                        continue;
+                    }
+                    data = createBulkData();
+                    bulkBytes = null;
+                    state = STATE_TYPE;
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown decoder state: `" + state + "`.");
+            }
+            if (data != null) {
+                data = complete(data);
+                if (data != null) {
+                    return data;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 清空解码器中保存的不完整数据帧，通常在连接重建时调用。
+     */
+    public void reset() {
+        state = STATE_TYPE;
+        lineLength = 0;
+        bulkBytes = null;
+        for (int i = 0; i < depth; i++) {
+            arrayElements[i] = null;
+        }
+        depth = 0;
+    }
+
+    /**
+     * 读取行数据至行数据缓冲区，如果已读取到 CRLF，返回 {@code true}，行数据缓冲区中不包含 CRLF。
+     */
+    private boolean readLine(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            byte b = buffer.get();
+            if (b == RedisData.LF) {
+                if (lineLength == 0 || lineBytes[lineLength - 1] != RedisData.CR) {
+                    throw new IOException("Invalid line terminator: `LF` without `CR`.");
+                }
+                lineLength--;
+                return true;
+            }
+            if (lineLength > maxBulkLength) {
+                throw new IOException("Line is too large. Max length: `" + maxBulkLength + "`.");
+            }
+            if (lineLength == lineBytes.length) {
+                lineBytes = Arrays.copyOf(lineBytes, (int) Math.min((long) lineLength * 2, (long) maxBulkLength + 1));
+            }
+            lineBytes[lineLength++] = b;
+        }
+        return false;
+    }
+
+    /**
+     * 处理已读取完成的行数据，如果数据帧已完整，返回对应的 Redis 数据，否则返回 {@code null}。
+     */
+    private RedisData onLine() throws IOException {
+        state = STATE_TYPE;
+        switch (type) {
+            case RedisSimpleString.FIRST_BYTE:
+                return new RedisSimpleString(Arrays.copyOf(lineBytes, lineLength));
+            case RedisError.FIRST_BYTE:
+                return new RedisError(Arrays.copyOf(lineBytes, lineLength));
+            case RedisInteger.FIRST_BYTE:
+                return new RedisInteger(Arrays.copyOf(lineBytes, lineLength));
+            case RedisNull.FIRST_BYTE:
+                return new RedisNull();
+            case RedisBoolean.FIRST_BYTE:
+                return new RedisBoolean(Arrays.copyOf(lineBytes, lineLength));
+            case RedisDouble.FIRST_BYTE:
+                return new RedisDouble(Arrays.copyOf(lineBytes, lineLength));
+            case RedisBulkString.FIRST_BYTE:
+            case RedisVerbatimString.FIRST_BYTE: {
+                int length = parseLength();
+                if (length == -1 && type == RedisBulkString.FIRST_BYTE) {
+                    return new RedisBulkString(null);
+                }
+                if (length < 0 || length > maxBulkLength) {
+                    throw new IOException("Invalid bulk string length: `" + length + "`. Max length: `" + maxBulkLength + "`.");
+                }
+                bulkType = type;
+                bulkBytes = new byte[length];
+                bulkPosition = 0;
+                if (length > 0) {
+                    state = STATE_BULK;
+                } else {
+                    bulkCrlfPosition = 0;
+                    state = STATE_BULK_CRLF;
+                }
+                return null;
+            }
+            default: { //Arrays、Maps、Sets、Pushes
+                int length = parseLength();
+                if (type == RedisArray.FIRST_BYTE) {
+                    if (length == -1) {
+                        return new RedisArray(null);
+                    } else if (length == 0) {
+                        return new RedisArray(new RedisData[0]);
+                    }
+                }
+                int multiple = type == RedisMap.FIRST_BYTE ? 2 : 1;
+                if (length < 0 || length > Integer.MAX_VALUE / multiple) {
+                    throw new IOException("Invalid aggregate length: `" + length + "`.");
+                }
+                if (length == 0) {
+                    return createAggregateData(type, new RedisData[0]);
+                }
+                if (depth == maxNestingDepth) {
+                    throw new IOException("Arrays nesting is too deep. Max nesting depth: `" + maxNestingDepth + "`.");
+                }
+                if (depth == arrayElements.length) {
+                    arrayTypes = Arrays.copyOf(arrayTypes, depth * 2);
+                    arrayElements = Arrays.copyOf(arrayElements, depth * 2);
+                    arrayLengths = Arrays.copyOf(arrayLengths, depth * 2);
+                    arrayPositions = Arrays.copyOf(arrayPositions, depth * 2);
+                }
+                arrayTypes[depth] = type;
+                arrayElements[depth] = new RedisData[Math.min(length * multiple, MAX_INITIAL_ARRAY_CAPACITY)];
+                arrayLengths[depth] = length * multiple;
+                arrayPositions[depth] = 0;
+                depth++;
+                return null;
+            }
+        }
+    }
+
+    private RedisData createBulkData() throws IOException {
+        if (bulkType == RedisVerbatimString.FIRST_BYTE) {
+            try {
+                return new RedisVerbatimString(bulkBytes);
+            } catch (IllegalArgumentException e) {
+                throw new IOException(e.getMessage());
+            }
+        } else {
+            return new RedisBulkString(bulkBytes);
+        }
+    }
+
+    private static RedisData createAggregateData(byte type, RedisData[] elements) {
+        switch (type) {
+            case RedisMap.FIRST_BYTE:
+                return new RedisMap(elements);
+            case RedisSet.FIRST_BYTE:
+                return new RedisSet(elements);
+            case RedisPush.FIRST_BYTE:
+                return new RedisPush(elements);
+            default:
+                return new RedisArray(elements);
+        }
+    }
+
+    private static boolean isKnownType(byte type) {
+        switch (type) {
+            case RedisSimpleString.FIRST_BYTE:
+            case RedisError.FIRST_BYTE:
+            case RedisInteger.FIRST_BYTE:
+            case RedisBulkString.FIRST_BYTE:
+            case RedisArray.FIRST_BYTE:
+            case RedisNull.FIRST_BYTE:
+            case RedisBoolean.FIRST_BYTE:
+            case RedisDouble.FIRST_BYTE:
+            case RedisVerbatimString.FIRST_BYTE:
+            case RedisMap.FIRST_BYTE:
+            case RedisSet.FIRST_BYTE:
+            case RedisPush.FIRST_BYTE:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * 将已解码的数据放入所属的 Arrays 中，如果已得到完整的最外层数据，将其返回，否则返回 {@code null}。
+     */
+    private RedisData complete(RedisData data) {
+        while (depth > 0) {
+            int index = depth - 1;
+            RedisData[] elements = arrayElements[index];
+            int position = arrayPositions[index];
+            if (position == elements.length) {
+                elements = Arrays.copyOf(elements, (int) Math.min((long) elements.length * 2, arrayLengths[index]));
+                arrayElements[index] = elements;
+            }
+            elements[position++] = data;
+            arrayPositions[index] = position;
+            if (position < arrayLengths[index]) {
+                return null;
+            }
+            arrayElements[index] = null;
+            depth--;
+            data = createAggregateData(arrayTypes[index], elements);
+        }
+        return data;
+    }
+
+    /**
+     * 直接从行数据缓冲区中解析长度前缀。
+     */
+    private int parseLength() throws IOException {
+        int index = 0;
+        boolean negative = lineLength > 0 && lineBytes[0] == '-';
+        if (negative) {
+            index++;
+        }
+        if (index == lineLength || lineLength - index > 10) {
+            throw new IOException("Invalid length: `" + new String(lineBytes, 0, lineLength, RedisData.UTF8) + "`.");
+        }
+        long value = 0;
+        for (; index < lineLength; index++) {
+            int digit = lineBytes[index] - '0';
+            if (digit < 0 || digit > 9) {
+                throw new IOException("Invalid length: `" + new String(lineBytes, 0, lineLength, RedisData.UTF8) + "`.");
+            }
+            value = value * 10 + digit;
+        }
+        if (value > Integer.MAX_VALUE) {
+            throw new IOException("Invalid length: `" + new String(lineBytes, 0, lineLength, RedisData.UTF8) + "`.");
+        }
+        return negative ? (int) -value : (int) value;
+    }
+
+}
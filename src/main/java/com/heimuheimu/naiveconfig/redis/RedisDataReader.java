@@ -26,27 +26,80 @@ package com.heimuheimu.naiveconfig.redis;
 
 import com.heimuheimu.naiveconfig.redis.data.*;
 
-import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Arrays;
 
 /**
  * Redis 数据读取器，从字节流中读取 {@link com.heimuheimu.naiveconfig.redis.data.RedisData}。
  *
+ * <p>支持 RESP2 及 RESP3 数据类型，RESP3 数据类型需在连接中通过 {@code HELLO 3} 命令启用。</p>
+ *
+ * <p>读取器维护自有的字节缓冲区：每行数据仅扫描一次查找 CRLF，长度前缀直接从字节中解析，Bulk strings 内容通过一次
+ * {@link System#arraycopy(Object, int, Object, int, int)} 从缓冲区复制，缓冲区中不足的部分直接从字节流读取至目标数组。</p>
+ *
+ * <p>为防止异常数据耗尽内存或线程栈，读取器与 {@link RedisDataDecoder} 使用相同的默认限制：Bulk strings 内容（以及单行数据）最大字节数为
+ * {@link RedisDataDecoder#DEFAULT_MAX_BULK_LENGTH}，Arrays 最大嵌套深度为 {@link RedisDataDecoder#DEFAULT_MAX_NESTING_DEPTH}，
+ * 超过限制时将抛出 {@link IOException} 异常，此时读取器状态已不可用，应关闭对应的连接。</p>
+ *
  * <p><strong>说明：</strong>{@code RedisDataReader} 类是非线程安全的，不允许多个线程使用同一个实例。</p>
  *
  * @author heimuheimu
  */
 public class RedisDataReader {
 
-    private final BufferedInputStream bis;
+    /**
+     * 默认缓冲区大小：8 KB
+     */
+    private static final int DEFAULT_BUFFER_SIZE = 8 * 1024;
+
+    /**
+     * Arrays 元素数组的最大初始容量，元素数组将随已读取元素数量增长，避免异常的长度前缀导致预先分配过大的数组
+     */
+    private static final int MAX_INITIAL_ARRAY_CAPACITY = 1024;
+
+    private final InputStream inputStream;
+
+    /**
+     * 读取缓冲区，当一行数据超过缓冲区大小时将会扩容
+     */
+    private byte[] buffer;
+
+    /**
+     * 下一个待读取字节在缓冲区中的索引位置
+     */
+    private int position = 0;
+
+    /**
+     * 缓冲区中有效数据的结束索引位置（不包含）
+     */
+    private int limit = 0;
+
+    /**
+     * 当前 Arrays 嵌套深度，0 表示不在 Arrays 中
+     */
+    private int depth = 0;
 
     public RedisDataReader(InputStream inputStream) {
-        this.bis = new BufferedInputStream(inputStream);
+        this(inputStream, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * 构造一个 Redis 数据读取器。
+     *
+     * @param inputStream 字节流
+     * @param bufferSize 缓冲区初始大小，如果小于等于 0，将使用默认值 8 KB
+     */
+    public RedisDataReader(InputStream inputStream, int bufferSize) {
+        this.inputStream = inputStream;
+        this.buffer = new byte[bufferSize > 0 ? bufferSize : DEFAULT_BUFFER_SIZE];
     }
 
     public RedisData read() throws IOException {
-        int firstByte = bis.read();
+        if (position == limit && !fill()) { //end of the stream is reached
+            return null;
+        }
+        byte firstByte = buffer[position++];
         switch (firstByte) {
             case RedisSimpleString.FIRST_BYTE:
                 return readSimpleString();
@@ -58,8 +111,30 @@ public class RedisDataReader {
                 return readBulkString();
             case RedisArray.FIRST_BYTE:
                 return readArray();
-            case -1: //end of the stream is reached
-                return null;
+            case RedisNull.FIRST_BYTE:
+                return readLine() != null ? new RedisNull() : null;
+            case RedisBoolean.FIRST_BYTE: {
+                byte[] valueBytes = readLine();
+                return valueBytes != null ? new RedisBoolean(valueBytes) : null;
+            }
+            case RedisDouble.FIRST_BYTE: {
+                byte[] valueBytes = readLine();
+                return valueBytes != null ? new RedisDouble(valueBytes) : null;
+            }
+            case RedisVerbatimString.FIRST_BYTE:
+                return readVerbatimString();
+            case RedisMap.FIRST_BYTE: {
+                RedisData[] keyValues = readAggregate(2);
+                return keyValues != null ? new RedisMap(keyValues) : null;
+            }
+            case RedisSet.FIRST_BYTE: {
+                RedisData[] datas = readAggregate(1);
+                return datas != null ? new RedisSet(datas) : null;
+            }
+            case RedisPush.FIRST_BYTE: {
+                RedisData[] datas = readAggregate(1);
+                return datas != null ? new RedisPush(datas) : null;
+            }
             default:
                 throw new IOException("Unknown first byte: `" + firstByte + "`.");
         }
@@ -93,76 +168,220 @@ public class RedisDataReader {
     }
 
     private RedisBulkString readBulkString() throws IOException {
-        byte[] lengthBytes = readLine();
-        if (lengthBytes != null) {
-            int length = Integer.parseInt(new String(lengthBytes, RedisData.UTF8));
-            if (length == -1) {
-                return new RedisBulkString(null);
-            } else {
-                byte[] valueBytes = new byte[length];
-                int valuePos = 0;
-                while (valuePos < length) {
-                    int readBytes = bis.read(valueBytes, valuePos, length - valuePos);
-                    if (readBytes >= 0) {
-                        valuePos += readBytes;
-                    } else {
-                        //end of the stream is reached
-                        return null;
-                    }
-                }
-                bis.read();
-                bis.read();
-                return new RedisBulkString(valueBytes);
+        int lineEnd = findLineEnd();
+        if (lineEnd < 0) { //end of the stream is reached
+            return null;
+        }
+        int length = parseLength(lineEnd);
+        if (length == -1) {
+            return new RedisBulkString(null);
+        }
+        if (length < 0 || length > RedisDataDecoder.DEFAULT_MAX_BULK_LENGTH) {
+            throw new IOException("Invalid bulk string length: `" + length + "`. Max length: `" + RedisDataDecoder.DEFAULT_MAX_BULK_LENGTH + "`.");
+        }
+        byte[] valueBytes = new byte[length];
+        int valuePos = Math.min(length, limit - position);
+        System.arraycopy(buffer, position, valueBytes, 0, valuePos);
+        position += valuePos;
+        while (valuePos < length) {
+            int readBytes = inputStream.read(valueBytes, valuePos, length - valuePos);
+            if (readBytes >= 0) {
+                valuePos += readBytes;
+            } else { //end of the stream is reached
+                return null;
             }
-        } else {
+        }
+        if (!skip(2)) { //end of the stream is reached
             return null;
         }
+        return new RedisBulkString(valueBytes);
     }
 
     private RedisArray readArray() throws IOException {
-        byte[] lengthBytes = readLine();
-        if (lengthBytes != null) {
-            int length = Integer.parseInt(new String(lengthBytes, RedisData.UTF8));
-            if (length == -1) {
-                return new RedisArray(null);
-            } else if (length == 0) {
-                return new RedisArray(new RedisData[0]);
-            } else {
-                RedisData[] datas = new RedisData[length];
-                for (int i = 0; i < length; i++) {
-                    RedisData data = read();
-                    if (data != null) {
-                        datas[i] = data;
-                    } else { //end of the stream is reached
-                        return null;
-                    }
+        int lineEnd = findLineEnd();
+        if (lineEnd < 0) { //end of the stream is reached
+            return null;
+        }
+        int length = parseLength(lineEnd);
+        if (length == -1) {
+            return new RedisArray(null);
+        } else if (length == 0) {
+            return new RedisArray(new RedisData[0]);
+        } else if (length < 0) {
+            throw new IOException("Invalid arrays length: `" + length + "`.");
+        } else {
+            RedisData[] datas = readElements(length);
+            return datas != null ? new RedisArray(datas) : null;
+        }
+    }
+
+    private RedisVerbatimString readVerbatimString() throws IOException {
+        RedisBulkString bulkString = readBulkString();
+        if (bulkString == null) { //end of the stream is reached
+            return null;
+        }
+        byte[] rawBytes = bulkString.getValueBytes();
+        if (rawBytes == null) {
+            throw new IOException("Invalid verbatim string length: `-1`.");
+        }
+        try {
+            return new RedisVerbatimString(rawBytes);
+        } catch (IllegalArgumentException e) {
+            throw new IOException(e.getMessage());
+        }
+    }
+
+    /**
+     * 读取 RESP3 聚合类型数据包含的所有数据，如果已到达字节流末尾，返回 {@code null}。
+     *
+     * @param multiple 每个单位包含的数据数量，Maps 类型为 2，其它类型为 1
+     */
+    private RedisData[] readAggregate(int multiple) throws IOException {
+        int lineEnd = findLineEnd();
+        if (lineEnd < 0) { //end of the stream is reached
+            return null;
+        }
+        int length = parseLength(lineEnd);
+        if (length < 0 || length > Integer.MAX_VALUE / multiple) {
+            throw new IOException("Invalid aggregate length: `" + length + "`.");
+        }
+        return length > 0 ? readElements(length * multiple) : new RedisData[0];
+    }
+
+    /**
+     * 读取 Arrays 或 RESP3 聚合类型数据包含的指定数量的元素，如果已到达字节流末尾，返回 {@code null}。
+     *
+     * @param length 元素数量，必须大于 0
+     */
+    private RedisData[] readElements(int length) throws IOException {
+        if (depth == RedisDataDecoder.DEFAULT_MAX_NESTING_DEPTH) {
+            throw new IOException("Arrays nesting is too deep. Max nesting depth: `" + RedisDataDecoder.DEFAULT_MAX_NESTING_DEPTH + "`.");
+        }
+        depth++;
+        try {
+            RedisData[] datas = new RedisData[Math.min(length, MAX_INITIAL_ARRAY_CAPACITY)];
+            for (int i = 0; i < length; i++) {
+                RedisData data = read();
+                if (data == null) { //end of the stream is reached
+                    return null;
+                }
+                if (i == datas.length) {
+                    datas = Arrays.copyOf(datas, (int) Math.min((long) datas.length * 2, length));
                 }
-                return new RedisArray(datas);
+                datas[i] = data;
             }
+            return datas;
+        } finally {
+            depth--;
+        }
+    }
+
+    /**
+     * 读取一行数据，返回不包含结尾 CR、LF 符的字节数组，如果已到达字节流末尾，返回 {@code null}。
+     */
+    private byte[] readLine() throws IOException {
+        int lineEnd = findLineEnd();
+        if (lineEnd >= 0) {
+            byte[] valueBytes = Arrays.copyOfRange(buffer, position, lineEnd - 1);
+            position = lineEnd + 1;
+            return valueBytes;
         } else {
             return null;
         }
     }
 
-    private byte[] readLine() throws IOException {
-        bis.mark(Integer.MAX_VALUE);
-        int length = 0;
-        int readByte;
-        while ((readByte = bis.read()) != RedisData.CR) {
-            if (readByte == -1) { //end of the stream is reached
-                return null;
-            } else {
-                length++;
+    /**
+     * 直接从缓冲区中解析一行数据中的数字，并跳过该行。
+     */
+    private int parseLength(int lineEnd) throws IOException {
+        int index = position;
+        int end = lineEnd - 1;
+        boolean negative = end > index && buffer[index] == '-';
+        if (negative) {
+            index++;
+        }
+        if (index >= end || end - index > 10) {
+            throw createInvalidLengthException(lineEnd);
+        }
+        long value = 0;
+        for (; index < end; index++) {
+            int digit = buffer[index] - '0';
+            if (digit < 0 || digit > 9) {
+                throw createInvalidLengthException(lineEnd);
             }
+            value = value * 10 + digit;
         }
-        bis.reset();
-        byte[] valueBytes = new byte[length];
-        if (length > 0) {
-            bis.read(valueBytes);
+        if (value > Integer.MAX_VALUE) {
+            throw createInvalidLengthException(lineEnd);
+        }
+        position = lineEnd + 1;
+        return negative ? (int) -value : (int) value;
+    }
+
+    private IOException createInvalidLengthException(int lineEnd) {
+        return new IOException("Invalid length: `" + new String(buffer, position, lineEnd - 1 - position, RedisData.UTF8) + "`.");
+    }
+
+    /**
+     * 查找当前行结尾 LF 符在缓冲区中的索引位置，已扫描过的字节不会被重复扫描，如果已到达字节流末尾，返回 -1。
+     */
+    private int findLineEnd() throws IOException {
+        int scannedBytes = 0;
+        while (true) {
+            for (int i = position + scannedBytes; i < limit; i++) {
+                if (buffer[i] == RedisData.LF) {
+                    if (i == position || buffer[i - 1] != RedisData.CR) {
+                        throw new IOException("Invalid line terminator: `LF` without `CR`.");
+                    }
+                    return i;
+                }
+            }
+            scannedBytes = limit - position;
+            if (scannedBytes > RedisDataDecoder.DEFAULT_MAX_BULK_LENGTH) {
+                throw new IOException("Line is too large. Max length: `" + RedisDataDecoder.DEFAULT_MAX_BULK_LENGTH + "`.");
+            }
+            if (!fill()) {
+                return -1;
+            }
+        }
+    }
+
+    private boolean skip(int length) throws IOException {
+        while (length > 0) {
+            if (position == limit && !fill()) {
+                return false;
+            }
+            int skippedBytes = Math.min(length, limit - position);
+            position += skippedBytes;
+            length -= skippedBytes;
+        }
+        return true;
+    }
+
+    /**
+     * 从字节流中读取数据填充缓冲区，未读取的数据将被移动至缓冲区头部，缓冲区已满时将会扩容。
+     *
+     * @return 是否读取到数据，如果已到达字节流末尾，返回 {@code false}
+     */
+    private boolean fill() throws IOException {
+        if (position == limit) {
+            position = 0;
+            limit = 0;
+        } else if (position > 0) {
+            System.arraycopy(buffer, position, buffer, 0, limit - position);
+            limit -= position;
+            position = 0;
+        }
+        if (limit == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+        int readBytes = inputStream.read(buffer, limit, buffer.length - limit);
+        if (readBytes > 0) {
+            limit += readBytes;
+            return true;
+        } else {
+            return false;
         }
-        bis.read();
-        bis.read();
-        return valueBytes;
     }
 
 }
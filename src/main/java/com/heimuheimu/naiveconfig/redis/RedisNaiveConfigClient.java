@@ -26,13 +26,40 @@ package com.heimuheimu.naiveconfig.redis;
 
 import com.heimuheimu.naiveconfig.NaiveConfigClient;
 import com.heimuheimu.naiveconfig.NaiveConfigClientListener;
+import com.heimuheimu.naiveconfig.cache.LocalConfigCache;
 import com.heimuheimu.naiveconfig.constant.BeanStatusEnum;
 import com.heimuheimu.naiveconfig.exception.NaiveConfigException;
+import com.heimuheimu.naiveconfig.redis.cluster.ClusterCommandExecutor;
+import com.heimuheimu.naiveconfig.redis.data.RedisData;
+import com.heimuheimu.naiveconfig.redis.sentinel.SentinelCommandExecutor;
+import com.heimuheimu.naiveconfig.redis.sentinel.SentinelListener;
 import com.heimuheimu.naiveconfig.redis.subscribe.RedisSubscribeClient;
+import com.heimuheimu.naiveconfig.redis.transport.FailoverCommandExecutor;
+import com.heimuheimu.naiveconfig.redis.transport.RedisCommandExecutor;
+import com.heimuheimu.naiveconfig.redis.transport.RedisConnectionPoolConfig;
+import com.heimuheimu.naiveconfig.redis.transport.RedisPlatform;
+import com.heimuheimu.naiveconfig.redis.transport.RedisTlsSocketFactory;
+import com.heimuheimu.naiveconfig.redis.transport.nio.NioRedisCommandExecutor;
+import com.heimuheimu.naiveconfig.redis.transport.nio.NioRedisConnection;
+import com.heimuheimu.naiveconfig.redis.transport.nio.NioRedisConnectionListener;
+import com.heimuheimu.naiveconfig.redis.transport.nio.RedisEventLoopGroup;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * 基于 Redis 服务实现的 NaiveConfig 客户端，配置信息变更监听通过 Redis PUB/SUB 命令实现。
@@ -41,6 +68,17 @@ import java.io.Closeable;
  *
  * <p>更多 Redis 信息请参考：<a href="https://redis.io">https://redis.io</a></p>
  *
+ * <p>{@code RedisNaiveConfigClient} 默认会在本地缓存已获取的配置信息（包括不存在的 Key），在收到配置信息变更通知时使对应的缓存失效，
+ * 在订阅连接断开及恢复时清空所有缓存，订阅连接断开期间不使用缓存。缓存的配置信息实例由所有调用方共享，不应对其进行修改。</p>
+ *
+ * <p>如果 Redis 客户端使用启用了 RESP3 协议的 {@link NioRedisCommandExecutor}，可通过 {@link ClientTracking} 开启 Redis 服务端辅助的客户端缓存，
+ * Redis 服务将在 Key 变更时推送失效通知，未通过 {@link RedisNaiveConfigManager} 修改的配置信息同样可使本地缓存及时失效。</p>
+ *
+ * <p>如果 Redis 客户端使用 {@link com.heimuheimu.naiveconfig.redis.transport.CircuitBreakerCommandExecutor}，熔断器打开期间返回的最近一次获取结果
+ * 不会写入本地缓存，{@link #isStale(String)} 将返回 {@code true}，后台任务将定期重新获取此类 Key，获取成功后再次通知 NaiveConfig 客户端事件监听器。</p>
+ *
+ * <p>如果 Redis 客户端使用 {@link SentinelCommandExecutor}，订阅客户端将连接至 Sentinel 确认的当前主节点，并在主节点切换后自动在新的主节点上重新订阅。</p>
+ *
  * <p><strong>说明：</strong>{@code RedisNaiveConfigClient} 类是线程安全的，可在多个线程中使用同一个实例。</p>
  *
  * @author heimuheimu
@@ -49,6 +87,11 @@ public class RedisNaiveConfigClient implements NaiveConfigClient, Closeable {
 
     private static final Logger LOG = LoggerFactory.getLogger(RedisNaiveConfigClient.class);
 
+    /**
+     * 重新获取使用了熔断器打开期间最近一次获取结果的 Key 的时间间隔，单位：毫秒
+     */
+    private static final long STALE_REFRESH_PERIOD = 5000;
+
     private final OneTimeRedisClient redisClient;
 
     private final String host;
@@ -59,6 +102,46 @@ public class RedisNaiveConfigClient implements NaiveConfigClient, Closeable {
 
     private final NaiveConfigClientListener listener;
 
+    /**
+     * Redis 订阅客户端使用的 NIO 事件循环组，如果为 {@code null}，订阅客户端将使用阻塞 IO
+     */
+    private final RedisEventLoopGroup eventLoopGroup;
+
+    /**
+     * Redis 订阅客户端使用的 TLS 连接工厂，如果为 {@code null}，订阅连接不使用 TLS
+     */
+    private final RedisTlsSocketFactory tlsSocketFactory;
+
+    /**
+     * 配置信息本地缓存，如果为 {@code null}，则不使用本地缓存
+     */
+    private final LocalConfigCache cache;
+
+    /**
+     * Redis 服务端辅助的客户端缓存配置，如果为 {@code null}，则不开启 CLIENT TRACKING
+     */
+    private final ClientTracking clientTracking;
+
+    /**
+     * 失效通知监听器，仅在开启 CLIENT TRACKING 时使用
+     */
+    private final InvalidationListener invalidationListener = new InvalidationListener();
+
+    /**
+     * 已开启 CLIENT TRACKING 的连接，仅该连接推送的失效通知有效
+     */
+    private volatile NioRedisConnection trackedConnection = null;
+
+    /**
+     * Sentinel 主节点切换事件监听器，仅在 Redis 客户端使用 {@link SentinelCommandExecutor} 时使用
+     */
+    private final MasterSwitchListener masterSwitchListener = new MasterSwitchListener();
+
+    /**
+     * 本地缓存当前是否可用，仅在订阅连接正常时可用
+     */
+    private volatile boolean cacheAvailable = false;
+
     private volatile RedisSubscribeClient redisSubscribeClient;
 
     private volatile BeanStatusEnum state = BeanStatusEnum.UNINITIALIZED;
@@ -66,12 +149,22 @@ public class RedisNaiveConfigClient implements NaiveConfigClient, Closeable {
     /**
      * 私有锁
      */
-    private final Object lock = new Object();
+    private final ReentrantLock lock = new ReentrantLock();
 
     /**
      * Redis 订阅客户端恢复任务使用的私有锁
      */
-    private final Object rescueTaskLock = new Object();
+    private final ReentrantLock rescueTaskLock = new ReentrantLock();
+
+    /**
+     * 使用了熔断器打开期间最近一次获取结果的 Key 集合，集合中的 Key 在重新获取成功后将再次通知 NaiveConfig 客户端事件监听器
+     */
+    private final Set<String> staleKeySet = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 配置信息刷新任务是否正在运行
+     */
+    private final AtomicBoolean staleRefreshTaskRunning = new AtomicBoolean(false);
 
     /**
      * 构造一个基于 Redis 服务实现的 NaiveConfig 客户端，默认 Redis 操作超时时间为 30 秒。
@@ -102,11 +195,163 @@ public class RedisNaiveConfigClient implements NaiveConfigClient, Closeable {
      * @throws IllegalArgumentException 如果 Redis 操作超时时间小于等于 0，将会抛出此异常
      */
     public RedisNaiveConfigClient(String host, String channel, int pingPeriod, NaiveConfigClientListener listener, int timeout) throws IllegalArgumentException {
-        this.host = host;
+        this(new OneTimeRedisClient(host, timeout), channel, pingPeriod, listener);
+    }
+
+    /**
+     * 构造一个支持多个 Redis 服务地址故障转移的 NaiveConfig 客户端，配置信息获取将优先使用可用且平均响应时间最小的地址，
+     * 订阅客户端同样按该顺序选择地址，订阅连接断开后将在其它地址上恢复。
+     *
+     * @param hosts Redis 服务主机地址列表，由主机名和端口组成，":"符号分割，例如：localhost:6379，不允许为 {@code null} 或空列表
+     * @param channel  当前 Redis 订阅客户端订阅的 Channel 信息，不允许为 {@code null} 或空字符串
+     * @param pingPeriod PING 命令发送时间间隔，单位：秒。用于心跳检测。如果该值小于等于 0，则不进行心跳检测
+     * @param listener NaiveConfig 客户端事件监听器，不允许为 {@code null}
+     * @param timeout Redis 操作超时时间，单位：毫秒，不允许小于等于 0
+     * @throws IllegalArgumentException 如果 Redis 服务主机地址列表为 {@code null} 或空列表，将会抛出此异常
+     * @throws IllegalArgumentException 如果 Redis 服务主机地址不符合规则，将会抛出此异常
+     * @throws IllegalArgumentException 如果 Channel 为 {@code null} 或空字符串，将会抛出此异常
+     * @throws NullPointerException 如果 listener 为 {@code null}，将会抛出此异常
+     * @throws IllegalArgumentException 如果 Redis 操作超时时间小于等于 0，将会抛出此异常
+     */
+    public RedisNaiveConfigClient(List<String> hosts, String channel, int pingPeriod, NaiveConfigClientListener listener, int timeout) throws IllegalArgumentException {
+        this(new OneTimeRedisClient(hosts, timeout), channel, pingPeriod, listener);
+    }
+
+    /**
+     * 使用指定的 Redis 客户端构造一个基于 Redis 服务实现的 NaiveConfig 客户端，配置信息获取将通过该 Redis 客户端执行，
+     * 订阅客户端将连接至该 Redis 客户端对应的 Redis 服务。
+     *
+     * <p>可使用 {@link com.heimuheimu.naiveconfig.redis.transport.RedisConnectionPool} 构造 Redis 客户端，与
+     * {@link RedisNaiveConfigManager}、{@link com.heimuheimu.naiveconfig.spring.PropertyRedisConfigurer} 共享同一个连接池。</p>
+     *
+     * @param redisClient Redis 客户端，不允许为 {@code null}
+     * @param channel  当前 Redis 订阅客户端订阅的 Channel 信息，不允许为 {@code null} 或空字符串
+     * @param pingPeriod PING 命令发送时间间隔，单位：秒。用于心跳检测。如果该值小于等于 0，则不进行心跳检测
+     * @param listener NaiveConfig 客户端事件监听器，不允许为 {@code null}
+     * @throws NullPointerException 如果 Redis 客户端为 {@code null}，将会抛出此异常
+     * @throws IllegalArgumentException 如果 Channel 为 {@code null} 或空字符串，将会抛出此异常
+     * @throws NullPointerException 如果 listener 为 {@code null}，将会抛出此异常
+     */
+    public RedisNaiveConfigClient(OneTimeRedisClient redisClient, String channel, int pingPeriod, NaiveConfigClientListener listener)
+            throws NullPointerException, IllegalArgumentException {
+        this(redisClient, channel, pingPeriod, listener, null);
+    }
+
+    /**
+     * 使用指定的 Redis 客户端构造一个基于 Redis 服务实现的 NaiveConfig 客户端，如果 Redis NIO 事件循环组不为 {@code null}，
+     * 订阅客户端将使用非阻塞 IO，与同一事件循环组中的其它连接共享 IO 线程。
+     *
+     * <p>如果需要配置信息获取同样使用非阻塞 IO，可使用 {@link com.heimuheimu.naiveconfig.redis.transport.nio.NioRedisCommandExecutor}
+     * 构造 Redis 客户端。</p>
+     *
+     * @param redisClient Redis 客户端，不允许为 {@code null}
+     * @param channel  当前 Redis 订阅客户端订阅的 Channel 信息，不允许为 {@code null} 或空字符串
+     * @param pingPeriod PING 命令发送时间间隔，单位：秒。用于心跳检测。如果该值小于等于 0，则不进行心跳检测
+     * @param listener NaiveConfig 客户端事件监听器，不允许为 {@code null}
+     * @param eventLoopGroup Redis 订阅客户端使用的 NIO 事件循环组，允许为 {@code null}，如果为 {@code null}，订阅客户端将使用阻塞 IO
+     * @throws NullPointerException 如果 Redis 客户端为 {@code null}，将会抛出此异常
+     * @throws IllegalArgumentException 如果 Channel 为 {@code null} 或空字符串，将会抛出此异常
+     * @throws NullPointerException 如果 listener 为 {@code null}，将会抛出此异常
+     */
+    public RedisNaiveConfigClient(OneTimeRedisClient redisClient, String channel, int pingPeriod, NaiveConfigClientListener listener,
+                                  RedisEventLoopGroup eventLoopGroup) throws NullPointerException, IllegalArgumentException {
+        this(redisClient, channel, pingPeriod, listener, eventLoopGroup, LocalConfigCache.DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * 使用指定的 Redis 客户端构造一个基于 Redis 服务实现的 NaiveConfig 客户端，并指定配置信息本地缓存的最大缓存数量。
+     *
+     * @param redisClient Redis 客户端，不允许为 {@code null}
+     * @param channel  当前 Redis 订阅客户端订阅的 Channel 信息，不允许为 {@code null} 或空字符串
+     * @param pingPeriod PING 命令发送时间间隔，单位：秒。用于心跳检测。如果该值小于等于 0，则不进行心跳检测
+     * @param listener NaiveConfig 客户端事件监听器，不允许为 {@code null}
+     * @param eventLoopGroup Redis 订阅客户端使用的 NIO 事件循环组，允许为 {@code null}，如果为 {@code null}，订阅客户端将使用阻塞 IO
+     * @param cacheMaxSize 配置信息本地缓存的最大缓存数量，如果小于等于 0，则不使用本地缓存
+     * @throws NullPointerException 如果 Redis 客户端为 {@code null}，将会抛出此异常
+     * @throws IllegalArgumentException 如果 Channel 为 {@code null} 或空字符串，将会抛出此异常
+     * @throws NullPointerException 如果 listener 为 {@code null}，将会抛出此异常
+     */
+    public RedisNaiveConfigClient(OneTimeRedisClient redisClient, String channel, int pingPeriod, NaiveConfigClientListener listener,
+                                  RedisEventLoopGroup eventLoopGroup, int cacheMaxSize) throws NullPointerException, IllegalArgumentException {
+        this(redisClient, channel, pingPeriod, listener, eventLoopGroup, cacheMaxSize, null);
+    }
+
+    /**
+     * 使用指定的 Redis 客户端构造一个基于 Redis 服务实现的 NaiveConfig 客户端，并开启 Redis 服务端辅助的客户端缓存。
+     *
+     * <p>开启 CLIENT TRACKING 时，Redis 客户端必须使用启用了 RESP3 协议的 {@link NioRedisCommandExecutor}，配置信息获取、订阅消息及失效通知
+     * 共享该执行器的连接，连接断开期间不使用本地缓存，连接恢复后将重新开启 CLIENT TRACKING。</p>
+     *
+     * @param redisClient Redis 客户端，不允许为 {@code null}
+     * @param channel  当前 Redis 订阅客户端订阅的 Channel 信息，不允许为 {@code null} 或空字符串
+     * @param pingPeriod PING 命令发送时间间隔，单位：秒。用于心跳检测。如果该值小于等于 0，则不进行心跳检测
+     * @param listener NaiveConfig 客户端事件监听器，不允许为 {@code null}
+     * @param eventLoopGroup Redis 订阅客户端使用的 NIO 事件循环组，允许为 {@code null}，如果为 {@code null}，订阅客户端将使用阻塞 IO
+     * @param cacheMaxSize 配置信息本地缓存的最大缓存数量，如果小于等于 0，则不使用本地缓存
+     * @param clientTracking Redis 服务端辅助的客户端缓存配置，允许为 {@code null}，如果为 {@code null}，则不开启 CLIENT TRACKING
+     * @throws NullPointerException 如果 Redis 客户端为 {@code null}，将会抛出此异常
+     * @throws IllegalArgumentException 如果 Channel 为 {@code null} 或空字符串，将会抛出此异常
+     * @throws NullPointerException 如果 listener 为 {@code null}，将会抛出此异常
+     * @throws IllegalArgumentException 如果开启 CLIENT TRACKING，但 Redis 客户端未使用启用了 RESP3 协议的 {@link NioRedisCommandExecutor}，
+     *                                  或未使用本地缓存，将会抛出此异常
+     */
+    public RedisNaiveConfigClient(OneTimeRedisClient redisClient, String channel, int pingPeriod, NaiveConfigClientListener listener,
+                                  RedisEventLoopGroup eventLoopGroup, int cacheMaxSize, ClientTracking clientTracking)
+            throws NullPointerException, IllegalArgumentException {
+        this(redisClient, channel, pingPeriod, listener, eventLoopGroup, cacheMaxSize, clientTracking, null);
+    }
+
+    /**
+     * 使用指定的 Redis 客户端构造一个基于 Redis 服务实现的 NaiveConfig 客户端，订阅连接使用 TLS。
+     *
+     * <p>Redis 客户端的命令执行器需自行配置 TLS，例如通过 {@link RedisConnectionPoolConfig#setTlsSocketFactory(RedisTlsSocketFactory)}，
+     * 建议与订阅连接共享同一个 {@link RedisTlsSocketFactory} 实例，以便复用缓存的 TLS 会话。</p>
+     *
+     * @param redisClient Redis 客户端，不允许为 {@code null}
+     * @param channel  当前 Redis 订阅客户端订阅的 Channel 信息，不允许为 {@code null} 或空字符串
+     * @param pingPeriod PING 命令发送时间间隔，单位：秒。用于心跳检测。如果该值小于等于 0，则不进行心跳检测
+     * @param listener NaiveConfig 客户端事件监听器，不允许为 {@code null}
+     * @param eventLoopGroup Redis 订阅客户端使用的 NIO 事件循环组，允许为 {@code null}，如果为 {@code null}，订阅客户端将使用阻塞 IO
+     * @param cacheMaxSize 配置信息本地缓存的最大缓存数量，如果小于等于 0，则不使用本地缓存
+     * @param clientTracking Redis 服务端辅助的客户端缓存配置，允许为 {@code null}，如果为 {@code null}，则不开启 CLIENT TRACKING
+     * @param tlsSocketFactory Redis 订阅客户端使用的 TLS 连接工厂，允许为 {@code null}，如果为 {@code null}，订阅连接不使用 TLS
+     * @throws NullPointerException 如果 Redis 客户端为 {@code null}，将会抛出此异常
+     * @throws IllegalArgumentException 如果 Channel 为 {@code null} 或空字符串，将会抛出此异常
+     * @throws NullPointerException 如果 listener 为 {@code null}，将会抛出此异常
+     * @throws IllegalArgumentException 如果开启 CLIENT TRACKING，但 Redis 客户端未使用启用了 RESP3 协议的 {@link NioRedisCommandExecutor}，
+     *                                  或未使用本地缓存，将会抛出此异常
+     * @throws IllegalArgumentException 如果同时指定了 TLS 连接工厂及 NIO 事件循环组，将会抛出此异常
+     */
+    public RedisNaiveConfigClient(OneTimeRedisClient redisClient, String channel, int pingPeriod, NaiveConfigClientListener listener,
+                                  RedisEventLoopGroup eventLoopGroup, int cacheMaxSize, ClientTracking clientTracking,
+                                  RedisTlsSocketFactory tlsSocketFactory) throws NullPointerException, IllegalArgumentException {
+        if (redisClient == null) {
+            throw new NullPointerException("Create RedisNaiveConfigClient failed: `redisClient could not be null`. Channel: `" + channel + "`.");
+        }
+        if (tlsSocketFactory != null && eventLoopGroup != null) {
+            throw new IllegalArgumentException("Create RedisNaiveConfigClient failed: `TLS subscription requires blocking IO`. Host: `"
+                    + redisClient.getHost() + "`. Channel: `" + channel + "`.");
+        }
+        if (clientTracking != null) {
+            RedisCommandExecutor executor = redisClient.getExecutor();
+            if (!(executor instanceof NioRedisCommandExecutor) || !((NioRedisCommandExecutor) executor).isResp3()) {
+                throw new IllegalArgumentException("Create RedisNaiveConfigClient failed: `client tracking requires RESP3 NioRedisCommandExecutor`. Host: `"
+                        + redisClient.getHost() + "`. Channel: `" + channel + "`.");
+            }
+            if (cacheMaxSize <= 0) {
+                throw new IllegalArgumentException("Create RedisNaiveConfigClient failed: `client tracking requires local cache`. Host: `"
+                        + redisClient.getHost() + "`. Channel: `" + channel + "`. Cache max size: `" + cacheMaxSize + "`.");
+            }
+        }
+        this.host = redisClient.getHost();
         this.channel = channel;
         this.pingPeriod = pingPeriod;
         this.listener = listener;
-        this.redisClient = new OneTimeRedisClient(host, timeout);
+        this.redisClient = redisClient;
+        this.eventLoopGroup = eventLoopGroup;
+        this.tlsSocketFactory = tlsSocketFactory;
+        this.cache = cacheMaxSize > 0 ? new LocalConfigCache(cacheMaxSize) : null;
+        this.clientTracking = clientTracking;
     }
 
     @Override
@@ -115,8 +360,131 @@ public class RedisNaiveConfigClient implements NaiveConfigClient, Closeable {
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public <T> T get(String key) throws NullPointerException, IllegalArgumentException, NaiveConfigException {
-        return redisClient.get(key);
+        if (key == null || !cacheAvailable) {
+            return (T) unwrapFetchedValue(key, redisClient.getOrStale(key));
+        }
+        LocalConfigCache.CachedValue cachedValue = cache.get(key);
+        if (cachedValue != null) {
+            return (T) cachedValue.getValue();
+        }
+        long stamp = cache.getStamp();
+        Object value = redisClient.getOrStale(key);
+        if (!OneTimeRedisClient.isStaleValue(value)) {
+            cache.put(key, value, stamp);
+        }
+        return (T) unwrapFetchedValue(key, value);
+    }
+
+    @Override
+    public <T> Map<String, T> getAll(Collection<String> keys) throws NullPointerException, IllegalArgumentException, NaiveConfigException {
+        if (keys == null || !cacheAvailable) {
+            return unwrapFetchedValues(redisClient.getAllOrStale(keys));
+        }
+        Map<String, T> result = new HashMap<>();
+        List<String> missedKeys = getAllFromCache(keys, result);
+        if (!missedKeys.isEmpty()) {
+            long stamp = cache.getStamp();
+            Map<String, Object> fetchedValueMap = redisClient.getAllOrStale(missedKeys);
+            putAllToCache(missedKeys, fetchedValueMap, stamp);
+            result.putAll(this.<T>unwrapFetchedValues(fetchedValueMap));
+        }
+        return result;
+    }
+
+    @Override
+    public <T> CompletableFuture<T> getAsync(final String key, long timeout) throws NullPointerException, IllegalArgumentException {
+        if (key == null || !cacheAvailable) {
+            return redisClient.getOrStaleAsync(key, timeout).thenApply(new Function<Object, T>() {
+
+                @Override
+                @SuppressWarnings("unchecked")
+                public T apply(Object value) {
+                    return (T) unwrapFetchedValue(key, value);
+                }
+
+            });
+        }
+        LocalConfigCache.CachedValue cachedValue = cache.get(key);
+        if (cachedValue != null) {
+            @SuppressWarnings("unchecked")
+            T value = (T) cachedValue.getValue();
+            return CompletableFuture.completedFuture(value);
+        }
+        final long stamp = cache.getStamp();
+        return redisClient.getOrStaleAsync(key, timeout).thenApply(new Function<Object, T>() {
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T apply(Object value) {
+                if (!OneTimeRedisClient.isStaleValue(value)) {
+                    cache.put(key, value, stamp);
+                }
+                return (T) unwrapFetchedValue(key, value);
+            }
+
+        });
+    }
+
+    @Override
+    public <T> CompletableFuture<Map<String, T>> getAllAsync(Collection<String> keys, long timeout) throws NullPointerException, IllegalArgumentException {
+        if (keys == null || !cacheAvailable) {
+            return redisClient.getAllOrStaleAsync(keys, timeout).thenApply(new Function<Map<String, Object>, Map<String, T>>() {
+
+                @Override
+                public Map<String, T> apply(Map<String, Object> fetchedValueMap) {
+                    return unwrapFetchedValues(fetchedValueMap);
+                }
+
+            });
+        }
+        final Map<String, T> result = new HashMap<>();
+        final List<String> missedKeys = getAllFromCache(keys, result);
+        if (missedKeys.isEmpty()) {
+            return CompletableFuture.completedFuture(result);
+        }
+        final long stamp = cache.getStamp();
+        return redisClient.getAllOrStaleAsync(missedKeys, timeout).thenApply(new Function<Map<String, Object>, Map<String, T>>() {
+
+            @Override
+            public Map<String, T> apply(Map<String, Object> fetchedValueMap) {
+                putAllToCache(missedKeys, fetchedValueMap, stamp);
+                result.putAll(RedisNaiveConfigClient.this.<T>unwrapFetchedValues(fetchedValueMap));
+                return result;
+            }
+
+        });
+    }
+
+    /**
+     * 判断 Key 最近一次获取的配置信息是否为熔断器打开期间使用的最近一次获取结果，该 Key 的配置信息在熔断器关闭并重新获取成功后，
+     * 将再次通过 {@link NaiveConfigClientListener#onChanged(NaiveConfigClient, String)} 进行通知。
+     *
+     * @param key 配置信息 Key
+     * @return 是否为熔断器打开期间使用的最近一次获取结果
+     */
+    @Override
+    public boolean isStale(String key) {
+        return key != null && staleKeySet.contains(key);
+    }
+
+    /**
+     * 获得配置信息本地缓存，可用于获取缓存命中次数等统计信息，如果未使用本地缓存，将返回 {@code null}。
+     *
+     * @return 配置信息本地缓存，可能为 {@code null}
+     */
+    public LocalConfigCache getCache() {
+        return cache;
+    }
+
+    /**
+     * 获得 Redis 服务端辅助的客户端缓存配置，如果未开启 CLIENT TRACKING，将返回 {@code null}。
+     *
+     * @return Redis 服务端辅助的客户端缓存配置，可能为 {@code null}
+     */
+    public ClientTracking getClientTracking() {
+        return clientTracking;
     }
 
     /**
@@ -125,9 +493,16 @@ public class RedisNaiveConfigClient implements NaiveConfigClient, Closeable {
      * @throws NaiveConfigException 如果初始化过程中发生错误，将会抛出此异常
      */
     public void init() throws NaiveConfigException {
-        synchronized (lock) {
+        lock.lock();
+        try {
             if (state == BeanStatusEnum.UNINITIALIZED) {
                 try {
+                    if (clientTracking != null) {
+                        ((NioRedisCommandExecutor) redisClient.getExecutor()).addPushListener(invalidationListener);
+                    }
+                    if (redisClient.getExecutor() instanceof SentinelCommandExecutor) {
+                        ((SentinelCommandExecutor) redisClient.getExecutor()).addSentinelListener(masterSwitchListener);
+                    }
                     this.redisSubscribeClient = createRedisSubscribeClient();
                     state = BeanStatusEnum.NORMAL;
                     try {
@@ -143,6 +518,8 @@ public class RedisNaiveConfigClient implements NaiveConfigClient, Closeable {
                             + "`. Ping period: `" + pingPeriod + "`.", e);
                 }
             }
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -153,52 +530,223 @@ public class RedisNaiveConfigClient implements NaiveConfigClient, Closeable {
      */
     @Override
     public void close() {
-        synchronized (lock) {
+        lock.lock();
+        try {
             if (state != BeanStatusEnum.CLOSED) {
                 state = BeanStatusEnum.CLOSED;
+                if (clientTracking != null) {
+                    ((NioRedisCommandExecutor) redisClient.getExecutor()).removePushListener(invalidationListener);
+                    trackedConnection = null;
+                }
+                if (redisClient.getExecutor() instanceof SentinelCommandExecutor) {
+                    ((SentinelCommandExecutor) redisClient.getExecutor()).removeSentinelListener(masterSwitchListener);
+                }
+                disableCache();
                 if (redisSubscribeClient != null) {
                     redisSubscribeClient.close(false);
                 }
             }
+        } finally {
+            lock.unlock();
         }
     }
 
-    private RedisSubscribeClient createRedisSubscribeClient() throws IllegalArgumentException, NaiveConfigException {
-        RedisSubscribeClient client = new RedisSubscribeClient(host, channel, pingPeriod) {
+    /**
+     * 从本地缓存中获取 Key 列表对应的配置信息，放入结果 Map 中，并返回未命中缓存的 Key 列表。
+     *
+     * @param keys 配置信息 Key 列表
+     * @param result 结果 Map
+     * @param <T> 配置信息 Value 类型
+     * @return 未命中缓存的 Key 列表
+     * @throws NullPointerException 如果 Key 列表中存在为 {@code null} 的 Key，将抛出此异常
+     */
+    @SuppressWarnings("unchecked")
+    private <T> List<String> getAllFromCache(Collection<String> keys, Map<String, T> result) throws NullPointerException {
+        if (keys.contains(null)) {
+            throw new NullPointerException("Key could not be null. Keys: `" + keys + "`. Host: `" + host + "`.");
+        }
+        List<String> missedKeys = new ArrayList<>();
+        for (String key : new LinkedHashSet<>(keys)) {
+            LocalConfigCache.CachedValue cachedValue = cache.get(key);
+            if (cachedValue == null) {
+                missedKeys.add(key);
+            } else if (cachedValue.getValue() != null) {
+                result.put(key, (T) cachedValue.getValue());
+            }
+        }
+        return missedKeys;
+    }
 
-            @Override
-            protected void onMessageReceived(String message) {
-                try {
-                    listener.onChanged(RedisNaiveConfigClient.this, message);
-                } catch (Exception e) {
-                    LOG.error("Call NaiveConfigClientListener#onChanged() failed. Host: `" + host + "`. Channel: `"
-                            + channel + "`. Ping period: `" + pingPeriod + "`.", e);
-                }
+    /**
+     * 将从配置中心获取的配置信息写入本地缓存，不存在的 Key 将以 {@code null} 值写入缓存。
+     *
+     * @param keys 配置信息 Key 列表
+     * @param valueMap 从配置中心获取的配置信息 Map
+     * @param stamp 访问配置中心前获取的缓存版本号
+     */
+    private void putAllToCache(List<String> keys, Map<String, ?> valueMap, long stamp) {
+        for (String key : keys) {
+            Object value = valueMap.get(key);
+            if (!OneTimeRedisClient.isStaleValue(value)) {
+                cache.put(key, value, stamp);
             }
+        }
+    }
 
-            @Override
-            protected void onClosed() {
-                startRescueTask();
-                try {
-                    listener.onClosed(RedisNaiveConfigClient.this);
-                } catch (Exception e) {
-                    LOG.error("Call NaiveConfigClientListener#onClosed() failed. Host: `" + host + "`. Channel: `"
-                            + channel + "`. Ping period: `" + pingPeriod + "`.", e);
-                }
+    /**
+     * 如果获取结果为熔断器打开期间使用的最近一次获取结果，记录该 Key 并启动刷新任务，返回去除标记后的配置信息。
+     *
+     * @param key 配置信息 Key
+     * @param value 获取结果
+     * @return 配置信息
+     */
+    private Object unwrapFetchedValue(String key, Object value) {
+        if (OneTimeRedisClient.isStaleValue(value)) {
+            onStaleValueFetched(key);
+        }
+        return OneTimeRedisClient.unwrapStaleValue(value);
+    }
+
+    /**
+     * 记录获取结果中使用了熔断器打开期间最近一次获取结果的 Key，并返回去除标记后的配置信息 Map。
+     *
+     * @param fetchedValueMap 获取结果 Map
+     * @param <T> 配置信息 Value 类型
+     * @return 配置信息 Map
+     */
+    private <T> Map<String, T> unwrapFetchedValues(Map<String, Object> fetchedValueMap) {
+        for (Map.Entry<String, Object> entry : fetchedValueMap.entrySet()) {
+            if (OneTimeRedisClient.isStaleValue(entry.getValue())) {
+                onStaleValueFetched(entry.getKey());
             }
+        }
+        return OneTimeRedisClient.unwrapStaleValues(fetchedValueMap);
+    }
+
+    private void onStaleValueFetched(String key) {
+        if (staleKeySet.add(key)) {
+            LOG.warn("Stale config has been served while circuit breaker is open. Key: `{}`. Host: `{}`. Channel: `{}`.", key, host, channel);
+        }
+        startStaleRefreshTask();
+    }
+
+    /**
+     * 在订阅连接建立后启用本地缓存，订阅连接建立前的变更通知可能已丢失，因此先清空所有缓存。
+     */
+    private void enableCache() {
+        if (cache != null && state != BeanStatusEnum.CLOSED) {
+            redisClient.detachInFlightGets();
+            cache.clear();
+            cacheAvailable = true;
+        }
+    }
+
+    /**
+     * 在订阅连接断开后停用本地缓存，并清空所有缓存。
+     */
+    private void disableCache() {
+        if (cache != null) {
+            cacheAvailable = false;
+            cache.clear();
+        }
+    }
 
-        };
-        client.init();
+    private RedisSubscribeClient createRedisSubscribeClient() throws IllegalArgumentException, NaiveConfigException {
+        RedisSubscribeClient client;
+        RedisCommandExecutor executor = redisClient.getExecutor();
+        if (executor instanceof NioRedisCommandExecutor && ((NioRedisCommandExecutor) executor).isResp3()) {
+            //RESP3 连接可同时执行命令和接收订阅消息，无需建立独立的订阅连接
+            client = new ConfigSubscribeClient((NioRedisCommandExecutor) executor);
+            client.init();
+        } else if (executor instanceof SentinelCommandExecutor) {
+            //订阅客户端连接至 Sentinel 确认的当前主节点，主节点切换后由 MasterSwitchListener 触发重建
+            SentinelCommandExecutor sentinelExecutor = (SentinelCommandExecutor) executor;
+            sentinelExecutor.init();
+            client = new ConfigSubscribeClient(sentinelExecutor.getMasterHost());
+            client.init();
+        } else if (executor instanceof FailoverCommandExecutor) {
+            client = createSubscribeClient(((FailoverCommandExecutor) executor).getPreferredHosts());
+        } else if (executor instanceof ClusterCommandExecutor) {
+            //Redis Cluster 中 PUBLISH 发布的消息会广播至所有节点，可订阅任意一个节点
+            client = createSubscribeClient(((ClusterCommandExecutor) executor).getNodeHosts());
+        } else {
+            client = new ConfigSubscribeClient(host);
+            client.init();
+        }
+        if (clientTracking != null) {
+            try {
+                enableClientTracking((NioRedisCommandExecutor) executor);
+            } catch (NaiveConfigException e) {
+                client.close(false);
+                throw e;
+            }
+        }
+        enableCache();
         return client;
     }
 
+    /**
+     * 按顺序依次尝试在候选地址上建立订阅客户端，直至成功。
+     *
+     * @param subscribeHosts 候选的 Redis 服务地址列表
+     * @return 已初始化的订阅客户端
+     * @throws NaiveConfigException 如果所有地址均无法建立订阅客户端，将会抛出此异常
+     */
+    private RedisSubscribeClient createSubscribeClient(List<String> subscribeHosts) throws NaiveConfigException {
+        NaiveConfigException lastException = null;
+        for (String subscribeHost : subscribeHosts) {
+            try {
+                RedisSubscribeClient client = new ConfigSubscribeClient(subscribeHost);
+                client.init();
+                return client;
+            } catch (NaiveConfigException e) {
+                lastException = e;
+            }
+        }
+        throw lastException;
+    }
+
+    /**
+     * 在命令执行器当前使用的连接上开启 CLIENT TRACKING，每个连接仅需开启一次，必须在启用本地缓存前执行。
+     *
+     * @param executor 启用了 RESP3 协议的 NIO Redis 命令执行器
+     * @throws NaiveConfigException 如果开启 CLIENT TRACKING 失败，将会抛出此异常
+     */
+    private void enableClientTracking(NioRedisCommandExecutor executor) throws NaiveConfigException {
+        try {
+            NioRedisConnection connection = executor.getConnection().get(executor.getTimeout(), TimeUnit.MILLISECONDS);
+            if (connection != trackedConnection) {
+                RedisData responseData = connection.send(clientTracking.createCommand()).get(executor.getTimeout(), TimeUnit.MILLISECONDS);
+                if (responseData.isError()) {
+                    throw new NaiveConfigException("Redis error message: `" + responseData.getText() + "`.");
+                }
+                trackedConnection = connection;
+                if (!connection.isAvailable()) {
+                    throw new NaiveConfigException("NioRedisConnection has been closed.");
+                }
+                LOG.info("Client tracking has been enabled. Host: `{}`. Channel: `{}`. Client tracking: `{}`.", host, channel, clientTracking);
+            }
+        } catch (NaiveConfigException e) {
+            LOG.error("Enable client tracking failed: `" + e.getMessage() + "`. Host: `" + host + "`. Channel: `" + channel
+                    + "`. Client tracking: `" + clientTracking + "`.");
+            throw new NaiveConfigException("Enable client tracking failed: `" + e.getMessage() + "`. Host: `" + host + "`. Channel: `" + channel
+                    + "`. Client tracking: `" + clientTracking + "`.");
+        } catch (Exception e) {
+            LOG.error("Enable client tracking failed. Host: `" + host + "`. Channel: `" + channel
+                    + "`. Client tracking: `" + clientTracking + "`.", e);
+            throw new NaiveConfigException("Enable client tracking failed. Host: `" + host + "`. Channel: `" + channel
+                    + "`. Client tracking: `" + clientTracking + "`.", e);
+        }
+    }
+
     private void startRescueTask() {
         if (state == BeanStatusEnum.NORMAL) {
-            Thread rescueThread = new Thread() {
+            Runnable rescueTask = new Runnable() {
 
                 @Override
                 public void run() {
-                    synchronized (rescueTaskLock) {
+                    rescueTaskLock.lock();
+                    try {
                         long startTime = System.currentTimeMillis();
                         LOG.info("RedisSubscribeClient rescue task has been started. Host: `{}`. Channel: `{}`. Ping period: `{}`.",
                                 host, channel, pingPeriod);
@@ -225,13 +773,157 @@ public class RedisNaiveConfigClient implements NaiveConfigClient, Closeable {
                                 }
                             }
                         }
+                    } finally {
+                        rescueTaskLock.unlock();
+                    }
+                }
+            };
+            RedisPlatform.newThread("RedisNaiveConfigClient-rescue-task", true, rescueTask).start();
+        }
+    }
+
+    /**
+     * 启动配置信息刷新任务，定期重新获取使用了熔断器打开期间最近一次获取结果的 Key，获取成功后通知 NaiveConfig 客户端事件监听器，
+     * 此类 Key 的变更通知可能已在熔断器打开期间被消费。
+     */
+    private void startStaleRefreshTask() {
+        if (state != BeanStatusEnum.CLOSED && staleRefreshTaskRunning.compareAndSet(false, true)) {
+            Runnable staleRefreshTask = new Runnable() {
+
+                @Override
+                public void run() {
+                    try {
+                        while (!staleKeySet.isEmpty() && state != BeanStatusEnum.CLOSED) {
+                            try {
+                                Thread.sleep(STALE_REFRESH_PERIOD);
+                            } catch (InterruptedException e) {
+                                //ignore exception
+                            }
+                            for (String key : staleKeySet) {
+                                refreshStaleKey(key);
+                            }
+                        }
+                    } finally {
+                        staleRefreshTaskRunning.set(false);
+                    }
+                    //任务结束前新加入的 Key，需重新启动刷新任务
+                    if (!staleKeySet.isEmpty()) {
+                        startStaleRefreshTask();
                     }
                 }
             };
-            rescueThread.setName("RedisNaiveConfigClient-rescue-task");
-            rescueThread.setDaemon(true);
-            rescueThread.start();
+            RedisPlatform.newThread("RedisNaiveConfigClient-stale-refresh-task", true, staleRefreshTask).start();
         }
     }
 
+    private void refreshStaleKey(String key) {
+        try {
+            if (OneTimeRedisClient.isStaleValue(redisClient.getOrStale(key))) {
+                return;
+            }
+        } catch (Exception e) {
+            LOG.error("Refresh stale config failed. Key: `" + key + "`. Host: `" + host + "`. Channel: `" + channel + "`.", e);
+            return;
+        }
+        staleKeySet.remove(key);
+        LOG.info("Stale config has been refreshed. Key: `{}`. Host: `{}`. Channel: `{}`.", key, host, channel);
+        try {
+            listener.onChanged(RedisNaiveConfigClient.this, key);
+        } catch (Exception e) {
+            LOG.error("Call NaiveConfigClientListener#onChanged() failed. Host: `" + host + "`. Channel: `"
+                    + channel + "`. Ping period: `" + pingPeriod + "`.", e);
+        }
+    }
+
+    /**
+     * 配置变更订阅客户端，收到变更通知后清除本地缓存并通知 NaiveConfig 客户端事件监听器。
+     */
+    private class ConfigSubscribeClient extends RedisSubscribeClient {
+
+        private ConfigSubscribeClient(String subscribeHost) throws IllegalArgumentException, NaiveConfigException {
+            super(subscribeHost, channel, pingPeriod, eventLoopGroup, tlsSocketFactory);
+        }
+
+        private ConfigSubscribeClient(NioRedisCommandExecutor executor) throws IllegalArgumentException, NaiveConfigException {
+            super(executor, channel, pingPeriod);
+        }
+
+        @Override
+        protected void onMessageReceived(String message) {
+            //变更前已发送的 GET 命令可能返回旧的配置信息，之后的 GET 操作不应再合并至该命令，须在缓存失效前执行
+            redisClient.detachInFlightGet(message);
+            if (cache != null) {
+                cache.invalidate(message);
+            }
+            try {
+                listener.onChanged(RedisNaiveConfigClient.this, message);
+            } catch (Exception e) {
+                LOG.error("Call NaiveConfigClientListener#onChanged() failed. Host: `" + host + "`. Channel: `"
+                        + channel + "`. Ping period: `" + pingPeriod + "`.", e);
+            }
+        }
+
+        @Override
+        protected void onClosed() {
+            disableCache();
+            startRescueTask();
+            try {
+                listener.onClosed(RedisNaiveConfigClient.this);
+            } catch (Exception e) {
+                LOG.error("Call NaiveConfigClientListener#onClosed() failed. Host: `" + host + "`. Channel: `"
+                        + channel + "`. Ping period: `" + pingPeriod + "`.", e);
+            }
+        }
+    }
+
+    /**
+     * CLIENT TRACKING 失效通知监听器，收到 invalidate 推送时使对应 Key 的本地缓存失效，
+     * 已开启 CLIENT TRACKING 的连接关闭后，失效通知可能已丢失，将停用本地缓存并重建订阅客户端。
+     */
+    private class InvalidationListener implements NioRedisConnectionListener {
+
+        @Override
+        public void onReceived(NioRedisConnection connection, RedisData data) {
+            if (data.isPush() && data.size() == 2 && "invalidate".equalsIgnoreCase(data.get(0).getText())) {
+                RedisData keys = data.get(1);
+                if (keys.isNull()) {
+                    //FLUSHDB、FLUSHALL 等操作将推送 Key 列表为 null 的失效通知
+                    redisClient.detachInFlightGets();
+                    cache.clear();
+                } else {
+                    for (int i = 0; i < keys.size(); i++) {
+                        redisClient.detachInFlightGet(keys.get(i).getText());
+                        cache.invalidate(keys.get(i).getText());
+                    }
+                }
+            }
+        }
+
+        @Override
+        public void onClosed(NioRedisConnection connection) {
+            if (connection == trackedConnection) {
+                trackedConnection = null;
+                disableCache();
+                RedisSubscribeClient client = redisSubscribeClient;
+                if (client != null) {
+                    //订阅客户端关闭后将触发恢复任务，恢复时在新连接上重新开启 CLIENT TRACKING
+                    client.close();
+                }
+            }
+        }
+    }
+
+    /**
+     * Sentinel 主节点切换事件监听器，主节点切换后关闭连接至旧主节点的订阅客户端，由恢复任务在新的主节点上重新订阅。
+     */
+    private class MasterSwitchListener implements SentinelListener {
+
+        @Override
+        public void onMasterSwitched(String masterName, String oldMasterHost, String newMasterHost) {
+            RedisSubscribeClient client = redisSubscribeClient;
+            if (client != null) {
+                client.close();
+            }
+        }
+    }
 }
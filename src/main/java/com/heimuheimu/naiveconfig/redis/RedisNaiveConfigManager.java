@@ -25,7 +25,17 @@
 package com.heimuheimu.naiveconfig.redis;
 
 import com.heimuheimu.naiveconfig.NaiveConfigManager;
+import com.heimuheimu.naiveconfig.codec.ValueCodec;
 import com.heimuheimu.naiveconfig.exception.NaiveConfigException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
 
 /**
  * 基于 Redis 服务实现的 NaiveConfig 配置管理器，提供配置信息获取、设置等管理操作。
@@ -41,6 +51,8 @@ import com.heimuheimu.naiveconfig.exception.NaiveConfigException;
  */
 public class RedisNaiveConfigManager implements NaiveConfigManager {
 
+    private static final Logger LOG = LoggerFactory.getLogger(RedisNaiveConfigManager.class);
+
     private final OneTimeRedisClient redisClient;
 
     private final String channel;
@@ -54,11 +66,40 @@ public class RedisNaiveConfigManager implements NaiveConfigManager {
      * @throws IllegalArgumentException 如果 Redis 服务主机地址不符合规则，将会抛出此异常
      */
     public RedisNaiveConfigManager(String host, String channel) throws NullPointerException, IllegalArgumentException {
+        this(new OneTimeRedisClient(host), channel);
+    }
+
+    /**
+     * 构造一个使用指定配置信息编解码器的 NaiveConfig 配置管理器，默认 Redis 操作超时时间为 30 秒。
+     *
+     * @param host Redis 服务主机地址，由主机名和端口组成，":"符号分割，例如：localhost:6379
+     * @param channel 当配置信息变更后，会通过 PUBLISH 命令在该 Channel 发布变更的配置信息 Key，所有订阅该 Channel 的 NaiveConfig 客户端将会接到通知
+     * @param codec 配置信息编解码器，用于编码写入的配置信息，不允许为 {@code null}
+     * @throws NullPointerException 如果 Channel 为 {@code null}，将会抛出此异常
+     * @throws NullPointerException 如果配置信息编解码器为 {@code null}，将会抛出此异常
+     * @throws IllegalArgumentException 如果 Redis 服务主机地址不符合规则，将会抛出此异常
+     */
+    public RedisNaiveConfigManager(String host, String channel, ValueCodec codec) throws NullPointerException, IllegalArgumentException {
+        this(new OneTimeRedisClient(host, 30000, codec), channel);
+    }
+
+    /**
+     * 使用指定的 Redis 客户端构造一个 NaiveConfig 配置管理器，可与 {@link RedisNaiveConfigClient} 等共享同一个 Redis 客户端或连接池。
+     *
+     * @param redisClient Redis 客户端，不允许为 {@code null}
+     * @param channel 当配置信息变更后，会通过 PUBLISH 命令在该 Channel 发布变更的配置信息 Key，所有订阅该 Channel 的 NaiveConfig 客户端将会接到通知
+     * @throws NullPointerException 如果 Redis 客户端为 {@code null}，将会抛出此异常
+     * @throws NullPointerException 如果 Channel 为 {@code null}，将会抛出此异常
+     */
+    public RedisNaiveConfigManager(OneTimeRedisClient redisClient, String channel) throws NullPointerException {
+        if (redisClient == null) {
+            throw new NullPointerException("RedisClient could not be null. Channel: `" + channel + "`.");
+        }
         if (channel == null) {
-            throw new NullPointerException("Channel could not be null. Host: `" + host + "`.");
+            throw new NullPointerException("Channel could not be null. Host: `" + redisClient.getHost() + "`.");
         }
         this.channel = channel;
-        this.redisClient = new OneTimeRedisClient(host);
+        this.redisClient = redisClient;
     }
 
     @Override
@@ -71,6 +112,21 @@ public class RedisNaiveConfigManager implements NaiveConfigManager {
         return redisClient.get(key);
     }
 
+    @Override
+    public <T> Map<String, T> getAll(Collection<String> keys) throws NullPointerException, IllegalArgumentException, NaiveConfigException {
+        return redisClient.getAll(keys);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> getAsync(String key, long timeout) throws NullPointerException, IllegalArgumentException {
+        return redisClient.getAsync(key, timeout);
+    }
+
+    @Override
+    public <T> CompletableFuture<Map<String, T>> getAllAsync(Collection<String> keys, long timeout) throws NullPointerException, IllegalArgumentException {
+        return redisClient.getAllAsync(keys, timeout);
+    }
+
     @Override
     public int set(String key, Object value) throws NullPointerException, IllegalArgumentException, NaiveConfigException {
         if (value != null) {
@@ -78,4 +134,35 @@ public class RedisNaiveConfigManager implements NaiveConfigManager {
         }
         return redisClient.publish(channel, key);
     }
+
+    @Override
+    public CompletableFuture<Integer> setAsync(final String key, Object value, long timeout) throws NullPointerException,
+            IllegalArgumentException, NaiveConfigException {
+        if (key == null) {
+            throw new NullPointerException("Key could not be null. Key: `null`. Value: `" + value + "`. Host: `" + getHost() + "`.");
+        }
+        if (value == null) {
+            return redisClient.publishAsync(channel, key, timeout);
+        }
+        final long deadline = timeout > 0 ? System.currentTimeMillis() + timeout : 0;
+        return redisClient.setAsync(key, value, timeout).thenCompose(new Function<Void, CompletionStage<Integer>>() {
+
+            @Override
+            public CompletionStage<Integer> apply(Void ignored) {
+                long remainingTime = 0;
+                if (deadline > 0) {
+                    remainingTime = deadline - System.currentTimeMillis();
+                    if (remainingTime <= 0) {
+                        LOG.error("Publish `" + key + "` failed: `timeout`. Channel: `" + channel + "`. Host: `" + getHost() + "`.");
+                        CompletableFuture<Integer> timeoutFuture = new CompletableFuture<>();
+                        timeoutFuture.completeExceptionally(new NaiveConfigException("Publish `" + key + "` failed: `timeout`. Channel: `"
+                                + channel + "`. Host: `" + getHost() + "`.", new TimeoutException()));
+                        return timeoutFuture;
+                    }
+                }
+                return redisClient.publishAsync(channel, key, remainingTime);
+            }
+
+        });
+    }
 }
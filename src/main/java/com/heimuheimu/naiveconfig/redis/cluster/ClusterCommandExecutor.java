@@ -0,0 +1,426 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 heimuheimu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.heimuheimu.naiveconfig.redis.cluster;
+
+import com.heimuheimu.naiveconfig.redis.data.RedisCommand;
+import com.heimuheimu.naiveconfig.redis.data.RedisData;
+import com.heimuheimu.naiveconfig.redis.transport.RedisAddressResolver;
+import com.heimuheimu.naiveconfig.redis.transport.RedisCommandExecutor;
+import com.heimuheimu.naiveconfig.redis.transport.RedisCommandExecutors;
+import com.heimuheimu.naiveconfig.redis.transport.RedisConnection;
+import com.heimuheimu.naiveconfig.redis.transport.RedisConnectionPool;
+import com.heimuheimu.naiveconfig.redis.transport.RedisConnectionPoolConfig;
+import com.heimuheimu.naiveconfig.redis.transport.RedisPlatform;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Redis Cluster 命令执行器，根据命令中第一个 Key 所在的哈希槽将命令路由至对应的主节点，每个节点使用独立的 {@link RedisConnectionPool}。
+ *
+ * <p>哈希槽与节点的对应关系通过 CLUSTER SLOTS 命令获取并缓存在本地，收到 MOVED 重定向时立即更新该哈希槽对应的节点，并在后台重新获取完整的对应关系；
+ * 收到 ASK 重定向时，将在目标节点上先执行 ASKING 命令，再执行原命令，不更新本地缓存。本地缓存的对应关系数组发布后不再修改，
+ * 每次更新均复制后重新发布。已不再是主节点的连接池将在等待正在执行的命令完成（连接获取超时时间与命令超时时间之和）后关闭。</p>
+ *
+ * <p>不包含 Key 的命令（例如 PING、PUBLISH）将在任意一个节点上执行，Redis Cluster 中 PUBLISH 发布的消息会广播至所有节点，
+ * 因此订阅客户端可连接至任意一个节点，可通过 {@link #getNodeHosts()} 获取当前已知的节点列表。</p>
+ *
+ * <p><strong>注意：</strong>MGET 等多 Key 命令中的所有 Key 必须位于同一个哈希槽，否则 Redis 服务将返回 CROSSSLOT 错误，
+ * {@link com.heimuheimu.naiveconfig.redis.OneTimeRedisClient} 在使用该执行器时会按哈希槽拆分 Key 列表，并行执行。</p>
+ *
+ * <p><strong>说明：</strong>{@code ClusterCommandExecutor} 类是线程安全的，可在多个线程中使用同一个实例。</p>
+ *
+ * @author heimuheimu
+ */
+public class ClusterCommandExecutor implements RedisCommandExecutor {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ClusterCommandExecutor.class);
+
+    /**
+     * 单次命令执行允许跟随的最大重定向次数
+     */
+    private static final int MAX_REDIRECTIONS = 5;
+
+    /**
+     * 不包含 Key 的命令名称集合，这些命令将在任意一个节点上执行
+     */
+    private static final Set<String> KEYLESS_COMMANDS = new HashSet<>(Arrays.asList(
+            "PING", "ECHO", "PUBLISH", "INFO", "CLUSTER", "CLIENT", "HELLO", "TIME"));
+
+    private static final RedisCommand CLUSTER_SLOTS_COMMAND = RedisCommand.of("CLUSTER", "SLOTS");
+
+    private static final RedisCommand ASKING_COMMAND = RedisCommand.of("ASKING");
+
+    /**
+     * 初始节点地址列表，由主机名和端口组成，":"符号分割，例如：10.0.0.1:6379
+     */
+    private final List<String> seedHosts;
+
+    /**
+     * 每个节点使用的连接池配置
+     */
+    private final RedisConnectionPoolConfig poolConfig;
+
+    /**
+     * 用于日志输出的地址描述，由初始节点地址列表组成
+     */
+    private final String host;
+
+    /**
+     * 节点连接池 Map，Key 为节点地址，Value 为该节点使用的连接池
+     */
+    private final ConcurrentHashMap<String, RedisConnectionPool> nodeExecutorMap = new ConcurrentHashMap<>();
+
+    /**
+     * 哈希槽对应的主节点地址数组，索引为哈希槽，如果尚未获取对应关系，则为 {@code null}
+     */
+    private volatile String[] slotHosts = null;
+
+    /**
+     * 当前已知的主节点地址列表
+     */
+    private volatile List<String> nodeHosts = Collections.emptyList();
+
+    /**
+     * 后台刷新任务是否正在执行
+     */
+    private final AtomicBoolean refreshing = new AtomicBoolean(false);
+
+    /**
+     * 是否已关闭
+     */
+    private volatile boolean closed = false;
+
+    /**
+     * 刷新哈希槽对应关系使用的私有锁
+     */
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    /**
+     * 构造一个 Redis Cluster 命令执行器，每个节点使用默认配置的连接池。
+     *
+     * @param seedHosts 初始节点地址列表，由主机名和端口组成，":"符号分割，例如：10.0.0.1:6379，不允许为 {@code null} 或空列表
+     * @throws IllegalArgumentException 如果初始节点地址列表为 {@code null} 或空列表，将会抛出此异常
+     */
+    public ClusterCommandExecutor(List<String> seedHosts) throws IllegalArgumentException {
+        this(seedHosts, new RedisConnectionPoolConfig());
+    }
+
+    /**
+     * 构造一个 Redis Cluster 命令执行器。
+     *
+     * @param seedHosts 初始节点地址列表，由主机名和端口组成，":"符号分割，例如：10.0.0.1:6379，不允许为 {@code null} 或空列表
+     * @param poolConfig 每个节点使用的连接池配置，不允许为 {@code null}
+     * @throws IllegalArgumentException 如果初始节点地址列表为 {@code null} 或空列表，将会抛出此异常
+     * @throws NullPointerException 如果连接池配置为 {@code null}，将会抛出此异常
+     */
+    public ClusterCommandExecutor(List<String> seedHosts, RedisConnectionPoolConfig poolConfig)
+            throws IllegalArgumentException, NullPointerException {
+        if (seedHosts == null || seedHosts.isEmpty() || seedHosts.contains(null)) {
+            throw new IllegalArgumentException("Create ClusterCommandExecutor failed: `invalid seed hosts`. Seed hosts: `" + seedHosts + "`.");
+        }
+        if (poolConfig == null) {
+            throw new NullPointerException("Create ClusterCommandExecutor failed: `poolConfig could not be null`. Seed hosts: `" + seedHosts + "`.");
+        }
+        this.seedHosts = Collections.unmodifiableList(new ArrayList<>(seedHosts));
+        this.poolConfig = poolConfig;
+        StringBuilder hostBuilder = new StringBuilder("cluster@");
+        for (int i = 0; i < this.seedHosts.size(); i++) {
+            if (i > 0) {
+                hostBuilder.append(',');
+            }
+            hostBuilder.append(this.seedHosts.get(i));
+        }
+        this.host = hostBuilder.toString();
+    }
+
+    /**
+     * 获得地址描述，由初始节点地址列表组成，例如：cluster@10.0.0.1:6379,10.0.0.2:6379。
+     *
+     * @return 地址描述
+     */
+    @Override
+    public String getHost() {
+        return host;
+    }
+
+    /**
+     * 获得当前已知的主节点地址列表，如果尚未获取哈希槽对应关系，将返回初始节点地址列表。
+     *
+     * @return 主节点地址列表，不会为 {@code null}
+     */
+    public List<String> getNodeHosts() {
+        List<String> hosts = nodeHosts;
+        return hosts.isEmpty() ? seedHosts : hosts;
+    }
+
+    /**
+     * 获得哈希槽当前对应的主节点地址，如果尚未获取哈希槽对应关系或该哈希槽未分配，将返回 {@code null}。
+     *
+     * @param slot 哈希槽，范围：[0, 16383]
+     * @return 主节点地址，可能为 {@code null}
+     */
+    public String getSlotHost(int slot) {
+        String[] hosts = slotHosts;
+        return hosts != null ? hosts[slot] : null;
+    }
+
+    @Override
+    public RedisData execute(RedisData command) throws IOException {
+        if (closed) {
+            throw new IOException("ClusterCommandExecutor has been closed. Host: `" + host + "`.");
+        }
+        if (slotHosts == null) {
+            refreshSlots();
+        }
+        String targetHost = route(command);
+        boolean asking = false;
+        for (int i = 0; i <= MAX_REDIRECTIONS; i++) {
+            RedisData responseData;
+            try {
+                responseData = asking ? executeAsking(targetHost, command) : getNodeExecutor(targetHost).execute(command);
+            } catch (IOException e) {
+                //节点可能已下线或发生主从切换，在后台重新获取哈希槽对应关系
+                refreshSlotsInBackground();
+                throw e;
+            }
+            if (responseData.isError()) {
+                String message = responseData.getText();
+                if (message.startsWith("MOVED ")) {
+                    String[] parts = message.split(" ");
+                    targetHost = parts[2];
+                    asking = false;
+                    updateSlot(Integer.parseInt(parts[1]), targetHost);
+                    refreshSlotsInBackground();
+                    continue;
+                } else if (message.startsWith("ASK ")) {
+                    targetHost = message.split(" ")[2];
+                    asking = true;
+                    continue;
+                }
+            }
+            return responseData;
+        }
+        LOG.error("Execute redis command failed: `too many cluster redirections`. Host: `{}`. Target host: `{}`.", host, targetHost);
+        throw new IOException("Execute redis command failed: `too many cluster redirections`. Host: `" + host + "`. Target host: `" + targetHost + "`.");
+    }
+
+    @Override
+    public CompletableFuture<RedisData> executeAsync(RedisData command, long timeout) {
+        return RedisCommandExecutors.executeInWorker(this, command, timeout);
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        for (RedisConnectionPool pool : nodeExecutorMap.values()) {
+            pool.close();
+        }
+        nodeExecutorMap.clear();
+    }
+
+    @Override
+    public String toString() {
+        return "ClusterCommandExecutor{" +
+                "host='" + host + '\'' +
+                ", nodeHosts=" + nodeHosts +
+                '}';
+    }
+
+    /**
+     * 获得命令应路由至的节点地址，不包含 Key 的命令或哈希槽未分配时，将随机选择一个已知节点。
+     *
+     * @param command Redis 命令
+     * @return 节点地址
+     */
+    private String route(RedisData command) {
+        String commandName = command.get(0).getText().toUpperCase(Locale.ENGLISH);
+        if (command.size() > 1 && !KEYLESS_COMMANDS.contains(commandName)) {
+            String[] hosts = slotHosts;
+            String slotHost = hosts != null ? hosts[ClusterSlots.getSlot(command.get(1).getValueBytes())] : null;
+            if (slotHost != null) {
+                return slotHost;
+            }
+        }
+        List<String> hosts = getNodeHosts();
+        return hosts.get(ThreadLocalRandom.current().nextInt(hosts.size()));
+    }
+
+    private RedisConnectionPool getNodeExecutor(String nodeHost) {
+        RedisConnectionPool pool = nodeExecutorMap.get(nodeHost);
+        if (pool == null) {
+            refreshLock.lock();
+            try {
+                pool = nodeExecutorMap.get(nodeHost);
+                if (pool == null) {
+                    pool = new RedisConnectionPool(nodeHost, poolConfig);
+                    nodeExecutorMap.put(nodeHost, pool);
+                }
+            } finally {
+                refreshLock.unlock();
+            }
+        }
+        return pool;
+    }
+
+    /**
+     * 在目标节点的同一个连接上依次执行 ASKING 命令及原命令，ASK 重定向仅在迁移哈希槽期间出现，因此每次使用新建立的连接。
+     */
+    private RedisData executeAsking(String nodeHost, RedisData command) throws IOException {
+        String[] hostParts = nodeHost.split(":");
+        RedisConnection connection = new RedisConnection(nodeHost, RedisAddressResolver.getDefault().resolve(hostParts[0], Integer.parseInt(hostParts[1])),
+                poolConfig.getConnectTimeout(), poolConfig.getTimeout(), poolConfig.getTlsSocketFactory());
+        try {
+            connection.execute(ASKING_COMMAND);
+            return connection.execute(command);
+        } finally {
+            connection.close();
+        }
+    }
+
+    /**
+     * 依次向已知节点及初始节点查询哈希槽对应关系，查询成功后替换本地缓存。
+     *
+     * @throws IOException 如果所有节点均无法查询到哈希槽对应关系，将会抛出此异常
+     */
+    private void refreshSlots() throws IOException {
+        Set<String> candidateHosts = new LinkedHashSet<>(nodeHosts);
+        candidateHosts.addAll(seedHosts);
+        IOException lastException = null;
+        for (String candidateHost : candidateHosts) {
+            try {
+                RedisData slotsData = getNodeExecutor(candidateHost).execute(CLUSTER_SLOTS_COMMAND);
+                if (slotsData.isArray()) {
+                    updateSlots(candidateHost, slotsData);
+                    return;
+                }
+                LOG.error("Refresh cluster slots failed: `{}`. Host: `{}`. Node host: `{}`.", slotsData, host, candidateHost);
+            } catch (IOException e) {
+                LOG.error("Refresh cluster slots failed. Host: `" + host + "`. Node host: `" + candidateHost + "`.", e);
+                lastException = e;
+            }
+        }
+        throw new IOException("Refresh cluster slots failed: `all nodes are unavailable`. Host: `" + host + "`.", lastException);
+    }
+
+    private void refreshSlotsInBackground() {
+        if (!closed && refreshing.compareAndSet(false, true)) {
+            RedisPlatform.newThread("ClusterCommandExecutor-refresh-task", true, new Runnable() {
+
+                @Override
+                public void run() {
+                    try {
+                        refreshSlots();
+                    } catch (Exception e) {
+                        //ignore exception, already logged
+                    } finally {
+                        refreshing.set(false);
+                    }
+                }
+
+            }).start();
+        }
+    }
+
+    /**
+     * 更新单个哈希槽对应的主节点地址，复制当前的对应关系数组并修改后重新发布，不修改已发布的数组。
+     */
+    private void updateSlot(int slot, String slotHost) {
+        refreshLock.lock();
+        try {
+            String[] hosts = slotHosts;
+            if (hosts != null && !slotHost.equals(hosts[slot])) {
+                String[] newHosts = Arrays.copyOf(hosts, hosts.length);
+                newHosts[slot] = slotHost;
+                slotHosts = newHosts;
+            }
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private void updateSlots(String queriedHost, RedisData slotsData) {
+        String[] hosts = new String[ClusterSlots.SLOT_COUNT];
+        Set<String> masterHosts = new LinkedHashSet<>();
+        for (int i = 0; i < slotsData.size(); i++) {
+            RedisData rangeData = slotsData.get(i);
+            int start = Integer.parseInt(rangeData.get(0).getText());
+            int end = Integer.parseInt(rangeData.get(1).getText());
+            RedisData masterData = rangeData.get(2);
+            String ip = masterData.get(0).getText();
+            if (ip.isEmpty() || "?".equals(ip)) {
+                //节点未声明地址时，使用被查询节点的主机名
+                ip = queriedHost.substring(0, queriedHost.lastIndexOf(':'));
+            }
+            String masterHost = ip + ":" + masterData.get(1).getText();
+            masterHosts.add(masterHost);
+            for (int slot = start; slot <= end; slot++) {
+                hosts[slot] = masterHost;
+            }
+        }
+        List<RedisConnectionPool> removedPools = new ArrayList<>();
+        refreshLock.lock();
+        try {
+            slotHosts = hosts;
+            nodeHosts = Collections.unmodifiableList(new ArrayList<>(masterHosts));
+            for (Map.Entry<String, RedisConnectionPool> entry : nodeExecutorMap.entrySet()) {
+                if (!masterHosts.contains(entry.getKey()) && !seedHosts.contains(entry.getKey())) {
+                    if (nodeExecutorMap.remove(entry.getKey(), entry.getValue())) {
+                        removedPools.add(entry.getValue());
+                    }
+                }
+            }
+        } finally {
+            refreshLock.unlock();
+        }
+        //已不再是主节点的连接池上可能仍有正在执行的命令，等待命令执行完成后再关闭
+        for (final RedisConnectionPool removedPool : removedPools) {
+            RedisCommandExecutors.schedule(new Runnable() {
+
+                @Override
+                public void run() {
+                    removedPool.close();
+                }
+
+            }, poolConfig.getMaxWait() + poolConfig.getTimeout());
+        }
+        LOG.info("Cluster slots have been refreshed. Host: `{}`. Node hosts: `{}`.", host, nodeHosts);
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 heimuheimu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.heimuheimu.naiveconfig.redis.cluster;
+
+import com.heimuheimu.naiveconfig.redis.data.RedisData;
+
+/**
+ * Redis Cluster 哈希槽计算工具类，使用 CRC16（XMODEM）算法计算 Key 所在的哈希槽，支持哈希标签（Hash Tag）。
+ *
+ * <p>如果 Key 中包含 "{...}" 且花括号内的内容不为空，将仅使用第一对花括号内的内容计算哈希槽，例如 "{user}.name" 与 "{user}.age"
+ * 位于同一个哈希槽。</p>
+ *
+ * @author heimuheimu
+ */
+public final class ClusterSlots {
+
+    /**
+     * Redis Cluster 哈希槽数量
+     */
+    public static final int SLOT_COUNT = 16384;
+
+    /**
+     * CRC16（XMODEM，多项式 0x1021）查找表
+     */
+    private static final int[] CRC16_TABLE = new int[256];
+
+    static {
+        for (int i = 0; i < 256; i++) {
+            int crc = i << 8;
+            for (int j = 0; j < 8; j++) {
+                crc = (crc & 0x8000) != 0 ? (crc << 1) ^ 0x1021 : crc << 1;
+            }
+            CRC16_TABLE[i] = crc & 0xFFFF;
+        }
+    }
+
+    private ClusterSlots() {
+        //private constructor
+    }
+
+    /**
+     * 计算 Key 所在的哈希槽。
+     *
+     * @param key Redis key，不允许为 {@code null}
+     * @return 哈希槽，范围：[0, 16383]
+     */
+    public static int getSlot(String key) {
+        return getSlot(key.getBytes(RedisData.UTF8));
+    }
+
+    /**
+     * 计算 Key 所在的哈希槽。
+     *
+     * @param key Redis key 使用 UTF-8 编码后的字节数组，不允许为 {@code null}
+     * @return 哈希槽，范围：[0, 16383]
+     */
+    public static int getSlot(byte[] key) {
+        int start = 0;
+        int end = key.length;
+        for (int i = 0; i < key.length; i++) {
+            if (key[i] == '{') {
+                for (int j = i + 1; j < key.length; j++) {
+                    if (key[j] == '}') {
+                        if (j > i + 1) {
+                            start = i + 1;
+                            end = j;
+                        }
+                        break;
+                    }
+                }
+                break;
+            }
+        }
+        return crc16(key, start, end) & (SLOT_COUNT - 1);
+    }
+
+    private static int crc16(byte[] bytes, int start, int end) {
+        int crc = 0;
+        for (int i = start; i < end; i++) {
+            crc = ((crc << 8) ^ CRC16_TABLE[((crc >>> 8) ^ bytes[i]) & 0xFF]) & 0xFFFF;
+        }
+        return crc;
+    }
+}
@@ -79,27 +79,39 @@ public class RedisArray extends RedisData {
         } else if (value.length == 0) {
             return EMPTY_RESP_BYTE_ARRAY;
         } else {
-            byte[][] dataByteArrays = new byte[value.length][];
-            byte[] valueLengthBytes = String.valueOf(value.length).getBytes(UTF8);
-            int totalByteSize = 0;
-            for (int i = 0; i < value.length; i++) {
-                dataByteArrays[i] = value[i].getRespByteArray();
-                totalByteSize += dataByteArrays[i].length;
-            }
-            byte[] packet = new byte[3 + valueLengthBytes.length + totalByteSize];
-            packet[0] = FIRST_BYTE;
-            System.arraycopy(valueLengthBytes, 0, packet, 1, valueLengthBytes.length);
-            packet[valueLengthBytes.length + 1] = CR;
-            packet[valueLengthBytes.length + 2] = LF;
-            int destPost = valueLengthBytes.length + 3;
-            for (byte[] dataByteArray : dataByteArrays) {
-                System.arraycopy(dataByteArray, 0, packet, destPost, dataByteArray.length);
-                destPost += dataByteArray.length;
-            }
-            return packet;
+            return toRespByteArray(FIRST_BYTE, value, value.length);
         }
     }
 
+    /**
+     * 将聚合类型数据序列化为 RESP 字节数组，Arrays、Sets、Pushes、Maps 类型数据共用此方法。
+     *
+     * @param firstByte 数据类型第一个字节
+     * @param datas 聚合类型数据包含的所有数据，不允许为 {@code null}
+     * @param length 写入数据类型头部的长度，Maps 类型数据为键值对数量
+     * @return RESP 字节数组
+     */
+    static byte[] toRespByteArray(byte firstByte, RedisData[] datas, int length) {
+        byte[][] dataByteArrays = new byte[datas.length][];
+        byte[] lengthBytes = String.valueOf(length).getBytes(UTF8);
+        int totalByteSize = 0;
+        for (int i = 0; i < datas.length; i++) {
+            dataByteArrays[i] = datas[i].getRespByteArray();
+            totalByteSize += dataByteArrays[i].length;
+        }
+        byte[] packet = new byte[3 + lengthBytes.length + totalByteSize];
+        packet[0] = firstByte;
+        System.arraycopy(lengthBytes, 0, packet, 1, lengthBytes.length);
+        packet[lengthBytes.length + 1] = CR;
+        packet[lengthBytes.length + 2] = LF;
+        int destPost = lengthBytes.length + 3;
+        for (byte[] dataByteArray : dataByteArrays) {
+            System.arraycopy(dataByteArray, 0, packet, destPost, dataByteArray.length);
+            destPost += dataByteArray.length;
+        }
+        return packet;
+    }
+
     @Override
     public String toString() {
         return "RedisArray{" +
@@ -0,0 +1,421 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 heimuheimu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.heimuheimu.naiveconfig.redis.data;
+
+import java.util.List;
+
+/**
+ * Redis 命令，数据格式为由 Bulk strings 组成的 Arrays，该数据类型的第一个字节为 "*"。
+ *
+ * <p>与 {@link RedisArray} 不同，{@code RedisCommand} 在创建时即完成 RESP 编码：先计算出命令编码后的总字节数，再将命令名称、
+ * Key 等参数直接写入一个长度恰好的字节数组，常用命令（GET、SET、DEL、PUBLISH、PING、SUBSCRIBE、MGET）的前缀在类加载时预先编码，
+ * 字符串参数仅包含 ASCII 字符时逐字符写入，不会产生中间字节数组。</p>
+ *
+ * <p><strong>说明：</strong> {@code RedisCommand} 是不可变的，可被多个线程共享使用，{@link #getRespByteArray()} 返回的字节数组不允许被修改。</p>
+ *
+ * @author heimuheimu
+ */
+public class RedisCommand extends RedisData {
+
+    /**
+     * GET 命令前缀：{@code *2\r\n$3\r\nGET\r\n}
+     */
+    private static final byte[] GET_PREFIX = createPrefix(2, "GET");
+
+    /**
+     * SET 命令前缀：{@code *3\r\n$3\r\nSET\r\n}
+     */
+    private static final byte[] SET_PREFIX = createPrefix(3, "SET");
+
+    /**
+     * DEL 命令前缀：{@code *2\r\n$3\r\nDEL\r\n}
+     */
+    private static final byte[] DEL_PREFIX = createPrefix(2, "DEL");
+
+    /**
+     * PUBLISH 命令前缀：{@code *3\r\n$7\r\nPUBLISH\r\n}
+     */
+    private static final byte[] PUBLISH_PREFIX = createPrefix(3, "PUBLISH");
+
+    /**
+     * SUBSCRIBE 命令前缀：{@code *2\r\n$9\r\nSUBSCRIBE\r\n}
+     */
+    private static final byte[] SUBSCRIBE_PREFIX = createPrefix(2, "SUBSCRIBE");
+
+    /**
+     * MGET 命令名称编码后的字节数组，由于参数数量不固定，Arrays 头部需在编码时写入：{@code $4\r\nMGET\r\n}
+     */
+    private static final byte[] MGET_NAME = createBulkString("MGET");
+
+    /**
+     * PING 命令，该命令没有参数，可直接复用
+     */
+    private static final RedisCommand PING = new RedisCommand(createPrefix(1, "PING"), 1);
+
+    /**
+     * 命令使用 RESP(Redis Serialization Protocol) 协议序列化后的字节数组
+     */
+    private final byte[] respByteArray;
+
+    /**
+     * 命令参数数量，包含命令名称
+     */
+    private final int size;
+
+    private RedisCommand(byte[] respByteArray, int size) {
+        this.respByteArray = respByteArray;
+        this.size = size;
+    }
+
+    /**
+     * 创建 GET 命令。
+     *
+     * @param key Redis key，不允许为 {@code null}
+     * @return GET 命令
+     */
+    public static RedisCommand get(String key) {
+        RespWriter writer = new RespWriter(GET_PREFIX.length + getBulkStringLength(key));
+        writer.writeBytes(GET_PREFIX);
+        writer.writeBulkString(key);
+        return writer.toCommand(2);
+    }
+
+    /**
+     * 创建 SET 命令。
+     *
+     * @param key Redis key，不允许为 {@code null}
+     * @param valueBytes Value 编码后的字节数组，不允许为 {@code null}
+     * @return SET 命令
+     */
+    public static RedisCommand set(String key, byte[] valueBytes) {
+        RespWriter writer = new RespWriter(SET_PREFIX.length + getBulkStringLength(key) + getBulkStringLength(valueBytes));
+        writer.writeBytes(SET_PREFIX);
+        writer.writeBulkString(key);
+        writer.writeBulkString(valueBytes);
+        return writer.toCommand(3);
+    }
+
+    /**
+     * 创建 DEL 命令。
+     *
+     * @param key Redis key，不允许为 {@code null}
+     * @return DEL 命令
+     */
+    public static RedisCommand del(String key) {
+        RespWriter writer = new RespWriter(DEL_PREFIX.length + getBulkStringLength(key));
+        writer.writeBytes(DEL_PREFIX);
+        writer.writeBulkString(key);
+        return writer.toCommand(2);
+    }
+
+    /**
+     * 创建 MGET 命令。
+     *
+     * @param keys Redis key 列表，不允许为 {@code null} 或空，列表中的 Key 不允许为 {@code null}
+     * @return MGET 命令
+     */
+    public static RedisCommand mget(List<String> keys) {
+        int size = keys.size() + 1;
+        int length = getArrayHeaderLength(size) + MGET_NAME.length;
+        for (int i = 0; i < keys.size(); i++) {
+            length += getBulkStringLength(keys.get(i));
+        }
+        RespWriter writer = new RespWriter(length);
+        writer.writeArrayHeader(size);
+        writer.writeBytes(MGET_NAME);
+        for (int i = 0; i < keys.size(); i++) {
+            writer.writeBulkString(keys.get(i));
+        }
+        return writer.toCommand(size);
+    }
+
+    /**
+     * 创建 PUBLISH 命令。
+     *
+     * @param channel Redis Channel，不允许为 {@code null}
+     * @param message 发布的消息，不允许为 {@code null}
+     * @return PUBLISH 命令
+     */
+    public static RedisCommand publish(String channel, String message) {
+        RespWriter writer = new RespWriter(PUBLISH_PREFIX.length + getBulkStringLength(channel) + getBulkStringLength(message));
+        writer.writeBytes(PUBLISH_PREFIX);
+        writer.writeBulkString(channel);
+        writer.writeBulkString(message);
+        return writer.toCommand(3);
+    }
+
+    /**
+     * 创建 SUBSCRIBE 命令。
+     *
+     * @param channel Redis Channel，不允许为 {@code null}
+     * @return SUBSCRIBE 命令
+     */
+    public static RedisCommand subscribe(String channel) {
+        RespWriter writer = new RespWriter(SUBSCRIBE_PREFIX.length + getBulkStringLength(channel));
+        writer.writeBytes(SUBSCRIBE_PREFIX);
+        writer.writeBulkString(channel);
+        return writer.toCommand(2);
+    }
+
+    /**
+     * 获得 PING 命令，该命令实例可被复用。
+     *
+     * @return PING 命令
+     */
+    public static RedisCommand ping() {
+        return PING;
+    }
+
+    /**
+     * 根据命令名称及参数创建 Redis 命令，适用于没有预先编码前缀的命令。
+     *
+     * @param arguments 命令名称及参数，不允许为 {@code null} 或空，参数不允许为 {@code null}
+     * @return Redis 命令
+     */
+    public static RedisCommand of(String... arguments) {
+        int length = getArrayHeaderLength(arguments.length);
+        for (String argument : arguments) {
+            length += getBulkStringLength(argument);
+        }
+        RespWriter writer = new RespWriter(length);
+        writer.writeArrayHeader(arguments.length);
+        for (String argument : arguments) {
+            writer.writeBulkString(argument);
+        }
+        return writer.toCommand(arguments.length);
+    }
+
+    /**
+     * 计算字符串使用 UTF-8 编码后的字节长度，计算过程不会产生字节数组。无法配对的代理字符按 {@link String#getBytes(java.nio.charset.Charset)}
+     * 的方式替换为 "?"，长度为 1。
+     *
+     * @param text 字符串，不允许为 {@code null}
+     * @return 字符串使用 UTF-8 编码后的字节长度
+     */
+    public static int getUtf8Length(String text) {
+        int length = text.length();
+        int utf8Length = length;
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (c >= 0x80) {
+                if (c < 0x800) {
+                    utf8Length += 1;
+                } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(text.charAt(i + 1))) {
+                    utf8Length += 2;
+                    i++;
+                } else if (!Character.isSurrogate(c)) {
+                    utf8Length += 2;
+                }
+            }
+        }
+        return utf8Length;
+    }
+
+    @Override
+    public boolean isArray() {
+        return true;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 获得命令指定索引位置的参数，索引 0 为命令名称。该方法会从已编码的字节数组中解析参数，仅用于调试及日志输出。
+     *
+     * @param index 索引位置
+     * @return 命令指定索引位置的参数
+     * @throws IndexOutOfBoundsException 如果索引越界或为负数，将抛出此异常
+     */
+    @Override
+    public RedisData get(int index) throws IndexOutOfBoundsException {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        int position = skipLine(0);
+        for (int i = 0; i < index; i++) {
+            int length = parseLength(position);
+            position = skipLine(position) + length + 2;
+        }
+        int length = parseLength(position);
+        int start = skipLine(position);
+        byte[] valueBytes = new byte[length];
+        System.arraycopy(respByteArray, start, valueBytes, 0, length);
+        return new RedisBulkString(valueBytes);
+    }
+
+    @Override
+    public byte[] getRespByteArray() {
+        return respByteArray;
+    }
+
+    @Override
+    public String toString() {
+        return "RedisCommand{" +
+                "name=" + get(0).getText() +
+                ", size=" + size +
+                '}';
+    }
+
+    private int skipLine(int position) {
+        while (respByteArray[position] != LF) {
+            position++;
+        }
+        return position + 1;
+    }
+
+    private int parseLength(int position) {
+        int length = 0;
+        for (int i = position + 1; respByteArray[i] != CR; i++) {
+            length = length * 10 + (respByteArray[i] - '0');
+        }
+        return length;
+    }
+
+    private static byte[] createPrefix(int size, String name) {
+        RespWriter writer = new RespWriter(getArrayHeaderLength(size) + getBulkStringLength(name));
+        writer.writeArrayHeader(size);
+        writer.writeBulkString(name);
+        return writer.buffer;
+    }
+
+    private static byte[] createBulkString(String value) {
+        RespWriter writer = new RespWriter(getBulkStringLength(value));
+        writer.writeBulkString(value);
+        return writer.buffer;
+    }
+
+    private static int getArrayHeaderLength(int size) {
+        return 3 + getDigitCount(size);
+    }
+
+    private static int getBulkStringLength(String value) {
+        int utf8Length = getUtf8Length(value);
+        return 5 + getDigitCount(utf8Length) + utf8Length;
+    }
+
+    private static int getBulkStringLength(byte[] valueBytes) {
+        return 5 + getDigitCount(valueBytes.length) + valueBytes.length;
+    }
+
+    private static int getDigitCount(int value) {
+        int count = 1;
+        while (value >= 10) {
+            value /= 10;
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * RESP 编码器，将命令直接写入预先计算好长度的字节数组中。
+     */
+    private static class RespWriter {
+
+        private final byte[] buffer;
+
+        private int position = 0;
+
+        private RespWriter(int length) {
+            this.buffer = new byte[length];
+        }
+
+        private void writeBytes(byte[] bytes) {
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+
+        private void writeArrayHeader(int size) {
+            buffer[position++] = RedisArray.FIRST_BYTE;
+            writeInt(size);
+        }
+
+        private void writeBulkString(byte[] valueBytes) {
+            buffer[position++] = RedisBulkString.FIRST_BYTE;
+            writeInt(valueBytes.length);
+            writeBytes(valueBytes);
+            buffer[position++] = CR;
+            buffer[position++] = LF;
+        }
+
+        private void writeBulkString(String value) {
+            buffer[position++] = RedisBulkString.FIRST_BYTE;
+            writeInt(getUtf8Length(value));
+            int length = value.length();
+            for (int i = 0; i < length; i++) {
+                char c = value.charAt(i);
+                if (c < 0x80) {
+                    buffer[position++] = (byte) c;
+                } else {
+                    writeUtf8(value, i);
+                    break;
+                }
+            }
+            buffer[position++] = CR;
+            buffer[position++] = LF;
+        }
+
+        private void writeUtf8(String value, int start) {
+            int length = value.length();
+            for (int i = start; i < length; i++) {
+                char c = value.charAt(i);
+                if (c < 0x80) {
+                    buffer[position++] = (byte) c;
+                } else if (c < 0x800) {
+                    buffer[position++] = (byte) (0xC0 | (c >> 6));
+                    buffer[position++] = (byte) (0x80 | (c & 0x3F));
+                } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                    buffer[position++] = (byte) (0xF0 | (codePoint >> 18));
+                    buffer[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                    buffer[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                    buffer[position++] = (byte) (0x80 | (codePoint & 0x3F));
+                } else if (Character.isSurrogate(c)) {
+                    buffer[position++] = '?';
+                } else {
+                    buffer[position++] = (byte) (0xE0 | (c >> 12));
+                    buffer[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                    buffer[position++] = (byte) (0x80 | (c & 0x3F));
+                }
+            }
+        }
+
+        private void writeInt(int value) {
+            int digitCount = getDigitCount(value);
+            for (int i = position + digitCount - 1; i >= position; i--) {
+                buffer[i] = (byte) ('0' + value % 10);
+                value /= 10;
+            }
+            position += digitCount;
+            buffer[position++] = CR;
+            buffer[position++] = LF;
+        }
+
+        private RedisCommand toCommand(int size) {
+            return new RedisCommand(buffer, size);
+        }
+    }
+}
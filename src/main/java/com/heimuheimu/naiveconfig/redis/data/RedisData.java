@@ -94,6 +94,70 @@ public abstract class RedisData {
         return false;
     }
 
+    /**
+     * 是否为 Null 类型（RESP3），该数据类型的第一个字节为 "_"
+     *
+     * @return 是否为 Null 类型
+     */
+    public boolean isNull() {
+        return false;
+    }
+
+    /**
+     * 是否为 Booleans 类型（RESP3），该数据类型的第一个字节为 "#"
+     *
+     * @return 是否为 Booleans 类型
+     */
+    public boolean isBoolean() {
+        return false;
+    }
+
+    /**
+     * 是否为 Doubles 类型（RESP3），该数据类型的第一个字节为 ","
+     *
+     * @return 是否为 Doubles 类型
+     */
+    public boolean isDouble() {
+        return false;
+    }
+
+    /**
+     * 是否为 Verbatim strings 类型（RESP3），该数据类型的第一个字节为 "="
+     *
+     * @return 是否为 Verbatim strings 类型
+     */
+    public boolean isVerbatimString() {
+        return false;
+    }
+
+    /**
+     * 是否为 Maps 类型（RESP3），该数据类型的第一个字节为 "%"
+     *
+     * @return 是否为 Maps 类型
+     */
+    public boolean isMap() {
+        return false;
+    }
+
+    /**
+     * 是否为 Sets 类型（RESP3），该数据类型的第一个字节为 "~"
+     *
+     * @return 是否为 Sets 类型
+     */
+    public boolean isSet() {
+        return false;
+    }
+
+    /**
+     * 是否为 Pushes 类型（RESP3），该数据类型的第一个字节为 ">"，为 Redis 服务主动推送的带外数据，例如订阅消息、客户端缓存失效通知等，
+     * 不对应任何一个请求
+     *
+     * @return 是否为 Pushes 类型
+     */
+    public boolean isPush() {
+        return false;
+    }
+
     /**
      * 获得当前数据类型内容对应的字节数组，不包含第一个数据类型字节以及结尾 CR、LF 符，
      * 如果当前数据类型为 Bulk Strings，有可能返回 {@code null}。
@@ -107,7 +171,7 @@ public abstract class RedisData {
     }
 
     /**
-     * 返回 Arrays 类型数据内容的数组长度，如果 Arrays 为 {@code null}，该方法将返回 -1。
+     * 返回 Arrays 类型数据内容的数组长度，如果 Arrays 为 {@code null}，该方法将返回 -1。Sets、Pushes 类型数据返回元素数量，Maps 类型数据返回键值对数量。
      * <p>非 Arrays 类型数据不允许调用此方法，如果调用，将会抛出 {@link UnsupportedOperationException} 异常。</p>
      *
      * @return Arrays 类型数据内容的数组长度
@@ -120,7 +184,7 @@ public abstract class RedisData {
     }
 
     /**
-     * 获得 Arrays 类型数据指定索引位置的数据
+     * 获得 Arrays 类型数据指定索引位置的数据，Sets、Pushes 类型数据同样支持此方法
      * <p>非 Arrays 类型数据不允许调用此方法，如果调用，将会抛出 {@link UnsupportedOperationException} 异常。</p>
      *
      * @param index 索引位置
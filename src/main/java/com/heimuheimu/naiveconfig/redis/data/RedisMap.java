@@ -0,0 +1,129 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 heimuheimu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.heimuheimu.naiveconfig.redis.data;
+
+import java.util.Arrays;
+
+/**
+ * Maps 类型数据（RESP3），该数据类型的第一个字节为 "%"，长度为键值对数量，随后依次为每个键值对的 Key 及 Value。
+ * RESP3 格式定义的更多信息请参考文档：<a href="https://github.com/redis/redis-specifications/blob/master/protocol/RESP3.md">RESP3 specification</a>
+ *
+ * @author heimuheimu
+ */
+public class RedisMap extends RedisData {
+
+    /**
+     * Maps 类型数据第一个字节
+     */
+    public static final byte FIRST_BYTE = '%';
+
+    /**
+     * Maps 数据类型内容，按 Key、Value 交替排列，不允许为 {@code null}
+     */
+    private final RedisData[] keyValues;
+
+    /**
+     * 构造一个 Maps 类型数据。
+     *
+     * @param keyValues Maps 数据类型内容，按 Key、Value 交替排列，长度必须为偶数，不允许为 {@code null}
+     * @throws NullPointerException 如果传入的数据为 {@code null}，则抛出此异常
+     * @throws IllegalArgumentException 如果传入的数据长度不为偶数，则抛出此异常
+     */
+    public RedisMap(RedisData[] keyValues) throws NullPointerException, IllegalArgumentException {
+        if (keyValues == null) {
+            throw new NullPointerException("Redis map key values could not be null.");
+        }
+        if (keyValues.length % 2 != 0) {
+            throw new IllegalArgumentException("Redis map key values length must be even. Length: `" + keyValues.length + "`.");
+        }
+        this.keyValues = keyValues;
+    }
+
+    @Override
+    public boolean isMap() {
+        return true;
+    }
+
+    /**
+     * 返回键值对数量。
+     *
+     * @return 键值对数量
+     */
+    @Override
+    public int size() {
+        return keyValues.length / 2;
+    }
+
+    /**
+     * 获得指定索引位置键值对的 Key。
+     *
+     * @param index 键值对索引位置
+     * @return Key
+     * @throws ArrayIndexOutOfBoundsException 如果索引越界或为负数，将抛出此异常
+     */
+    public RedisData getKey(int index) throws ArrayIndexOutOfBoundsException {
+        return keyValues[index * 2];
+    }
+
+    /**
+     * 获得指定索引位置键值对的 Value。
+     *
+     * @param index 键值对索引位置
+     * @return Value
+     * @throws ArrayIndexOutOfBoundsException 如果索引越界或为负数，将抛出此异常
+     */
+    public RedisData getValue(int index) throws ArrayIndexOutOfBoundsException {
+        return keyValues[index * 2 + 1];
+    }
+
+    /**
+     * 根据 Key 的文本内容查找对应的 Value，如果不存在，返回 {@code null}。
+     *
+     * @param key Key 的文本内容
+     * @return Value，可能为 {@code null}
+     */
+    public RedisData getValue(String key) {
+        for (int i = 0; i < keyValues.length; i += 2) {
+            RedisData data = keyValues[i];
+            if ((data.isSimpleString() || data.isBulkString() || data.isVerbatimString()) && key.equals(data.getText())) {
+                return keyValues[i + 1];
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public byte[] getRespByteArray() {
+        return RedisArray.toRespByteArray(FIRST_BYTE, keyValues, keyValues.length / 2);
+    }
+
+    @Override
+    public String toString() {
+        return "RedisMap{" +
+                "keyValues=" + Arrays.toString(keyValues) +
+                '}';
+    }
+
+}
@@ -0,0 +1,67 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 heimuheimu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.heimuheimu.naiveconfig.redis.data;
+
+/**
+ * Null 类型数据（RESP3），该数据类型的第一个字节为 "_"，在 RESP3 中替代 RESP2 的 Null bulk strings 及 Null arrays。
+ * RESP3 格式定义的更多信息请参考文档：<a href="https://github.com/redis/redis-specifications/blob/master/protocol/RESP3.md">RESP3 specification</a>
+ *
+ * @author heimuheimu
+ */
+public class RedisNull extends RedisData {
+
+    private static final byte[] RESP_BYTE_ARRAY = "_\r\n".getBytes(UTF8);
+
+    /**
+     * Null 类型数据第一个字节
+     */
+    public static final byte FIRST_BYTE = '_';
+
+    @Override
+    public boolean isNull() {
+        return true;
+    }
+
+    /**
+     * Null 类型数据没有内容，总是返回 {@code null}，与 RESP2 中的 Null bulk strings 保持一致。
+     *
+     * @return {@code null}
+     */
+    @Override
+    public byte[] getValueBytes() {
+        return null;
+    }
+
+    @Override
+    public byte[] getRespByteArray() {
+        return RESP_BYTE_ARRAY;
+    }
+
+    @Override
+    public String toString() {
+        return "RedisNull{}";
+    }
+
+}
@@ -0,0 +1,87 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 heimuheimu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.heimuheimu.naiveconfig.redis.data;
+
+import java.util.Arrays;
+
+/**
+ * Pushes 类型数据（RESP3），该数据类型的第一个字节为 ">"，格式与 Arrays 相同，内容为Redis 服务主动推送的带外数据，例如订阅消息、客户端缓存失效通知等，第一个元素为推送类型。
+ * RESP3 格式定义的更多信息请参考文档：<a href="https://github.com/redis/redis-specifications/blob/master/protocol/RESP3.md">RESP3 specification</a>
+ *
+ * @author heimuheimu
+ */
+public class RedisPush extends RedisData {
+
+    /**
+     * Pushes 类型数据第一个字节
+     */
+    public static final byte FIRST_BYTE = '>';
+
+    /**
+     * Pushes 数据类型内容，不允许为 {@code null}
+     */
+    private final RedisData[] value;
+
+    /**
+     * 构造一个 Pushes 类型数据。
+     *
+     * @param value Pushes 数据类型内容，不允许为 {@code null}
+     * @throws NullPointerException 如果传入的数据为 {@code null}，则抛出此异常
+     */
+    public RedisPush(RedisData[] value) throws NullPointerException {
+        if (value == null) {
+            throw new NullPointerException("Redis push value could not be null.");
+        }
+        this.value = value;
+    }
+
+    @Override
+    public boolean isPush() {
+        return true;
+    }
+
+    @Override
+    public int size() {
+        return value.length;
+    }
+
+    @Override
+    public RedisData get(int index) throws ArrayIndexOutOfBoundsException {
+        return value[index];
+    }
+
+    @Override
+    public byte[] getRespByteArray() {
+        return RedisArray.toRespByteArray(FIRST_BYTE, value, value.length);
+    }
+
+    @Override
+    public String toString() {
+        return "RedisPush{" +
+                "value=" + Arrays.toString(value) +
+                '}';
+    }
+
+}
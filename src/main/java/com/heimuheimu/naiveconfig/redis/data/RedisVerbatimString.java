@@ -0,0 +1,121 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 heimuheimu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.heimuheimu.naiveconfig.redis.data;
+
+import java.util.Arrays;
+
+/**
+ * Verbatim strings 类型数据（RESP3），该数据类型的第一个字节为 "="，格式与 Bulk strings 相同，内容由 3 个字节的格式标识、":" 以及文本组成，
+ * 例如："txt:Some string"。
+ * RESP3 格式定义的更多信息请参考文档：<a href="https://github.com/redis/redis-specifications/blob/master/protocol/RESP3.md">RESP3 specification</a>
+ *
+ * @author heimuheimu
+ */
+public class RedisVerbatimString extends RedisData {
+
+    /**
+     * Verbatim strings 类型数据第一个字节
+     */
+    public static final byte FIRST_BYTE = '=';
+
+    /**
+     * 格式标识及分隔符的字节长度
+     */
+    private static final int PREFIX_LENGTH = 4;
+
+    /**
+     * Verbatim strings 数据类型完整内容对应的字节数组，包含格式标识，不包含第一个数据类型字节、长度以及结尾 CR、LF 符，不允许 {@code null}
+     */
+    private final byte[] rawBytes;
+
+    /**
+     * 构造一个 Verbatim strings 类型数据。
+     *
+     * @param rawBytes 完整内容对应的字节数组，包含格式标识，例如："txt:Some string"，不允许 {@code null}
+     * @throws NullPointerException 如果传入的字节数组为 {@code null}，则抛出此异常
+     * @throws IllegalArgumentException 如果内容不包含格式标识，则抛出此异常
+     */
+    public RedisVerbatimString(byte[] rawBytes) throws NullPointerException, IllegalArgumentException {
+        if (rawBytes == null) {
+            throw new NullPointerException("Redis verbatim string raw bytes could not be null.");
+        }
+        if (rawBytes.length < PREFIX_LENGTH || rawBytes[PREFIX_LENGTH - 1] != ':') {
+            throw new IllegalArgumentException("Invalid redis verbatim string: `" + new String(rawBytes, UTF8) + "`.");
+        }
+        this.rawBytes = rawBytes;
+    }
+
+    @Override
+    public boolean isVerbatimString() {
+        return true;
+    }
+
+    /**
+     * 获得格式标识，例如："txt"、"mkd"。
+     *
+     * @return 格式标识
+     */
+    public String getFormat() {
+        return new String(rawBytes, 0, PREFIX_LENGTH - 1, UTF8);
+    }
+
+    /**
+     * 获得不包含格式标识的文本内容对应的字节数组。
+     *
+     * @return 文本内容对应的字节数组
+     */
+    @Override
+    public byte[] getValueBytes() {
+        return Arrays.copyOfRange(rawBytes, PREFIX_LENGTH, rawBytes.length);
+    }
+
+    @Override
+    public String getText() {
+        return new String(rawBytes, PREFIX_LENGTH, rawBytes.length - PREFIX_LENGTH, UTF8);
+    }
+
+    @Override
+    public byte[] getRespByteArray() {
+        byte[] lengthBytes = String.valueOf(rawBytes.length).getBytes(UTF8);
+        byte[] packet = new byte[5 + lengthBytes.length + rawBytes.length];
+        packet[0] = FIRST_BYTE;
+        System.arraycopy(lengthBytes, 0, packet, 1, lengthBytes.length);
+        packet[lengthBytes.length + 1] = CR;
+        packet[lengthBytes.length + 2] = LF;
+        System.arraycopy(rawBytes, 0, packet, lengthBytes.length + 3, rawBytes.length);
+        packet[packet.length - 2] = CR;
+        packet[packet.length - 1] = LF;
+        return packet;
+    }
+
+    @Override
+    public String toString() {
+        return "RedisVerbatimString{" +
+                "format=" + getFormat() +
+                ", value=" + getText() +
+                '}';
+    }
+
+}
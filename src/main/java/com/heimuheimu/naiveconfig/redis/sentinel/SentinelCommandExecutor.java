@@ -0,0 +1,566 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 heimuheimu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.heimuheimu.naiveconfig.redis.sentinel;
+
+import com.heimuheimu.naiveconfig.constant.BeanStatusEnum;
+import com.heimuheimu.naiveconfig.exception.NaiveConfigException;
+import com.heimuheimu.naiveconfig.redis.data.RedisCommand;
+import com.heimuheimu.naiveconfig.redis.data.RedisData;
+import com.heimuheimu.naiveconfig.redis.subscribe.RedisSubscribeClient;
+import com.heimuheimu.naiveconfig.redis.transport.OneTimeCommandExecutor;
+import com.heimuheimu.naiveconfig.redis.transport.RedisCommandExecutor;
+import com.heimuheimu.naiveconfig.redis.transport.RedisCommandExecutors;
+import com.heimuheimu.naiveconfig.redis.transport.RedisConnectionPool;
+import com.heimuheimu.naiveconfig.redis.transport.RedisConnectionPoolConfig;
+import com.heimuheimu.naiveconfig.redis.transport.RedisPlatform;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 基于 Redis Sentinel 实现主节点发现的 Redis 命令执行器，命令总是在 Sentinel 确认的当前主节点上执行。
+ *
+ * <p>初始化时依次向 Sentinel 列表查询当前主节点及从节点地址，并订阅其中一个 Sentinel 的 +switch-master 事件，
+ * 主节点切换后立即将后续命令路由至新的主节点，无需重新部署或等待旧主节点超时。与 Sentinel 的订阅连接断开后，
+ * 将在其它 Sentinel 上恢复订阅，并重新查询主节点地址，避免遗漏订阅断开期间发生的切换。</p>
+ *
+ * <p>可通过 {@link #addSentinelListener(SentinelListener)} 监听主节点切换事件，{@link com.heimuheimu.naiveconfig.redis.RedisNaiveConfigClient}
+ * 将使用该事件将订阅客户端切换至新的主节点。</p>
+ *
+ * <p>如果未调用 {@link #init()} 方法，将在第一次执行命令时自动初始化。</p>
+ *
+ * <p><strong>说明：</strong>{@code SentinelCommandExecutor} 类是线程安全的，可在多个线程中使用同一个实例。</p>
+ *
+ * @author heimuheimu
+ */
+public class SentinelCommandExecutor implements RedisCommandExecutor {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SentinelCommandExecutor.class);
+
+    /**
+     * Sentinel 主节点切换事件 Channel
+     */
+    private static final String SWITCH_MASTER_CHANNEL = "+switch-master";
+
+    /**
+     * Sentinel 订阅连接 PING 命令发送时间间隔，单位：秒
+     */
+    private static final int SENTINEL_PING_PERIOD = 5;
+
+    /**
+     * Sentinel 订阅连接恢复失败后的重试间隔，单位：毫秒
+     */
+    private static final int RESCUE_RETRY_INTERVAL = 1000;
+
+    /**
+     * Sentinel 地址列表，由主机名和端口组成，":"符号分割，例如：10.0.0.1:26379
+     */
+    private final List<String> sentinelHosts;
+
+    /**
+     * Sentinel 监控的主节点名称
+     */
+    private final String masterName;
+
+    /**
+     * Redis 操作超时时间，单位：毫秒
+     */
+    private final int timeout;
+
+    /**
+     * 主节点使用的连接池配置，如果为 {@code null}，将使用 {@link OneTimeCommandExecutor}
+     */
+    private final RedisConnectionPoolConfig poolConfig;
+
+    /**
+     * 用于日志输出的地址描述，由主节点名称及 Sentinel 地址列表组成
+     */
+    private final String host;
+
+    /**
+     * 主节点切换事件监听器列表
+     */
+    private final CopyOnWriteArrayList<SentinelListener> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * 当前主节点地址
+     */
+    private volatile String masterHost = null;
+
+    /**
+     * 当前主节点对应的 Redis 命令执行器
+     */
+    private volatile RedisCommandExecutor masterExecutor = null;
+
+    /**
+     * 当前可用的从节点地址列表
+     */
+    private volatile List<String> replicaHosts = Collections.emptyList();
+
+    /**
+     * 当前使用的 Sentinel 订阅客户端
+     */
+    private volatile RedisSubscribeClient sentinelSubscribeClient = null;
+
+    /**
+     * 当前实例所处状态
+     */
+    private volatile BeanStatusEnum state = BeanStatusEnum.UNINITIALIZED;
+
+    /**
+     * 私有锁
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Sentinel 订阅客户端恢复任务使用的私有锁
+     */
+    private final ReentrantLock rescueTaskLock = new ReentrantLock();
+
+    /**
+     * 构造一个基于 Redis Sentinel 实现主节点发现的 Redis 命令执行器，主节点使用 {@link OneTimeCommandExecutor} 执行命令。
+     *
+     * @param sentinelHosts Sentinel 地址列表，由主机名和端口组成，":"符号分割，例如：10.0.0.1:26379，不允许为 {@code null} 或空列表
+     * @param masterName Sentinel 监控的主节点名称，不允许为 {@code null} 或空字符串
+     * @param timeout Redis 操作超时时间，单位：毫秒，不允许小于等于 0
+     * @throws IllegalArgumentException 如果 Sentinel 地址列表为 {@code null} 或空列表，将会抛出此异常
+     * @throws IllegalArgumentException 如果主节点名称为 {@code null} 或空字符串，将会抛出此异常
+     * @throws IllegalArgumentException 如果 Redis 操作超时时间小于等于 0，将会抛出此异常
+     */
+    public SentinelCommandExecutor(List<String> sentinelHosts, String masterName, int timeout) throws IllegalArgumentException {
+        this(sentinelHosts, masterName, timeout, null);
+    }
+
+    /**
+     * 构造一个基于 Redis Sentinel 实现主节点发现的 Redis 命令执行器，如果连接池配置不为 {@code null}，主节点将使用 {@link RedisConnectionPool} 执行命令。
+     *
+     * @param sentinelHosts Sentinel 地址列表，由主机名和端口组成，":"符号分割，例如：10.0.0.1:26379，不允许为 {@code null} 或空列表
+     * @param masterName Sentinel 监控的主节点名称，不允许为 {@code null} 或空字符串
+     * @param timeout Redis 操作超时时间，单位：毫秒，不允许小于等于 0，用于查询 Sentinel，使用连接池时主节点的超时时间由连接池配置指定
+     * @param poolConfig 主节点使用的连接池配置，允许为 {@code null}，如果为 {@code null}，将使用 {@link OneTimeCommandExecutor}
+     * @throws IllegalArgumentException 如果 Sentinel 地址列表为 {@code null} 或空列表，将会抛出此异常
+     * @throws IllegalArgumentException 如果主节点名称为 {@code null} 或空字符串，将会抛出此异常
+     * @throws IllegalArgumentException 如果 Redis 操作超时时间小于等于 0，将会抛出此异常
+     */
+    public SentinelCommandExecutor(List<String> sentinelHosts, String masterName, int timeout, RedisConnectionPoolConfig poolConfig)
+            throws IllegalArgumentException {
+        if (sentinelHosts == null || sentinelHosts.isEmpty() || sentinelHosts.contains(null)) {
+            throw new IllegalArgumentException("Create SentinelCommandExecutor failed: `invalid sentinel hosts`. Sentinel hosts: `"
+                    + sentinelHosts + "`. Master name: `" + masterName + "`.");
+        }
+        if (masterName == null || masterName.isEmpty()) {
+            throw new IllegalArgumentException("Create SentinelCommandExecutor failed: `masterName could not be empty`. Sentinel hosts: `"
+                    + sentinelHosts + "`. Master name: `" + masterName + "`.");
+        }
+        if (timeout <= 0) {
+            throw new IllegalArgumentException("Create SentinelCommandExecutor failed: `invalid timeout`. Sentinel hosts: `"
+                    + sentinelHosts + "`. Master name: `" + masterName + "`. Timeout: `" + timeout + "`.");
+        }
+        this.sentinelHosts = Collections.unmodifiableList(new ArrayList<>(sentinelHosts));
+        this.masterName = masterName;
+        this.timeout = timeout;
+        this.poolConfig = poolConfig;
+        StringBuilder hostBuilder = new StringBuilder(masterName).append('@');
+        for (int i = 0; i < this.sentinelHosts.size(); i++) {
+            if (i > 0) {
+                hostBuilder.append(',');
+            }
+            hostBuilder.append(this.sentinelHosts.get(i));
+        }
+        this.host = hostBuilder.toString();
+    }
+
+    /**
+     * 执行初始化操作：订阅 Sentinel 的主节点切换事件，并查询当前主节点及从节点地址。
+     *
+     * @throws NaiveConfigException 如果所有 Sentinel 均无法查询到主节点地址，将会抛出此异常
+     */
+    public void init() throws NaiveConfigException {
+        lock.lock();
+        try {
+            if (state == BeanStatusEnum.UNINITIALIZED) {
+                long startTime = System.currentTimeMillis();
+                //先订阅再查询，避免遗漏查询与订阅之间发生的切换
+                RedisSubscribeClient client = createSentinelSubscribeClient();
+                try {
+                    discover();
+                } catch (NaiveConfigException e) {
+                    if (client != null) {
+                        client.close(false);
+                    }
+                    throw e;
+                }
+                state = BeanStatusEnum.NORMAL;
+                sentinelSubscribeClient = client;
+                if (client == null) {
+                    startRescueTask();
+                }
+                LOG.info("SentinelCommandExecutor has been initialized. Cost: {}ms. Host: `{}`. Master host: `{}`. Replica hosts: `{}`.",
+                        (System.currentTimeMillis() - startTime), host, masterHost, replicaHosts);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 获得地址描述，由主节点名称及 Sentinel 地址列表组成，例如：mymaster@10.0.0.1:26379,10.0.0.2:26379，当前主节点地址可通过
+     * {@link #getMasterHost()} 方法获取。
+     *
+     * @return 地址描述
+     */
+    @Override
+    public String getHost() {
+        return host;
+    }
+
+    /**
+     * 获得 Sentinel 监控的主节点名称。
+     *
+     * @return 主节点名称
+     */
+    public String getMasterName() {
+        return masterName;
+    }
+
+    /**
+     * 获得当前主节点地址，例如：10.0.0.1:6379，如果尚未初始化，将返回 {@code null}。
+     *
+     * @return 当前主节点地址，可能为 {@code null}
+     */
+    public String getMasterHost() {
+        return masterHost;
+    }
+
+    /**
+     * 获得最近一次从 Sentinel 查询到的可用从节点地址列表。
+     *
+     * @return 从节点地址列表，不会为 {@code null}
+     */
+    public List<String> getReplicaHosts() {
+        return replicaHosts;
+    }
+
+    /**
+     * 注册主节点切换事件监听器。
+     *
+     * @param listener 主节点切换事件监听器，不允许为 {@code null}
+     */
+    public void addSentinelListener(SentinelListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * 移除主节点切换事件监听器。
+     *
+     * @param listener 主节点切换事件监听器
+     */
+    public void removeSentinelListener(SentinelListener listener) {
+        listeners.remove(listener);
+    }
+
+    @Override
+    public RedisData execute(RedisData command) throws IOException {
+        return getMasterExecutor().execute(command);
+    }
+
+    @Override
+    public CompletableFuture<RedisData> executeAsync(RedisData command, long timeout) {
+        RedisCommandExecutor executor;
+        try {
+            executor = getMasterExecutor();
+        } catch (IOException e) {
+            CompletableFuture<RedisData> future = new CompletableFuture<>();
+            future.completeExceptionally(e);
+            return future;
+        }
+        return executor.executeAsync(command, timeout);
+    }
+
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            if (state != BeanStatusEnum.CLOSED) {
+                state = BeanStatusEnum.CLOSED;
+                RedisSubscribeClient client = sentinelSubscribeClient;
+                if (client != null) {
+                    client.close(false);
+                }
+                RedisCommandExecutor executor = masterExecutor;
+                if (executor != null) {
+                    executor.close();
+                }
+                LOG.info("SentinelCommandExecutor has been closed. Host: `{}`. Master host: `{}`.", host, masterHost);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "SentinelCommandExecutor{" +
+                "host='" + host + '\'' +
+                ", masterHost='" + masterHost + '\'' +
+                ", replicaHosts=" + replicaHosts +
+                ", state=" + state +
+                '}';
+    }
+
+    private RedisCommandExecutor getMasterExecutor() throws IOException {
+        RedisCommandExecutor executor = masterExecutor;
+        if (executor == null) {
+            if (state == BeanStatusEnum.UNINITIALIZED) {
+                try {
+                    init();
+                } catch (NaiveConfigException e) {
+                    throw new IOException("Initialize SentinelCommandExecutor failed. Host: `" + host + "`.", e);
+                }
+                executor = masterExecutor;
+            }
+            if (executor == null) {
+                throw new IOException("SentinelCommandExecutor is not available. Host: `" + host + "`. State: `" + state + "`.");
+            }
+        }
+        return executor;
+    }
+
+    /**
+     * 依次向 Sentinel 查询当前主节点及从节点地址，查询成功后更新当前主节点。
+     *
+     * @throws NaiveConfigException 如果所有 Sentinel 均无法查询到主节点地址，将会抛出此异常
+     */
+    private void discover() throws NaiveConfigException {
+        for (String sentinelHost : sentinelHosts) {
+            OneTimeCommandExecutor sentinelExecutor = new OneTimeCommandExecutor(sentinelHost, timeout);
+            try {
+                RedisData masterData = sentinelExecutor.execute(RedisCommand.of("SENTINEL", "get-master-addr-by-name", masterName));
+                if (masterData.isArray() && masterData.size() == 2) {
+                    List<String> replicas = queryReplicaHosts(sentinelExecutor);
+                    switchMaster(masterData.get(0).getText() + ":" + masterData.get(1).getText(), replicas);
+                    return;
+                } else {
+                    LOG.error("Query master failed: `unknown master`. Sentinel host: `{}`. Host: `{}`. Response: `{}`.",
+                            sentinelHost, host, masterData);
+                }
+            } catch (Exception e) {
+                LOG.error("Query master failed. Sentinel host: `" + sentinelHost + "`. Host: `" + host + "`.", e);
+            }
+        }
+        throw new NaiveConfigException("Discover redis master failed: `all sentinels are unavailable`. Host: `" + host + "`.");
+    }
+
+    /**
+     * 向 Sentinel 查询从节点地址列表，忽略处于下线状态或已断开连接的从节点。
+     *
+     * @param sentinelExecutor Sentinel 命令执行器
+     * @return 从节点地址列表
+     * @throws IOException 如果查询过程中发生 IO 错误，将会抛出此异常
+     */
+    private List<String> queryReplicaHosts(RedisCommandExecutor sentinelExecutor) throws IOException {
+        RedisData replicasData = sentinelExecutor.execute(RedisCommand.of("SENTINEL", "replicas", masterName));
+        if (replicasData.isError()) {
+            //Redis 5.0 以下版本的 Sentinel 仅支持 slaves 子命令
+            replicasData = sentinelExecutor.execute(RedisCommand.of("SENTINEL", "slaves", masterName));
+        }
+        List<String> replicas = new ArrayList<>();
+        if (replicasData.isArray()) {
+            for (int i = 0; i < replicasData.size(); i++) {
+                RedisData replicaData = replicasData.get(i);
+                String ip = getField(replicaData, "ip");
+                String port = getField(replicaData, "port");
+                String flags = getField(replicaData, "flags");
+                if (ip != null && port != null && (flags == null || (!flags.contains("s_down") && !flags.contains("o_down")
+                        && !flags.contains("disconnected")))) {
+                    replicas.add(ip + ":" + port);
+                }
+            }
+        }
+        return Collections.unmodifiableList(replicas);
+    }
+
+    /**
+     * 从 Sentinel 返回的节点信息中获取指定字段的值，节点信息为 Key、Value 交替排列的数组。
+     */
+    private static String getField(RedisData nodeData, String name) {
+        if (nodeData.isArray()) {
+            for (int i = 0; i + 1 < nodeData.size(); i += 2) {
+                if (name.equals(nodeData.get(i).getText())) {
+                    return nodeData.get(i + 1).getText();
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 将命令路由至新的主节点，旧主节点的命令执行器将在超时时间后关闭，避免中断正在执行的命令。
+     *
+     * @param newMasterHost 新的主节点地址
+     * @param replicas 新的从节点地址列表，如果为 {@code null}，则不更新从节点地址列表
+     */
+    private void switchMaster(String newMasterHost, List<String> replicas) {
+        String oldMasterHost;
+        final RedisCommandExecutor oldExecutor;
+        lock.lock();
+        try {
+            if (state == BeanStatusEnum.CLOSED) {
+                return;
+            }
+            if (replicas != null) {
+                replicaHosts = replicas;
+            }
+            oldMasterHost = masterHost;
+            if (newMasterHost.equals(oldMasterHost)) {
+                return;
+            }
+            oldExecutor = masterExecutor;
+            masterExecutor = poolConfig != null ? new RedisConnectionPool(newMasterHost, poolConfig)
+                    : new OneTimeCommandExecutor(newMasterHost, timeout);
+            masterHost = newMasterHost;
+        } finally {
+            lock.unlock();
+        }
+        if (oldExecutor != null) {
+            LOG.info("Redis master has been switched. Host: `{}`. Old master host: `{}`. New master host: `{}`.", host, oldMasterHost, newMasterHost);
+            RedisCommandExecutors.schedule(new Runnable() {
+
+                @Override
+                public void run() {
+                    oldExecutor.close();
+                }
+
+            }, timeout);
+            for (SentinelListener listener : listeners) {
+                try {
+                    listener.onMasterSwitched(masterName, oldMasterHost, newMasterHost);
+                } catch (Exception e) {
+                    LOG.error("Call SentinelListener#onMasterSwitched() failed. Host: `" + host + "`. Old master host: `"
+                            + oldMasterHost + "`. New master host: `" + newMasterHost + "`.", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * 依次尝试在 Sentinel 上订阅主节点切换事件，如果所有 Sentinel 均订阅失败，将返回 {@code null}。
+     *
+     * @return Sentinel 订阅客户端，可能为 {@code null}
+     */
+    private RedisSubscribeClient createSentinelSubscribeClient() {
+        for (String sentinelHost : sentinelHosts) {
+            try {
+                RedisSubscribeClient client = new SentinelSubscribeClient(sentinelHost);
+                client.init();
+                return client;
+            } catch (Exception e) {
+                LOG.error("Subscribe sentinel failed. Sentinel host: `" + sentinelHost + "`. Host: `" + host + "`.", e);
+            }
+        }
+        return null;
+    }
+
+    private void startRescueTask() {
+        if (state == BeanStatusEnum.NORMAL) {
+            Runnable rescueTask = new Runnable() {
+
+                @Override
+                public void run() {
+                    rescueTaskLock.lock();
+                    try {
+                        long startTime = System.currentTimeMillis();
+                        while (state == BeanStatusEnum.NORMAL) {
+                            RedisSubscribeClient client = createSentinelSubscribeClient();
+                            if (client != null) {
+                                try {
+                                    //订阅断开期间可能已发生切换，重新查询主节点地址
+                                    discover();
+                                } catch (NaiveConfigException e) {
+                                    LOG.error("Rescue SentinelCommandExecutor failed: `" + e.getMessage() + "`. Host: `" + host + "`.");
+                                }
+                                sentinelSubscribeClient = client;
+                                if (state != BeanStatusEnum.NORMAL) {
+                                    client.close(false);
+                                }
+                                LOG.info("Rescue sentinel subscription success. Cost: {}ms. Host: `{}`. Master host: `{}`.",
+                                        (System.currentTimeMillis() - startTime), host, masterHost);
+                                return;
+                            }
+                            try {
+                                Thread.sleep(RESCUE_RETRY_INTERVAL);
+                            } catch (InterruptedException e) {
+                                //ignore exception
+                            }
+                        }
+                    } finally {
+                        rescueTaskLock.unlock();
+                    }
+                }
+            };
+            RedisPlatform.newThread("SentinelCommandExecutor-rescue-task", true, rescueTask).start();
+        }
+    }
+
+    /**
+     * Sentinel 主节点切换事件订阅客户端，收到 +switch-master 事件后立即切换主节点。
+     */
+    private class SentinelSubscribeClient extends RedisSubscribeClient {
+
+        private final String sentinelHost;
+
+        private SentinelSubscribeClient(String sentinelHost) throws IllegalArgumentException, NaiveConfigException {
+            super(sentinelHost, SWITCH_MASTER_CHANNEL, SENTINEL_PING_PERIOD);
+            this.sentinelHost = sentinelHost;
+        }
+
+        @Override
+        protected void onMessageReceived(String message) {
+            //消息格式：<master name> <old ip> <old port> <new ip> <new port>
+            String[] parts = message.split(" ");
+            if (parts.length == 5 && masterName.equals(parts[0])) {
+                switchMaster(parts[3] + ":" + parts[4], null);
+                //切换完成后再刷新从节点地址列表，不影响切换速度
+                try {
+                    replicaHosts = queryReplicaHosts(new OneTimeCommandExecutor(sentinelHost, timeout));
+                } catch (Exception e) {
+                    LOG.error("Query replicas failed. Sentinel host: `" + sentinelHost + "`. Host: `" + host + "`.", e);
+                }
+            }
+        }
+
+        @Override
+        protected void onClosed() {
+            startRescueTask();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 heimuheimu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.heimuheimu.naiveconfig.redis.sentinel;
+
+/**
+ * {@link SentinelCommandExecutor} 事件监听器。
+ *
+ * <p><strong>说明：</strong>监听器的实现类必须是线程安全的，事件可能在 Sentinel 订阅线程或恢复线程中触发，不应执行耗时较长的操作。</p>
+ *
+ * @author heimuheimu
+ */
+public interface SentinelListener {
+
+    /**
+     * Redis 主节点地址发生变更后，将触发该监听事件，此时命令已路由至新的主节点。
+     *
+     * @param masterName Sentinel 监控的主节点名称
+     * @param oldMasterHost 变更前的主节点地址，例如：10.0.0.1:6379
+     * @param newMasterHost 变更后的主节点地址，例如：10.0.0.2:6379
+     */
+    void onMasterSwitched(String masterName, String oldMasterHost, String newMasterHost);
+}
@@ -26,22 +26,31 @@ package com.heimuheimu.naiveconfig.redis.subscribe;
 
 import com.heimuheimu.naiveconfig.constant.BeanStatusEnum;
 import com.heimuheimu.naiveconfig.exception.NaiveConfigException;
-import com.heimuheimu.naiveconfig.redis.RedisDataReader;
-import com.heimuheimu.naiveconfig.redis.data.RedisArray;
-import com.heimuheimu.naiveconfig.redis.data.RedisBulkString;
+import com.heimuheimu.naiveconfig.redis.data.RedisCommand;
 import com.heimuheimu.naiveconfig.redis.data.RedisData;
+import com.heimuheimu.naiveconfig.redis.transport.RedisPlatform;
+import com.heimuheimu.naiveconfig.redis.transport.RedisTlsSocketFactory;
+import com.heimuheimu.naiveconfig.redis.transport.nio.NioRedisCommandExecutor;
+import com.heimuheimu.naiveconfig.redis.transport.nio.NioRedisConnection;
+import com.heimuheimu.naiveconfig.redis.transport.nio.NioRedisConnectionListener;
+import com.heimuheimu.naiveconfig.redis.transport.nio.RedisEventLoopGroup;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.Closeable;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.net.InetSocketAddress;
 import java.net.Socket;
+import java.net.SocketAddress;
 import java.net.SocketException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
 
 /**
  * Redis 订阅客户端，自动接收指定 Channel 的消息。
@@ -50,6 +59,17 @@ import java.util.concurrent.atomic.AtomicInteger;
  *
  * <p>更多 Redis 信息请参考：<a href="https://redis.io">https://redis.io</a></p>
  *
+ * <p>如果构造时指定了 {@link RedisEventLoopGroup}，订阅连接将使用非阻塞 IO，由事件循环组中的 IO 线程统一处理，
+ * 不再为每个订阅客户端启动独立的 IO 线程，消息通知将在事件循环组的回调线程中执行。</p>
+ *
+ * <p>在 JDK 21 及以上版本中，阻塞 IO 模式下的消息接收线程为虚拟线程；Redis 服务主机地址也可以为 Unix Domain Socket 地址，
+ * 例如：unix:/var/run/redis/redis.sock，此时订阅连接总是使用非阻塞 IO。</p>
+ *
+ * <p>如果使用启用了 RESP3 协议的 {@link NioRedisCommandExecutor} 构造，订阅客户端将复用该执行器的连接：订阅消息以 Pushes 类型数据推送，
+ * 与普通命令共享同一个连接，不再建立独立的订阅连接。执行器的连接关闭后，订阅客户端也将随之关闭。</p>
+ *
+ * <p>如果构造时指定了 {@link RedisTlsSocketFactory}，订阅连接将使用 TLS，TLS 握手在订阅连接建立时进行一次，TLS 连接仅支持阻塞 IO。</p>
+ *
  * <p><strong>说明：</strong>{@code RedisSubscribeClient} 类是线程安全的，可在多个线程中使用同一个实例。</p>
  *
  * @author heimuheimu
@@ -58,6 +78,16 @@ public abstract class RedisSubscribeClient implements Closeable {
 
     private static final Logger LOG = LoggerFactory.getLogger(RedisSubscribeClient.class);
 
+    /**
+     * 使用非阻塞 IO 时，获取共享连接及等待 SUBSCRIBE 命令响应的超时时间，单位：毫秒
+     */
+    private static final int NIO_TIMEOUT = 30000;
+
+    /**
+     * 建立订阅连接的超时时间，单位：毫秒，Redis 服务不可达时可尽快失败，由订阅客户端恢复任务重试
+     */
+    private static final int CONNECT_TIMEOUT = 3000;
+
     /**
      * Redis 服务主机地址，由主机名和端口组成，":"符号分割，例如：localhost:6379
      */
@@ -74,14 +104,39 @@ public abstract class RedisSubscribeClient implements Closeable {
     private final int pingPeriod;
 
     /**
-     * 与 Redis 服务建立的 Socket 连接
+     * 与 Redis 服务建立的 Socket 连接，使用非阻塞 IO 时为 {@code null}
      */
     private final Socket socket;
 
     /**
-     * Redis 数据读取器
+     * 订阅连接数据帧读取器，使用非阻塞 IO 时为 {@code null}
+     */
+    private final SubscribeFrameReader frameReader;
+
+    /**
+     * 与 Redis 服务建立的非阻塞连接，使用阻塞 IO 时为 {@code null}
+     */
+    private final NioRedisConnection nioConnection;
+
+    /**
+     * 共享连接的 RESP3 命令执行器，仅在共享连接模式下不为 {@code null}
+     */
+    private final NioRedisCommandExecutor sharedExecutor;
+
+    /**
+     * 共享连接模式下注册至命令执行器的 Pushes 类型数据监听器
      */
-    private final RedisDataReader reader;
+    private final SharedConnectionListener sharedListener = new SharedConnectionListener();
+
+    /**
+     * 共享连接模式下的订阅成功确认结果
+     */
+    private final CompletableFuture<SubscribeFrame> subscribedFuture = new CompletableFuture<>();
+
+    /**
+     * 订阅 Channel 使用 UTF-8 编码后的字节数组，用于在共享连接中过滤其它 Channel 的消息
+     */
+    private final byte[] channelBytes;
 
     /**
      * 当前实例所处状态
@@ -99,9 +154,9 @@ public abstract class RedisSubscribeClient implements Closeable {
     private final AtomicInteger unconfirmedPingCount = new AtomicInteger();
 
     /**
-     * 当前实例使用的私有锁
+     * 当前实例使用的私有锁，使用 {@link ReentrantLock} 而非 {@code synchronized}，避免在虚拟线程中执行 Socket IO 时占用载体线程
      */
-    private final Object lock = new Object();
+    private final ReentrantLock lock = new ReentrantLock();
 
     /**
      * 构造一个 Redis 订阅客户端，心跳检测时间为 30 秒
@@ -127,6 +182,43 @@ public abstract class RedisSubscribeClient implements Closeable {
      * @throws NaiveConfigException 如果与 Redis 服务建立的 Socket 连接过程中发生错误，将会抛出此异常
      */
     public RedisSubscribeClient(String host, String channel, int pingPeriod) throws IllegalArgumentException, NaiveConfigException {
+        this(host, channel, pingPeriod, null);
+    }
+
+    /**
+     * 构造一个 Redis 订阅客户端，如果 Redis NIO 事件循环组不为 {@code null}，订阅连接将使用非阻塞 IO。
+     * <p>注意：实例创建完成后，需调用 {@link #init()} 方法进行初始化操作后才能使用</p>
+     *
+     * @param host Redis 服务主机地址，由主机名和端口组成，":"符号分割，例如：localhost:6379
+     * @param channel 当前 Redis 订阅客户端订阅的 Channel 信息，不允许为 {@code null} 或空字符串
+     * @param pingPeriod PING 命令发送时间间隔，单位：秒。用于心跳检测。如果该值小于等于 0，则不进行心跳检测
+     * @param eventLoopGroup Redis NIO 事件循环组，如果为 {@code null}，将使用阻塞 IO，并启动独立的 IO 线程接收消息，
+     *                       如果 Redis 服务主机地址为 Unix Domain Socket 地址，将使用默认的 Redis NIO 事件循环组
+     * @throws IllegalArgumentException 如果 Redis 服务主机地址不符合规则，将会抛出此异常
+     * @throws IllegalArgumentException 如果 Channel 为 {@code null} 或空字符串，将会抛出此异常
+     * @throws NaiveConfigException 如果与 Redis 服务建立的 Socket 连接过程中发生错误，将会抛出此异常
+     */
+    public RedisSubscribeClient(String host, String channel, int pingPeriod, RedisEventLoopGroup eventLoopGroup)
+            throws IllegalArgumentException, NaiveConfigException {
+        this(host, channel, pingPeriod, eventLoopGroup, null);
+    }
+
+    /**
+     * 构造一个 Redis 订阅客户端，如果 TLS 连接工厂不为 {@code null}，订阅连接将在 TCP 连接建立后完成 TLS 握手。
+     * <p>注意：实例创建完成后，需调用 {@link #init()} 方法进行初始化操作后才能使用</p>
+     *
+     * @param host Redis 服务主机地址，由主机名和端口组成，":"符号分割，例如：localhost:6379
+     * @param channel 当前 Redis 订阅客户端订阅的 Channel 信息，不允许为 {@code null} 或空字符串
+     * @param pingPeriod PING 命令发送时间间隔，单位：秒。用于心跳检测。如果该值小于等于 0，则不进行心跳检测
+     * @param eventLoopGroup Redis NIO 事件循环组，如果为 {@code null}，将使用阻塞 IO，并启动独立的 IO 线程接收消息
+     * @param tlsSocketFactory Redis TLS 连接工厂，允许为 {@code null}，为 {@code null} 时不使用 TLS，TLS 连接仅支持阻塞 IO
+     * @throws IllegalArgumentException 如果 Redis 服务主机地址不符合规则，将会抛出此异常
+     * @throws IllegalArgumentException 如果 Channel 为 {@code null} 或空字符串，将会抛出此异常
+     * @throws IllegalArgumentException 如果同时指定了 TLS 连接工厂及 Redis NIO 事件循环组，或使用 Unix Domain Socket 地址，将会抛出此异常
+     * @throws NaiveConfigException 如果与 Redis 服务建立的 Socket 连接过程中发生错误，将会抛出此异常
+     */
+    public RedisSubscribeClient(String host, String channel, int pingPeriod, RedisEventLoopGroup eventLoopGroup,
+                                RedisTlsSocketFactory tlsSocketFactory) throws IllegalArgumentException, NaiveConfigException {
         if (channel == null || channel.isEmpty()) {
             LOG.error("Create RedisSubscribeClient failed. Channel could not be null or empty. Host: `" + host + "`. Channel: `"
                     + channel + "`. Ping period: `" + pingPeriod + "`.");
@@ -136,21 +228,99 @@ public abstract class RedisSubscribeClient implements Closeable {
         this.host = host;
         this.channel = channel;
         this.pingPeriod = pingPeriod;
-        String hostname;
-        int port;
+        this.sharedExecutor = null;
+        this.channelBytes = channel.getBytes(RedisData.UTF8);
+        SocketAddress address;
         try {
-            String[] hostParts = host.split(":");
-            hostname = hostParts[0];
-            port = Integer.parseInt(hostParts[1]);
+            address = RedisPlatform.resolveAddress(host);
         } catch (Exception e) {
             LOG.error("Create RedisSubscribeClient failed. Invalid redis host: `" + host + "`. Valid host example: `localhost:6379`. Channel: `"
                     + channel + "`. Ping period: `" + pingPeriod + "`.", e);
             throw new IllegalArgumentException("Create RedisSubscribeClient failed. Invalid redis host: `" + host
                     + "`. Valid host example: `localhost:6379`. Channel: `" + channel + "`. Ping period: `" + pingPeriod + "`.", e);
         }
+        if (tlsSocketFactory != null && (eventLoopGroup != null || !RedisPlatform.isInetAddress(address))) {
+            LOG.error("Create RedisSubscribeClient failed. TLS requires blocking IO over TCP. Host: `" + host + "`. Channel: `"
+                    + channel + "`. Ping period: `" + pingPeriod + "`.");
+            throw new IllegalArgumentException("Create RedisSubscribeClient failed. TLS requires blocking IO over TCP. Host: `" + host
+                    + "`. Channel: `" + channel + "`. Ping period: `" + pingPeriod + "`.");
+        }
+        if (eventLoopGroup == null && RedisPlatform.isUnixDomainSocketHost(host)) {
+            eventLoopGroup = RedisEventLoopGroup.getDefault();
+        }
+        try {
+            if (eventLoopGroup != null) {
+                this.socket = null;
+                this.frameReader = null;
+                this.nioConnection = new NioRedisConnection(host, address, eventLoopGroup,
+                        new SubscribeConnectionListener());
+                try {
+                    nioConnection.getConnectFuture().get(CONNECT_TIMEOUT, TimeUnit.MILLISECONDS);
+                } catch (Exception e) {
+                    nioConnection.close();
+                    throw e;
+                }
+            } else {
+                this.nioConnection = null;
+                Socket plainSocket = new Socket();
+                plainSocket.connect(address, CONNECT_TIMEOUT);
+                if (tlsSocketFactory != null) {
+                    InetSocketAddress inetAddress = (InetSocketAddress) address;
+                    plainSocket.setSoTimeout(CONNECT_TIMEOUT);
+                    this.socket = tlsSocketFactory.createSocket(plainSocket, inetAddress.getHostString(), inetAddress.getPort());
+                    //握手完成后恢复为无超时阻塞读取，由心跳检测判断连接是否可用
+                    socket.setSoTimeout(0);
+                } else {
+                    this.socket = plainSocket;
+                }
+                this.frameReader = new SubscribeFrameReader(socket.getInputStream());
+            }
+        } catch (Exception e) {
+            LOG.error("Create RedisSubscribeClient failed. Host: `" + host + "`. Channel: `" + channel
+                    + "`. Ping period: `" + pingPeriod + "`.", e);
+            throw new NaiveConfigException("Create RedisSubscribeClient failed. Host: `" + host + "`. Channel: `" + channel
+                    + "`. Ping period: `" + pingPeriod + "`.", e);
+        }
+    }
+
+    /**
+     * 构造一个复用命令执行器连接的 Redis 订阅客户端，订阅消息与普通命令共享同一个 RESP3 连接。
+     * <p>注意：实例创建完成后，需调用 {@link #init()} 方法进行初始化操作后才能使用</p>
+     *
+     * @param executor 启用了 RESP3 协议的 NIO Redis 命令执行器，不允许为 {@code null}
+     * @param channel 当前 Redis 订阅客户端订阅的 Channel 信息，不允许为 {@code null} 或空字符串
+     * @param pingPeriod PING 命令发送时间间隔，单位：秒。用于心跳检测。如果该值小于等于 0，则不进行心跳检测
+     * @throws NullPointerException 如果命令执行器为 {@code null}，将会抛出此异常
+     * @throws IllegalArgumentException 如果命令执行器未启用 RESP3 协议，将会抛出此异常
+     * @throws IllegalArgumentException 如果 Channel 为 {@code null} 或空字符串，将会抛出此异常
+     * @throws NaiveConfigException 如果命令执行器的连接建立失败，将会抛出此异常
+     */
+    public RedisSubscribeClient(NioRedisCommandExecutor executor, String channel, int pingPeriod)
+            throws NullPointerException, IllegalArgumentException, NaiveConfigException {
+        if (executor == null) {
+            throw new NullPointerException("Create RedisSubscribeClient failed: `executor could not be null`. Channel: `" + channel + "`.");
+        }
+        this.host = executor.getHost();
+        if (channel == null || channel.isEmpty()) {
+            LOG.error("Create RedisSubscribeClient failed. Channel could not be null or empty. Host: `" + host + "`. Channel: `"
+                    + channel + "`. Ping period: `" + pingPeriod + "`.");
+            throw new IllegalArgumentException("Create RedisSubscribeClient failed. Channel could not be null or empty. Host: `" + host + "`. Channel: `"
+                    + channel + "`. Ping period: `" + pingPeriod + "`.");
+        }
+        if (!executor.isResp3()) {
+            LOG.error("Create RedisSubscribeClient failed. Shared connection requires RESP3. Host: `" + host + "`. Channel: `"
+                    + channel + "`. Ping period: `" + pingPeriod + "`.");
+            throw new IllegalArgumentException("Create RedisSubscribeClient failed. Shared connection requires RESP3. Host: `" + host + "`. Channel: `"
+                    + channel + "`. Ping period: `" + pingPeriod + "`.");
+        }
+        this.channel = channel;
+        this.pingPeriod = pingPeriod;
+        this.sharedExecutor = executor;
+        this.channelBytes = channel.getBytes(RedisData.UTF8);
+        this.socket = null;
+        this.frameReader = null;
         try {
-            this.socket = new Socket(hostname, port);
-            this.reader = new RedisDataReader(socket.getInputStream());
+            this.nioConnection = executor.getConnection().get(NIO_TIMEOUT, TimeUnit.MILLISECONDS);
         } catch (Exception e) {
             LOG.error("Create RedisSubscribeClient failed. Host: `" + host + "`. Channel: `" + channel
                     + "`. Ping period: `" + pingPeriod + "`.", e);
@@ -170,30 +340,38 @@ public abstract class RedisSubscribeClient implements Closeable {
      * @throws NaiveConfigException 如果在调用 Subscribe 命令过程中发生错误，将会抛出此异常
      */
     public void init() throws NaiveConfigException {
-        synchronized (lock) {
+        lock.lock();
+        try {
             if (state == BeanStatusEnum.UNINITIALIZED) {
                 try {
                     long startTime = System.currentTimeMillis();
                     //调用 SUBSCRIBE 命令
-                    RedisData[] subscribeCommandDatas = new RedisData[2];
-                    subscribeCommandDatas[0] = new RedisBulkString("SUBSCRIBE".getBytes(RedisData.UTF8));
-                    subscribeCommandDatas[1] = new RedisBulkString(channel.getBytes(RedisData.UTF8));
-                    RedisArray subscribeCommand = new RedisArray(subscribeCommandDatas);
-                    sendCommand(subscribeCommand);
-                    RedisData responseData = reader.read();
-                    if (!responseData.isArray() || responseData.size() != 3
-                            || !"subscribe".equals(responseData.get(0).getText().toLowerCase())) {
+                    RedisCommand subscribeCommand = RedisCommand.subscribe(channel);
+                    SubscribeFrame responseFrame;
+                    if (sharedExecutor != null) {
+                        //共享连接中，订阅成功确认以 Pushes 类型数据推送，不对应 SUBSCRIBE 命令的响应位置
+                        sharedExecutor.addPushListener(sharedListener);
+                        nioConnection.sendOneWay(subscribeCommand);
+                        responseFrame = subscribedFuture.get(NIO_TIMEOUT, TimeUnit.MILLISECONDS);
+                    } else if (nioConnection != null) {
+                        responseFrame = SubscribeFrame.wrap(nioConnection.send(subscribeCommand).get(NIO_TIMEOUT, TimeUnit.MILLISECONDS));
+                    } else {
+                        sendCommand(subscribeCommand);
+                        responseFrame = frameReader.read();
+                    }
+                    if (responseFrame == null || !responseFrame.isArray() || responseFrame.size() != 3
+                            || !responseFrame.matches(0, SubscribeFrame.SUBSCRIBE)) {
                         LOG.error("Initialize RedisSubscribeClient failed. Unrecognized redis response data for `Subscribe` command. " +
                                 "Expect data type: `Arrays with three elements.`. Expect value: `subscribe ${channel} 1`. Actual: `"
-                                + responseData + "`. Host: `" + host + "`. Channel: `" + channel + "`. Ping period: `" + pingPeriod + "`.");
+                                + responseFrame + "`. Host: `" + host + "`. Channel: `" + channel + "`. Ping period: `" + pingPeriod + "`.");
                         throw new NaiveConfigException("Initialize RedisSubscribeClient failed. Unrecognized redis response data for `Subscribe` command. " +
                                 "Expect data type: `Arrays with three elements.`. Expect value: `subscribe ${channel} 1`. Actual: `"
-                                + responseData + "`. Host: `" + host + "`. Channel: `" + channel + "`. Ping period: `" + pingPeriod + "`.");
+                                + responseFrame + "`. Host: `" + host + "`. Channel: `" + channel + "`. Ping period: `" + pingPeriod + "`.");
+                    }
+                    //使用阻塞 IO 时，启动 IO 线程，用于接收在订阅 Channel 发布的消息
+                    if (nioConnection == null) {
+                        RedisPlatform.newThread("NaiveConfig-Redis-Subscriber-Thread", false, new SubscribeIoTask()).start();
                     }
-                    //启动 IO 线程，用于接收在订阅 Channel 发布的消息
-                    SubscribeIoThread t = new SubscribeIoThread();
-                    t.setName("NaiveConfig-Redis-Subscriber-Thread]");
-                    t.start();
                     //判断是否需要启动心跳检测线程
                     if (pingPeriod > 0) {
                         pingExecutorService = Executors.newSingleThreadScheduledExecutor();
@@ -208,9 +386,7 @@ public abstract class RedisSubscribeClient implements Closeable {
                                 } else {
                                     try {
                                         unconfirmedPingCount.incrementAndGet();
-                                        RedisData[] pingCommandDatas = new RedisData[1];
-                                        pingCommandDatas[0] = new RedisBulkString("PING".getBytes(RedisData.UTF8));
-                                        sendCommand(new RedisArray(pingCommandDatas));
+                                        sendPing();
                                         LOG.debug("Send `PING` success. Host: `{}`. Channel: `{}`. Ping period: `{}`.", host, channel, pingPeriod);
                                     } catch (Exception e) {
                                         LOG.error("Send `PING` command failed. RedisSubscribeClient should be closed. Host: `" + host + "`. Channel: `"
@@ -236,6 +412,8 @@ public abstract class RedisSubscribeClient implements Closeable {
                             + "`. Ping period: `" + pingPeriod + "`.", e);
                 }
             }
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -245,13 +423,24 @@ public abstract class RedisSubscribeClient implements Closeable {
     }
 
     public void close(boolean triggerOnClosedEvent) {
-        synchronized (lock) {
+        lock.lock();
+        try {
             if (state != BeanStatusEnum.CLOSED) {
                 long startTime = System.currentTimeMillis();
                 state = BeanStatusEnum.CLOSED;
                 try {
-                    //关闭 Socket 连接
-                    socket.close();
+                    //关闭 Socket 连接，共享连接模式下仅取消订阅，不关闭执行器的连接
+                    if (sharedExecutor != null) {
+                        sharedExecutor.removePushListener(sharedListener);
+                        subscribedFuture.completeExceptionally(new IOException("RedisSubscribeClient has been closed. Host: `" + host + "`."));
+                        if (nioConnection.isAvailable()) {
+                            nioConnection.sendOneWay(RedisCommand.of("UNSUBSCRIBE", channel));
+                        }
+                    } else if (nioConnection != null) {
+                        nioConnection.close();
+                    } else {
+                        socket.close();
+                    }
                     //关闭心跳检测线程
                     if (pingExecutorService != null) {
                         pingExecutorService.shutdown();
@@ -269,6 +458,8 @@ public abstract class RedisSubscribeClient implements Closeable {
                     }
                 }
             }
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -280,44 +471,81 @@ public abstract class RedisSubscribeClient implements Closeable {
 
     protected abstract void onClosed();
 
-    private void sendCommand(RedisArray command) throws IOException {
-        synchronized (lock) {
-            OutputStream outputStream = socket.getOutputStream();
-            outputStream.write(command.getRespByteArray());
-            outputStream.flush();
+    private void sendPing() throws IOException {
+        if (sharedExecutor != null) {
+            //RESP3 连接中 PING 命令的响应为普通响应，而非订阅连接中的 pong 消息
+            nioConnection.send(RedisCommand.ping()).whenComplete(new BiConsumer<RedisData, Throwable>() {
+
+                @Override
+                public void accept(RedisData responseData, Throwable throwable) {
+                    if (throwable == null) {
+                        unconfirmedPingCount.decrementAndGet();
+                        LOG.debug("PONG. Host: `{}`. Channel: `{}`.", host, channel);
+                    }
+                }
+
+            });
+        } else {
+            sendCommand(RedisCommand.ping());
+        }
+    }
+
+    private void sendCommand(RedisCommand command) throws IOException {
+        if (nioConnection != null) {
+            nioConnection.sendOneWay(command);
+        } else {
+            lock.lock();
+            try {
+                OutputStream outputStream = socket.getOutputStream();
+                outputStream.write(command.getRespByteArray());
+                outputStream.flush();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 处理订阅连接中接收到的数据帧，消息类型通过预先编码的字节数组进行比较，仅在消息交由 {@link #onMessageReceived(String)} 处理时创建字符串。
+     *
+     * @param responseFrame 订阅连接中接收到的数据帧
+     */
+    private void onResponseReceived(SubscribeFrame responseFrame) {
+        if (responseFrame.isArray() && responseFrame.size() == 3) {
+            if (responseFrame.matches(0, SubscribeFrame.MESSAGE)) {
+                String message = responseFrame.getText(2);
+                try {
+                    onMessageReceived(message);
+                } catch (Exception e) {
+                    LOG.error("Call RedisSubscribeClient#onMessageReceived() failed. Message: `" + message + "`. Host: `" + host + "`. Channel: `" + channel + "`.", e );
+                }
+            } else if (sharedExecutor != null && responseFrame.matches(0, SubscribeFrame.SUBSCRIBE)) {
+                subscribedFuture.complete(responseFrame);
+            } else {
+                LOG.warn("Unrecognized redis response data for `Subscribe` command. Expect data type: `Arrays with three elements.`. " +
+                                "Expect value: `message ${channel} ${message}`. Actual: `{}`. Host: `{}`. Channel: `{}`.", responseFrame,
+                        host, channel);
+            }
+        } else if (responseFrame.isArray() && responseFrame.size() == 2 && responseFrame.matches(0, SubscribeFrame.PONG)) {
+            unconfirmedPingCount.decrementAndGet();
+            LOG.debug("PONG. Host: `{}`. Channel: `{}`.", host, channel);
+        } else if (responseFrame.isError()) {
+            LOG.error("Redis error: `{}`. Host: `{}`. Channel: `{}`.", responseFrame.getText(0), host, channel);
+        } else {
+            LOG.warn("Unrecognized redis response data for `Subscribe` command. Expect data type: `Arrays with three elements.`. " +
+                            "Expect value: `message ${channel} ${message}`. Actual: `{}`. Host: `{}`. Channel: `{}`.", responseFrame,
+                    host, channel);
         }
     }
 
-    private class SubscribeIoThread extends Thread {
+    private class SubscribeIoTask implements Runnable {
 
         @Override
         public void run() {
             try {
-                RedisData responseData;
-                while ((responseData = reader.read()) != null) {
-                    if (responseData.isArray() && responseData.size() == 3) {
-                        if ("message".equals(responseData.get(0).getText().toLowerCase())) {
-                            String message = responseData.get(2).getText();
-                            try {
-                                onMessageReceived(message);
-                            } catch (Exception e) {
-                                LOG.error("Call RedisSubscribeClient#onMessageReceived() failed. Message: `" + message + "`. Host: `" + host + "`. Channel: `" + channel + "`.", e );
-                            }
-                        } else {
-                            LOG.warn("Unrecognized redis response data for `Subscribe` command. Expect data type: `Arrays with three elements.`. " +
-                                            "Expect value: `message ${channel} ${message}`. Actual: `{}`. Host: `{}`. Channel: `{}`.", responseData,
-                                    host, channel);
-                        }
-                    } else if (responseData.isArray() && responseData.size() == 2 && "pong".equals(responseData.get(0).getText().toLowerCase())) {
-                        unconfirmedPingCount.decrementAndGet();
-                        LOG.debug("PONG. Host: `{}`. Channel: `{}`.", host, channel);
-                    } else if (responseData.isError()) {
-                        LOG.error("Redis error: `{}`. Host: `{}`. Channel: `{}`.", responseData.getText(), host, channel);
-                    } else {
-                        LOG.warn("Unrecognized redis response data for `Subscribe` command. Expect data type: `Arrays with three elements.`. " +
-                                        "Expect value: `message ${channel} ${message}`. Actual: `{}`. Host: `{}`. Channel: `{}`.", responseData,
-                                host, channel);
-                    }
+                SubscribeFrame responseFrame;
+                while ((responseFrame = frameReader.read()) != null) {
+                    onResponseReceived(responseFrame);
                 }
                 LOG.info("End of the input stream has been reached. Host: `{}`. Channel: `{}`.", host, channel);
                 close();
@@ -331,4 +559,41 @@ public abstract class RedisSubscribeClient implements Closeable {
         }
     }
 
+    private class SubscribeConnectionListener implements NioRedisConnectionListener {
+
+        @Override
+        public void onReceived(NioRedisConnection connection, RedisData data) {
+            onResponseReceived(SubscribeFrame.wrap(data));
+        }
+
+        @Override
+        public void onClosed(NioRedisConnection connection) {
+            close();
+        }
+    }
+
+    /**
+     * 共享连接模式下的 Pushes 类型数据监听器，仅处理当前连接中订阅 Channel 的消息。
+     */
+    private class SharedConnectionListener implements NioRedisConnectionListener {
+
+        @Override
+        public void onReceived(NioRedisConnection connection, RedisData data) {
+            if (connection == nioConnection && data.isPush()) {
+                SubscribeFrame frame = SubscribeFrame.wrap(data);
+                if (frame.size() == 3 && frame.contentEquals(1, channelBytes)) {
+                    onResponseReceived(frame);
+                }
+            }
+        }
+
+        @Override
+        public void onClosed(NioRedisConnection connection) {
+            if (connection == nioConnection) {
+                subscribedFuture.completeExceptionally(new IOException("NioRedisConnection has been closed. Host: `" + host + "`."));
+                close();
+            }
+        }
+    }
+
 }
@@ -0,0 +1,241 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 heimuheimu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.heimuheimu.naiveconfig.redis.subscribe;
+
+import com.heimuheimu.naiveconfig.redis.data.*;
+
+import java.util.Arrays;
+
+/**
+ * 订阅连接中接收到的 RESP 数据帧，以字节片段视图的方式提供数据帧中各元素的内容，不会为每个元素创建 {@link RedisData} 及字符串。
+ *
+ * <p>订阅连接中的数据帧均为不包含嵌套 Arrays 的扁平结构：Arrays 类型数据帧的每个元素对应一个字节片段，其它类型数据帧仅包含索引为 0 的字节片段。
+ * 字节片段可能指向读取器的接收缓冲区，仅在读取下一个数据帧之前有效。</p>
+ *
+ * <p><strong>说明：</strong>{@code SubscribeFrame} 类是非线程安全的，不允许多个线程使用同一个实例。</p>
+ *
+ * @author heimuheimu
+ */
+final class SubscribeFrame {
+
+    /**
+     * 订阅消息类型：message
+     */
+    static final byte[] MESSAGE = "message".getBytes(RedisData.UTF8);
+
+    /**
+     * PING 命令响应类型：pong
+     */
+    static final byte[] PONG = "pong".getBytes(RedisData.UTF8);
+
+    /**
+     * 订阅成功响应类型：subscribe
+     */
+    static final byte[] SUBSCRIBE = "subscribe".getBytes(RedisData.UTF8);
+
+    /**
+     * 数据帧类型字节
+     */
+    private byte type;
+
+    /**
+     * Arrays 类型数据帧的元素数量，如果 Arrays 为 {@code null}，值为 -1，其它类型数据帧值为 1
+     */
+    private int size;
+
+    /**
+     * 字节片段所在的字节数组，{@code null} 表示该元素为 {@code null}
+     */
+    private byte[][] buffers = new byte[3][];
+
+    /**
+     * 字节片段在字节数组中的起始索引位置
+     */
+    private int[] offsets = new int[3];
+
+    /**
+     * 字节片段长度
+     */
+    private int[] lengths = new int[3];
+
+    /**
+     * 将 {@link RedisData} 包装为订阅数据帧，RESP3 的 Pushes 类型数据视为 Arrays，嵌套 Arrays 类型的元素将被视为 {@code null}。
+     *
+     * @param data Redis 数据
+     * @return 订阅数据帧
+     */
+    static SubscribeFrame wrap(RedisData data) {
+        SubscribeFrame frame = new SubscribeFrame();
+        if (data.isArray() || data.isPush()) {
+            frame.reset(RedisArray.FIRST_BYTE, data.size());
+            for (int i = 0; i < data.size(); i++) {
+                RedisData element = data.get(i);
+                byte[] valueBytes = element.isArray() ? null : element.getValueBytes();
+                frame.set(i, valueBytes, 0, valueBytes != null ? valueBytes.length : 0);
+            }
+        } else {
+            byte type;
+            if (data.isSimpleString()) {
+                type = RedisSimpleString.FIRST_BYTE;
+            } else if (data.isError()) {
+                type = RedisError.FIRST_BYTE;
+            } else if (data.isInteger()) {
+                type = RedisInteger.FIRST_BYTE;
+            } else {
+                type = RedisBulkString.FIRST_BYTE;
+            }
+            frame.reset(type, 1);
+            byte[] valueBytes = data.getValueBytes();
+            frame.set(0, valueBytes, 0, valueBytes != null ? valueBytes.length : 0);
+        }
+        return frame;
+    }
+
+    /**
+     * 重置数据帧，准备写入新的元素。
+     *
+     * @param type 数据帧类型字节
+     * @param size Arrays 类型数据帧的元素数量，其它类型数据帧为 1
+     */
+    void reset(byte type, int size) {
+        this.type = type;
+        this.size = size;
+        if (size > buffers.length) {
+            buffers = new byte[size][];
+            offsets = new int[size];
+            lengths = new int[size];
+        }
+    }
+
+    /**
+     * 设置指定索引位置元素对应的字节片段。
+     *
+     * @param index 索引位置
+     * @param buffer 字节片段所在的字节数组，{@code null} 表示该元素为 {@code null}
+     * @param offset 起始索引位置
+     * @param length 字节片段长度
+     */
+    void set(int index, byte[] buffer, int offset, int length) {
+        buffers[index] = buffer;
+        offsets[index] = offset;
+        lengths[index] = length;
+    }
+
+    /**
+     * 将所有字节片段的起始索引位置偏移指定的字节数，并指向新的字节数组，用于读取器接收缓冲区发生移动或扩容后修正字节片段。
+     *
+     * @param buffer 新的字节数组
+     * @param delta 偏移的字节数
+     */
+    void relocate(byte[] buffer, int delta) {
+        for (int i = 0; i < size; i++) {
+            if (buffers[i] != null) {
+                buffers[i] = buffer;
+                offsets[i] += delta;
+            }
+        }
+    }
+
+    boolean isArray() {
+        return type == RedisArray.FIRST_BYTE;
+    }
+
+    boolean isError() {
+        return type == RedisError.FIRST_BYTE;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * 判断指定索引位置元素的内容是否与期望的 ASCII 字节数组相同，比较时忽略大小写，比较过程不会创建字符串。
+     *
+     * @param index 索引位置
+     * @param expected 期望的 ASCII 字节数组，字母必须为小写
+     * @return 是否相同
+     */
+    boolean matches(int index, byte[] expected) {
+        byte[] buffer = buffers[index];
+        if (buffer == null || lengths[index] != expected.length) {
+            return false;
+        }
+        int offset = offsets[index];
+        for (int i = 0; i < expected.length; i++) {
+            byte b = buffer[offset + i];
+            if (b >= 'A' && b <= 'Z') {
+                b += 'a' - 'A';
+            }
+            if (b != expected[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 判断指定索引位置元素的内容是否与期望的字节数组完全相同，比较过程不会创建字符串。
+     *
+     * @param index 索引位置
+     * @param expected 期望的字节数组
+     * @return 是否相同
+     */
+    boolean contentEquals(int index, byte[] expected) {
+        byte[] buffer = buffers[index];
+        if (buffer == null || lengths[index] != expected.length) {
+            return false;
+        }
+        int offset = offsets[index];
+        for (int i = 0; i < expected.length; i++) {
+            if (buffer[offset + i] != expected[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 获得指定索引位置元素的内容，使用 UTF-8 编码成字符串后返回，如果该元素为 {@code null}，将返回 {@code null}。
+     *
+     * @param index 索引位置
+     * @return 元素内容字符串，可能为 {@code null}
+     */
+    String getText(int index) {
+        byte[] buffer = buffers[index];
+        return buffer != null ? new String(buffer, offsets[index], lengths[index], RedisData.UTF8) : null;
+    }
+
+    @Override
+    public String toString() {
+        String[] values = new String[Math.max(size, 0)];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = getText(i);
+        }
+        return "SubscribeFrame{" +
+                "type=" + (char) type +
+                ", values=" + (size >= 0 ? Arrays.toString(values) : null) +
+                '}';
+    }
+}
@@ -0,0 +1,258 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 heimuheimu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.heimuheimu.naiveconfig.redis.subscribe;
+
+import com.heimuheimu.naiveconfig.redis.RedisDataDecoder;
+import com.heimuheimu.naiveconfig.redis.data.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * 订阅连接数据帧读取器，从字节流中读取 {@link SubscribeFrame}。
+ *
+ * <p>读取器维护自有的接收缓冲区，数据帧的全部内容读取至缓冲区后，各元素以字节片段视图的方式提供，读取过程中不会创建 {@link RedisData}、
+ * 元素字节数组及字符串，返回的数据帧实例会被复用，仅在下一次调用 {@link #read()} 之前有效。订阅连接中不会出现嵌套 Arrays，
+ * 如果读取到嵌套 Arrays，将抛出 {@link IOException} 异常。</p>
+ *
+ * <p><strong>说明：</strong>{@code SubscribeFrameReader} 类是非线程安全的，不允许多个线程使用同一个实例。</p>
+ *
+ * @author heimuheimu
+ */
+final class SubscribeFrameReader {
+
+    /**
+     * 默认接收缓冲区大小：8 KB
+     */
+    private static final int DEFAULT_BUFFER_SIZE = 8 * 1024;
+
+    /**
+     * Arrays 类型数据帧允许的最大元素数量，订阅连接中的数据帧最多包含 4 个元素（pmessage），超过该数量的长度前缀视为非法数据，
+     * 避免按异常的长度前缀分配数据帧的元素数组
+     */
+    private static final int MAX_FRAME_SIZE = 1024;
+
+    private final InputStream inputStream;
+
+    /**
+     * 复用的数据帧实例
+     */
+    private final SubscribeFrame frame = new SubscribeFrame();
+
+    /**
+     * 接收缓冲区，当数据帧超过缓冲区大小时将会扩容
+     */
+    private byte[] buffer = new byte[DEFAULT_BUFFER_SIZE];
+
+    /**
+     * 当前数据帧在缓冲区中的起始索引位置，缓冲区整理时将从该位置开始保留数据
+     */
+    private int frameStart = 0;
+
+    /**
+     * 下一个待读取字节在缓冲区中的索引位置
+     */
+    private int position = 0;
+
+    /**
+     * 缓冲区中有效数据的结束索引位置（不包含）
+     */
+    private int limit = 0;
+
+    SubscribeFrameReader(InputStream inputStream) {
+        this.inputStream = inputStream;
+    }
+
+    /**
+     * 读取下一个数据帧，如果已到达字节流末尾，返回 {@code null}。
+     *
+     * @return 数据帧，在下一次调用此方法之前有效，可能为 {@code null}
+     * @throws IOException 如果读取过程中发生 IO 错误，或数据格式不正确，将会抛出此异常
+     */
+    SubscribeFrame read() throws IOException {
+        frameStart = position;
+        if (!ensure(1)) { //end of the stream is reached
+            return null;
+        }
+        byte type = buffer[position++];
+        if (type == RedisArray.FIRST_BYTE) {
+            int lineEnd = findLineEnd();
+            if (lineEnd < 0) {
+                return null;
+            }
+            int size = parseLength(lineEnd);
+            if (size < -1 || size > MAX_FRAME_SIZE) {
+                throw new IOException("Invalid arrays length: `" + size + "`. Max length: `" + MAX_FRAME_SIZE + "`.");
+            }
+            frame.reset(type, size);
+            for (int i = 0; i < size; i++) {
+                if (!ensure(1)) {
+                    return null;
+                }
+                if (!readElement(i, buffer[position++])) {
+                    return null;
+                }
+            }
+        } else {
+            frame.reset(type, 1);
+            if (!readElement(0, type)) {
+                return null;
+            }
+        }
+        return frame;
+    }
+
+    private boolean readElement(int index, byte type) throws IOException {
+        int lineEnd = findLineEnd();
+        if (lineEnd < 0) {
+            return false;
+        }
+        switch (type) {
+            case RedisSimpleString.FIRST_BYTE:
+            case RedisError.FIRST_BYTE:
+            case RedisInteger.FIRST_BYTE:
+                frame.set(index, buffer, position, lineEnd - 1 - position);
+                position = lineEnd + 1;
+                return true;
+            case RedisBulkString.FIRST_BYTE: {
+                int length = parseLength(lineEnd);
+                if (length == -1) {
+                    frame.set(index, null, 0, 0);
+                    return true;
+                }
+                if (length < 0 || length > RedisDataDecoder.DEFAULT_MAX_BULK_LENGTH) {
+                    throw new IOException("Invalid bulk string length: `" + length + "`.");
+                }
+                if (!ensure(length + 2)) {
+                    return false;
+                }
+                if (buffer[position + length] != RedisData.CR || buffer[position + length + 1] != RedisData.LF) {
+                    throw new IOException("Invalid bulk string terminator. Expected: `CRLF`.");
+                }
+                frame.set(index, buffer, position, length);
+                position += length + 2;
+                return true;
+            }
+            case RedisArray.FIRST_BYTE:
+                throw new IOException("Nested arrays is not supported in subscribe connection.");
+            default:
+                throw new IOException("Unknown first byte: `" + type + "`.");
+        }
+    }
+
+    /**
+     * 直接从缓冲区中解析一行数据中的数字，并跳过该行。
+     */
+    private int parseLength(int lineEnd) throws IOException {
+        int index = position;
+        int end = lineEnd - 1;
+        boolean negative = end > index && buffer[index] == '-';
+        if (negative) {
+            index++;
+        }
+        if (index >= end || end - index > 10) {
+            throw createInvalidLengthException(lineEnd);
+        }
+        long value = 0;
+        for (; index < end; index++) {
+            int digit = buffer[index] - '0';
+            if (digit < 0 || digit > 9) {
+                throw createInvalidLengthException(lineEnd);
+            }
+            value = value * 10 + digit;
+        }
+        if (value > Integer.MAX_VALUE) {
+            throw createInvalidLengthException(lineEnd);
+        }
+        position = lineEnd + 1;
+        return negative ? (int) -value : (int) value;
+    }
+
+    private IOException createInvalidLengthException(int lineEnd) {
+        return new IOException("Invalid length: `" + new String(buffer, position, lineEnd - 1 - position, RedisData.UTF8) + "`.");
+    }
+
+    /**
+     * 查找当前行结尾 LF 符在缓冲区中的索引位置，已扫描过的字节不会被重复扫描，如果已到达字节流末尾，返回 -1。
+     */
+    private int findLineEnd() throws IOException {
+        int scannedBytes = 0;
+        while (true) {
+            for (int i = position + scannedBytes; i < limit; i++) {
+                if (buffer[i] == RedisData.LF) {
+                    if (i == position || buffer[i - 1] != RedisData.CR) {
+                        throw new IOException("Invalid line terminator: `LF` without `CR`.");
+                    }
+                    return i;
+                }
+            }
+            scannedBytes = limit - position;
+            if (!fill(scannedBytes + 1)) {
+                return -1;
+            }
+        }
+    }
+
+    /**
+     * 确保缓冲区中至少有指定字节数的未读取数据，如果已到达字节流末尾，返回 {@code false}。
+     */
+    private boolean ensure(int length) throws IOException {
+        while (limit - position < length) {
+            if (!fill(length)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 从字节流中读取数据填充缓冲区。当前数据帧已读取的数据将被移动至缓冲区头部，缓冲区无法容纳所需的数据时将会扩容，
+     * 数据帧中已设置的字节片段将同步修正。
+     *
+     * @param length 从当前读取位置开始所需的字节数
+     * @return 是否读取到数据，如果已到达字节流末尾，返回 {@code false}
+     */
+    private boolean fill(int length) throws IOException {
+        if (frameStart > 0) {
+            System.arraycopy(buffer, frameStart, buffer, 0, limit - frameStart);
+            frame.relocate(buffer, -frameStart);
+            position -= frameStart;
+            limit -= frameStart;
+            frameStart = 0;
+        }
+        if (limit == buffer.length || position + length > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + length));
+            frame.relocate(buffer, 0);
+        }
+        int readBytes = inputStream.read(buffer, limit, buffer.length - limit);
+        if (readBytes > 0) {
+            limit += readBytes;
+            return true;
+        } else {
+            return false;
+        }
+    }
+}
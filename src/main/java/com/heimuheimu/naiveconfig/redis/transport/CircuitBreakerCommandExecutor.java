@@ -0,0 +1,360 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 heimuheimu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.heimuheimu.naiveconfig.redis.transport;
+
+import com.heimuheimu.naiveconfig.redis.data.RedisData;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+
+/**
+ * 带熔断器的 Redis 命令执行器，Redis 服务不可用时快速失败，避免调用线程在连接建立及等待响应上长时间阻塞。
+ *
+ * <p>熔断器统计最近 {@link CircuitBreakerConfig#getWindowSize()} 个命令的执行结果，IO 错误及超时视为失败，Redis 返回的错误信息视为成功。
+ * 失败率达到阈值后熔断器打开，此后的命令将直接以 {@link CircuitBreakerOpenException} 异常失败。打开持续
+ * {@link CircuitBreakerConfig#getOpenDuration()} 毫秒后进入半开状态，仅允许 {@link CircuitBreakerConfig#getProbeCount()} 个探测命令执行，
+ * 全部成功后关闭熔断器，任意一个失败则重新打开。</p>
+ *
+ * <p>因调用方指定的超时时间已到而结束的命令不代表 Redis 服务不可用，不计入执行结果，半开状态下将归还其探测命令的执行许可。
+ * 每次状态变更后，状态变更前已开始执行的命令返回的结果将被忽略，不会影响当前状态的统计。</p>
+ *
+ * <p>熔断器打开期间，{@link com.heimuheimu.naiveconfig.redis.OneTimeRedisClient} 将使用最近一次成功获取的配置信息作为 GET 操作的结果。</p>
+ *
+ * <p><strong>说明：</strong>{@code CircuitBreakerCommandExecutor} 类是线程安全的，可在多个线程中使用同一个实例。</p>
+ *
+ * @author heimuheimu
+ */
+public class CircuitBreakerCommandExecutor implements RedisCommandExecutor {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CircuitBreakerCommandExecutor.class);
+
+    /**
+     * 被保护的 Redis 命令执行器
+     */
+    private final RedisCommandExecutor executor;
+
+    /**
+     * 熔断器配置信息
+     */
+    private final CircuitBreakerConfig config;
+
+    /**
+     * 最近命令的执行结果，{@code true} 表示失败，循环使用
+     */
+    private final boolean[] outcomes;
+
+    /**
+     * 下一个执行结果在 {@link #outcomes} 中的写入位置
+     */
+    private int outcomeIndex = 0;
+
+    /**
+     * 统计窗口内的命令数量
+     */
+    private int callCount = 0;
+
+    /**
+     * 统计窗口内的失败命令数量
+     */
+    private int failureCount = 0;
+
+    /**
+     * 半开状态下剩余可执行的探测命令数量
+     */
+    private int remainingProbes = 0;
+
+    /**
+     * 半开状态下已执行成功的探测命令数量
+     */
+    private int succeededProbes = 0;
+
+    /**
+     * 熔断器最近一次打开的时间戳
+     */
+    private long openedTime = 0;
+
+    /**
+     * 熔断器当前状态
+     */
+    private volatile CircuitBreakerStateEnum state = CircuitBreakerStateEnum.CLOSED;
+
+    /**
+     * 熔断器状态版本号，每次状态变更后加 1，用于忽略状态变更前已开始执行的命令返回的结果
+     */
+    private volatile long generation = 0;
+
+    /**
+     * 熔断器打开期间被拒绝执行的命令数量
+     */
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    /**
+     * 熔断器状态变更使用的私有锁
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * 构造一个带熔断器的 Redis 命令执行器，使用默认的熔断器配置。
+     *
+     * @param executor 被保护的 Redis 命令执行器，不允许为 {@code null}
+     * @throws NullPointerException 如果 Redis 命令执行器为 {@code null}，将会抛出此异常
+     */
+    public CircuitBreakerCommandExecutor(RedisCommandExecutor executor) throws NullPointerException {
+        this(executor, new CircuitBreakerConfig());
+    }
+
+    /**
+     * 构造一个带熔断器的 Redis 命令执行器。
+     *
+     * @param executor 被保护的 Redis 命令执行器，不允许为 {@code null}
+     * @param config 熔断器配置信息，不允许为 {@code null}
+     * @throws NullPointerException 如果 Redis 命令执行器或熔断器配置信息为 {@code null}，将会抛出此异常
+     * @throws IllegalArgumentException 如果熔断器配置信息不合法，将会抛出此异常
+     */
+    public CircuitBreakerCommandExecutor(RedisCommandExecutor executor, CircuitBreakerConfig config)
+            throws NullPointerException, IllegalArgumentException {
+        if (executor == null) {
+            throw new NullPointerException("Create CircuitBreakerCommandExecutor failed: `executor could not be null`.");
+        }
+        if (config == null) {
+            throw new NullPointerException("Create CircuitBreakerCommandExecutor failed: `config could not be null`. Host: `"
+                    + executor.getHost() + "`.");
+        }
+        if (config.getWindowSize() <= 0 || config.getMinimumCalls() <= 0 || config.getMinimumCalls() > config.getWindowSize()
+                || config.getFailureRateThreshold() <= 0 || config.getFailureRateThreshold() > 100
+                || config.getOpenDuration() <= 0 || config.getProbeCount() <= 0) {
+            LOG.error("Create CircuitBreakerCommandExecutor failed: `invalid config`. Host: `{}`. Config: `{}`.", executor.getHost(), config);
+            throw new IllegalArgumentException("Create CircuitBreakerCommandExecutor failed: `invalid config`. Host: `"
+                    + executor.getHost() + "`. Config: `" + config + "`.");
+        }
+        this.executor = executor;
+        this.config = config;
+        this.outcomes = new boolean[config.getWindowSize()];
+    }
+
+    @Override
+    public String getHost() {
+        return executor.getHost();
+    }
+
+    /**
+     * 获得熔断器当前状态。
+     *
+     * @return 熔断器当前状态
+     */
+    public CircuitBreakerStateEnum getState() {
+        return state;
+    }
+
+    /**
+     * 获得熔断器打开期间被拒绝执行的命令数量。
+     *
+     * @return 被拒绝执行的命令数量
+     */
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    @Override
+    public RedisData execute(RedisData command) throws IOException {
+        long callGeneration = checkPermission();
+        try {
+            RedisData responseData = executor.execute(command);
+            onResult(callGeneration, false);
+            return responseData;
+        } catch (IOException e) {
+            onResult(callGeneration, true);
+            throw e;
+        } catch (RuntimeException e) {
+            //非 IO 错误与 Redis 服务是否可用无关，不计入失败
+            onResult(callGeneration, false);
+            throw e;
+        }
+    }
+
+    @Override
+    public CompletableFuture<RedisData> executeAsync(RedisData command, final long timeout) {
+        final long callGeneration;
+        try {
+            callGeneration = checkPermission();
+        } catch (CircuitBreakerOpenException e) {
+            CompletableFuture<RedisData> future = new CompletableFuture<>();
+            future.completeExceptionally(e);
+            return future;
+        }
+        CompletableFuture<RedisData> future = executor.executeAsync(command, timeout);
+        future.whenComplete(new BiConsumer<RedisData, Throwable>() {
+
+            @Override
+            public void accept(RedisData responseData, Throwable throwable) {
+                if (throwable == null) {
+                    onResult(callGeneration, false);
+                } else {
+                    Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                            ? throwable.getCause() : throwable;
+                    if (cause instanceof TimeoutException && timeout > 0) {
+                        //调用方指定的超时时间已到，并不代表 Redis 服务不可用，不计入执行结果
+                        onIgnored(callGeneration);
+                    } else {
+                        onResult(callGeneration, cause instanceof IOException || cause instanceof TimeoutException);
+                    }
+                }
+            }
+
+        });
+        return future;
+    }
+
+    @Override
+    public void close() {
+        executor.close();
+    }
+
+    @Override
+    public String toString() {
+        return "CircuitBreakerCommandExecutor{" +
+                "executor=" + executor +
+                ", config=" + config +
+                ", state=" + state +
+                ", rejectedCount=" + rejectedCount +
+                '}';
+    }
+
+    /**
+     * 检查当前命令是否允许执行，熔断器打开持续时间结束后，将进入半开状态并分配探测命令的执行许可。
+     *
+     * @return 命令开始执行时的熔断器状态版本号
+     * @throws CircuitBreakerOpenException 如果熔断器处于打开状态，或半开状态下探测命令数量已用完，将会抛出此异常
+     */
+    private long checkPermission() throws CircuitBreakerOpenException {
+        //先读取版本号再读取状态，读取期间如果状态发生变更，该命令的结果将因版本号不一致而被忽略
+        long currentGeneration = generation;
+        if (state == CircuitBreakerStateEnum.CLOSED) {
+            return currentGeneration;
+        }
+        lock.lock();
+        try {
+            if (state == CircuitBreakerStateEnum.OPEN && System.currentTimeMillis() - openedTime >= config.getOpenDuration()) {
+                state = CircuitBreakerStateEnum.HALF_OPEN;
+                generation++;
+                remainingProbes = config.getProbeCount();
+                succeededProbes = 0;
+                LOG.info("Circuit breaker has been half-opened. Host: `{}`. Probe count: `{}`.", executor.getHost(), remainingProbes);
+            }
+            if (state == CircuitBreakerStateEnum.HALF_OPEN && remainingProbes > 0) {
+                remainingProbes--;
+                return generation;
+            }
+            if (state == CircuitBreakerStateEnum.CLOSED) {
+                return generation;
+            }
+        } finally {
+            lock.unlock();
+        }
+        rejectedCount.incrementAndGet();
+        throw new CircuitBreakerOpenException("Circuit breaker is open. State: `" + state + "`. Host: `" + executor.getHost() + "`.");
+    }
+
+    /**
+     * 记录命令执行结果，并根据当前状态决定是否打开或关闭熔断器，状态变更前已开始执行的命令返回的结果将被忽略。
+     *
+     * @param callGeneration 命令开始执行时的熔断器状态版本号
+     * @param failed 命令是否执行失败
+     */
+    private void onResult(long callGeneration, boolean failed) {
+        lock.lock();
+        try {
+            if (callGeneration != generation) {
+                return;
+            }
+            if (state == CircuitBreakerStateEnum.HALF_OPEN) {
+                if (failed) {
+                    open("probe failed");
+                } else if (++succeededProbes >= config.getProbeCount()) {
+                    state = CircuitBreakerStateEnum.CLOSED;
+                    generation++;
+                    resetWindow();
+                    LOG.info("Circuit breaker has been closed. Host: `{}`.", executor.getHost());
+                }
+            } else if (state == CircuitBreakerStateEnum.CLOSED) {
+                if (callCount == outcomes.length) {
+                    if (outcomes[outcomeIndex]) {
+                        failureCount--;
+                    }
+                } else {
+                    callCount++;
+                }
+                outcomes[outcomeIndex] = failed;
+                if (failed) {
+                    failureCount++;
+                }
+                outcomeIndex = (outcomeIndex + 1) % outcomes.length;
+                if (callCount >= config.getMinimumCalls() && failureCount * 100 >= config.getFailureRateThreshold() * callCount) {
+                    open("failure rate " + (failureCount * 100 / callCount) + "%");
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 命令的执行结果无法反映 Redis 服务是否可用，不计入执行结果，如果该命令为当前半开状态下的探测命令，将归还其执行许可。
+     *
+     * @param callGeneration 命令开始执行时的熔断器状态版本号
+     */
+    private void onIgnored(long callGeneration) {
+        lock.lock();
+        try {
+            if (callGeneration == generation && state == CircuitBreakerStateEnum.HALF_OPEN) {
+                remainingProbes++;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void open(String reason) {
+        state = CircuitBreakerStateEnum.OPEN;
+        generation++;
+        openedTime = System.currentTimeMillis();
+        resetWindow();
+        LOG.error("Circuit breaker has been opened: `" + reason + "`. Host: `" + executor.getHost() + "`. Open duration: `"
+                + config.getOpenDuration() + "ms`.");
+    }
+
+    private void resetWindow() {
+        outcomeIndex = 0;
+        callCount = 0;
+        failureCount = 0;
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 heimuheimu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.heimuheimu.naiveconfig.redis.transport;
+
+/**
+ * {@link CircuitBreakerCommandExecutor} 配置信息，所有配置项均有默认值，可通过 Spring 属性注入的方式进行修改。
+ *
+ * <p><strong>说明：</strong>{@code CircuitBreakerConfig} 类是非线程安全的，应在熔断器创建前完成设置。</p>
+ *
+ * @author heimuheimu
+ */
+public class CircuitBreakerConfig {
+
+    /**
+     * 统计失败率使用的最近命令数量，默认为 20
+     */
+    private int windowSize = 20;
+
+    /**
+     * 计算失败率所需的最少命令数量，统计窗口内的命令数量少于该值时不会打开熔断器，默认为 10
+     */
+    private int minimumCalls = 10;
+
+    /**
+     * 打开熔断器的失败率阈值，取值范围为 1 ~ 100，默认为 50
+     */
+    private int failureRateThreshold = 50;
+
+    /**
+     * 熔断器打开后持续的时间，超过该时间后进入半开状态，单位：毫秒，默认为 5000 毫秒
+     */
+    private long openDuration = 5000;
+
+    /**
+     * 半开状态下允许执行的探测命令数量，全部执行成功后关闭熔断器，默认为 3
+     */
+    private int probeCount = 3;
+
+    public int getWindowSize() {
+        return windowSize;
+    }
+
+    public void setWindowSize(int windowSize) {
+        this.windowSize = windowSize;
+    }
+
+    public int getMinimumCalls() {
+        return minimumCalls;
+    }
+
+    public void setMinimumCalls(int minimumCalls) {
+        this.minimumCalls = minimumCalls;
+    }
+
+    public int getFailureRateThreshold() {
+        return failureRateThreshold;
+    }
+
+    public void setFailureRateThreshold(int failureRateThreshold) {
+        this.failureRateThreshold = failureRateThreshold;
+    }
+
+    public long getOpenDuration() {
+        return openDuration;
+    }
+
+    public void setOpenDuration(long openDuration) {
+        this.openDuration = openDuration;
+    }
+
+    public int getProbeCount() {
+        return probeCount;
+    }
+
+    public void setProbeCount(int probeCount) {
+        this.probeCount = probeCount;
+    }
+
+    @Override
+    public String toString() {
+        return "CircuitBreakerConfig{" +
+                "windowSize=" + windowSize +
+                ", minimumCalls=" + minimumCalls +
+                ", failureRateThreshold=" + failureRateThreshold +
+                ", openDuration=" + openDuration +
+                ", probeCount=" + probeCount +
+                '}';
+    }
+}
@@ -0,0 +1,423 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 heimuheimu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.heimuheimu.naiveconfig.redis.transport;
+
+import com.heimuheimu.naiveconfig.redis.data.RedisCommand;
+import com.heimuheimu.naiveconfig.redis.data.RedisData;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+
+/**
+ * 支持多个 Redis 服务地址故障转移的 Redis 命令执行器，每个 Redis 服务地址对应一个 Redis 命令执行器。
+ *
+ * <p>命令执行时，将优先选择可用且平均响应时间（EWMA，指数加权移动平均）最小的 Redis 服务地址。如果执行过程中发生 IO 错误或超时，
+ * 该地址将被标记为不可用，并立即使用下一个可用地址重新执行该命令，后续命令将直接跳过不可用的地址，无需再等待超时。</p>
+ *
+ * <p>异步执行命令时，指定的超时时间为本次命令执行的总耗时上限，包含在其它地址上重新执行的时间。如果剩余时间已不足下一个地址的平均响应时间，
+ * 将立即以 {@link TimeoutException} 异常结束，不再继续尝试。因调用方指定的超时时间已到而结束的命令仅本次执行失败，不会将该地址标记为不可用，
+ * 只有 IO 错误（包括 Socket 读写超时）及命令执行器默认超时时间内未返回的命令才会影响地址的健康状态。</p>
+ *
+ * <p>不可用的地址将每隔一个探测周期执行一次 PING 命令，PING 成功后重新标记为可用。如果所有地址均不可用，将使用最早被标记为不可用的地址执行命令。</p>
+ *
+ * <p><strong>注意：</strong>命令执行失败后将在其它地址上重新执行，因此多个 Redis 服务地址应指向相同的数据，例如同一个主节点的多个访问地址或主从复制中的节点。</p>
+ *
+ * <p><strong>说明：</strong>{@code FailoverCommandExecutor} 类是线程安全的，可在多个线程中使用同一个实例。</p>
+ *
+ * @author heimuheimu
+ */
+public class FailoverCommandExecutor implements RedisCommandExecutor {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FailoverCommandExecutor.class);
+
+    /**
+     * 默认的不可用地址探测周期，单位：毫秒
+     */
+    public static final int DEFAULT_PROBE_PERIOD = 3000;
+
+    /**
+     * 平均响应时间计算使用的平滑系数，值越大，最近一次响应时间的权重越高
+     */
+    private static final double EWMA_ALPHA = 0.3;
+
+    private static final Comparator<Endpoint> LATENCY_COMPARATOR = new Comparator<Endpoint>() {
+
+        @Override
+        public int compare(Endpoint o1, Endpoint o2) {
+            return Double.compare(o1.latency, o2.latency);
+        }
+
+    };
+
+    private static final Comparator<Endpoint> DOWN_TIME_COMPARATOR = new Comparator<Endpoint>() {
+
+        @Override
+        public int compare(Endpoint o1, Endpoint o2) {
+            return Long.compare(o1.downTime, o2.downTime);
+        }
+
+    };
+
+    /**
+     * 按优先级排序的 Redis 服务地址列表，平均响应时间相同时，靠前的地址优先使用
+     */
+    private final List<Endpoint> endpoints;
+
+    /**
+     * 所有 Redis 服务地址，使用 "," 分割，例如：10.0.0.1:6379,10.0.0.2:6379
+     */
+    private final String host;
+
+    /**
+     * 不可用地址探测周期，单位：毫秒
+     */
+    private final int probePeriod;
+
+    /**
+     * 是否已关闭
+     */
+    private volatile boolean closed = false;
+
+    /**
+     * 使用多个 Redis 服务地址构造一个支持故障转移的 Redis 命令执行器，每个地址使用 {@link OneTimeCommandExecutor} 执行命令。
+     *
+     * @param hosts Redis 服务主机地址列表，由主机名和端口组成，":"符号分割，例如：localhost:6379，不允许为 {@code null} 或空列表
+     * @param timeout Redis 操作超时时间，单位：毫秒，不允许小于等于 0
+     * @return 支持故障转移的 Redis 命令执行器
+     * @throws IllegalArgumentException 如果 Redis 服务主机地址列表为 {@code null} 或空列表，将会抛出此异常
+     * @throws IllegalArgumentException 如果 Redis 操作超时时间小于等于 0，将会抛出此异常
+     * @throws IllegalArgumentException 如果 Redis 服务主机地址不符合规则，将会抛出此异常
+     */
+    public static FailoverCommandExecutor create(List<String> hosts, int timeout) throws IllegalArgumentException {
+        if (hosts == null || hosts.isEmpty()) {
+            throw new IllegalArgumentException("Create FailoverCommandExecutor failed: `hosts could not be empty`. Hosts: `" + hosts + "`.");
+        }
+        List<RedisCommandExecutor> executors = new ArrayList<>(hosts.size());
+        for (String host : hosts) {
+            executors.add(new OneTimeCommandExecutor(host, timeout));
+        }
+        return new FailoverCommandExecutor(executors);
+    }
+
+    /**
+     * 构造一个支持故障转移的 Redis 命令执行器，不可用地址探测周期为 {@link #DEFAULT_PROBE_PERIOD}。
+     *
+     * @param executors Redis 命令执行器列表，每个执行器对应一个 Redis 服务地址，列表顺序即为优先级，不允许为 {@code null} 或空列表
+     * @throws IllegalArgumentException 如果 Redis 命令执行器列表为 {@code null} 或空列表，将会抛出此异常
+     * @throws NullPointerException 如果 Redis 命令执行器列表中存在 {@code null}，将会抛出此异常
+     */
+    public FailoverCommandExecutor(List<? extends RedisCommandExecutor> executors) throws IllegalArgumentException, NullPointerException {
+        this(executors, DEFAULT_PROBE_PERIOD);
+    }
+
+    /**
+     * 构造一个支持故障转移的 Redis 命令执行器。
+     *
+     * @param executors Redis 命令执行器列表，每个执行器对应一个 Redis 服务地址，列表顺序即为优先级，不允许为 {@code null} 或空列表
+     * @param probePeriod 不可用地址探测周期，单位：毫秒，不允许小于等于 0
+     * @throws IllegalArgumentException 如果 Redis 命令执行器列表为 {@code null} 或空列表，将会抛出此异常
+     * @throws IllegalArgumentException 如果不可用地址探测周期小于等于 0，将会抛出此异常
+     * @throws NullPointerException 如果 Redis 命令执行器列表中存在 {@code null}，将会抛出此异常
+     */
+    public FailoverCommandExecutor(List<? extends RedisCommandExecutor> executors, int probePeriod)
+            throws IllegalArgumentException, NullPointerException {
+        if (executors == null || executors.isEmpty()) {
+            throw new IllegalArgumentException("Create FailoverCommandExecutor failed: `executors could not be empty`. Executors: `" + executors + "`.");
+        }
+        if (probePeriod <= 0) {
+            throw new IllegalArgumentException("Create FailoverCommandExecutor failed: `invalid probe period`. Probe period: `" + probePeriod + "`.");
+        }
+        List<Endpoint> endpointList = new ArrayList<>(executors.size());
+        StringBuilder hostBuilder = new StringBuilder();
+        for (RedisCommandExecutor executor : executors) {
+            if (executor == null) {
+                throw new NullPointerException("Create FailoverCommandExecutor failed: `executor could not be null`. Executors: `" + executors + "`.");
+            }
+            endpointList.add(new Endpoint(executor));
+            if (hostBuilder.length() > 0) {
+                hostBuilder.append(',');
+            }
+            hostBuilder.append(executor.getHost());
+        }
+        this.endpoints = Collections.unmodifiableList(endpointList);
+        this.host = hostBuilder.toString();
+        this.probePeriod = probePeriod;
+    }
+
+    /**
+     * 获得所有 Redis 服务地址，使用 "," 分割，例如：10.0.0.1:6379,10.0.0.2:6379。
+     *
+     * @return 所有 Redis 服务地址
+     */
+    @Override
+    public String getHost() {
+        return host;
+    }
+
+    /**
+     * 获得按当前选择顺序排列的 Redis 服务地址列表，可用地址按平均响应时间从小到大排列在前，不可用地址按标记时间排列在后，
+     * 可用于订阅客户端等需要自行建立连接的场景选择地址。
+     *
+     * @return Redis 服务地址列表，不会为 {@code null}
+     */
+    public List<String> getPreferredHosts() {
+        List<Endpoint> availableEndpoints = getAvailableEndpoints();
+        List<Endpoint> unavailableEndpoints = new ArrayList<>(endpoints);
+        unavailableEndpoints.removeAll(availableEndpoints);
+        Collections.sort(unavailableEndpoints, DOWN_TIME_COMPARATOR);
+        List<String> hosts = new ArrayList<>(endpoints.size());
+        for (Endpoint endpoint : availableEndpoints) {
+            hosts.add(endpoint.executor.getHost());
+        }
+        for (Endpoint endpoint : unavailableEndpoints) {
+            hosts.add(endpoint.executor.getHost());
+        }
+        return hosts;
+    }
+
+    @Override
+    public RedisData execute(RedisData command) throws IOException {
+        IOException lastException = null;
+        for (Endpoint endpoint : selectEndpoints()) {
+            long startTime = System.nanoTime();
+            try {
+                RedisData responseData = endpoint.executor.execute(command);
+                endpoint.onSuccess(System.nanoTime() - startTime);
+                return responseData;
+            } catch (IOException e) {
+                markDown(endpoint, e);
+                lastException = e;
+            }
+        }
+        throw lastException;
+    }
+
+    @Override
+    public CompletableFuture<RedisData> executeAsync(RedisData command, long timeout) {
+        CompletableFuture<RedisData> future = new CompletableFuture<>();
+        long deadline = timeout > 0 ? System.currentTimeMillis() + timeout : 0;
+        executeAsync(command, deadline, selectEndpoints(), 0, future);
+        return future;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        for (Endpoint endpoint : endpoints) {
+            endpoint.executor.close();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "FailoverCommandExecutor{" +
+                "endpoints=" + endpoints +
+                ", probePeriod=" + probePeriod +
+                '}';
+    }
+
+    /**
+     * 在候选地址上异步执行命令，执行失败时使用下一个候选地址重新执行。
+     *
+     * @param deadline 本次命令执行的截止时间戳，如果为 0，则每次执行均使用命令执行器默认的超时时间
+     */
+    private void executeAsync(final RedisData command, final long deadline, final List<Endpoint> candidates, final int index,
+                              final CompletableFuture<RedisData> future) {
+        final Endpoint endpoint = candidates.get(index);
+        long timeout = 0;
+        if (deadline > 0) {
+            timeout = deadline - System.currentTimeMillis();
+            if (timeout <= 0 || (index > 0 && timeout < endpoint.latency / 1000000)) {
+                future.completeExceptionally(new TimeoutException("Execute redis command failed: `deadline exceeded`. Remaining time: `"
+                        + timeout + "ms`. Next host: `" + endpoint.executor.getHost() + "`. Hosts: `" + host + "`."));
+                return;
+            }
+        }
+        final long startTime = System.nanoTime();
+        endpoint.executor.executeAsync(command, timeout).whenComplete(new BiConsumer<RedisData, Throwable>() {
+
+            @Override
+            public void accept(RedisData responseData, Throwable throwable) {
+                if (throwable == null) {
+                    endpoint.onSuccess(System.nanoTime() - startTime);
+                    future.complete(responseData);
+                    return;
+                }
+                Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                        ? throwable.getCause() : throwable;
+                if (cause instanceof TimeoutException && deadline > 0) {
+                    //调用方指定的截止时间已到，并不代表该地址不可用，仅本次命令执行失败
+                    future.completeExceptionally(cause);
+                    return;
+                }
+                if (cause instanceof IOException || cause instanceof TimeoutException) {
+                    markDown(endpoint, cause);
+                    if (index + 1 < candidates.size()) {
+                        executeAsync(command, deadline, candidates, index + 1, future);
+                        return;
+                    }
+                }
+                future.completeExceptionally(cause);
+            }
+
+        });
+    }
+
+    /**
+     * 获得本次命令执行可使用的地址列表，可用地址按平均响应时间从小到大排列，如果所有地址均不可用，则返回最早被标记为不可用的地址。
+     *
+     * @return 本次命令执行可使用的地址列表，不会为空
+     */
+    private List<Endpoint> selectEndpoints() {
+        List<Endpoint> availableEndpoints = getAvailableEndpoints();
+        if (availableEndpoints.isEmpty()) {
+            return Collections.singletonList(Collections.min(endpoints, DOWN_TIME_COMPARATOR));
+        }
+        return availableEndpoints;
+    }
+
+    private List<Endpoint> getAvailableEndpoints() {
+        List<Endpoint> availableEndpoints = new ArrayList<>(endpoints.size());
+        for (Endpoint endpoint : endpoints) {
+            if (endpoint.available) {
+                availableEndpoints.add(endpoint);
+            }
+        }
+        //稳定排序，平均响应时间相同时保持列表原有顺序
+        Collections.sort(availableEndpoints, LATENCY_COMPARATOR);
+        return availableEndpoints;
+    }
+
+    private void markDown(Endpoint endpoint, Throwable cause) {
+        endpoint.failureCount.incrementAndGet();
+        boolean wasAvailable;
+        synchronized (endpoint) {
+            wasAvailable = endpoint.available;
+            if (wasAvailable) {
+                endpoint.available = false;
+                endpoint.downTime = System.currentTimeMillis();
+            }
+        }
+        if (wasAvailable) {
+            LOG.error("Redis endpoint has been marked down: `" + cause.getMessage() + "`. Host: `" + endpoint.executor.getHost()
+                    + "`. Hosts: `" + host + "`.");
+            scheduleProbe(endpoint);
+        }
+    }
+
+    private void scheduleProbe(final Endpoint endpoint) {
+        if (closed) {
+            return;
+        }
+        RedisCommandExecutors.schedule(new Runnable() {
+
+            @Override
+            public void run() {
+                if (closed) {
+                    return;
+                }
+                final long startTime = System.nanoTime();
+                endpoint.executor.executeAsync(RedisCommand.ping(), probePeriod).whenComplete(new BiConsumer<RedisData, Throwable>() {
+
+                    @Override
+                    public void accept(RedisData responseData, Throwable throwable) {
+                        if (throwable == null && !responseData.isError()) {
+                            synchronized (endpoint) {
+                                endpoint.available = true;
+                            }
+                            endpoint.onSuccess(System.nanoTime() - startTime);
+                            LOG.info("Redis endpoint has been recovered. Host: `{}`. Hosts: `{}`.", endpoint.executor.getHost(), host);
+                        } else {
+                            scheduleProbe(endpoint);
+                        }
+                    }
+
+                });
+            }
+
+        }, probePeriod);
+    }
+
+    /**
+     * Redis 服务地址及其健康状态。
+     */
+    private static class Endpoint {
+
+        /**
+         * 该地址对应的 Redis 命令执行器
+         */
+        private final RedisCommandExecutor executor;
+
+        /**
+         * 该地址当前是否可用
+         */
+        private volatile boolean available = true;
+
+        /**
+         * 最近一次被标记为不可用的时间戳
+         */
+        private volatile long downTime = 0;
+
+        /**
+         * 平均响应时间，单位：纳秒，尚未执行过命令的地址为 0，将被优先使用
+         */
+        private volatile double latency = 0;
+
+        /**
+         * 执行失败次数
+         */
+        private final AtomicLong failureCount = new AtomicLong();
+
+        private Endpoint(RedisCommandExecutor executor) {
+            this.executor = executor;
+        }
+
+        private void onSuccess(long costNanos) {
+            double currentLatency = latency;
+            //并发更新时可能丢失个别样本，对平均响应时间的影响可以忽略
+            latency = currentLatency == 0 ? costNanos : EWMA_ALPHA * costNanos + (1 - EWMA_ALPHA) * currentLatency;
+        }
+
+        @Override
+        public String toString() {
+            return "Endpoint{" +
+                    "host='" + executor.getHost() + '\'' +
+                    ", available=" + available +
+                    ", latency=" + (long) (latency / 1000) + "us" +
+                    ", failureCount=" + failureCount +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,491 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 heimuheimu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.heimuheimu.naiveconfig.redis.transport;
+
+import com.heimuheimu.naiveconfig.redis.data.RedisData;
+import com.heimuheimu.naiveconfig.redis.transport.nio.NioRedisCommandExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+
+/**
+ * 支持对冲请求（Hedged Request）的 Redis 命令执行器，用于降低 GET、MGET 等读命令的长尾延迟。
+ *
+ * <p>读命令首先在第一个 Redis 命令执行器上执行，如果在最近响应时间的指定百分位（默认为 P95）内仍未返回，将在下一个 Redis 命令执行器上
+ * 再执行一次相同的命令，先返回的成功结果将作为命令的执行结果，另一个命令将被取消。只有一个 Redis 命令执行器时，对冲命令使用同一个执行器，
+ * 可绕过个别连接建立缓慢或连接阻塞的情况，但如果该执行器为 {@link NioRedisCommandExecutor}，对冲命令与原始命令通过同一个管道连接按顺序返回，
+ * 对冲命令无法先于原始命令返回，因此不会进行对冲。写命令及其它命令仅在第一个 Redis 命令执行器上执行。</p>
+ *
+ * <p>对冲延迟根据原始命令的响应时间计算，原始命令因对冲命令先返回而被取消时，其已等待的时间同样作为响应时间样本记录（实际响应时间不小于该值），
+ * 避免仅统计较快的原始命令导致对冲延迟持续偏低。</p>
+ *
+ * <p>对冲命令数量不超过读命令数量的指定比例（默认为 10%），避免 Redis 服务整体变慢时对冲命令进一步增加负载。</p>
+ *
+ * <p><strong>注意：</strong>对冲命令将在其它 Redis 命令执行器上执行，因此多个执行器应指向相同的数据，例如同一个主节点的多个连接池或主从复制中的节点。</p>
+ *
+ * <p><strong>说明：</strong>{@code HedgedCommandExecutor} 类是线程安全的，可在多个线程中使用同一个实例。</p>
+ *
+ * @author heimuheimu
+ */
+public class HedgedCommandExecutor implements RedisCommandExecutor {
+
+    private static final Logger LOG = LoggerFactory.getLogger(HedgedCommandExecutor.class);
+
+    /**
+     * 默认的对冲延迟百分位
+     */
+    public static final int DEFAULT_PERCENTILE = 95;
+
+    /**
+     * 默认的对冲命令数量占读命令数量的最大百分比
+     */
+    public static final int DEFAULT_HEDGE_RATE_PERCENT = 10;
+
+    /**
+     * 允许对冲的读命令名称集合
+     */
+    private static final Set<String> HEDGEABLE_COMMANDS = new HashSet<>(Arrays.asList("GET", "MGET"));
+
+    /**
+     * 计算百分位使用的最近响应时间样本数量
+     */
+    private static final int SAMPLE_SIZE = 128;
+
+    /**
+     * 开始对冲前所需的最少响应时间样本数量
+     */
+    private static final int MINIMUM_SAMPLES = 16;
+
+    /**
+     * 每记录该数量的样本后重新计算一次对冲延迟
+     */
+    private static final int RECALCULATE_INTERVAL = 16;
+
+    /**
+     * 对冲令牌最大累积数量，允许短时间内的少量突发对冲
+     */
+    private static final double MAX_HEDGE_TOKENS = 10;
+
+    /**
+     * Redis 命令执行器列表，第一个执行器用于执行原始命令
+     */
+    private final List<RedisCommandExecutor> executors;
+
+    /**
+     * 对冲延迟百分位
+     */
+    private final int percentile;
+
+    /**
+     * 对冲命令数量占读命令数量的最大百分比
+     */
+    private final int hedgeRatePercent;
+
+    /**
+     * 是否允许发出对冲命令，仅有一个 {@link NioRedisCommandExecutor} 时，对冲命令无法先于原始命令返回，不进行对冲
+     */
+    private final boolean hedgeEnabled;
+
+    /**
+     * 最近的响应时间样本，单位：纳秒，循环使用
+     */
+    private final long[] samples = new long[SAMPLE_SIZE];
+
+    /**
+     * 已记录的响应时间样本总数
+     */
+    private long sampleCount = 0;
+
+    /**
+     * 对冲令牌数量，每个读命令增加 hedgeRatePercent / 100 个令牌，每个对冲命令消耗 1 个令牌
+     */
+    private double hedgeTokens = 0;
+
+    /**
+     * 对冲延迟，单位：纳秒，小于等于 0 时表示样本不足，不进行对冲
+     */
+    private volatile long hedgeDelayNanos = 0;
+
+    /**
+     * 选择对冲执行器使用的计数器
+     */
+    private final AtomicInteger hedgeIndex = new AtomicInteger();
+
+    /**
+     * 已发出的对冲命令数量
+     */
+    private final AtomicLong hedgeCount = new AtomicLong();
+
+    /**
+     * 对冲命令先于原始命令返回成功结果的数量
+     */
+    private final AtomicLong hedgeWonCount = new AtomicLong();
+
+    /**
+     * 响应时间样本及对冲令牌使用的私有锁
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * 构造一个支持对冲请求的 Redis 命令执行器，对冲延迟百分位为 {@link #DEFAULT_PERCENTILE}，对冲命令比例上限为 {@link #DEFAULT_HEDGE_RATE_PERCENT}%。
+     *
+     * @param executors Redis 命令执行器列表，第一个执行器用于执行原始命令，不允许为 {@code null} 或空列表
+     * @throws IllegalArgumentException 如果 Redis 命令执行器列表为 {@code null} 或空列表，将会抛出此异常
+     * @throws NullPointerException 如果 Redis 命令执行器列表中存在 {@code null}，将会抛出此异常
+     */
+    public HedgedCommandExecutor(List<? extends RedisCommandExecutor> executors) throws IllegalArgumentException, NullPointerException {
+        this(executors, DEFAULT_PERCENTILE, DEFAULT_HEDGE_RATE_PERCENT);
+    }
+
+    /**
+     * 构造一个支持对冲请求的 Redis 命令执行器。
+     *
+     * @param executors Redis 命令执行器列表，第一个执行器用于执行原始命令，不允许为 {@code null} 或空列表
+     * @param percentile 对冲延迟百分位，读命令在最近响应时间的该百分位内未返回时发出对冲命令，取值范围为 1 ~ 99
+     * @param hedgeRatePercent 对冲命令数量占读命令数量的最大百分比，取值范围为 1 ~ 100
+     * @throws IllegalArgumentException 如果 Redis 命令执行器列表为 {@code null} 或空列表，将会抛出此异常
+     * @throws IllegalArgumentException 如果对冲延迟百分位或对冲命令比例上限不合法，将会抛出此异常
+     * @throws NullPointerException 如果 Redis 命令执行器列表中存在 {@code null}，将会抛出此异常
+     */
+    public HedgedCommandExecutor(List<? extends RedisCommandExecutor> executors, int percentile, int hedgeRatePercent)
+            throws IllegalArgumentException, NullPointerException {
+        if (executors == null || executors.isEmpty()) {
+            throw new IllegalArgumentException("Create HedgedCommandExecutor failed: `executors could not be empty`. Executors: `" + executors + "`.");
+        }
+        if (percentile <= 0 || percentile >= 100 || hedgeRatePercent <= 0 || hedgeRatePercent > 100) {
+            throw new IllegalArgumentException("Create HedgedCommandExecutor failed: `invalid hedge config`. Percentile: `" + percentile
+                    + "`. Hedge rate percent: `" + hedgeRatePercent + "`. Executors: `" + executors + "`.");
+        }
+        for (RedisCommandExecutor executor : executors) {
+            if (executor == null) {
+                throw new NullPointerException("Create HedgedCommandExecutor failed: `executor could not be null`. Executors: `" + executors + "`.");
+            }
+        }
+        this.executors = Collections.unmodifiableList(new ArrayList<>(executors));
+        this.percentile = percentile;
+        this.hedgeRatePercent = hedgeRatePercent;
+        this.hedgeEnabled = this.executors.size() > 1 || !(this.executors.get(0) instanceof NioRedisCommandExecutor);
+        if (!hedgeEnabled) {
+            LOG.warn("Hedged request is disabled: `single pipelined executor`. Executors: `" + executors + "`.");
+        }
+    }
+
+    /**
+     * 获得第一个 Redis 命令执行器的 Redis 服务地址。
+     *
+     * @return Redis 服务地址
+     */
+    @Override
+    public String getHost() {
+        return executors.get(0).getHost();
+    }
+
+    /**
+     * 获得已发出的对冲命令数量。
+     *
+     * @return 已发出的对冲命令数量
+     */
+    public long getHedgeCount() {
+        return hedgeCount.get();
+    }
+
+    /**
+     * 获得对冲命令先于原始命令返回成功结果的数量。
+     *
+     * @return 对冲命令获胜的数量
+     */
+    public long getHedgeWonCount() {
+        return hedgeWonCount.get();
+    }
+
+    /**
+     * 获得当前的对冲延迟，响应时间样本不足时返回 0。
+     *
+     * @return 对冲延迟，单位：微秒
+     */
+    public long getHedgeDelay() {
+        return TimeUnit.NANOSECONDS.toMicros(hedgeDelayNanos);
+    }
+
+    @Override
+    public RedisData execute(RedisData command) throws IOException {
+        if (!hedgeEnabled || !isHedgeable(command)) {
+            return executors.get(0).execute(command);
+        }
+        try {
+            return executeAsync(command, 0).get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new IOException("Execute hedged redis command failed: `" + cause + "`. Host: `" + getHost() + "`.", cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Execute hedged redis command failed: `interrupted`. Host: `" + getHost() + "`.");
+        }
+    }
+
+    @Override
+    public CompletableFuture<RedisData> executeAsync(RedisData command, long timeout) {
+        if (!hedgeEnabled || !isHedgeable(command)) {
+            return executors.get(0).executeAsync(command, timeout);
+        }
+        addHedgeToken();
+        final HedgedRequest request = new HedgedRequest(command, timeout);
+        request.launch(executors.get(0), timeout, false);
+        long delayNanos = hedgeDelayNanos;
+        if (delayNanos > 0 && !request.result.isDone()) {
+            final ScheduledFuture<?> hedgeTask = RedisCommandExecutors.schedule(new Runnable() {
+
+                @Override
+                public void run() {
+                    if (request.result.isDone()) {
+                        return;
+                    }
+                    //对冲命令在延迟后发出，仅使用剩余的超时时间，避免最终结果晚于调用方指定的超时时间
+                    long hedgeTimeout = request.getRemainingTime();
+                    if (hedgeTimeout < 1 || !tryAcquireHedgeToken()) {
+                        return;
+                    }
+                    if (request.launch(selectHedgeExecutor(), hedgeTimeout, true)) {
+                        hedgeCount.incrementAndGet();
+                    }
+                }
+
+            }, Math.max(1, TimeUnit.NANOSECONDS.toMillis(delayNanos)));
+            request.result.whenComplete(new BiConsumer<RedisData, Throwable>() {
+
+                @Override
+                public void accept(RedisData responseData, Throwable throwable) {
+                    hedgeTask.cancel(false);
+                }
+
+            });
+        }
+        return request.result;
+    }
+
+    @Override
+    public void close() {
+        for (RedisCommandExecutor executor : executors) {
+            executor.close();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "HedgedCommandExecutor{" +
+                "executors=" + executors +
+                ", percentile=" + percentile +
+                ", hedgeRatePercent=" + hedgeRatePercent +
+                ", hedgeEnabled=" + hedgeEnabled +
+                ", hedgeDelay=" + getHedgeDelay() + "us" +
+                ", hedgeCount=" + hedgeCount +
+                ", hedgeWonCount=" + hedgeWonCount +
+                '}';
+    }
+
+    private boolean isHedgeable(RedisData command) {
+        return HEDGEABLE_COMMANDS.contains(command.get(0).getText().toUpperCase(Locale.ENGLISH));
+    }
+
+    private RedisCommandExecutor selectHedgeExecutor() {
+        int size = executors.size();
+        if (size == 1) {
+            return executors.get(0);
+        }
+        return executors.get(1 + (hedgeIndex.getAndIncrement() & Integer.MAX_VALUE) % (size - 1));
+    }
+
+    private void addHedgeToken() {
+        lock.lock();
+        try {
+            hedgeTokens = Math.min(MAX_HEDGE_TOKENS, hedgeTokens + hedgeRatePercent / 100.0);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 消耗一个对冲令牌，令牌数量不足 1 个时不允许发出对冲命令。
+     */
+    private boolean tryAcquireHedgeToken() {
+        lock.lock();
+        try {
+            if (hedgeTokens >= 1) {
+                hedgeTokens -= 1;
+                return true;
+            }
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 记录原始命令的响应时间，并定期按百分位重新计算对冲延迟。
+     *
+     * @param costNanos 原始命令的响应时间，原始命令被取消时为已等待的时间，单位：纳秒
+     */
+    private void onPrimaryCompleted(long costNanos) {
+        lock.lock();
+        try {
+            samples[(int) (sampleCount % SAMPLE_SIZE)] = costNanos;
+            sampleCount++;
+            if (sampleCount >= MINIMUM_SAMPLES && sampleCount % RECALCULATE_INTERVAL == 0) {
+                int size = (int) Math.min(sampleCount, SAMPLE_SIZE);
+                long[] sortedSamples = Arrays.copyOf(samples, size);
+                Arrays.sort(sortedSamples);
+                hedgeDelayNanos = sortedSamples[Math.min(size - 1, size * percentile / 100)];
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 一次读命令的执行过程，包含原始命令及可能发出的对冲命令，先返回的成功结果作为最终结果，所有命令均失败时，以最后一个错误结束。
+     */
+    private class HedgedRequest {
+
+        private final RedisData command;
+
+        private final long timeout;
+
+        private final long startTime = System.nanoTime();
+
+        private final CompletableFuture<RedisData> result = new CompletableFuture<>();
+
+        /**
+         * 已发出的命令执行结果列表，最终结果确定后，未完成的命令将被取消
+         */
+        private final List<CompletableFuture<RedisData>> attempts = new ArrayList<>(2);
+
+        /**
+         * 原始命令执行结果
+         */
+        private CompletableFuture<RedisData> primaryAttempt = null;
+
+        /**
+         * 正在执行中的命令数量
+         */
+        private int pendingCount = 0;
+
+        private HedgedRequest(RedisData command, long timeout) {
+            this.command = command;
+            this.timeout = timeout;
+        }
+
+        /**
+         * 获得剩余的超时时间，如果未设置超时时间，返回 {@link Long#MAX_VALUE}。
+         *
+         * @return 剩余的超时时间，单位：毫秒
+         */
+        private long getRemainingTime() {
+            if (timeout <= 0) {
+                return Long.MAX_VALUE;
+            }
+            return timeout - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+        }
+
+        /**
+         * 在指定的 Redis 命令执行器上发出命令，如果最终结果已确定，将不再发出。
+         *
+         * @param attemptTimeout 本次命令的超时时间，单位：毫秒，{@link Long#MAX_VALUE} 或小于等于 0 时使用执行器默认的超时时间
+         * @return 是否已发出命令
+         */
+        private synchronized boolean launch(RedisCommandExecutor executor, long attemptTimeout, final boolean hedge) {
+            if (result.isDone()) {
+                return false;
+            }
+            pendingCount++;
+            CompletableFuture<RedisData> attempt = executor.executeAsync(command, attemptTimeout == Long.MAX_VALUE ? 0 : attemptTimeout);
+            attempts.add(attempt);
+            if (!hedge) {
+                primaryAttempt = attempt;
+            }
+            attempt.whenComplete(new BiConsumer<RedisData, Throwable>() {
+
+                @Override
+                public void accept(RedisData responseData, Throwable throwable) {
+                    onAttemptCompleted(responseData, throwable, hedge);
+                }
+
+            });
+            return true;
+        }
+
+        private synchronized void onAttemptCompleted(RedisData responseData, Throwable throwable, boolean hedge) {
+            pendingCount--;
+            if (!hedge && throwable == null) {
+                onPrimaryCompleted(System.nanoTime() - startTime);
+            }
+            if (result.isDone()) {
+                return;
+            }
+            if (throwable == null) {
+                result.complete(responseData);
+                if (hedge) {
+                    hedgeWonCount.incrementAndGet();
+                    if (primaryAttempt != null && !primaryAttempt.isDone()) {
+                        //原始命令即将被取消，将已等待的时间作为响应时间样本记录，避免对冲延迟偏低
+                        onPrimaryCompleted(System.nanoTime() - startTime);
+                    }
+                }
+                for (CompletableFuture<RedisData> attempt : attempts) {
+                    if (!attempt.isDone()) {
+                        attempt.cancel(false);
+                    }
+                }
+            } else if (pendingCount == 0) {
+                Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                        ? throwable.getCause() : throwable;
+                if (hedge) {
+                    LOG.error("Hedged redis command failed: `" + cause.getMessage() + "`. Host: `" + getHost() + "`.");
+                }
+                result.completeExceptionally(cause);
+            }
+        }
+    }
+}
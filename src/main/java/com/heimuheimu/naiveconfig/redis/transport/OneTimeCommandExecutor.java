@@ -0,0 +1,161 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 heimuheimu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.heimuheimu.naiveconfig.redis.transport;
+
+import com.heimuheimu.naiveconfig.redis.data.RedisData;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 一次性 Redis 命令执行器，每次执行 Redis 命令都会新建立 Socket 连接，在命令执行结束后关闭该连接。
+ *
+ * <p>使用 TLS 时每次执行命令都会进行一次 TLS 握手，共享同一个 {@link RedisTlsSocketFactory} 可恢复已缓存的 TLS 会话以降低握手开销，
+ * 频繁执行命令时建议使用 {@link RedisConnectionPool}，握手仅在连接建立时进行。</p>
+ *
+ * <p><strong>说明：</strong>{@code OneTimeCommandExecutor} 类是线程安全的，可在多个线程中使用同一个实例。</p>
+ *
+ * @author heimuheimu
+ */
+public class OneTimeCommandExecutor implements RedisCommandExecutor {
+
+    private static final Logger LOG = LoggerFactory.getLogger(OneTimeCommandExecutor.class);
+
+    /**
+     * Redis 服务主机地址，由主机名和端口组成，":"符号分割，例如：localhost:6379
+     */
+    private final String host;
+
+    /**
+     * Redis 服务主机名，例如：localhost
+     */
+    private final String hostname;
+
+    /**
+     * Redis 服务端口号
+     */
+    private final int port;
+
+    /**
+     * 连接建立超时时间，单位：毫秒
+     */
+    private final int connectTimeout;
+
+    /**
+     * Redis 操作超时时间，单位：毫秒
+     */
+    private final int timeout;
+
+    /**
+     * Redis TLS 连接工厂，为 {@code null} 时不使用 TLS
+     */
+    private final RedisTlsSocketFactory tlsSocketFactory;
+
+    /**
+     * 构造一个一次性 Redis 命令执行器。
+     *
+     * @param host Redis 服务主机地址，由主机名和端口组成，":"符号分割，例如：localhost:6379
+     * @param timeout Redis 操作超时时间，单位：毫秒，不允许小于等于 0
+     * @throws IllegalArgumentException 如果 Redis 操作超时时间小于等于 0，将会抛出此异常
+     * @throws IllegalArgumentException 如果 Redis 服务主机地址不符合规则，将会抛出此异常
+     */
+    public OneTimeCommandExecutor(String host, int timeout) throws IllegalArgumentException {
+        this(host, timeout, timeout);
+    }
+
+    /**
+     * 构造一个一次性 Redis 命令执行器，连接建立超时时间与 Redis 操作超时时间分别设置，避免 Redis 服务不可达时等待过长时间。
+     *
+     * @param host Redis 服务主机地址，由主机名和端口组成，":"符号分割，例如：localhost:6379
+     * @param connectTimeout 连接建立超时时间，单位：毫秒，不允许小于等于 0
+     * @param timeout Redis 操作超时时间，单位：毫秒，不允许小于等于 0
+     * @throws IllegalArgumentException 如果连接建立超时时间或 Redis 操作超时时间小于等于 0，将会抛出此异常
+     * @throws IllegalArgumentException 如果 Redis 服务主机地址不符合规则，将会抛出此异常
+     */
+    public OneTimeCommandExecutor(String host, int connectTimeout, int timeout) throws IllegalArgumentException {
+        this(host, connectTimeout, timeout, null);
+    }
+
+    /**
+     * 构造一个一次性 Redis 命令执行器，如果 TLS 连接工厂不为 {@code null}，每次建立连接后将完成 TLS 握手。
+     *
+     * @param host Redis 服务主机地址，由主机名和端口组成，":"符号分割，例如：localhost:6379
+     * @param connectTimeout 连接建立超时时间，单位：毫秒，不允许小于等于 0
+     * @param timeout Redis 操作超时时间，单位：毫秒，不允许小于等于 0
+     * @param tlsSocketFactory Redis TLS 连接工厂，允许为 {@code null}，为 {@code null} 时不使用 TLS
+     * @throws IllegalArgumentException 如果连接建立超时时间或 Redis 操作超时时间小于等于 0，将会抛出此异常
+     * @throws IllegalArgumentException 如果 Redis 服务主机地址不符合规则，将会抛出此异常
+     */
+    public OneTimeCommandExecutor(String host, int connectTimeout, int timeout, RedisTlsSocketFactory tlsSocketFactory)
+            throws IllegalArgumentException {
+        if (connectTimeout <= 0 || timeout <= 0) {
+            LOG.error("Create OneTimeCommandExecutor failed: `invalid timeout`. Host: `{}`. Connect timeout: `{}`. Timeout: `{}`.",
+                    host, connectTimeout, timeout);
+            throw new IllegalArgumentException("Create OneTimeCommandExecutor failed: `invalid timeout`. Host: `" + host
+                    + "`. Connect timeout: `" + connectTimeout + "`. Timeout: `" + timeout + "`.");
+        }
+        this.connectTimeout = connectTimeout;
+        this.timeout = timeout;
+        this.tlsSocketFactory = tlsSocketFactory;
+        this.host = host;
+        try {
+            String[] hostParts = host.split(":");
+            hostname = hostParts[0];
+            port = Integer.parseInt(hostParts[1]);
+        } catch (Exception e) {
+            LOG.error("Create OneTimeCommandExecutor failed: `invalid host`. Host: `{}`. Timeout: `{}`.", host, timeout);
+            throw new IllegalArgumentException("Create OneTimeCommandExecutor failed: `invalid host`. Host: `" + host
+                    + "`. Timeout: `" + timeout + "`.", e);
+        }
+    }
+
+    @Override
+    public String getHost() {
+        return host;
+    }
+
+    @Override
+    public RedisData execute(RedisData command) throws IOException {
+        RedisConnection connection = new RedisConnection(host, RedisAddressResolver.getDefault().resolve(hostname, port), connectTimeout, timeout,
+                tlsSocketFactory);
+        try {
+            return connection.execute(command);
+        } finally {
+            connection.close();
+        }
+    }
+
+    @Override
+    public CompletableFuture<RedisData> executeAsync(RedisData command, long timeout) {
+        return RedisCommandExecutors.executeInWorker(this, command, timeout);
+    }
+
+    @Override
+    public void close() {
+        //do nothing
+    }
+}
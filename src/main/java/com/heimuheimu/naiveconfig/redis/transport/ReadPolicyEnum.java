@@ -0,0 +1,49 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 heimuheimu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.heimuheimu.naiveconfig.redis.transport;
+
+/**
+ * 读命令路由策略枚举类，用于 {@link ReplicaReadCommandExecutor} 选择执行读命令的节点。
+ *
+ * @author heimuheimu
+ */
+public enum ReadPolicyEnum {
+
+    /**
+     * 仅在主节点执行读命令。
+     */
+    MASTER,
+
+    /**
+     * 优先在从节点执行读命令，多个从节点之间轮询选择，所有从节点均执行失败时，在主节点执行。
+     */
+    PREFER_REPLICA,
+
+    /**
+     * 优先在平均响应时间最小的从节点执行读命令，所有从节点均执行失败时，在主节点执行。
+     */
+    NEAREST_REPLICA
+
+}
@@ -0,0 +1,219 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 heimuheimu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.heimuheimu.naiveconfig.redis.transport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Redis 服务主机名解析器，缓存主机名对应的 IP 地址，避免每次建立连接时在调用线程中执行 DNS 查询。
+ *
+ * <p>主机名首次解析时在调用线程中同步执行，之后将直接使用缓存的 IP 地址。缓存时间超过刷新时间后，将在后台线程中重新解析，
+ * 解析完成前及解析失败时继续使用最近一次成功解析的 IP 地址。主机名对应多个 IP 地址时，每次解析将轮流返回其中一个地址。</p>
+ *
+ * <p>{@link OneTimeCommandExecutor}、{@link RedisConnectionPool} 及订阅客户端等默认共享 {@link #getDefault()} 返回的解析器。</p>
+ *
+ * <p><strong>说明：</strong>{@code RedisAddressResolver} 类是线程安全的，可在多个线程中使用同一个实例。</p>
+ *
+ * @author heimuheimu
+ */
+public class RedisAddressResolver {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RedisAddressResolver.class);
+
+    /**
+     * 默认的缓存刷新时间，单位：毫秒
+     */
+    public static final long DEFAULT_REFRESH_PERIOD = 30000;
+
+    private static final RedisAddressResolver DEFAULT = new RedisAddressResolver(DEFAULT_REFRESH_PERIOD);
+
+    /**
+     * 缓存刷新时间，IP 地址缓存时间超过该值后，将在后台线程中重新解析，单位：毫秒
+     */
+    private final long refreshPeriod;
+
+    /**
+     * 主机名解析结果 Map，Key 为主机名，Value 为该主机名的解析结果
+     */
+    private final ConcurrentHashMap<String, ResolvedAddress> resolvedAddressMap = new ConcurrentHashMap<>();
+
+    /**
+     * 后台刷新任务执行器
+     */
+    private final ExecutorService refreshExecutorService;
+
+    /**
+     * 构造一个 Redis 服务主机名解析器。
+     *
+     * @param refreshPeriod 缓存刷新时间，单位：毫秒，不允许小于等于 0
+     * @throws IllegalArgumentException 如果缓存刷新时间小于等于 0，将会抛出此异常
+     */
+    public RedisAddressResolver(long refreshPeriod) throws IllegalArgumentException {
+        if (refreshPeriod <= 0) {
+            throw new IllegalArgumentException("Create RedisAddressResolver failed: `invalid refresh period`. Refresh period: `"
+                    + refreshPeriod + "`.");
+        }
+        this.refreshPeriod = refreshPeriod;
+        this.refreshExecutorService = Executors.newSingleThreadExecutor(new ThreadFactory() {
+
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread t = new Thread(r, "NaiveConfig-RedisAddressResolver");
+                t.setDaemon(true);
+                return t;
+            }
+
+        });
+    }
+
+    /**
+     * 获得默认的 Redis 服务主机名解析器，缓存刷新时间为 {@link #DEFAULT_REFRESH_PERIOD} 毫秒。
+     *
+     * @return 默认的 Redis 服务主机名解析器
+     */
+    public static RedisAddressResolver getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * 获得主机名及端口对应的 Socket 地址，主机名对应多个 IP 地址时，轮流返回其中一个地址。
+     *
+     * <p>与 {@link InetSocketAddress#InetSocketAddress(String, int)} 一致，如果主机名首次解析失败，将返回未解析的 Socket 地址，
+     * 在建立连接时失败。</p>
+     *
+     * @param hostname 主机名，例如：localhost
+     * @param port 端口号
+     * @return Socket 地址，不会为 {@code null}
+     */
+    public InetSocketAddress resolve(String hostname, int port) {
+        ResolvedAddress resolvedAddress = resolvedAddressMap.get(hostname);
+        if (resolvedAddress == null) {
+            try {
+                resolvedAddress = new ResolvedAddress(InetAddress.getAllByName(hostname));
+            } catch (UnknownHostException e) {
+                LOG.error("Resolve redis host failed: `" + e.getMessage() + "`. Hostname: `" + hostname + "`.");
+                return InetSocketAddress.createUnresolved(hostname, port);
+            }
+            ResolvedAddress existingAddress = resolvedAddressMap.putIfAbsent(hostname, resolvedAddress);
+            if (existingAddress != null) {
+                resolvedAddress = existingAddress;
+            }
+        } else if (System.currentTimeMillis() - resolvedAddress.resolvedTime >= refreshPeriod
+                && resolvedAddress.refreshing.compareAndSet(false, true)) {
+            refresh(hostname, resolvedAddress);
+        }
+        return new InetSocketAddress(resolvedAddress.next(), port);
+    }
+
+    @Override
+    public String toString() {
+        return "RedisAddressResolver{" +
+                "refreshPeriod=" + refreshPeriod +
+                ", resolvedAddressMap=" + resolvedAddressMap +
+                '}';
+    }
+
+    private void refresh(final String hostname, final ResolvedAddress resolvedAddress) {
+        refreshExecutorService.execute(new Runnable() {
+
+            @Override
+            public void run() {
+                try {
+                    InetAddress[] addresses = InetAddress.getAllByName(hostname);
+                    if (!Arrays.equals(addresses, resolvedAddress.addresses)) {
+                        LOG.info("Redis host addresses have been changed. Hostname: `{}`. Old addresses: `{}`. New addresses: `{}`.",
+                                hostname, Arrays.toString(resolvedAddress.addresses), Arrays.toString(addresses));
+                    }
+                    resolvedAddress.update(addresses);
+                } catch (Exception e) {
+                    //刷新失败时保留最近一次成功解析的 IP 地址，下次使用时再次尝试刷新
+                    resolvedAddress.resolvedTime = System.currentTimeMillis();
+                    LOG.error("Refresh redis host addresses failed: `" + e.getMessage() + "`. Hostname: `" + hostname
+                            + "`. Last addresses: `" + Arrays.toString(resolvedAddress.addresses) + "`.");
+                } finally {
+                    resolvedAddress.refreshing.set(false);
+                }
+            }
+
+        });
+    }
+
+    /**
+     * 主机名的解析结果。
+     */
+    private static class ResolvedAddress {
+
+        /**
+         * 最近一次成功解析的 IP 地址列表
+         */
+        private volatile InetAddress[] addresses;
+
+        /**
+         * 最近一次解析的时间戳
+         */
+        private volatile long resolvedTime;
+
+        /**
+         * 是否正在后台刷新
+         */
+        private final AtomicBoolean refreshing = new AtomicBoolean(false);
+
+        /**
+         * 轮流选择 IP 地址使用的计数器
+         */
+        private final AtomicInteger index = new AtomicInteger();
+
+        private ResolvedAddress(InetAddress[] addresses) {
+            update(addresses);
+        }
+
+        private void update(InetAddress[] addresses) {
+            this.addresses = addresses;
+            this.resolvedTime = System.currentTimeMillis();
+        }
+
+        private InetAddress next() {
+            InetAddress[] currentAddresses = addresses;
+            return currentAddresses[(index.getAndIncrement() & Integer.MAX_VALUE) % currentAddresses.length];
+        }
+
+        @Override
+        public String toString() {
+            return Arrays.toString(addresses);
+        }
+    }
+}
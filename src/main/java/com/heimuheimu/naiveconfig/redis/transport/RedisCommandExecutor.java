@@ -0,0 +1,75 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 heimuheimu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.heimuheimu.naiveconfig.redis.transport;
+
+import com.heimuheimu.naiveconfig.redis.data.RedisData;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Redis 命令执行器，负责将 RESP 格式的命令发送至 Redis 服务，并返回对应的响应数据。
+ *
+ * <p><strong>说明：</strong> {@code RedisCommandExecutor} 的实现类必须是线程安全的。</p>
+ *
+ * @author heimuheimu
+ */
+public interface RedisCommandExecutor extends Closeable {
+
+    /**
+     * 获得 Redis 服务主机地址，例如：localhost:6379。
+     *
+     * @return Redis 服务主机地址
+     */
+    String getHost();
+
+    /**
+     * 执行 Redis 命令，并返回 Redis 服务的响应数据。
+     *
+     * @param command Redis 命令，不允许为 {@code null}
+     * @return Redis 服务的响应数据，不会返回 {@code null}
+     * @throws IOException 如果命令执行过程中发生 IO 错误，将会抛出此异常
+     */
+    RedisData execute(RedisData command) throws IOException;
+
+    /**
+     * 异步执行 Redis 命令，返回 Redis 服务的响应结果。
+     *
+     * <p>非阻塞实现将在 IO 线程中完成响应结果，不会占用调用线程；阻塞实现可通过
+     * {@link RedisCommandExecutors#executeInWorker(RedisCommandExecutor, RedisData, long)} 在工作线程中执行命令。</p>
+     *
+     * @param command Redis 命令，不允许为 {@code null}
+     * @param timeout 超时时间，单位：毫秒，如果小于等于 0，则使用命令执行器默认的超时时间
+     * @return Redis 服务的响应结果，如果超时，将以 {@link java.util.concurrent.TimeoutException} 异常完成
+     */
+    CompletableFuture<RedisData> executeAsync(RedisData command, long timeout);
+
+    /**
+     * 关闭 Redis 命令执行器，释放占用的连接等资源。
+     */
+    @Override
+    void close();
+}
@@ -0,0 +1,185 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 heimuheimu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.heimuheimu.naiveconfig.redis.transport;
+
+import com.heimuheimu.naiveconfig.redis.data.RedisData;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+/**
+ * {@link RedisCommandExecutor} 工具类，提供异步执行及超时控制等公共方法。
+ *
+ * @author heimuheimu
+ */
+public final class RedisCommandExecutors {
+
+    /**
+     * 异步操作超时检查使用的定时任务执行器
+     */
+    private static final ScheduledExecutorService TIMEOUT_SCHEDULER = Executors.newSingleThreadScheduledExecutor(
+            new NamedDaemonThreadFactory("NaiveConfig-Redis-Timeout"));
+
+    /**
+     * 阻塞式命令执行器异步执行命令时使用的最大工作线程数
+     */
+    public static final int MAX_WORKER_THREADS = 32;
+
+    /**
+     * 阻塞式命令执行器异步执行命令时，等待工作线程的最大命令数量
+     */
+    public static final int MAX_WORKER_QUEUE_SIZE = 1024;
+
+    /**
+     * 阻塞式命令执行器异步执行命令时使用的工作线程池，线程数及等待队列均有上限，Redis 服务响应缓慢时不会无限制地创建线程，
+     * 超出上限的命令将立即以 {@link RejectedExecutionException} 异常失败
+     */
+    private static final ThreadPoolExecutor BLOCKING_WORKER_EXECUTOR = createBlockingWorkerExecutor();
+
+    private RedisCommandExecutors() {
+        //private constructor
+    }
+
+    /**
+     * 在工作线程中调用阻塞式 {@link RedisCommandExecutor#execute(RedisData)} 方法，返回命令的响应结果，
+     * 供无法以非阻塞方式执行命令的实现类使用。
+     *
+     * <p>每个命令在执行期间将占用一个工作线程，超时仅完成异步结果，不会中断正在进行的 Socket IO。工作线程数最多为 {@link #MAX_WORKER_THREADS}，
+     * 等待执行的命令最多为 {@link #MAX_WORKER_QUEUE_SIZE} 个，超出上限时异步结果将以 {@link RejectedExecutionException} 异常完成，
+     * 已超时的命令在开始执行前将被跳过。</p>
+     *
+     * @param executor 阻塞式 Redis 命令执行器
+     * @param command Redis 命令
+     * @param timeout 超时时间，单位：毫秒，如果小于等于 0，则不进行超时控制
+     * @return 命令的响应结果
+     */
+    public static CompletableFuture<RedisData> executeInWorker(final RedisCommandExecutor executor, final RedisData command, long timeout) {
+        final CompletableFuture<RedisData> future = new CompletableFuture<>();
+        try {
+            BLOCKING_WORKER_EXECUTOR.execute(new Runnable() {
+
+                @Override
+                public void run() {
+                    if (future.isDone()) {
+                        //等待工作线程期间已超时，不再执行命令
+                        return;
+                    }
+                    try {
+                        future.complete(executor.execute(command));
+                    } catch (Exception e) {
+                        future.completeExceptionally(new CompletionException(e));
+                    }
+                }
+
+            });
+        } catch (RejectedExecutionException e) {
+            RejectedExecutionException exception = new RejectedExecutionException("Execute redis command rejected: `too many pending commands`. Active workers: `"
+                    + BLOCKING_WORKER_EXECUTOR.getActiveCount() + "`. Queue size: `" + BLOCKING_WORKER_EXECUTOR.getQueue().size()
+                    + "`. Host: `" + executor.getHost() + "`.");
+            exception.initCause(e);
+            future.completeExceptionally(new CompletionException(exception));
+            return future;
+        }
+        return withTimeout(future, timeout, "Execute redis command timeout: `" + timeout + "ms`. Host: `" + executor.getHost() + "`.");
+    }
+
+    /**
+     * 为异步操作结果设置超时时间，如果在超时时间内未完成，该结果将以 {@link TimeoutException} 异常完成。
+     *
+     * @param future 异步操作结果
+     * @param timeout 超时时间，单位：毫秒，如果小于等于 0，则不进行超时控制
+     * @param message 超时异常信息
+     * @param <T> 异步操作结果类型
+     * @return 传入的异步操作结果
+     */
+    public static <T> CompletableFuture<T> withTimeout(final CompletableFuture<T> future, long timeout, final String message) {
+        if (timeout > 0 && !future.isDone()) {
+            final ScheduledFuture<?> timeoutFuture = TIMEOUT_SCHEDULER.schedule(new Runnable() {
+
+                @Override
+                public void run() {
+                    future.completeExceptionally(new TimeoutException(message));
+                }
+
+            }, timeout, TimeUnit.MILLISECONDS);
+            future.whenComplete(new BiConsumer<T, Throwable>() {
+
+                @Override
+                public void accept(T result, Throwable throwable) {
+                    timeoutFuture.cancel(false);
+                }
+
+            });
+        }
+        return future;
+    }
+
+    /**
+     * 在指定延迟时间后执行任务。
+     *
+     * @param task 需要执行的任务
+     * @param delay 延迟时间，单位：毫秒
+     * @return 任务执行结果
+     */
+    public static ScheduledFuture<?> schedule(Runnable task, long delay) {
+        return TIMEOUT_SCHEDULER.schedule(task, delay, TimeUnit.MILLISECONDS);
+    }
+
+    private static ThreadPoolExecutor createBlockingWorkerExecutor() {
+        ThreadPoolExecutor workerExecutor = new ThreadPoolExecutor(MAX_WORKER_THREADS, MAX_WORKER_THREADS, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<Runnable>(MAX_WORKER_QUEUE_SIZE), new NamedDaemonThreadFactory("NaiveConfig-Redis-Async-Worker"));
+        workerExecutor.allowCoreThreadTimeOut(true);
+        return workerExecutor;
+    }
+
+    private static class NamedDaemonThreadFactory implements ThreadFactory {
+
+        private final String namePrefix;
+
+        private final AtomicInteger threadNumber = new AtomicInteger();
+
+        private NamedDaemonThreadFactory(String namePrefix) {
+            this.namePrefix = namePrefix;
+        }
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread t = new Thread(r, namePrefix + "-" + threadNumber.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        }
+    }
+}
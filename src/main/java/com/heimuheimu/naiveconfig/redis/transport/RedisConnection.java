@@ -0,0 +1,261 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 heimuheimu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.heimuheimu.naiveconfig.redis.transport;
+
+import com.heimuheimu.naiveconfig.redis.RedisDataReader;
+import com.heimuheimu.naiveconfig.redis.data.RedisCommand;
+import com.heimuheimu.naiveconfig.redis.data.RedisData;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+
+/**
+ * 与 Redis 服务建立的长连接，可重复执行多个 Redis 命令。
+ *
+ * <p>命令执行过程中如果发生 IO 错误，该连接将被关闭，无法再继续使用，可通过 {@link #isAvailable()} 方法判断连接是否可用。</p>
+ *
+ * <p><strong>说明：</strong>{@code RedisConnection} 类是非线程安全的，同一时刻仅允许一个线程使用该连接，
+ * 通常由 {@link RedisConnectionPool} 进行管理。</p>
+ *
+ * @author heimuheimu
+ */
+public class RedisConnection implements Closeable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RedisConnection.class);
+
+    /**
+     * PING 命令
+     */
+    private static final RedisCommand PING_COMMAND = RedisCommand.ping();
+
+    /**
+     * Redis 服务主机地址，由主机名和端口组成，":"符号分割，例如：localhost:6379
+     */
+    private final String host;
+
+    /**
+     * 与 Redis 服务建立的 Socket 连接
+     */
+    private final Socket socket;
+
+    /**
+     * Socket 输出流
+     */
+    private final OutputStream outputStream;
+
+    /**
+     * Redis 数据读取器
+     */
+    private final RedisDataReader reader;
+
+    /**
+     * 连接创建时间戳
+     */
+    private final long createdTime;
+
+    /**
+     * 最后一次使用时间戳
+     */
+    private volatile long lastUsedTime;
+
+    /**
+     * 连接是否已关闭
+     */
+    private volatile boolean closed = false;
+
+    /**
+     * 构造一个与 Redis 服务建立的长连接。
+     *
+     * @param host Redis 服务主机地址，由主机名和端口组成，":"符号分割，例如：localhost:6379
+     * @param address Redis 服务地址
+     * @param timeout Redis 操作超时时间，单位：毫秒，同时作为连接建立超时时间使用
+     * @throws IOException 如果连接建立过程中发生错误，将会抛出此异常
+     */
+    public RedisConnection(String host, InetSocketAddress address, int timeout) throws IOException {
+        this(host, address, timeout, timeout);
+    }
+
+    /**
+     * 构造一个与 Redis 服务建立的长连接。
+     *
+     * @param host Redis 服务主机地址，由主机名和端口组成，":"符号分割，例如：localhost:6379
+     * @param address Redis 服务地址
+     * @param connectTimeout 连接建立超时时间，单位：毫秒
+     * @param readTimeout Redis 操作超时时间（SO_TIMEOUT），单位：毫秒
+     * @throws IOException 如果连接建立过程中发生错误，将会抛出此异常
+     */
+    public RedisConnection(String host, InetSocketAddress address, int connectTimeout, int readTimeout) throws IOException {
+        this(host, address, connectTimeout, readTimeout, null);
+    }
+
+    /**
+     * 构造一个与 Redis 服务建立的长连接，如果 TLS 连接工厂不为 {@code null}，将在 TCP 连接建立后完成 TLS 握手。
+     *
+     * @param host Redis 服务主机地址，由主机名和端口组成，":"符号分割，例如：localhost:6379
+     * @param address Redis 服务地址
+     * @param connectTimeout 连接建立超时时间，单位：毫秒
+     * @param readTimeout Redis 操作超时时间（SO_TIMEOUT），单位：毫秒，同时作为 TLS 握手的读取超时时间
+     * @param tlsSocketFactory Redis TLS 连接工厂，允许为 {@code null}，为 {@code null} 时不使用 TLS
+     * @throws IOException 如果连接建立或 TLS 握手过程中发生错误，将会抛出此异常
+     */
+    public RedisConnection(String host, InetSocketAddress address, int connectTimeout, int readTimeout,
+                           RedisTlsSocketFactory tlsSocketFactory) throws IOException {
+        this.host = host;
+        Socket socket = new Socket();
+        try {
+            socket.setSoTimeout(readTimeout);
+            socket.setTcpNoDelay(true);
+            socket.setKeepAlive(true);
+            socket.connect(address, connectTimeout);
+            if (tlsSocketFactory != null) {
+                socket = tlsSocketFactory.createSocket(socket, address.getHostString(), address.getPort());
+            }
+            this.outputStream = socket.getOutputStream();
+            this.reader = new RedisDataReader(socket.getInputStream());
+        } catch (IOException e) {
+            try {
+                socket.close();
+            } catch (Exception ignored) {
+                //ignore exception
+            }
+            throw e;
+        }
+        this.socket = socket;
+        this.createdTime = System.currentTimeMillis();
+        this.lastUsedTime = createdTime;
+    }
+
+    /**
+     * 获得 Redis 服务主机地址，由主机名和端口组成，":"符号分割，例如：localhost:6379。
+     *
+     * @return Redis 服务主机地址
+     */
+    public String getHost() {
+        return host;
+    }
+
+    /**
+     * 执行 Redis 命令，并返回 Redis 服务的响应数据。如果执行过程中发生 IO 错误，当前连接将会被关闭。
+     *
+     * @param command Redis 命令
+     * @return Redis 服务的响应数据
+     * @throws IOException 如果执行过程中发生 IO 错误，或连接已关闭，将会抛出此异常
+     */
+    public RedisData execute(RedisData command) throws IOException {
+        if (closed) {
+            throw new IOException("RedisConnection has been closed. Host: `" + host + "`.");
+        }
+        try {
+            outputStream.write(command.getRespByteArray());
+            outputStream.flush();
+            RedisData responseData = reader.read();
+            if (responseData == null) {
+                throw new IOException("End of the input stream has been reached. Host: `" + host + "`.");
+            }
+            lastUsedTime = System.currentTimeMillis();
+            return responseData;
+        } catch (IOException e) {
+            // 读写错误后，连接中可能残留未读取的响应数据，无法继续使用
+            close();
+            throw e;
+        }
+    }
+
+    /**
+     * 发送 PING 命令检查当前连接是否可用，如果不可用，当前连接将会被关闭。
+     *
+     * @return 当前连接是否可用
+     */
+    public boolean ping() {
+        try {
+            RedisData responseData = execute(PING_COMMAND);
+            if (responseData.isSimpleString() && "PONG".equalsIgnoreCase(responseData.getText())) {
+                return true;
+            } else {
+                LOG.error("Unrecognized redis response data for `PING` command. Expect value: `PONG`. Actual: `{}`. Host: `{}`.",
+                        responseData, host);
+                close();
+                return false;
+            }
+        } catch (Exception e) {
+            LOG.error("Ping RedisConnection failed. Host: `" + host + "`.", e);
+            return false;
+        }
+    }
+
+    /**
+     * 判断当前连接是否可用。
+     *
+     * @return 当前连接是否可用
+     */
+    public boolean isAvailable() {
+        return !closed;
+    }
+
+    /**
+     * 获得连接创建时间戳。
+     *
+     * @return 连接创建时间戳
+     */
+    public long getCreatedTime() {
+        return createdTime;
+    }
+
+    /**
+     * 获得最后一次使用时间戳。
+     *
+     * @return 最后一次使用时间戳
+     */
+    public long getLastUsedTime() {
+        return lastUsedTime;
+    }
+
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            try {
+                socket.close();
+            } catch (Exception e) {
+                LOG.error("Close RedisConnection failed. Host: `" + host + "`.", e);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "RedisConnection{" +
+                "host='" + host + '\'' +
+                ", createdTime=" + createdTime +
+                ", lastUsedTime=" + lastUsedTime +
+                ", closed=" + closed +
+                '}';
+    }
+}
@@ -0,0 +1,498 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 heimuheimu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.heimuheimu.naiveconfig.redis.transport;
+
+import com.heimuheimu.naiveconfig.constant.BeanStatusEnum;
+import com.heimuheimu.naiveconfig.redis.data.RedisData;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Redis 连接池，维护一组可重复使用的 {@link RedisConnection} 长连接，避免每次执行 Redis 命令时都新建立 Socket 连接。
+ *
+ * <p>连接池特性：</p>
+ * <ul>
+ *     <li>已建立的连接总数（包含空闲连接及正在使用的连接）不超过 {@link RedisConnectionPoolConfig#getMaxTotal()}，连接不足时最多等待
+ *     {@link RedisConnectionPoolConfig#getMaxWait()} 毫秒</li>
+ *     <li>空闲时间超过 {@link RedisConnectionPoolConfig#getValidationIdleTime()} 的连接，在使用前会执行 PING 命令检查是否可用</li>
+ *     <li>后台线程定期关闭空闲时间超过 {@link RedisConnectionPoolConfig#getMaxIdleTime()} 的连接，并维持 {@link RedisConnectionPoolConfig#getMinIdle()} 个空闲连接</li>
+ *     <li>设置 {@link RedisConnectionPoolConfig#getTlsSocketFactory()} 后使用 TLS 连接，TLS 握手仅在连接建立时进行</li>
+ * </ul>
+ *
+ * <p>同一个连接池可由多个 {@link com.heimuheimu.naiveconfig.redis.OneTimeRedisClient} 共享使用，连接池不再使用时，应调用 {@link #close()} 方法释放资源。</p>
+ *
+ * <p><strong>说明：</strong>{@code RedisConnectionPool} 类是线程安全的，可在多个线程中使用同一个实例。</p>
+ *
+ * @author heimuheimu
+ */
+public class RedisConnectionPool implements RedisCommandExecutor {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RedisConnectionPool.class);
+
+    /**
+     * Redis 服务主机地址，由主机名和端口组成，":"符号分割，例如：localhost:6379
+     */
+    private final String host;
+
+    /**
+     * Redis 服务主机名，例如：localhost
+     */
+    private final String hostname;
+
+    /**
+     * Redis 服务端口号
+     */
+    private final int port;
+
+    /**
+     * 连接池最小空闲连接数
+     */
+    private final int minIdle;
+
+    /**
+     * 连接池最大连接数
+     */
+    private final int maxTotal;
+
+    /**
+     * 获取连接的最大等待时间，单位：毫秒
+     */
+    private final long maxWait;
+
+    /**
+     * 连接最大空闲时间，单位：毫秒
+     */
+    private final long maxIdleTime;
+
+    /**
+     * 连接空闲时间超过该值时，在取出使用前会先执行 PING 命令检查连接是否可用，单位：毫秒
+     */
+    private final long validationIdleTime;
+
+    /**
+     * 连接建立超时时间，单位：毫秒
+     */
+    private final int connectTimeout;
+
+    /**
+     * Redis 操作超时时间，单位：毫秒
+     */
+    private final int timeout;
+
+    /**
+     * Redis TLS 连接工厂，为 {@code null} 时不使用 TLS
+     */
+    private final RedisTlsSocketFactory tlsSocketFactory;
+
+    /**
+     * 空闲连接队列，最近归还的连接位于队列头部
+     */
+    private final LinkedBlockingDeque<RedisConnection> idleConnections = new LinkedBlockingDeque<>();
+
+    /**
+     * 连接使用许可，许可数量为连接池最大连接数
+     */
+    private final Semaphore permits;
+
+    /**
+     * 当前已建立的连接数，包含空闲连接、正在使用的连接及正在建立的连接，不超过连接池最大连接数
+     */
+    private final AtomicInteger openCount = new AtomicInteger();
+
+    /**
+     * 已创建的连接总数
+     */
+    private final AtomicLong createdCount = new AtomicLong();
+
+    /**
+     * 已关闭的连接总数
+     */
+    private final AtomicLong destroyedCount = new AtomicLong();
+
+    /**
+     * 空闲连接检查任务执行器
+     */
+    private final ScheduledExecutorService evictionExecutorService;
+
+    /**
+     * 当前实例所处状态
+     */
+    private volatile BeanStatusEnum state = BeanStatusEnum.NORMAL;
+
+    /**
+     * 构造一个 Redis 连接池，使用默认的连接池配置。
+     *
+     * @param host Redis 服务主机地址，由主机名和端口组成，":"符号分割，例如：localhost:6379
+     * @throws IllegalArgumentException 如果 Redis 服务主机地址不符合规则，将会抛出此异常
+     */
+    public RedisConnectionPool(String host) throws IllegalArgumentException {
+        this(host, new RedisConnectionPoolConfig());
+    }
+
+    /**
+     * 构造一个 Redis 连接池。
+     *
+     * @param host Redis 服务主机地址，由主机名和端口组成，":"符号分割，例如：localhost:6379
+     * @param config 连接池配置信息，不允许为 {@code null}
+     * @throws NullPointerException 如果连接池配置信息为 {@code null}，将会抛出此异常
+     * @throws IllegalArgumentException 如果 Redis 服务主机地址不符合规则，将会抛出此异常
+     * @throws IllegalArgumentException 如果连接池配置信息不合法，将会抛出此异常
+     */
+    public RedisConnectionPool(String host, RedisConnectionPoolConfig config) throws NullPointerException, IllegalArgumentException {
+        if (config == null) {
+            throw new NullPointerException("Create RedisConnectionPool failed: `config could not be null`. Host: `" + host + "`.");
+        }
+        if (config.getMaxTotal() <= 0 || config.getMinIdle() < 0 || config.getMinIdle() > config.getMaxTotal()
+                || config.getConnectTimeout() <= 0 || config.getTimeout() <= 0 || config.getMaxWait() < 0 || config.getEvictionPeriod() <= 0) {
+            LOG.error("Create RedisConnectionPool failed: `invalid config`. Host: `{}`. Config: `{}`.", host, config);
+            throw new IllegalArgumentException("Create RedisConnectionPool failed: `invalid config`. Host: `" + host
+                    + "`. Config: `" + config + "`.");
+        }
+        this.host = host;
+        try {
+            String[] hostParts = host.split(":");
+            hostname = hostParts[0];
+            port = Integer.parseInt(hostParts[1]);
+        } catch (Exception e) {
+            LOG.error("Create RedisConnectionPool failed: `invalid host`. Host: `{}`. Config: `{}`.", host, config);
+            throw new IllegalArgumentException("Create RedisConnectionPool failed: `invalid host`. Host: `" + host
+                    + "`. Config: `" + config + "`.", e);
+        }
+        this.minIdle = config.getMinIdle();
+        this.maxTotal = config.getMaxTotal();
+        this.maxWait = config.getMaxWait();
+        this.maxIdleTime = config.getMaxIdleTime();
+        this.validationIdleTime = config.getValidationIdleTime();
+        this.connectTimeout = config.getConnectTimeout();
+        this.timeout = config.getTimeout();
+        this.tlsSocketFactory = config.getTlsSocketFactory();
+        this.permits = new Semaphore(maxTotal, true);
+        ensureMinIdle();
+        this.evictionExecutorService = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread t = new Thread(r, "NaiveConfig-RedisConnectionPool-Evictor");
+                t.setDaemon(true);
+                return t;
+            }
+
+        });
+        this.evictionExecutorService.scheduleWithFixedDelay(new Runnable() {
+
+            @Override
+            public void run() {
+                try {
+                    evict();
+                    ensureMinIdle();
+                } catch (Exception e) {
+                    LOG.error("Evict idle RedisConnection failed. Unexpected error. Host: `" + host + "`.", e);
+                }
+            }
+
+        }, config.getEvictionPeriod(), config.getEvictionPeriod(), TimeUnit.MILLISECONDS);
+        LOG.info("RedisConnectionPool has been created. Host: `{}`. Config: `{}`.", host, config);
+    }
+
+    @Override
+    public String getHost() {
+        return host;
+    }
+
+    @Override
+    public RedisData execute(RedisData command) throws IOException {
+        RedisConnection connection = borrow();
+        try {
+            return connection.execute(command);
+        } finally {
+            release(connection);
+        }
+    }
+
+    @Override
+    public CompletableFuture<RedisData> executeAsync(RedisData command, long timeout) {
+        return RedisCommandExecutors.executeInWorker(this, command, timeout);
+    }
+
+    /**
+     * 在同一个连接上依次执行多个 Redis 命令，并按顺序返回对应的响应数据，用于 WAIT 等依赖当前连接上已执行命令的场景。
+     *
+     * @param commands Redis 命令列表，不允许为 {@code null}
+     * @return Redis 服务的响应数据列表，与命令列表顺序一致
+     * @throws IOException 如果命令执行过程中发生 IO 错误，将会抛出此异常
+     */
+    List<RedisData> executeOnSameConnection(RedisData... commands) throws IOException {
+        RedisConnection connection = borrow();
+        try {
+            List<RedisData> responseDataList = new ArrayList<>(commands.length);
+            for (RedisData command : commands) {
+                responseDataList.add(connection.execute(command));
+            }
+            return responseDataList;
+        } finally {
+            release(connection);
+        }
+    }
+
+    /**
+     * 获得当前空闲连接数。
+     *
+     * @return 当前空闲连接数
+     */
+    public int getIdleCount() {
+        return idleConnections.size();
+    }
+
+    /**
+     * 获得当前正在使用的连接数。
+     *
+     * @return 当前正在使用的连接数
+     */
+    public int getActiveCount() {
+        return maxTotal - permits.availablePermits();
+    }
+
+    /**
+     * 获得当前已建立的连接数，包含空闲连接及正在使用的连接。
+     *
+     * @return 当前已建立的连接数
+     */
+    public int getOpenCount() {
+        return openCount.get();
+    }
+
+    /**
+     * 获得连接池已创建的连接总数。
+     *
+     * @return 已创建的连接总数
+     */
+    public long getCreatedCount() {
+        return createdCount.get();
+    }
+
+    /**
+     * 获得连接池已关闭的连接总数。
+     *
+     * @return 已关闭的连接总数
+     */
+    public long getDestroyedCount() {
+        return destroyedCount.get();
+    }
+
+    /**
+     * 关闭连接池，并关闭所有空闲连接，正在使用中的连接将在归还时关闭。
+     */
+    @Override
+    public void close() {
+        if (state != BeanStatusEnum.CLOSED) {
+            state = BeanStatusEnum.CLOSED;
+            evictionExecutorService.shutdownNow();
+            RedisConnection connection;
+            while ((connection = idleConnections.pollFirst()) != null) {
+                destroy(connection);
+            }
+            LOG.info("RedisConnectionPool has been closed. Host: `{}`. Created count: `{}`. Destroyed count: `{}`.",
+                    host, createdCount.get(), destroyedCount.get());
+        }
+    }
+
+    private RedisConnection borrow() throws IOException {
+        if (state == BeanStatusEnum.CLOSED) {
+            throw new IOException("Borrow RedisConnection failed: `pool has been closed`. Host: `" + host + "`.");
+        }
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(maxWait, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Borrow RedisConnection failed: `interrupted`. Host: `" + host + "`.");
+        }
+        if (!acquired) {
+            throw new IOException("Borrow RedisConnection failed: `wait timeout`. Host: `" + host + "`. Max wait: `"
+                    + maxWait + "ms`. Max total: `" + maxTotal + "`.");
+        }
+        try {
+            long deadline = System.currentTimeMillis() + maxWait;
+            while (true) {
+                RedisConnection connection;
+                while ((connection = idleConnections.pollFirst()) != null) {
+                    if (validate(connection)) {
+                        return connection;
+                    } else {
+                        destroy(connection);
+                    }
+                }
+                if (tryReserve()) {
+                    return create();
+                }
+                //连接总数已达上限，但仍有可用许可，说明有空闲连接正在建立中，等待其放入空闲连接队列
+                long remainingTime = deadline - System.currentTimeMillis();
+                try {
+                    connection = remainingTime > 0 ? idleConnections.pollFirst(remainingTime, TimeUnit.MILLISECONDS) : null;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Borrow RedisConnection failed: `interrupted`. Host: `" + host + "`.");
+                }
+                if (connection == null) {
+                    throw new IOException("Borrow RedisConnection failed: `wait timeout`. Host: `" + host + "`. Max wait: `"
+                            + maxWait + "ms`. Max total: `" + maxTotal + "`. Open count: `" + openCount.get() + "`.");
+                }
+                idleConnections.offerFirst(connection);
+            }
+        } catch (IOException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private void release(RedisConnection connection) {
+        try {
+            if (state != BeanStatusEnum.CLOSED && connection.isAvailable()) {
+                idleConnections.offerFirst(connection);
+                if (state == BeanStatusEnum.CLOSED && idleConnections.remove(connection)) {
+                    destroy(connection);
+                }
+            } else {
+                destroy(connection);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    private boolean validate(RedisConnection connection) {
+        if (!connection.isAvailable()) {
+            return false;
+        }
+        if (validationIdleTime >= 0 && (System.currentTimeMillis() - connection.getLastUsedTime()) > validationIdleTime) {
+            return connection.ping();
+        }
+        return true;
+    }
+
+    /**
+     * 预留一个连接数，已建立的连接数达到连接池最大连接数时，将返回 {@code false}。
+     *
+     * @return 是否预留成功
+     */
+    private boolean tryReserve() {
+        while (true) {
+            int count = openCount.get();
+            if (count >= maxTotal) {
+                return false;
+            }
+            if (openCount.compareAndSet(count, count + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 创建一个新的连接，调用前必须已通过 {@link #tryReserve()} 预留连接数，创建失败时将释放预留的连接数。
+     */
+    private RedisConnection create() throws IOException {
+        RedisConnection connection;
+        try {
+            connection = new RedisConnection(host, RedisAddressResolver.getDefault().resolve(hostname, port), connectTimeout, timeout,
+                    tlsSocketFactory);
+        } catch (IOException | RuntimeException e) {
+            openCount.decrementAndGet();
+            throw e;
+        }
+        createdCount.incrementAndGet();
+        LOG.debug("RedisConnection has been created. Host: `{}`.", host);
+        return connection;
+    }
+
+    private void destroy(RedisConnection connection) {
+        connection.close();
+        openCount.decrementAndGet();
+        destroyedCount.incrementAndGet();
+        LOG.debug("RedisConnection has been destroyed. Connection: `{}`.", connection);
+    }
+
+    /**
+     * 关闭空闲时间超过最大空闲时间的连接，保留的空闲连接数不少于最小空闲连接数。
+     */
+    private void evict() {
+        long now = System.currentTimeMillis();
+        while (idleConnections.size() > minIdle) {
+            RedisConnection connection = idleConnections.pollLast();
+            if (connection == null) {
+                break;
+            }
+            if (!connection.isAvailable() || (now - connection.getLastUsedTime()) > maxIdleTime) {
+                destroy(connection);
+            } else {
+                // 队列尾部为最久未使用的连接，如果该连接未超过最大空闲时间，无需继续检查
+                idleConnections.offerLast(connection);
+                break;
+            }
+        }
+    }
+
+    /**
+     * 如果空闲连接数小于最小空闲连接数，则创建新的连接放入空闲连接队列中，已建立的连接数不会超过连接池最大连接数。
+     */
+    private void ensureMinIdle() {
+        while (state != BeanStatusEnum.CLOSED && idleConnections.size() < minIdle && tryReserve()) {
+            try {
+                idleConnections.offerLast(create());
+            } catch (Exception e) {
+                LOG.error("Create idle RedisConnection failed. Host: `" + host + "`.", e);
+                break;
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "RedisConnectionPool{" +
+                "host='" + host + '\'' +
+                ", minIdle=" + minIdle +
+                ", maxTotal=" + maxTotal +
+                ", idleCount=" + idleConnections.size() +
+                ", activeCount=" + getActiveCount() +
+                ", openCount=" + openCount +
+                ", createdCount=" + createdCount +
+                ", destroyedCount=" + destroyedCount +
+                ", state=" + state +
+                '}';
+    }
+}
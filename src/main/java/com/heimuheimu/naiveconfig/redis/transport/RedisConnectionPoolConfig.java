@@ -0,0 +1,168 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 heimuheimu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.heimuheimu.naiveconfig.redis.transport;
+
+/**
+ * {@link RedisConnectionPool} 配置信息，所有配置项均有默认值，可通过 Spring 属性注入的方式进行修改。
+ *
+ * <p><strong>说明：</strong>{@code RedisConnectionPoolConfig} 类是非线程安全的，应在连接池创建前完成设置。</p>
+ *
+ * @author heimuheimu
+ */
+public class RedisConnectionPoolConfig {
+
+    /**
+     * 连接池最小空闲连接数，默认为 1
+     */
+    private int minIdle = 1;
+
+    /**
+     * 连接池最大连接数，包含空闲连接和正在使用的连接，默认为 8
+     */
+    private int maxTotal = 8;
+
+    /**
+     * 获取连接的最大等待时间，单位：毫秒，默认为 5000 毫秒
+     */
+    private long maxWait = 5000;
+
+    /**
+     * 连接最大空闲时间，超过该时间且空闲连接数大于最小空闲连接数时，该连接将被关闭，单位：毫秒，默认为 60000 毫秒
+     */
+    private long maxIdleTime = 60000;
+
+    /**
+     * 空闲连接检查执行周期，单位：毫秒，默认为 30000 毫秒
+     */
+    private long evictionPeriod = 30000;
+
+    /**
+     * 连接空闲时间超过该值时，在取出使用前会先执行 PING 命令检查连接是否可用，单位：毫秒，默认为 10000 毫秒，
+     * 如果该值小于 0，则不进行检查
+     */
+    private long validationIdleTime = 10000;
+
+    /**
+     * 连接建立超时时间，单位：毫秒，默认为 3000 毫秒
+     */
+    private int connectTimeout = 3000;
+
+    /**
+     * Redis 操作超时时间，单位：毫秒，默认为 30000 毫秒
+     */
+    private int timeout = 30000;
+
+    /**
+     * Redis TLS 连接工厂，为 {@code null} 时不使用 TLS，默认为 {@code null}
+     */
+    private RedisTlsSocketFactory tlsSocketFactory = null;
+
+    public int getMinIdle() {
+        return minIdle;
+    }
+
+    public void setMinIdle(int minIdle) {
+        this.minIdle = minIdle;
+    }
+
+    public int getMaxTotal() {
+        return maxTotal;
+    }
+
+    public void setMaxTotal(int maxTotal) {
+        this.maxTotal = maxTotal;
+    }
+
+    public long getMaxWait() {
+        return maxWait;
+    }
+
+    public void setMaxWait(long maxWait) {
+        this.maxWait = maxWait;
+    }
+
+    public long getMaxIdleTime() {
+        return maxIdleTime;
+    }
+
+    public void setMaxIdleTime(long maxIdleTime) {
+        this.maxIdleTime = maxIdleTime;
+    }
+
+    public long getEvictionPeriod() {
+        return evictionPeriod;
+    }
+
+    public void setEvictionPeriod(long evictionPeriod) {
+        this.evictionPeriod = evictionPeriod;
+    }
+
+    public long getValidationIdleTime() {
+        return validationIdleTime;
+    }
+
+    public void setValidationIdleTime(long validationIdleTime) {
+        this.validationIdleTime = validationIdleTime;
+    }
+
+    public int getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    public void setConnectTimeout(int connectTimeout) {
+        this.connectTimeout = connectTimeout;
+    }
+
+    public int getTimeout() {
+        return timeout;
+    }
+
+    public void setTimeout(int timeout) {
+        this.timeout = timeout;
+    }
+
+    public RedisTlsSocketFactory getTlsSocketFactory() {
+        return tlsSocketFactory;
+    }
+
+    public void setTlsSocketFactory(RedisTlsSocketFactory tlsSocketFactory) {
+        this.tlsSocketFactory = tlsSocketFactory;
+    }
+
+    @Override
+    public String toString() {
+        return "RedisConnectionPoolConfig{" +
+                "minIdle=" + minIdle +
+                ", maxTotal=" + maxTotal +
+                ", maxWait=" + maxWait +
+                ", maxIdleTime=" + maxIdleTime +
+                ", evictionPeriod=" + evictionPeriod +
+                ", validationIdleTime=" + validationIdleTime +
+                ", connectTimeout=" + connectTimeout +
+                ", timeout=" + timeout +
+                ", tlsSocketFactory=" + tlsSocketFactory +
+                '}';
+    }
+}
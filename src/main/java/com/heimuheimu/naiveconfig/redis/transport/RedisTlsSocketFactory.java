@@ -0,0 +1,255 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 heimuheimu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.heimuheimu.naiveconfig.redis.transport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLParameters;
+import javax.net.ssl.SSLSession;
+import javax.net.ssl.SSLSocket;
+import java.io.IOException;
+import java.net.Socket;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Redis TLS 连接工厂，在已建立的 TCP 连接上完成 TLS 握手，并统计握手次数及耗时。
+ *
+ * <p>TLS 会话由 {@link SSLContext} 按 Redis 服务主机名及端口缓存，后续连接同一 Redis 服务时将尝试恢复会话，
+ * 以简化握手代替完整握手。多个连接池、一次性命令执行器及订阅客户端应共享同一个 {@code RedisTlsSocketFactory} 实例，
+ * 以便复用缓存的 TLS 会话。</p>
+ *
+ * <p>每次建立连接都需要进行一次 TLS 握手，使用 {@link RedisConnectionPool} 复用连接时，握手仅在连接建立时进行一次；
+ * 使用 {@link OneTimeCommandExecutor} 时每次执行命令都会进行一次握手（通常为恢复会话的简化握手）。</p>
+ *
+ * <p>握手完成后的会话 ID 与该主机名及端口上一次握手得到的会话 ID 相同时，视为恢复会话的简化握手。
+ * <strong>注意：</strong>TLS 1.3 通过 PSK 恢复会话时，JDK 会为恢复的会话生成新的会话 ID，因此无法识别，
+ * 使用 TLS 1.3 时 {@link #getResumedHandshakeCount()} 通常为 0，仅能通过握手耗时判断会话恢复效果。</p>
+ *
+ * <p><strong>说明：</strong>{@code RedisTlsSocketFactory} 类是线程安全的，可在多个线程中使用同一个实例。</p>
+ *
+ * @author heimuheimu
+ */
+public class RedisTlsSocketFactory {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RedisTlsSocketFactory.class);
+
+    /**
+     * 创建 TLS 连接使用的 SSLContext
+     */
+    private final SSLContext sslContext;
+
+    /**
+     * 是否校验 Redis 服务证书中的主机名
+     */
+    private final boolean hostnameVerification;
+
+    /**
+     * TLS 握手成功次数，包含恢复会话的简化握手
+     */
+    private final AtomicLong handshakeCount = new AtomicLong();
+
+    /**
+     * 恢复会话的简化握手次数
+     */
+    private final AtomicLong resumedHandshakeCount = new AtomicLong();
+
+    /**
+     * TLS 握手失败次数
+     */
+    private final AtomicLong handshakeFailedCount = new AtomicLong();
+
+    /**
+     * TLS 握手成功的总耗时，单位：纳秒
+     */
+    private final AtomicLong totalHandshakeNanos = new AtomicLong();
+
+    /**
+     * TLS 握手成功的最大耗时，单位：纳秒
+     */
+    private final AtomicLong maxHandshakeNanos = new AtomicLong();
+
+    /**
+     * 最近一次握手得到的会话 ID Map，Key 为 Redis 服务主机名及端口，Value 为该 Redis 服务最近一次握手得到的会话 ID
+     */
+    private final ConcurrentHashMap<String, byte[]> lastSessionIdMap = new ConcurrentHashMap<>();
+
+    /**
+     * 构造一个使用 JDK 默认 SSLContext 的 Redis TLS 连接工厂，校验 Redis 服务证书中的主机名。
+     *
+     * @throws IllegalStateException 如果无法获取 JDK 默认的 SSLContext，将会抛出此异常
+     */
+    public RedisTlsSocketFactory() throws IllegalStateException {
+        this(getDefaultSSLContext(), true);
+    }
+
+    /**
+     * 构造一个 Redis TLS 连接工厂，校验 Redis 服务证书中的主机名。
+     *
+     * @param sslContext 创建 TLS 连接使用的 SSLContext，不允许为 {@code null}
+     * @throws NullPointerException 如果 SSLContext 为 {@code null}，将会抛出此异常
+     */
+    public RedisTlsSocketFactory(SSLContext sslContext) throws NullPointerException {
+        this(sslContext, true);
+    }
+
+    /**
+     * 构造一个 Redis TLS 连接工厂。
+     *
+     * @param sslContext 创建 TLS 连接使用的 SSLContext，不允许为 {@code null}
+     * @param hostnameVerification 是否校验 Redis 服务证书中的主机名，证书未包含 Redis 服务主机名时可设置为 {@code false}
+     * @throws NullPointerException 如果 SSLContext 为 {@code null}，将会抛出此异常
+     */
+    public RedisTlsSocketFactory(SSLContext sslContext, boolean hostnameVerification) throws NullPointerException {
+        if (sslContext == null) {
+            throw new NullPointerException("Create RedisTlsSocketFactory failed: `sslContext could not be null`.");
+        }
+        this.sslContext = sslContext;
+        this.hostnameVerification = hostnameVerification;
+    }
+
+    /**
+     * 在已建立的 TCP 连接上创建 TLS 连接，并完成 TLS 握手。握手失败时，TCP 连接将会被关闭。
+     *
+     * @param socket 已建立的 TCP 连接
+     * @param hostname Redis 服务主机名，用于 SNI、证书主机名校验及 TLS 会话缓存
+     * @param port Redis 服务端口号
+     * @return 已完成 TLS 握手的连接
+     * @throws IOException 如果 TLS 握手过程中发生错误，将会抛出此异常
+     */
+    public SSLSocket createSocket(Socket socket, String hostname, int port) throws IOException {
+        long startNanoTime = System.nanoTime();
+        SSLSocket sslSocket;
+        try {
+            sslSocket = (SSLSocket) sslContext.getSocketFactory().createSocket(socket, hostname, port, true);
+            if (hostnameVerification) {
+                SSLParameters sslParameters = sslSocket.getSSLParameters();
+                sslParameters.setEndpointIdentificationAlgorithm("HTTPS");
+                sslSocket.setSSLParameters(sslParameters);
+            }
+            sslSocket.startHandshake();
+        } catch (IOException e) {
+            handshakeFailedCount.incrementAndGet();
+            LOG.error("TLS handshake failed: `" + e.getMessage() + "`. Host: `" + hostname + ":" + port + "`.");
+            try {
+                socket.close();
+            } catch (Exception ignored) {
+                //ignore exception
+            }
+            throw e;
+        }
+        long handshakeNanos = System.nanoTime() - startNanoTime;
+        handshakeCount.incrementAndGet();
+        totalHandshakeNanos.addAndGet(handshakeNanos);
+        long currentMax;
+        while (handshakeNanos > (currentMax = maxHandshakeNanos.get())) {
+            if (maxHandshakeNanos.compareAndSet(currentMax, handshakeNanos)) {
+                break;
+            }
+        }
+        SSLSession session = sslSocket.getSession();
+        //恢复的会话沿用上一次握手的会话 ID
+        byte[] sessionId = session.getId();
+        byte[] lastSessionId = sessionId != null && sessionId.length > 0 ? lastSessionIdMap.put(hostname + ":" + port, sessionId) : null;
+        boolean resumed = lastSessionId != null && Arrays.equals(lastSessionId, sessionId);
+        if (resumed) {
+            resumedHandshakeCount.incrementAndGet();
+        }
+        LOG.debug("TLS handshake completed. Host: `{}:{}`. Protocol: `{}`. Cipher suite: `{}`. Resumed: `{}`. Cost: `{}μs`.",
+                hostname, port, session.getProtocol(), session.getCipherSuite(), resumed, handshakeNanos / 1000);
+        return sslSocket;
+    }
+
+    /**
+     * 获得 TLS 握手成功次数，包含恢复会话的简化握手。
+     *
+     * @return TLS 握手成功次数
+     */
+    public long getHandshakeCount() {
+        return handshakeCount.get();
+    }
+
+    /**
+     * 获得恢复会话的简化握手次数。
+     *
+     * @return 恢复会话的简化握手次数
+     */
+    public long getResumedHandshakeCount() {
+        return resumedHandshakeCount.get();
+    }
+
+    /**
+     * 获得 TLS 握手失败次数。
+     *
+     * @return TLS 握手失败次数
+     */
+    public long getHandshakeFailedCount() {
+        return handshakeFailedCount.get();
+    }
+
+    /**
+     * 获得 TLS 握手成功的平均耗时，单位：微秒。
+     *
+     * @return TLS 握手成功的平均耗时，如果尚未成功握手，则返回 0
+     */
+    public long getAverageHandshakeTime() {
+        long count = handshakeCount.get();
+        return count > 0 ? totalHandshakeNanos.get() / count / 1000 : 0;
+    }
+
+    /**
+     * 获得 TLS 握手成功的最大耗时，单位：微秒。
+     *
+     * @return TLS 握手成功的最大耗时
+     */
+    public long getMaxHandshakeTime() {
+        return maxHandshakeNanos.get() / 1000;
+    }
+
+    @Override
+    public String toString() {
+        return "RedisTlsSocketFactory{" +
+                "protocol=" + sslContext.getProtocol() +
+                ", hostnameVerification=" + hostnameVerification +
+                ", handshakeCount=" + handshakeCount +
+                ", resumedHandshakeCount=" + resumedHandshakeCount +
+                ", handshakeFailedCount=" + handshakeFailedCount +
+                ", averageHandshakeTime=" + getAverageHandshakeTime() +
+                ", maxHandshakeTime=" + getMaxHandshakeTime() +
+                '}';
+    }
+
+    private static SSLContext getDefaultSSLContext() throws IllegalStateException {
+        try {
+            return SSLContext.getDefault();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Get default SSLContext failed.", e);
+        }
+    }
+}
@@ -0,0 +1,371 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 heimuheimu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.heimuheimu.naiveconfig.redis.transport;
+
+import com.heimuheimu.naiveconfig.redis.data.RedisCommand;
+import com.heimuheimu.naiveconfig.redis.data.RedisData;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 支持读写分离的 Redis 命令执行器，读命令（GET、MGET 等）根据 {@link ReadPolicyEnum} 在从节点或主节点执行，
+ * 写命令及 PUBLISH 等其它命令始终在主节点执行，每个节点使用一个 {@link RedisConnectionPool}。
+ *
+ * <p>{@link ReadPolicyEnum#PREFER_REPLICA} 策略下，执行失败的从节点在 {@link FailoverCommandExecutor#DEFAULT_PROBE_PERIOD}
+ * 毫秒内不会被选择。从节点执行读命令发生 IO 错误，或返回 LOADING、MASTERDOWN 等从节点暂不可用的错误时，将在主节点重新执行该命令。</p>
+ *
+ * <p>从节点的数据复制存在延迟，配置变更通知发布后，客户端可能从尚未完成复制的从节点读取到旧值。如果设置了需确认的从节点数量，
+ * 每次执行 SET、DEL 命令后，将在同一个连接上执行 WAIT 命令，等待指定数量的从节点确认复制完成后再返回，从而保证后续 PUBLISH
+ * 通知发出时从节点已持有新值。WAIT 超时未获得足够的确认时，仅记录错误日志，写命令的执行结果仍正常返回。</p>
+ *
+ * <p><strong>说明：</strong>{@code ReplicaReadCommandExecutor} 类是线程安全的，可在多个线程中使用同一个实例。</p>
+ *
+ * @author heimuheimu
+ */
+public class ReplicaReadCommandExecutor implements RedisCommandExecutor {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ReplicaReadCommandExecutor.class);
+
+    /**
+     * 可在从节点执行的读命令名称集合
+     */
+    private static final Set<String> READ_COMMANDS = new HashSet<>(Arrays.asList("GET", "MGET", "EXISTS", "STRLEN"));
+
+    /**
+     * 执行后需等待从节点确认的写命令名称集合
+     */
+    private static final Set<String> WAIT_COMMANDS = new HashSet<>(Arrays.asList("SET", "DEL"));
+
+    /**
+     * 主节点地址，由主机名和端口组成，":"符号分割，例如：10.0.0.1:6379
+     */
+    private final String masterHost;
+
+    /**
+     * 主节点连接池
+     */
+    private final RedisConnectionPool masterPool;
+
+    /**
+     * 从节点连接池列表，不会为 {@code null}，可能为空列表
+     */
+    private final List<RedisConnectionPool> replicaPools;
+
+    /**
+     * 按平均响应时间选择从节点的命令执行器，仅在读命令路由策略为 {@link ReadPolicyEnum#NEAREST_REPLICA} 时不为 {@code null}
+     */
+    private final FailoverCommandExecutor nearestReplicaExecutor;
+
+    /**
+     * 读命令路由策略
+     */
+    private final ReadPolicyEnum readPolicy;
+
+    /**
+     * 写命令执行后需确认复制完成的从节点数量，小于等于 0 时不执行 WAIT 命令
+     */
+    private final int waitReplicas;
+
+    /**
+     * WAIT 命令超时时间，单位：毫秒
+     */
+    private final int waitTimeout;
+
+    /**
+     * 预先构造的 WAIT 命令，不执行 WAIT 命令时为 {@code null}
+     */
+    private final RedisCommand waitCommand;
+
+    /**
+     * 轮询选择从节点使用的计数器
+     */
+    private final AtomicInteger replicaIndex = new AtomicInteger();
+
+    /**
+     * 从节点最近一次执行失败的时间戳，与从节点连接池列表顺序一致，仅在读命令路由策略为 {@link ReadPolicyEnum#PREFER_REPLICA} 时使用
+     */
+    private final AtomicLongArray replicaDownTimes;
+
+    /**
+     * 从节点执行失败后在主节点重新执行的读命令次数
+     */
+    private final AtomicLong masterFallbackCount = new AtomicLong();
+
+    /**
+     * WAIT 命令未获得足够从节点确认的次数
+     */
+    private final AtomicLong waitShortfallCount = new AtomicLong();
+
+    /**
+     * 构造一个支持读写分离的 Redis 命令执行器，使用默认的连接池配置，写命令执行后不等待从节点确认。
+     *
+     * @param masterHost 主节点地址，由主机名和端口组成，":"符号分割，例如：10.0.0.1:6379
+     * @param replicaHosts 从节点地址列表，允许为 {@code null} 或空列表，此时所有命令均在主节点执行
+     * @param readPolicy 读命令路由策略，不允许为 {@code null}
+     * @throws NullPointerException 如果读命令路由策略为 {@code null}，将会抛出此异常
+     * @throws IllegalArgumentException 如果节点地址不符合规则，将会抛出此异常
+     */
+    public ReplicaReadCommandExecutor(String masterHost, List<String> replicaHosts, ReadPolicyEnum readPolicy)
+            throws NullPointerException, IllegalArgumentException {
+        this(masterHost, replicaHosts, readPolicy, new RedisConnectionPoolConfig());
+    }
+
+    /**
+     * 构造一个支持读写分离的 Redis 命令执行器，写命令执行后不等待从节点确认。
+     *
+     * @param masterHost 主节点地址，由主机名和端口组成，":"符号分割，例如：10.0.0.1:6379
+     * @param replicaHosts 从节点地址列表，允许为 {@code null} 或空列表，此时所有命令均在主节点执行
+     * @param readPolicy 读命令路由策略，不允许为 {@code null}
+     * @param poolConfig 每个节点使用的连接池配置，不允许为 {@code null}
+     * @throws NullPointerException 如果读命令路由策略或连接池配置为 {@code null}，将会抛出此异常
+     * @throws IllegalArgumentException 如果节点地址或连接池配置不合法，将会抛出此异常
+     */
+    public ReplicaReadCommandExecutor(String masterHost, List<String> replicaHosts, ReadPolicyEnum readPolicy,
+                                      RedisConnectionPoolConfig poolConfig) throws NullPointerException, IllegalArgumentException {
+        this(masterHost, replicaHosts, readPolicy, poolConfig, 0, 0);
+    }
+
+    /**
+     * 构造一个支持读写分离的 Redis 命令执行器。
+     *
+     * @param masterHost 主节点地址，由主机名和端口组成，":"符号分割，例如：10.0.0.1:6379
+     * @param replicaHosts 从节点地址列表，允许为 {@code null} 或空列表，此时所有命令均在主节点执行
+     * @param readPolicy 读命令路由策略，不允许为 {@code null}
+     * @param poolConfig 每个节点使用的连接池配置，不允许为 {@code null}
+     * @param waitReplicas SET、DEL 命令执行后需确认复制完成的从节点数量，小于等于 0 时不执行 WAIT 命令
+     * @param waitTimeout WAIT 命令超时时间，单位：毫秒，需确认的从节点数量大于 0 时，必须大于 0 且小于连接池配置中的操作超时时间
+     * @throws NullPointerException 如果读命令路由策略或连接池配置为 {@code null}，将会抛出此异常
+     * @throws IllegalArgumentException 如果节点地址或连接池配置不合法，将会抛出此异常
+     * @throws IllegalArgumentException 如果 WAIT 命令超时时间不合法，将会抛出此异常
+     */
+    public ReplicaReadCommandExecutor(String masterHost, List<String> replicaHosts, ReadPolicyEnum readPolicy,
+                                      RedisConnectionPoolConfig poolConfig, int waitReplicas, int waitTimeout)
+            throws NullPointerException, IllegalArgumentException {
+        if (readPolicy == null) {
+            throw new NullPointerException("Create ReplicaReadCommandExecutor failed: `read policy could not be null`. Master host: `"
+                    + masterHost + "`. Replica hosts: `" + replicaHosts + "`.");
+        }
+        if (poolConfig == null) {
+            throw new NullPointerException("Create ReplicaReadCommandExecutor failed: `pool config could not be null`. Master host: `"
+                    + masterHost + "`. Replica hosts: `" + replicaHosts + "`.");
+        }
+        if (waitReplicas > 0 && (waitTimeout <= 0 || waitTimeout >= poolConfig.getTimeout())) {
+            throw new IllegalArgumentException("Create ReplicaReadCommandExecutor failed: `invalid wait timeout`. Wait timeout: `"
+                    + waitTimeout + "`. Pool timeout: `" + poolConfig.getTimeout() + "`. Master host: `" + masterHost + "`.");
+        }
+        this.masterHost = masterHost;
+        this.readPolicy = readPolicy;
+        this.waitReplicas = waitReplicas;
+        this.waitTimeout = waitTimeout;
+        this.waitCommand = waitReplicas > 0 ? RedisCommand.of("WAIT", String.valueOf(waitReplicas), String.valueOf(waitTimeout)) : null;
+        this.masterPool = new RedisConnectionPool(masterHost, poolConfig);
+        List<RedisConnectionPool> replicaPoolList = new ArrayList<>();
+        try {
+            if (replicaHosts != null) {
+                for (String replicaHost : replicaHosts) {
+                    replicaPoolList.add(new RedisConnectionPool(replicaHost, poolConfig));
+                }
+            }
+        } catch (RuntimeException e) {
+            masterPool.close();
+            for (RedisConnectionPool replicaPool : replicaPoolList) {
+                replicaPool.close();
+            }
+            throw e;
+        }
+        this.replicaPools = Collections.unmodifiableList(replicaPoolList);
+        this.replicaDownTimes = new AtomicLongArray(replicaPools.size());
+        this.nearestReplicaExecutor = readPolicy == ReadPolicyEnum.NEAREST_REPLICA && !replicaPools.isEmpty()
+                ? new FailoverCommandExecutor(replicaPools) : null;
+        LOG.info("ReplicaReadCommandExecutor has been created. Master host: `{}`. Replica hosts: `{}`. Read policy: `{}`. Wait replicas: `{}`.",
+                masterHost, replicaHosts, readPolicy, waitReplicas);
+    }
+
+    /**
+     * 获得主节点地址，订阅客户端将连接至该地址。
+     *
+     * @return 主节点地址
+     */
+    @Override
+    public String getHost() {
+        return masterHost;
+    }
+
+    /**
+     * 获得从节点地址列表。
+     *
+     * @return 从节点地址列表，不会为 {@code null}
+     */
+    public List<String> getReplicaHosts() {
+        List<String> replicaHosts = new ArrayList<>(replicaPools.size());
+        for (RedisConnectionPool replicaPool : replicaPools) {
+            replicaHosts.add(replicaPool.getHost());
+        }
+        return replicaHosts;
+    }
+
+    /**
+     * 获得读命令路由策略。
+     *
+     * @return 读命令路由策略
+     */
+    public ReadPolicyEnum getReadPolicy() {
+        return readPolicy;
+    }
+
+    /**
+     * 获得从节点执行失败后在主节点重新执行的读命令次数。
+     *
+     * @return 在主节点重新执行的读命令次数
+     */
+    public long getMasterFallbackCount() {
+        return masterFallbackCount.get();
+    }
+
+    /**
+     * 获得 WAIT 命令未获得足够从节点确认的次数。
+     *
+     * @return WAIT 命令未获得足够从节点确认的次数
+     */
+    public long getWaitShortfallCount() {
+        return waitShortfallCount.get();
+    }
+
+    @Override
+    public RedisData execute(RedisData command) throws IOException {
+        String commandName = command.get(0).getText().toUpperCase(Locale.ENGLISH);
+        if (READ_COMMANDS.contains(commandName) && readPolicy != ReadPolicyEnum.MASTER && !replicaPools.isEmpty()) {
+            try {
+                RedisData responseData = executeOnReplica(command);
+                if (!isReplicaUnavailable(responseData)) {
+                    return responseData;
+                }
+                LOG.warn("Replica is unavailable: `{}`. Fall back to master. Command: `{}`. Master host: `{}`.",
+                        responseData.getText(), commandName, masterHost);
+            } catch (IOException e) {
+                LOG.warn("Execute on replica failed: `{}`. Fall back to master. Command: `{}`. Master host: `{}`.",
+                        e.getMessage(), commandName, masterHost);
+            }
+            masterFallbackCount.incrementAndGet();
+        } else if (waitCommand != null && WAIT_COMMANDS.contains(commandName)) {
+            return executeAndWait(commandName, command);
+        }
+        return masterPool.execute(command);
+    }
+
+    @Override
+    public CompletableFuture<RedisData> executeAsync(RedisData command, long timeout) {
+        return RedisCommandExecutors.executeInWorker(this, command, timeout);
+    }
+
+    @Override
+    public void close() {
+        masterPool.close();
+        if (nearestReplicaExecutor != null) {
+            nearestReplicaExecutor.close();
+        } else {
+            for (RedisConnectionPool replicaPool : replicaPools) {
+                replicaPool.close();
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ReplicaReadCommandExecutor{" +
+                "masterHost='" + masterHost + '\'' +
+                ", replicaHosts=" + getReplicaHosts() +
+                ", readPolicy=" + readPolicy +
+                ", waitReplicas=" + waitReplicas +
+                ", waitTimeout=" + waitTimeout +
+                ", masterFallbackCount=" + masterFallbackCount +
+                ", waitShortfallCount=" + waitShortfallCount +
+                '}';
+    }
+
+    /**
+     * 根据读命令路由策略选择从节点执行读命令，所有从节点均执行失败或近期执行失败时，抛出 IO 错误。
+     */
+    private RedisData executeOnReplica(RedisData command) throws IOException {
+        if (nearestReplicaExecutor != null) {
+            return nearestReplicaExecutor.execute(command);
+        }
+        int size = replicaPools.size();
+        int startIndex = (replicaIndex.getAndIncrement() & Integer.MAX_VALUE) % size;
+        IOException lastException = null;
+        for (int i = 0; i < size; i++) {
+            int index = (startIndex + i) % size;
+            if (System.currentTimeMillis() - replicaDownTimes.get(index) < FailoverCommandExecutor.DEFAULT_PROBE_PERIOD) {
+                continue;
+            }
+            try {
+                return replicaPools.get(index).execute(command);
+            } catch (IOException e) {
+                replicaDownTimes.set(index, System.currentTimeMillis());
+                lastException = e;
+            }
+        }
+        throw lastException != null ? lastException : new IOException("Execute on replica failed: `all replicas are marked down`. Master host: `" + masterHost + "`.");
+    }
+
+    /**
+     * 在主节点的同一个连接上依次执行写命令及 WAIT 命令，WAIT 仅等待当前连接上已执行的写命令完成复制。
+     */
+    private RedisData executeAndWait(String commandName, RedisData command) throws IOException {
+        List<RedisData> responseDataList = masterPool.executeOnSameConnection(command, waitCommand);
+        RedisData responseData = responseDataList.get(0);
+        if (!responseData.isError()) {
+            RedisData waitResponseData = responseDataList.get(1);
+            long ackedReplicas = waitResponseData.isInteger() ? Long.parseLong(waitResponseData.getText()) : -1;
+            if (ackedReplicas < waitReplicas) {
+                waitShortfallCount.incrementAndGet();
+                LOG.error("Wait for replicas failed: `acked " + ackedReplicas + " of " + waitReplicas + "`. Command: `" + commandName
+                        + "`. Wait timeout: `" + waitTimeout + "ms`. Master host: `" + masterHost + "`. Wait response: `" + waitResponseData + "`.");
+            }
+        }
+        return responseData;
+    }
+
+    private boolean isReplicaUnavailable(RedisData responseData) {
+        if (responseData.isError()) {
+            String errorMessage = responseData.getText();
+            return errorMessage.startsWith("LOADING") || errorMessage.startsWith("MASTERDOWN");
+        }
+        return false;
+    }
+}
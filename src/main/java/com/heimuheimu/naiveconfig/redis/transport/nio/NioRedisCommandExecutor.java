@@ -0,0 +1,411 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 heimuheimu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.heimuheimu.naiveconfig.redis.transport.nio;
+
+import com.heimuheimu.naiveconfig.redis.data.RedisData;
+import com.heimuheimu.naiveconfig.redis.transport.RedisCommandExecutor;
+import com.heimuheimu.naiveconfig.redis.transport.RedisCommandExecutors;
+import com.heimuheimu.naiveconfig.redis.transport.RedisPlatform;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+
+/**
+ * 基于 NIO 实现的 Redis 命令执行器，所有命令通过同一个 {@link NioRedisConnection} 以管道（Pipelining）方式发送，
+ * 连接的 IO 操作由 {@link RedisEventLoopGroup} 中的 IO 线程统一处理，无需为每个命令新建立 Socket 连接或占用独立的 IO 线程。
+ *
+ * <p>连接关闭后，将在下一次执行命令时自动重新建立连接。如果某个命令等待超时，且等待期间该连接未收到任何数据，该连接将被关闭。</p>
+ *
+ * <p>{@link #executeAsync(RedisData, long)} 方法返回的响应结果在 IO 线程中完成，不会占用调用线程。</p>
+ *
+ * <p>如果启用 RESP3 协议，Redis 服务推送的 Pushes 类型数据将通知至通过 {@link #addPushListener(NioRedisConnectionListener)}
+ * 注册的监听器，订阅客户端可通过 {@link com.heimuheimu.naiveconfig.redis.subscribe.RedisSubscribeClient} 复用该执行器的连接，
+ * 无需再建立独立的订阅连接。</p>
+ *
+ * <p><strong>注意：</strong>不允许在 IO 线程中调用 {@link #execute(RedisData)} 方法，否则将会导致 IO 线程阻塞。</p>
+ *
+ * <p><strong>说明：</strong>{@code NioRedisCommandExecutor} 类是线程安全的，可在多个线程中使用同一个实例。</p>
+ *
+ * @author heimuheimu
+ */
+public class NioRedisCommandExecutor implements RedisCommandExecutor {
+
+    private static final Logger LOG = LoggerFactory.getLogger(NioRedisCommandExecutor.class);
+
+    /**
+     * Redis 服务主机地址，由主机名和端口组成，":"符号分割，例如：localhost:6379，在 JDK 21 及以上版本中，
+     * 也可以为 Unix Domain Socket 地址，例如：unix:/var/run/redis/redis.sock
+     */
+    private final String host;
+
+    /**
+     * Redis 操作超时时间，单位：毫秒
+     */
+    private final int timeout;
+
+    /**
+     * Redis NIO 事件循环组
+     */
+    private final RedisEventLoopGroup eventLoopGroup;
+
+    /**
+     * 是否启用 RESP3 协议
+     */
+    private final boolean resp3;
+
+    /**
+     * Pushes 类型数据监听器列表，仅在启用 RESP3 协议时使用
+     */
+    private final CopyOnWriteArrayList<NioRedisConnectionListener> pushListeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * 当前使用的非阻塞 Redis 连接建立结果
+     */
+    private volatile CompletableFuture<NioRedisConnection> connectionFuture = null;
+
+    /**
+     * 是否已关闭
+     */
+    private volatile boolean closed = false;
+
+    /**
+     * 连接建立使用的私有锁
+     */
+    private final ReentrantLock connectLock = new ReentrantLock();
+
+    /**
+     * 构造一个基于 NIO 实现的 Redis 命令执行器，使用默认的 Redis NIO 事件循环组，默认 Redis 操作超时时间为 30 秒。
+     *
+     * @param host Redis 服务主机地址，由主机名和端口组成，":"符号分割，例如：localhost:6379，在 JDK 21 及以上版本中，
+     *             也可以为 Unix Domain Socket 地址，例如：unix:/var/run/redis/redis.sock
+     * @throws IllegalArgumentException 如果 Redis 服务主机地址不符合规则，将会抛出此异常
+     */
+    public NioRedisCommandExecutor(String host) throws IllegalArgumentException {
+        this(host, 30000, RedisEventLoopGroup.getDefault());
+    }
+
+    /**
+     * 构造一个基于 NIO 实现的 Redis 命令执行器。
+     *
+     * @param host Redis 服务主机地址，由主机名和端口组成，":"符号分割，例如：localhost:6379，在 JDK 21 及以上版本中，
+     *             也可以为 Unix Domain Socket 地址，例如：unix:/var/run/redis/redis.sock
+     * @param timeout Redis 操作超时时间，单位：毫秒，不允许小于等于 0
+     * @param eventLoopGroup Redis NIO 事件循环组，不允许为 {@code null}
+     * @throws IllegalArgumentException 如果 Redis 操作超时时间小于等于 0，将会抛出此异常
+     * @throws IllegalArgumentException 如果 Redis 服务主机地址不符合规则，将会抛出此异常
+     * @throws NullPointerException 如果 Redis NIO 事件循环组为 {@code null}，将会抛出此异常
+     */
+    public NioRedisCommandExecutor(String host, int timeout, RedisEventLoopGroup eventLoopGroup)
+            throws IllegalArgumentException, NullPointerException {
+        this(host, timeout, eventLoopGroup, false);
+    }
+
+    /**
+     * 构造一个基于 NIO 实现的 Redis 命令执行器，并指定是否启用 RESP3 协议。
+     *
+     * @param host Redis 服务主机地址，由主机名和端口组成，":"符号分割，例如：localhost:6379，在 JDK 21 及以上版本中，
+     *             也可以为 Unix Domain Socket 地址，例如：unix:/var/run/redis/redis.sock
+     * @param timeout Redis 操作超时时间，单位：毫秒，不允许小于等于 0
+     * @param eventLoopGroup Redis NIO 事件循环组，不允许为 {@code null}
+     * @param resp3 是否启用 RESP3 协议，需要 Redis 6.0 及以上版本
+     * @throws IllegalArgumentException 如果 Redis 操作超时时间小于等于 0，将会抛出此异常
+     * @throws IllegalArgumentException 如果 Redis 服务主机地址不符合规则，将会抛出此异常
+     * @throws NullPointerException 如果 Redis NIO 事件循环组为 {@code null}，将会抛出此异常
+     */
+    public NioRedisCommandExecutor(String host, int timeout, RedisEventLoopGroup eventLoopGroup, boolean resp3)
+            throws IllegalArgumentException, NullPointerException {
+        if (eventLoopGroup == null) {
+            throw new NullPointerException("Create NioRedisCommandExecutor failed: `eventLoopGroup could not be null`. Host: `" + host + "`.");
+        }
+        if (timeout <= 0) {
+            LOG.error("Create NioRedisCommandExecutor failed: `invalid timeout`. Host: `{}`. Timeout: `{}`.", host, timeout);
+            throw new IllegalArgumentException("Create NioRedisCommandExecutor failed: `invalid timeout`. Host: `" + host
+                    + "`. Timeout: `" + timeout + "`.");
+        }
+        this.host = host;
+        this.timeout = timeout;
+        this.eventLoopGroup = eventLoopGroup;
+        this.resp3 = resp3;
+        try {
+            //仅校验主机地址，每次建立连接时重新解析，以使用最新的 DNS 解析结果
+            RedisPlatform.resolveAddress(host);
+        } catch (Exception e) {
+            LOG.error("Create NioRedisCommandExecutor failed: `invalid host`. Host: `{}`. Timeout: `{}`.", host, timeout);
+            throw new IllegalArgumentException("Create NioRedisCommandExecutor failed: `invalid host`. Host: `" + host
+                    + "`. Timeout: `" + timeout + "`.", e);
+        }
+    }
+
+    @Override
+    public String getHost() {
+        return host;
+    }
+
+    /**
+     * 获得 Redis 操作超时时间，单位：毫秒。
+     *
+     * @return Redis 操作超时时间
+     */
+    public int getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * 判断当前执行器是否启用了 RESP3 协议。
+     *
+     * @return 是否启用了 RESP3 协议
+     */
+    public boolean isResp3() {
+        return resp3;
+    }
+
+    /**
+     * 注册 Pushes 类型数据监听器，执行器当前及后续建立的连接中接收到的 Pushes 类型数据以及连接关闭事件都将通知该监听器。
+     *
+     * @param listener Pushes 类型数据监听器，不允许为 {@code null}
+     * @throws IllegalStateException 如果执行器未启用 RESP3 协议，将会抛出此异常
+     */
+    public void addPushListener(NioRedisConnectionListener listener) throws IllegalStateException {
+        if (!resp3) {
+            throw new IllegalStateException("Push listener requires RESP3. Host: `" + host + "`.");
+        }
+        pushListeners.add(listener);
+    }
+
+    /**
+     * 移除 Pushes 类型数据监听器。
+     *
+     * @param listener Pushes 类型数据监听器
+     */
+    public void removePushListener(NioRedisConnectionListener listener) {
+        pushListeners.remove(listener);
+    }
+
+    /**
+     * 获得当前可用连接的建立结果，如果当前连接不可用，将异步建立新的连接。
+     *
+     * @return 连接建立结果
+     * @throws IOException 如果命令执行器已关闭，或 SocketChannel 打开失败，将会抛出此异常
+     */
+    public CompletableFuture<NioRedisConnection> getConnection() throws IOException {
+        return getConnectionFuture();
+    }
+
+    @Override
+    public RedisData execute(RedisData command) throws IOException {
+        if (eventLoopGroup.inEventLoop()) {
+            throw new IllegalStateException("NioRedisCommandExecutor#execute() could not be called in event loop thread. Host: `" + host + "`.");
+        }
+        try {
+            return executeAsync(command, timeout).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Wait redis response interrupted. Host: `" + host + "`.");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof TimeoutException) {
+                throw new SocketTimeoutException(cause.getMessage());
+            } else {
+                throw new IOException("Execute redis command failed. Host: `" + host + "`.", cause);
+            }
+        }
+    }
+
+    @Override
+    public CompletableFuture<RedisData> executeAsync(final RedisData command, long timeout) {
+        final long actualTimeout = timeout > 0 ? timeout : this.timeout;
+        final long sendTime = System.currentTimeMillis();
+        final CompletableFuture<RedisData> future = new CompletableFuture<>();
+        final CompletableFuture<NioRedisConnection> connectionFuture;
+        try {
+            connectionFuture = getConnectionFuture();
+        } catch (Exception e) {
+            future.completeExceptionally(e);
+            return future;
+        }
+        connectionFuture.whenComplete(new BiConsumer<NioRedisConnection, Throwable>() {
+
+            @Override
+            public void accept(final NioRedisConnection connection, Throwable throwable) {
+                if (throwable != null) {
+                    future.completeExceptionally(unwrap(throwable));
+                    return;
+                }
+                connection.send(command).whenComplete(new BiConsumer<RedisData, Throwable>() {
+
+                    @Override
+                    public void accept(RedisData responseData, Throwable throwable) {
+                        if (throwable != null) {
+                            future.completeExceptionally(unwrap(throwable));
+                        } else {
+                            future.complete(responseData);
+                        }
+                    }
+
+                });
+                future.whenComplete(new BiConsumer<RedisData, Throwable>() {
+
+                    @Override
+                    public void accept(RedisData responseData, Throwable throwable) {
+                        // 等待超时期间未收到任何数据，连接可能已失效，关闭该连接，下次执行命令时重新建立
+                        if (throwable instanceof TimeoutException && connection.getLastReceivedTime() < sendTime) {
+                            LOG.error("NioRedisConnection has not received any data in `{}ms`, it will be closed. Host: `{}`.",
+                                    actualTimeout, host);
+                            connection.close();
+                        }
+                    }
+
+                });
+            }
+
+        });
+        return RedisCommandExecutors.withTimeout(future, actualTimeout, "Wait redis response timeout: `" + actualTimeout
+                + "ms`. Host: `" + host + "`.");
+    }
+
+    @Override
+    public void close() {
+        connectLock.lock();
+        try {
+            if (!closed) {
+                closed = true;
+                if (connectionFuture != null) {
+                    NioRedisConnection connection = connectionFuture.getNow(null);
+                    if (connection != null) {
+                        connection.close();
+                    } else {
+                        connectionFuture.completeExceptionally(new IOException("NioRedisCommandExecutor has been closed. Host: `" + host + "`."));
+                    }
+                }
+            }
+        } finally {
+            connectLock.unlock();
+        }
+    }
+
+    /**
+     * 获得当前可用连接的建立结果，如果当前连接不可用，将异步建立新的连接。
+     *
+     * @return 连接建立结果
+     * @throws IOException 如果命令执行器已关闭，或 SocketChannel 打开失败，将会抛出此异常
+     */
+    private CompletableFuture<NioRedisConnection> getConnectionFuture() throws IOException {
+        CompletableFuture<NioRedisConnection> currentFuture = connectionFuture;
+        if (isUsable(currentFuture)) {
+            return currentFuture;
+        }
+        connectLock.lock();
+        try {
+            if (closed) {
+                throw new IOException("NioRedisCommandExecutor has been closed. Host: `" + host + "`.");
+            }
+            currentFuture = connectionFuture;
+            if (!isUsable(currentFuture)) {
+                final NioRedisConnection connection = new NioRedisConnection(host, RedisPlatform.resolveAddress(host), eventLoopGroup,
+                        resp3 ? new PushDispatcher() : null, resp3);
+                final ScheduledFuture<?> connectTimeoutFuture = RedisCommandExecutors.schedule(new Runnable() {
+
+                    @Override
+                    public void run() {
+                        if (!connection.getConnectFuture().isDone()) {
+                            LOG.error("Connect to redis timeout: `{}ms`. Host: `{}`.", timeout, host);
+                            connection.close();
+                        }
+                    }
+
+                }, timeout);
+                currentFuture = connection.getConnectFuture();
+                currentFuture.whenComplete(new BiConsumer<NioRedisConnection, Throwable>() {
+
+                    @Override
+                    public void accept(NioRedisConnection connection, Throwable throwable) {
+                        connectTimeoutFuture.cancel(false);
+                    }
+
+                });
+                connectionFuture = currentFuture;
+            }
+            return currentFuture;
+        } finally {
+            connectLock.unlock();
+        }
+    }
+
+    private boolean isUsable(CompletableFuture<NioRedisConnection> future) {
+        if (future == null || future.isCompletedExceptionally()) {
+            return false;
+        }
+        NioRedisConnection connection = future.getNow(null);
+        return connection == null || connection.isAvailable();
+    }
+
+    private Throwable unwrap(Throwable throwable) {
+        if (throwable instanceof CompletionException && throwable.getCause() != null) {
+            return throwable.getCause();
+        }
+        return throwable;
+    }
+
+    /**
+     * 将连接中接收到的 Pushes 类型数据及连接关闭事件分发至所有已注册的监听器。
+     */
+    private class PushDispatcher implements NioRedisConnectionListener {
+
+        @Override
+        public void onReceived(NioRedisConnection connection, RedisData data) {
+            for (NioRedisConnectionListener listener : pushListeners) {
+                try {
+                    listener.onReceived(connection, data);
+                } catch (Exception e) {
+                    LOG.error("Call NioRedisConnectionListener#onReceived() failed. Host: `" + host + "`. Data: `" + data + "`.", e);
+                }
+            }
+        }
+
+        @Override
+        public void onClosed(NioRedisConnection connection) {
+            for (NioRedisConnectionListener listener : pushListeners) {
+                try {
+                    listener.onClosed(connection);
+                } catch (Exception e) {
+                    LOG.error("Call NioRedisConnectionListener#onClosed() failed. Host: `" + host + "`.", e);
+                }
+            }
+        }
+    }
+}
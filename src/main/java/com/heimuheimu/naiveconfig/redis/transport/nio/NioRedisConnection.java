@@ -0,0 +1,501 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 heimuheimu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.heimuheimu.naiveconfig.redis.transport.nio;
+
+import com.heimuheimu.naiveconfig.redis.RedisDataDecoder;
+import com.heimuheimu.naiveconfig.redis.data.RedisCommand;
+import com.heimuheimu.naiveconfig.redis.data.RedisData;
+import com.heimuheimu.naiveconfig.redis.transport.RedisPlatform;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.SocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+
+/**
+ * 基于 {@link SocketChannel} 实现的非阻塞 Redis 连接，所有 IO 操作均在 {@link RedisEventLoop} 线程中执行。
+ *
+ * <p>连接支持管道（Pipelining）方式发送命令：多个命令可同时处于等待响应状态，Redis 服务按照命令发送的顺序返回响应数据，
+ * 每个响应数据将按顺序完成对应的 {@link CompletableFuture}。无对应请求的数据（例如订阅消息）将通过
+ * {@link NioRedisConnectionListener#onReceived(NioRedisConnection, RedisData)} 进行通知。</p>
+ *
+ * <p>如果启用 RESP3 协议，连接建立后将首先发送 {@code HELLO 3} 命令进行协商，协商成功后连接才被视为建立完成。
+ * RESP3 连接中 Redis 服务主动推送的 Pushes 类型数据（例如订阅消息、客户端缓存失效通知）将通过监听器进行通知，
+ * 不会占用任何请求的响应位置，因此同一个连接可同时用于订阅消息及执行普通命令。该协议需要 Redis 6.0 及以上版本。</p>
+ *
+ * <p><strong>说明：</strong>{@code NioRedisConnection} 类是线程安全的，可在多个线程中使用同一个实例。</p>
+ *
+ * @author heimuheimu
+ */
+public class NioRedisConnection implements Closeable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(NioRedisConnection.class);
+
+    /**
+     * RESP3 协议协商命令
+     */
+    private static final RedisCommand HELLO_3_COMMAND = RedisCommand.of("HELLO", "3");
+
+    /**
+     * 读缓冲区大小：8 KB，不完整的数据帧保存在解码器中，读缓冲区无需扩容
+     */
+    private static final int READ_BUFFER_SIZE = 8 * 1024;
+
+    /**
+     * Redis 服务主机地址，由主机名和端口组成，":"符号分割，例如：localhost:6379
+     */
+    private final String host;
+
+    /**
+     * 当前连接所属的事件循环
+     */
+    private final RedisEventLoop eventLoop;
+
+    /**
+     * 回调执行器
+     */
+    private final Executor callbackExecutor;
+
+    /**
+     * 连接事件监听器，允许为 {@code null}
+     */
+    private final NioRedisConnectionListener listener;
+
+    /**
+     * 是否启用 RESP3 协议
+     */
+    private final boolean resp3;
+
+    /**
+     * 与 Redis 服务建立的 SocketChannel
+     */
+    private final SocketChannel channel;
+
+    /**
+     * 连接建立结果
+     */
+    private final CompletableFuture<NioRedisConnection> connectFuture = new CompletableFuture<>();
+
+    /**
+     * 等待写入的数据队列，仅在事件循环线程中消费
+     */
+    private final Queue<ByteBuffer> writeQueue = new ConcurrentLinkedQueue<>();
+
+    /**
+     * 等待响应的请求队列，顺序与命令发送顺序一致
+     */
+    private final Queue<CompletableFuture<RedisData>> pendingQueue = new ConcurrentLinkedQueue<>();
+
+    /**
+     * 连接是否已关闭
+     */
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+
+    /**
+     * 最后一次接收到数据的时间戳
+     */
+    private volatile long lastReceivedTime = 0;
+
+    /**
+     * SocketChannel 在 Selector 中注册的 SelectionKey，仅在事件循环线程中使用
+     */
+    private SelectionKey selectionKey;
+
+    /**
+     * SocketChannel 是否已完成连接，仅在事件循环线程中使用
+     */
+    private boolean channelConnected = false;
+
+    /**
+     * 读缓冲区，处于写模式，仅在事件循环线程中使用
+     */
+    private final ByteBuffer readBuffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+
+    /**
+     * RESP 数据解码器，保存跨多次读取的不完整数据帧，仅在事件循环线程中使用
+     */
+    private final RedisDataDecoder decoder = new RedisDataDecoder();
+
+    /**
+     * 构造一个非阻塞 Redis 连接，连接将在事件循环线程中异步建立，可通过 {@link #getConnectFuture()} 获取连接建立结果。
+     *
+     * @param host Redis 服务主机地址，由主机名和端口组成，":"符号分割，例如：localhost:6379
+     * @param address Redis 服务地址，TCP 地址或 Unix Domain Socket 地址（需 JDK 21 及以上版本）
+     * @param eventLoopGroup Redis NIO 事件循环组，不允许为 {@code null}
+     * @param listener 连接事件监听器，允许为 {@code null}
+     * @throws IOException 如果 SocketChannel 打开失败，将会抛出此异常
+     */
+    public NioRedisConnection(String host, final SocketAddress address, RedisEventLoopGroup eventLoopGroup,
+                              NioRedisConnectionListener listener) throws IOException {
+        this(host, address, eventLoopGroup, listener, false);
+    }
+
+    /**
+     * 构造一个非阻塞 Redis 连接，连接将在事件循环线程中异步建立，可通过 {@link #getConnectFuture()} 获取连接建立结果。
+     *
+     * @param host Redis 服务主机地址，由主机名和端口组成，":"符号分割，例如：localhost:6379
+     * @param address Redis 服务地址，TCP 地址或 Unix Domain Socket 地址（需 JDK 21 及以上版本）
+     * @param eventLoopGroup Redis NIO 事件循环组，不允许为 {@code null}
+     * @param listener 连接事件监听器，允许为 {@code null}
+     * @param resp3 是否启用 RESP3 协议，如果为 {@code true}，连接建立后将发送 {@code HELLO 3} 命令进行协商，协商失败将关闭连接
+     * @throws IOException 如果 SocketChannel 打开失败，将会抛出此异常
+     */
+    public NioRedisConnection(String host, final SocketAddress address, RedisEventLoopGroup eventLoopGroup,
+                              NioRedisConnectionListener listener, boolean resp3) throws IOException {
+        this.host = host;
+        this.resp3 = resp3;
+        this.eventLoop = eventLoopGroup.next();
+        this.callbackExecutor = eventLoopGroup.getCallbackExecutor();
+        this.listener = listener;
+        this.channel = RedisPlatform.openSocketChannel(address);
+        try {
+            channel.configureBlocking(false);
+            if (RedisPlatform.isInetAddress(address)) {
+                channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+                channel.setOption(StandardSocketOptions.SO_KEEPALIVE, true);
+            }
+            eventLoop.execute(new Runnable() {
+
+                @Override
+                public void run() {
+                    connect(address);
+                }
+
+            });
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * 获得 Redis 服务主机地址，由主机名和端口组成，":"符号分割，例如：localhost:6379。
+     *
+     * @return Redis 服务主机地址
+     */
+    public String getHost() {
+        return host;
+    }
+
+    /**
+     * 获得连接建立结果。
+     *
+     * @return 连接建立结果
+     */
+    public CompletableFuture<NioRedisConnection> getConnectFuture() {
+        return connectFuture;
+    }
+
+    /**
+     * 判断当前连接是否启用了 RESP3 协议。
+     *
+     * @return 是否启用了 RESP3 协议
+     */
+    public boolean isResp3() {
+        return resp3;
+    }
+
+    /**
+     * 发送 Redis 命令，返回该命令的响应结果。响应结果在 IO 线程中完成，不应在其回调中执行阻塞操作。
+     *
+     * @param command Redis 命令
+     * @return 命令的响应结果
+     */
+    public CompletableFuture<RedisData> send(RedisData command) {
+        CompletableFuture<RedisData> future = new CompletableFuture<>();
+        write(command, future);
+        return future;
+    }
+
+    /**
+     * 发送 Redis 命令，该命令的响应数据将通过 {@link NioRedisConnectionListener#onReceived(NioRedisConnection, RedisData)} 进行通知。
+     *
+     * @param command Redis 命令
+     * @throws IOException 如果连接已关闭，将会抛出此异常
+     */
+    public void sendOneWay(RedisData command) throws IOException {
+        if (closed.get()) {
+            throw new ClosedChannelException();
+        }
+        write(command, null);
+    }
+
+    /**
+     * 判断当前连接是否可用。
+     *
+     * @return 当前连接是否可用
+     */
+    public boolean isAvailable() {
+        return !closed.get();
+    }
+
+    /**
+     * 获得最后一次接收到数据的时间戳，如果尚未接收到任何数据，将返回 0。
+     *
+     * @return 最后一次接收到数据的时间戳
+     */
+    public long getLastReceivedTime() {
+        return lastReceivedTime;
+    }
+
+    /**
+     * 获得当前等待响应的请求数量。
+     *
+     * @return 等待响应的请求数量
+     */
+    public int getPendingCount() {
+        return pendingQueue.size();
+    }
+
+    @Override
+    public void close() {
+        close(null);
+    }
+
+    private void write(RedisData command, final CompletableFuture<RedisData> future) {
+        final ByteBuffer buffer = ByteBuffer.wrap(command.getRespByteArray());
+        try {
+            eventLoop.execute(new Runnable() {
+
+                @Override
+                public void run() {
+                    if (closed.get()) {
+                        if (future != null) {
+                            future.completeExceptionally(new ClosedChannelException());
+                        }
+                        return;
+                    }
+                    if (future != null) {
+                        pendingQueue.offer(future);
+                        if (closed.get()) {
+                            close(null);
+                            return;
+                        }
+                    }
+                    writeQueue.offer(buffer);
+                    if (channelConnected) {
+                        flush();
+                    }
+                }
+
+            });
+        } catch (IllegalStateException e) {
+            close(e);
+            if (future != null) {
+                future.completeExceptionally(e);
+            }
+        }
+    }
+
+    private void connect(SocketAddress address) {
+        try {
+            selectionKey = channel.register(eventLoop.selector(), 0, this);
+            if (channel.connect(address)) {
+                onConnected();
+            } else {
+                selectionKey.interestOps(SelectionKey.OP_CONNECT);
+            }
+        } catch (Exception e) {
+            close(e);
+        }
+    }
+
+    void onConnectable() {
+        try {
+            if (channel.finishConnect()) {
+                onConnected();
+            }
+        } catch (Exception e) {
+            close(e);
+        }
+    }
+
+    private void onConnected() {
+        selectionKey.interestOps(SelectionKey.OP_READ);
+        channelConnected = true;
+        if (resp3) {
+            negotiateResp3();
+        } else {
+            connectFuture.complete(this);
+            LOG.debug("NioRedisConnection has been connected. Host: `{}`.", host);
+        }
+        flush();
+    }
+
+    /**
+     * 发送 {@code HELLO 3} 命令协商 RESP3 协议，该命令将排在所有已提交命令之前发送，协商成功后完成连接建立结果。
+     */
+    private void negotiateResp3() {
+        CompletableFuture<RedisData> helloFuture = new CompletableFuture<>();
+        List<ByteBuffer> queuedBuffers = new ArrayList<>(writeQueue);
+        List<CompletableFuture<RedisData>> queuedFutures = new ArrayList<>(pendingQueue);
+        writeQueue.clear();
+        pendingQueue.clear();
+        writeQueue.offer(ByteBuffer.wrap(HELLO_3_COMMAND.getRespByteArray()));
+        pendingQueue.offer(helloFuture);
+        writeQueue.addAll(queuedBuffers);
+        pendingQueue.addAll(queuedFutures);
+        helloFuture.whenComplete(new BiConsumer<RedisData, Throwable>() {
+
+            @Override
+            public void accept(RedisData responseData, Throwable throwable) {
+                if (throwable != null) {
+                    close(throwable);
+                } else if (responseData.isError()) {
+                    close(new IOException("Negotiate RESP3 failed: `" + responseData.getText() + "`. Redis 6.0+ is required. Host: `" + host + "`."));
+                } else {
+                    connectFuture.complete(NioRedisConnection.this);
+                    LOG.debug("NioRedisConnection has been connected with RESP3. Host: `{}`. Hello: `{}`.", host, responseData);
+                }
+            }
+
+        });
+    }
+
+    void onReadable() {
+        try {
+            int readBytes = channel.read(readBuffer);
+            if (readBytes < 0) {
+                close(new IOException("End of the stream has been reached. Host: `" + host + "`."));
+                return;
+            }
+            lastReceivedTime = System.currentTimeMillis();
+            readBuffer.flip();
+            RedisData data;
+            while ((data = decoder.decode(readBuffer)) != null) {
+                dispatch(data);
+            }
+            readBuffer.clear();
+        } catch (Exception e) {
+            close(e);
+        }
+    }
+
+    void onWritable() {
+        flush();
+    }
+
+    private void flush() {
+        if (closed.get() || selectionKey == null) {
+            return;
+        }
+        try {
+            ByteBuffer buffer;
+            while ((buffer = writeQueue.peek()) != null) {
+                channel.write(buffer);
+                if (buffer.hasRemaining()) {
+                    selectionKey.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+                    return;
+                }
+                writeQueue.poll();
+            }
+            selectionKey.interestOps(SelectionKey.OP_READ);
+        } catch (Exception e) {
+            close(e);
+        }
+    }
+
+    private void dispatch(final RedisData data) {
+        CompletableFuture<RedisData> future = data.isPush() ? null : pendingQueue.poll();
+        if (future != null) {
+            future.complete(data);
+        } else if (listener != null) {
+            callbackExecutor.execute(new Runnable() {
+
+                @Override
+                public void run() {
+                    try {
+                        listener.onReceived(NioRedisConnection.this, data);
+                    } catch (Exception e) {
+                        LOG.error("Call NioRedisConnectionListener#onReceived() failed. Host: `" + host + "`. Data: `" + data + "`.", e);
+                    }
+                }
+
+            });
+        } else {
+            LOG.warn("Unexpected redis response data: `{}`. Host: `{}`.", data, host);
+        }
+    }
+
+    private void close(Throwable cause) {
+        if (closed.compareAndSet(false, true)) {
+            try {
+                channel.close();
+            } catch (Exception e) {
+                LOG.error("Close NioRedisConnection failed. Host: `" + host + "`.", e);
+            }
+            IOException closedException = new IOException("NioRedisConnection has been closed. Host: `" + host + "`.", cause);
+            connectFuture.completeExceptionally(closedException);
+            CompletableFuture<RedisData> future;
+            while ((future = pendingQueue.poll()) != null) {
+                future.completeExceptionally(closedException);
+            }
+            writeQueue.clear();
+            if (cause != null) {
+                LOG.error("NioRedisConnection has been closed due to: `" + cause.getMessage() + "`. Host: `" + host + "`.", cause);
+            } else {
+                LOG.debug("NioRedisConnection has been closed. Host: `{}`.", host);
+            }
+            if (listener != null) {
+                try {
+                    callbackExecutor.execute(new Runnable() {
+
+                        @Override
+                        public void run() {
+                            try {
+                                listener.onClosed(NioRedisConnection.this);
+                            } catch (Exception e) {
+                                LOG.error("Call NioRedisConnectionListener#onClosed() failed. Host: `" + host + "`.", e);
+                            }
+                        }
+
+                    });
+                } catch (Exception e) {
+                    LOG.error("Call NioRedisConnectionListener#onClosed() failed. Host: `" + host + "`.", e);
+                }
+            }
+        } else if (pendingQueue.size() > 0) {
+            // 关闭过程中可能有新的请求进入等待队列
+            CompletableFuture<RedisData> future;
+            while ((future = pendingQueue.poll()) != null) {
+                future.completeExceptionally(new ClosedChannelException());
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 heimuheimu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.heimuheimu.naiveconfig.redis.transport.nio;
+
+import com.heimuheimu.naiveconfig.redis.data.RedisData;
+
+/**
+ * {@link NioRedisConnection} 事件监听器，所有事件均在事件循环组的回调线程中触发。
+ *
+ * @author heimuheimu
+ */
+public interface NioRedisConnectionListener {
+
+    /**
+     * 接收到无对应请求的 Redis 数据时，将触发该监听事件，例如订阅 Channel 中发布的消息、PING 命令的响应等。
+     *
+     * @param connection 接收到数据的连接
+     * @param data Redis 数据
+     */
+    void onReceived(NioRedisConnection connection, RedisData data);
+
+    /**
+     * 连接关闭后，将触发该监听事件，该事件仅触发一次。
+     *
+     * @param connection 已关闭的连接
+     */
+    void onClosed(NioRedisConnection connection);
+}
@@ -0,0 +1,203 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 heimuheimu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.heimuheimu.naiveconfig.redis.transport.nio;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Redis NIO 事件循环，在单个 IO 线程中通过 {@link Selector} 处理多个 {@link NioRedisConnection} 的连接建立、数据读取和写入事件。
+ *
+ * <p>所有与 {@link NioRedisConnection} 相关的 IO 操作都在事件循环线程中执行，其它线程可通过 {@link #execute(Runnable)}
+ * 方法提交需在事件循环线程中执行的任务。</p>
+ *
+ * <p><strong>说明：</strong>{@code RedisEventLoop} 类是线程安全的，可在多个线程中使用同一个实例。</p>
+ *
+ * @author heimuheimu
+ */
+public class RedisEventLoop implements Closeable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RedisEventLoop.class);
+
+    /**
+     * 事件循环使用的 Selector
+     */
+    private final Selector selector;
+
+    /**
+     * 事件循环线程
+     */
+    private final Thread thread;
+
+    /**
+     * 等待在事件循环线程中执行的任务队列
+     */
+    private final Queue<Runnable> taskQueue = new ConcurrentLinkedQueue<>();
+
+    /**
+     * 事件循环是否已关闭
+     */
+    private volatile boolean closed = false;
+
+    /**
+     * 构造一个 Redis NIO 事件循环，并启动事件循环线程。
+     *
+     * @param name 事件循环线程名称
+     * @throws IOException 如果 Selector 打开失败，将会抛出此异常
+     */
+    public RedisEventLoop(String name) throws IOException {
+        this.selector = Selector.open();
+        this.thread = new Thread(name) {
+
+            @Override
+            public void run() {
+                RedisEventLoop.this.run();
+            }
+
+        };
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * 判断当前线程是否为事件循环线程。
+     *
+     * @return 当前线程是否为事件循环线程
+     */
+    public boolean inEventLoop() {
+        return Thread.currentThread() == thread;
+    }
+
+    /**
+     * 提交一个需在事件循环线程中执行的任务。
+     *
+     * <p>如果该方法正常返回，任务一定会被执行，即使事件循环在提交过程中被关闭；如果抛出 {@link IllegalStateException} 异常，任务一定不会被执行，
+     * 调用方需自行结束与该任务相关的异步结果。</p>
+     *
+     * @param task 需在事件循环线程中执行的任务
+     * @throws IllegalStateException 如果事件循环已关闭，将会抛出此异常
+     */
+    public void execute(Runnable task) throws IllegalStateException {
+        if (closed) {
+            throw new IllegalStateException("RedisEventLoop has been closed. Thread: `" + thread.getName() + "`.");
+        }
+        taskQueue.offer(task);
+        //提交过程中事件循环可能已关闭并退出，如果任务仍在队列中，将其移除并抛出异常，否则任务已被事件循环线程取出执行
+        if (closed && taskQueue.remove(task)) {
+            throw new IllegalStateException("RedisEventLoop has been closed. Thread: `" + thread.getName() + "`.");
+        }
+        if (!inEventLoop()) {
+            selector.wakeup();
+        }
+    }
+
+    /**
+     * 获得事件循环使用的 Selector，仅允许在事件循环线程中使用。
+     *
+     * @return 事件循环使用的 Selector
+     */
+    Selector selector() {
+        return selector;
+    }
+
+    /**
+     * 判断事件循环是否已关闭。
+     *
+     * @return 事件循环是否已关闭
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            selector.wakeup();
+        }
+    }
+
+    private void run() {
+        LOG.info("RedisEventLoop has been started. Thread: `{}`.", thread.getName());
+        while (!closed) {
+            try {
+                selector.select(1000);
+                Iterator<SelectionKey> iterator = selector.selectedKeys().iterator();
+                while (iterator.hasNext()) {
+                    SelectionKey key = iterator.next();
+                    iterator.remove();
+                    NioRedisConnection connection = (NioRedisConnection) key.attachment();
+                    if (!key.isValid()) {
+                        connection.close();
+                        continue;
+                    }
+                    if (key.isConnectable()) {
+                        connection.onConnectable();
+                    }
+                    if (key.isValid() && key.isReadable()) {
+                        connection.onReadable();
+                    }
+                    if (key.isValid() && key.isWritable()) {
+                        connection.onWritable();
+                    }
+                }
+                runTasks();
+            } catch (Throwable e) {
+                LOG.error("RedisEventLoop unexpected error. Thread: `" + thread.getName() + "`.", e);
+            }
+        }
+        runTasks();
+        for (SelectionKey key : selector.keys()) {
+            ((NioRedisConnection) key.attachment()).close();
+        }
+        try {
+            selector.close();
+        } catch (Exception e) {
+            LOG.error("Close selector failed. Thread: `" + thread.getName() + "`.", e);
+        }
+        //执行关闭过程中提交的任务，此时连接及 Selector 均已关闭，任务将以异常结束相关的异步结果，避免调用方永久等待
+        runTasks();
+        LOG.info("RedisEventLoop has been closed. Thread: `{}`.", thread.getName());
+    }
+
+    private void runTasks() {
+        Runnable task;
+        while ((task = taskQueue.poll()) != null) {
+            try {
+                task.run();
+            } catch (Throwable e) {
+                LOG.error("Execute RedisEventLoop task failed. Thread: `" + thread.getName() + "`.", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 heimuheimu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.heimuheimu.naiveconfig.redis.transport.nio;
+
+import com.heimuheimu.naiveconfig.exception.NaiveConfigException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Redis NIO 事件循环组，由固定数量的 {@link RedisEventLoop} 组成，新建立的 {@link NioRedisConnection} 将轮询分配至各个事件循环。
+ *
+ * <p>事件循环组还提供一个回调线程，用于执行订阅消息通知、连接关闭通知等可能阻塞的回调操作，防止阻塞 IO 线程。</p>
+ *
+ * <p>通常情况下，同一个 JVM 中的所有 Redis 命令连接和订阅连接应共享 {@link #getDefault()} 返回的默认事件循环组。</p>
+ *
+ * <p><strong>说明：</strong>{@code RedisEventLoopGroup} 类是线程安全的，可在多个线程中使用同一个实例。</p>
+ *
+ * @author heimuheimu
+ */
+public class RedisEventLoopGroup implements Closeable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RedisEventLoopGroup.class);
+
+    /**
+     * 默认事件循环组
+     */
+    private static RedisEventLoopGroup DEFAULT_GROUP = null;
+
+    /**
+     * 事件循环数组
+     */
+    private final RedisEventLoop[] eventLoops;
+
+    /**
+     * 回调执行器
+     */
+    private final ExecutorService callbackExecutor;
+
+    /**
+     * 下一个分配的事件循环索引
+     */
+    private final AtomicInteger nextIndex = new AtomicInteger();
+
+    /**
+     * 构造一个 Redis NIO 事件循环组。
+     *
+     * @param threads IO 线程数量，不允许小于等于 0
+     * @throws IllegalArgumentException 如果 IO 线程数量小于等于 0，将会抛出此异常
+     * @throws NaiveConfigException 如果事件循环创建失败，将会抛出此异常
+     */
+    public RedisEventLoopGroup(int threads) throws IllegalArgumentException, NaiveConfigException {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Create RedisEventLoopGroup failed: `invalid threads`. Threads: `" + threads + "`.");
+        }
+        this.eventLoops = new RedisEventLoop[threads];
+        try {
+            for (int i = 0; i < threads; i++) {
+                eventLoops[i] = new RedisEventLoop("NaiveConfig-Redis-EventLoop-" + i);
+            }
+        } catch (Exception e) {
+            for (RedisEventLoop eventLoop : eventLoops) {
+                if (eventLoop != null) {
+                    eventLoop.close();
+                }
+            }
+            LOG.error("Create RedisEventLoopGroup failed. Threads: `" + threads + "`.", e);
+            throw new NaiveConfigException("Create RedisEventLoopGroup failed. Threads: `" + threads + "`.", e);
+        }
+        this.callbackExecutor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread t = new Thread(r, "NaiveConfig-Redis-EventLoop-Callback");
+                t.setDaemon(true);
+                return t;
+            }
+
+        });
+    }
+
+    /**
+     * 获得默认的 Redis NIO 事件循环组，IO 线程数量为 CPU 核数与 2 之间的较小值。
+     *
+     * @return 默认的 Redis NIO 事件循环组
+     */
+    public static synchronized RedisEventLoopGroup getDefault() {
+        if (DEFAULT_GROUP == null) {
+            DEFAULT_GROUP = new RedisEventLoopGroup(Math.min(2, Runtime.getRuntime().availableProcessors()));
+        }
+        return DEFAULT_GROUP;
+    }
+
+    /**
+     * 轮询获得下一个事件循环。
+     *
+     * @return 事件循环
+     */
+    public RedisEventLoop next() {
+        return eventLoops[(nextIndex.getAndIncrement() & Integer.MAX_VALUE) % eventLoops.length];
+    }
+
+    /**
+     * 获得回调执行器，用于执行可能阻塞的回调操作。
+     *
+     * @return 回调执行器
+     */
+    public ExecutorService getCallbackExecutor() {
+        return callbackExecutor;
+    }
+
+    /**
+     * 判断当前线程是否为该事件循环组中的 IO 线程。
+     *
+     * @return 当前线程是否为 IO 线程
+     */
+    public boolean inEventLoop() {
+        for (RedisEventLoop eventLoop : eventLoops) {
+            if (eventLoop.inEventLoop()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void close() {
+        synchronized (RedisEventLoopGroup.class) {
+            if (DEFAULT_GROUP == this) {
+                DEFAULT_GROUP = null;
+            }
+        }
+        for (RedisEventLoop eventLoop : eventLoops) {
+            eventLoop.close();
+        }
+        callbackExecutor.shutdown();
+    }
+}
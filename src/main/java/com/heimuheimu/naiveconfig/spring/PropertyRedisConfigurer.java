@@ -24,7 +24,10 @@
 
 package com.heimuheimu.naiveconfig.spring;
 
+import com.heimuheimu.naiveconfig.codec.ValueCodec;
+import com.heimuheimu.naiveconfig.exception.NaiveConfigException;
 import com.heimuheimu.naiveconfig.redis.OneTimeRedisClient;
+import com.heimuheimu.naiveconfig.redis.transport.OneTimeCommandExecutor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.BeansException;
@@ -78,6 +81,11 @@ public class PropertyRedisConfigurer implements BeanFactoryPostProcessor {
      */
     private final boolean strictlyMode;
 
+    /**
+     * 解析单个配置值的超时时间，包含该值中所有变量的读取耗时，单位：毫秒，小于等于 0 时使用 Redis 客户端默认的超时时间
+     */
+    private final long timeout;
+
     /**
      * Redis 配置变量名称正则表达式，以 "({" 开头，并以 "})" 结尾
      */
@@ -85,6 +93,7 @@ public class PropertyRedisConfigurer implements BeanFactoryPostProcessor {
 
     /**
      * 构造一个 {@code PropertyRedisConfigurer} 实例，strictlyMode 默认为 {@code true}，当遇到无法识别的变量将会抛出 IllegalArgumentException 异常。
+     * 连接建立超时时间为 {@link OneTimeRedisClient#DEFAULT_CONNECT_TIMEOUT} 毫秒，Redis 服务不可达时可尽快失败。
      *
      * @param configRedisHost Redis 服务主机地址，由主机名和端口组成，":"符号分割，例如：localhost:6379
      * @throws IllegalArgumentException 如果 Redis 服务主机地址不符合规则，将会抛出此异常
@@ -101,8 +110,52 @@ public class PropertyRedisConfigurer implements BeanFactoryPostProcessor {
      * @throws IllegalArgumentException 如果 Redis 服务主机地址不符合规则，将会抛出此异常
      */
     public PropertyRedisConfigurer(String configRedisHost, boolean strictlyMode) throws IllegalArgumentException {
-        this.configRedisClient = new OneTimeRedisClient(configRedisHost);
+        this(new OneTimeRedisClient(configRedisHost), strictlyMode);
+    }
+
+    /**
+     * 构造一个使用指定配置信息编解码器的 PropertyRedisConfigurer 实例，仅在配置信息使用自定义编解码器写入时需要指定，
+     * 内置编解码器写入的配置信息均可以被自动识别。
+     *
+     * @param configRedisHost Redis 服务主机地址，由主机名和端口组成，":"符号分割，例如：localhost:6379
+     * @param codec 配置信息编解码器，不允许为 {@code null}
+     * @param strictlyMode 如果为 true，遇到无法识别的变量将会抛出 IllegalArgumentException 异常，如果为 false，将会忽略无法识别的变量
+     * @throws IllegalArgumentException 如果 Redis 服务主机地址不符合规则，将会抛出此异常
+     * @throws NullPointerException 如果配置信息编解码器为 {@code null}，将会抛出此异常
+     */
+    public PropertyRedisConfigurer(String configRedisHost, ValueCodec codec, boolean strictlyMode) throws IllegalArgumentException, NullPointerException {
+        this(new OneTimeRedisClient(new OneTimeCommandExecutor(configRedisHost, OneTimeRedisClient.DEFAULT_CONNECT_TIMEOUT,
+                OneTimeRedisClient.DEFAULT_TIMEOUT), codec), strictlyMode);
+    }
+
+    /**
+     * 使用指定的 Redis 客户端构造一个 PropertyRedisConfigurer 实例，可与 NaiveConfig 客户端、配置管理器共享同一个 Redis 客户端或连接池。
+     *
+     * @param configRedisClient Redis 客户端，不允许为 {@code null}
+     * @param strictlyMode 如果为 true，遇到无法识别的变量将会抛出 IllegalArgumentException 异常，如果为 false，将会忽略无法识别的变量
+     * @throws NullPointerException 如果 Redis 客户端为 {@code null}，将会抛出此异常
+     */
+    public PropertyRedisConfigurer(OneTimeRedisClient configRedisClient, boolean strictlyMode) throws NullPointerException {
+        this(configRedisClient, strictlyMode, 0);
+    }
+
+    /**
+     * 使用指定的 Redis 客户端构造一个 PropertyRedisConfigurer 实例，并限制解析单个配置值的总耗时。
+     *
+     * <p>配置值中包含多个变量时，依次读取的变量共享同一个超时时间，剩余时间耗尽后将立即失败，避免 Redis 服务响应缓慢时长时间阻塞 Spring 启动。</p>
+     *
+     * @param configRedisClient Redis 客户端，不允许为 {@code null}
+     * @param strictlyMode 如果为 true，遇到无法识别的变量将会抛出 IllegalArgumentException 异常，如果为 false，将会忽略无法识别的变量
+     * @param timeout 解析单个配置值的超时时间，单位：毫秒，小于等于 0 时使用 Redis 客户端默认的超时时间
+     * @throws NullPointerException 如果 Redis 客户端为 {@code null}，将会抛出此异常
+     */
+    public PropertyRedisConfigurer(OneTimeRedisClient configRedisClient, boolean strictlyMode, long timeout) throws NullPointerException {
+        if (configRedisClient == null) {
+            throw new NullPointerException("Create PropertyRedisConfigurer failed: `configRedisClient could not be null`.");
+        }
+        this.configRedisClient = configRedisClient;
         this.strictlyMode = strictlyMode;
+        this.timeout = timeout;
     }
 
     @Override
@@ -137,9 +190,21 @@ public class PropertyRedisConfigurer implements BeanFactoryPostProcessor {
             }
             Matcher matcher = REDIS_PROPERTY_PATTERN.matcher(strVal);
             StringBuffer buffer = new StringBuffer();
+            long deadline = timeout > 0 ? System.currentTimeMillis() + timeout : 0;
             while (matcher.find()) {
                 String key = matcher.group(1);
-                String value = configRedisClient.get(key);
+                String value;
+                if (deadline > 0) {
+                    long remainingTime = deadline - System.currentTimeMillis();
+                    if (remainingTime <= 0) {
+                        LOGGER.error("Read redis config `" + key + "` failed: `deadline exceeded`. Timeout: `" + timeout + "ms`. Value: `" + strVal + "`.");
+                        throw new NaiveConfigException("Read redis config `" + key + "` failed: `deadline exceeded`. Timeout: `" + timeout
+                                + "ms`. Value: `" + strVal + "`.");
+                    }
+                    value = configRedisClient.get(key, remainingTime);
+                } else {
+                    value = configRedisClient.get(key);
+                }
                 if (value != null) {
                     LOGGER.info("Read redis config success. `key`:`{}`. `value`:`{}`.", key, value);
                 } else {
@@ -0,0 +1,131 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 heimuheimu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.heimuheimu.naiveconfig.redis.transport;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.SocketChannel;
+
+/**
+ * 运行平台相关的工具类，用于屏蔽不同 JDK 版本之间的差异。
+ *
+ * <p>当前类为 JDK 21 实现，位于 Multi-Release JAR 的 {@code META-INF/versions/21} 目录：线程使用虚拟线程，
+ * 并支持通过 Unix Domain Socket 连接与应用部署在同一主机的 Redis 服务，避免 TCP 回环带来的开销。</p>
+ *
+ * @author heimuheimu
+ */
+public final class RedisPlatform {
+
+    /**
+     * Unix Domain Socket 主机地址前缀，例如：unix:/var/run/redis/redis.sock
+     */
+    public static final String UNIX_SOCKET_PREFIX = "unix:";
+
+    private RedisPlatform() {
+        //private constructor
+    }
+
+    /**
+     * 判断当前运行平台是否支持通过 Unix Domain Socket 连接 Redis 服务。
+     *
+     * @return 是否支持 Unix Domain Socket
+     */
+    public static boolean isUnixDomainSocketSupported() {
+        return true;
+    }
+
+    /**
+     * 判断 Redis 服务主机地址是否为 Unix Domain Socket 地址，例如：unix:/var/run/redis/redis.sock。
+     *
+     * @param host Redis 服务主机地址
+     * @return 是否为 Unix Domain Socket 地址
+     */
+    public static boolean isUnixDomainSocketHost(String host) {
+        return host != null && host.startsWith(UNIX_SOCKET_PREFIX);
+    }
+
+    /**
+     * 解析 Redis 服务主机地址，主机地址由主机名和端口组成，":"符号分割，例如：localhost:6379，
+     * 或为 Unix Domain Socket 地址，例如：unix:/var/run/redis/redis.sock。
+     *
+     * @param host Redis 服务主机地址
+     * @return Redis 服务地址
+     * @throws IllegalArgumentException 如果 Redis 服务主机地址不符合规则，将会抛出此异常
+     */
+    public static SocketAddress resolveAddress(String host) throws IllegalArgumentException {
+        if (isUnixDomainSocketHost(host)) {
+            String path = host.substring(UNIX_SOCKET_PREFIX.length());
+            if (path.isEmpty()) {
+                throw new IllegalArgumentException("Invalid redis host: `" + host + "`. Valid host example: `unix:/var/run/redis/redis.sock`.");
+            }
+            return UnixDomainSocketAddress.of(path);
+        }
+        try {
+            String[] hostParts = host.split(":");
+            return RedisAddressResolver.getDefault().resolve(hostParts[0], Integer.parseInt(hostParts[1]));
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Invalid redis host: `" + host + "`. Valid host example: `localhost:6379`.", e);
+        }
+    }
+
+    /**
+     * 打开一个用于连接指定 Redis 服务地址的 SocketChannel。
+     *
+     * @param address Redis 服务地址
+     * @return SocketChannel
+     * @throws IOException 如果 SocketChannel 打开失败，将会抛出此异常
+     */
+    public static SocketChannel openSocketChannel(SocketAddress address) throws IOException {
+        if (address instanceof UnixDomainSocketAddress) {
+            return SocketChannel.open(StandardProtocolFamily.UNIX);
+        }
+        return SocketChannel.open();
+    }
+
+    /**
+     * 判断 Redis 服务地址是否为 TCP 地址，仅 TCP 地址支持 TCP_NODELAY、SO_KEEPALIVE 等 Socket 参数。
+     *
+     * @param address Redis 服务地址
+     * @return 是否为 TCP 地址
+     */
+    public static boolean isInetAddress(SocketAddress address) {
+        return address instanceof InetSocketAddress;
+    }
+
+    /**
+     * 创建一个未启动的虚拟线程，用于执行订阅消息接收、订阅客户端恢复等长时间阻塞的任务。
+     *
+     * @param name 线程名称
+     * @param daemon 是否为守护线程，虚拟线程总是守护线程，该参数将被忽略
+     * @param task 线程执行的任务
+     * @return 未启动的虚拟线程
+     */
+    public static Thread newThread(String name, boolean daemon, Runnable task) {
+        return Thread.ofVirtual().name(name).unstarted(task);
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 heimuheimu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package com.heimuheimu.naiveconfig.codec;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+/**
+ * {@link CompactBinaryCodec} 单元测试。
+ *
+ * @author heimuheimu
+ */
+public class CompactBinaryCodecTest {
+
+    private final CompactBinaryCodec codec = new CompactBinaryCodec();
+
+    @Test
+    public void testScalarRoundTrip() throws IOException {
+        Object[] values = {null, Boolean.TRUE, Boolean.FALSE, (byte) -7, (short) -300, 0, Integer.MIN_VALUE, Integer.MAX_VALUE,
+                Long.MIN_VALUE, Long.MAX_VALUE, 3.5f, Double.NaN, -0.0d, 'x', '中', "", "config", "配置信息", "emoji 😀"};
+        for (Object value : values) {
+            Object decodedValue = codec.decode(codec.encode(value));
+            assertEquals("Value: " + value, value, decodedValue);
+            if (value != null) {
+                assertEquals(value.getClass(), decodedValue.getClass());
+            }
+        }
+    }
+
+    @Test
+    public void testUnpairedSurrogateRoundTrip() throws IOException {
+        assertEquals("a?b", codec.decode(codec.encode("a\uD800b")));
+    }
+
+    @Test
+    public void testBytesRoundTrip() throws IOException {
+        byte[] value = new byte[1000];
+        for (int i = 0; i < value.length; i++) {
+            value[i] = (byte) i;
+        }
+        assertArrayEquals(value, (byte[]) codec.decode(codec.encode(value)));
+    }
+
+    @Test
+    public void testCollectionRoundTrip() throws IOException {
+        Map<Object, Object> map = new LinkedHashMap<>();
+        map.put("list", Arrays.asList(1, 2L, "3", null));
+        map.put(7, new LinkedHashSet<>(Arrays.asList("a", "b")));
+        map.put("empty", Collections.emptyMap());
+        map.put(null, Collections.singletonList(Collections.singletonMap("k", "值")));
+        Object decodedValue = codec.decode(codec.encode(map));
+        assertEquals(map, decodedValue);
+        assertEquals(new ArrayList<>(map.keySet()), new ArrayList<>(((Map<?, ?>) decodedValue).keySet()));
+    }
+
+    @Test
+    public void testUnsupportedType() {
+        assertEncodeFailed(new Object());
+        assertEncodeFailed(Collections.singletonList(new StringBuilder("x")));
+    }
+
+    @Test
+    public void testInvalidFormat() {
+        assertDecodeFailed(new byte[0]);
+        assertDecodeFailed(new byte[]{ValueCodecs.FORMAT_DEFLATE, 0});
+        assertDecodeFailed(new byte[]{(byte) 0xAC, (byte) 0xED, 0, 5});
+    }
+
+    @Test
+    public void testMalformedBytes() {
+        //未知类型
+        assertDecodeFailed(new byte[]{ValueCodecs.FORMAT_COMPACT_BINARY, 99});
+        //变长整数超过 10 个字节
+        byte[] malformedVarLong = new byte[13];
+        malformedVarLong[0] = ValueCodecs.FORMAT_COMPACT_BINARY;
+        malformedVarLong[1] = 6;
+        Arrays.fill(malformedVarLong, 2, malformedVarLong.length, (byte) 0x80);
+        assertDecodeFailed(malformedVarLong);
+        //多余的字节
+        assertDecodeFailed(new byte[]{ValueCodecs.FORMAT_COMPACT_BINARY, 0, 0});
+    }
+
+    @Test
+    public void testTruncatedBytes() throws IOException {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("name", "naiveconfig");
+        map.put("ports", Arrays.asList(6379, 6380));
+        map.put("weight", 0.75d);
+        byte[] encodedBytes = codec.encode(map);
+        for (int length = 0; length < encodedBytes.length; length++) {
+            assertDecodeFailed(Arrays.copyOf(encodedBytes, length));
+        }
+    }
+
+    @Test
+    public void testOversizeLength() {
+        //字符串长度超过剩余字节数
+        assertDecodeFailed(new byte[]{ValueCodecs.FORMAT_COMPACT_BINARY, 10, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07, 'a'});
+        //元素数量超过剩余字节数，不应按该数量预分配集合
+        assertDecodeFailed(new byte[]{ValueCodecs.FORMAT_COMPACT_BINARY, 12, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07, 0});
+        //负数长度
+        assertDecodeFailed(new byte[]{ValueCodecs.FORMAT_COMPACT_BINARY, 11, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF,
+                (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x01});
+    }
+
+    @Test
+    public void testMaxNestingDepth() throws IOException {
+        assertEquals(createNestedList(CompactBinaryCodec.MAX_NESTING_DEPTH),
+                codec.decode(codec.encode(createNestedList(CompactBinaryCodec.MAX_NESTING_DEPTH))));
+        assertEncodeFailed(createNestedList(CompactBinaryCodec.MAX_NESTING_DEPTH + 1));
+    }
+
+    @Test
+    public void testSelfReferencingCollection() {
+        List<Object> list = new ArrayList<>();
+        list.add(list);
+        assertEncodeFailed(list);
+        Map<Object, Object> map = new LinkedHashMap<>();
+        map.put("self", map);
+        assertEncodeFailed(map);
+    }
+
+    @Test
+    public void testDeepNestingBytes() {
+        assertDecodeFailed(createNestedListBytes(CompactBinaryCodec.MAX_NESTING_DEPTH + 1));
+        //嵌套层数远超线程栈深度时，应抛出 IOException 而非 StackOverflowError
+        assertDecodeFailed(createNestedListBytes(1000000));
+    }
+
+    @Test
+    public void testDeepNestingSet() {
+        byte[] encodedBytes = createNestedListBytes(CompactBinaryCodec.MAX_NESTING_DEPTH + 1);
+        for (int i = 1; i < encodedBytes.length - 1; i += 2) {
+            encodedBytes[i] = 13;
+        }
+        assertDecodeFailed(encodedBytes);
+    }
+
+    private static List<Object> createNestedList(int depth) {
+        List<Object> list = new ArrayList<>();
+        list.add("leaf");
+        for (int i = 1; i < depth; i++) {
+            List<Object> parent = new ArrayList<>();
+            parent.add(list);
+            list = parent;
+        }
+        return list;
+    }
+
+    /**
+     * 生成指定层数嵌套的单元素 List 编码后的字节数组，最内层元素为 {@code null}。
+     */
+    private static byte[] createNestedListBytes(int depth) {
+        byte[] encodedBytes = new byte[depth * 2 + 2];
+        encodedBytes[0] = ValueCodecs.FORMAT_COMPACT_BINARY;
+        for (int i = 0; i < depth; i++) {
+            encodedBytes[i * 2 + 1] = 12;
+            encodedBytes[i * 2 + 2] = 1;
+        }
+        return encodedBytes;
+    }
+
+    private void assertEncodeFailed(Object value) {
+        try {
+            codec.encode(value);
+            fail("Encode should be failed. Value type: " + value.getClass().getName());
+        } catch (IOException ignored) {
+            //expected exception
+        }
+    }
+
+    private void assertDecodeFailed(byte[] encodedBytes) {
+        try {
+            codec.decode(encodedBytes);
+            fail("Decode should be failed. Length: " + encodedBytes.length);
+        } catch (IOException ignored) {
+            //expected exception
+        }
+    }
+}
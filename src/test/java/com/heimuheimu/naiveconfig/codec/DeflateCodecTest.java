@@ -0,0 +1,212 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 heimuheimu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package com.heimuheimu.naiveconfig.codec;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.zip.Deflater;
+
+import static org.junit.Assert.*;
+
+/**
+ * {@link DeflateCodec} 单元测试。
+ *
+ * @author heimuheimu
+ */
+public class DeflateCodecTest {
+
+    @Test
+    public void testSmallValueIsNotCompressed() throws Exception {
+        DeflateCodec codec = new DeflateCodec(ValueCodecs.COMPACT_BINARY, 1024);
+        byte[] encodedBytes = codec.encode("small");
+        assertEquals(ValueCodecs.FORMAT_COMPACT_BINARY, encodedBytes[0]);
+        assertEquals("small", codec.decode(encodedBytes));
+        assertEquals(0, codec.getCompressedCount());
+    }
+
+    @Test
+    public void testRoundTrip() throws Exception {
+        DeflateCodec codec = new DeflateCodec(ValueCodecs.COMPACT_BINARY, 1024);
+        String value = createText(3 * 1024 * 1024);
+        byte[] encodedBytes = codec.encode(value);
+        assertEquals(ValueCodecs.FORMAT_DEFLATE, encodedBytes[0]);
+        assertTrue(encodedBytes.length < value.length() / 10);
+        assertEquals(value, codec.decode(encodedBytes));
+        assertEquals(1, codec.getCompressedCount());
+        assertEquals(1, codec.getDecompressedCount());
+        assertEquals(encodedBytes.length, codec.getCompressedByteCount());
+    }
+
+    @Test
+    public void testIncompressibleValueIsNotCompressed() throws Exception {
+        DeflateCodec codec = new DeflateCodec(ValueCodecs.COMPACT_BINARY, 16);
+        byte[] value = new byte[64 * 1024];
+        new Random(7).nextBytes(value);
+        byte[] encodedBytes = codec.encode(value);
+        assertEquals(ValueCodecs.FORMAT_COMPACT_BINARY, encodedBytes[0]);
+        assertArrayEquals(value, (byte[]) codec.decode(encodedBytes));
+    }
+
+    @Test
+    public void testDecodeOtherFormat() throws Exception {
+        DeflateCodec codec = new DeflateCodec(ValueCodecs.COMPACT_BINARY, 16);
+        assertEquals("java", codec.decode(ValueCodecs.JAVA_SERIALIZATION.encode("java")));
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        try {
+            new DeflateCodec(null, 16);
+            fail("Create DeflateCodec should be failed.");
+        } catch (NullPointerException ignored) {
+            //expected exception
+        }
+        try {
+            new DeflateCodec(new DeflateCodec(), 16);
+            fail("Create DeflateCodec should be failed.");
+        } catch (IllegalArgumentException ignored) {
+            //expected exception
+        }
+        try {
+            new DeflateCodec(ValueCodecs.COMPACT_BINARY, 16, 10);
+            fail("Create DeflateCodec should be failed.");
+        } catch (IllegalArgumentException ignored) {
+            //expected exception
+        }
+        try {
+            new DeflateCodec(ValueCodecs.COMPACT_BINARY, 16, Deflater.DEFAULT_COMPRESSION, 0);
+            fail("Create DeflateCodec should be failed.");
+        } catch (IllegalArgumentException ignored) {
+            //expected exception
+        }
+    }
+
+    @Test
+    public void testMalformedBytes() throws Exception {
+        DeflateCodec codec = new DeflateCodec();
+        //数据头不完整
+        assertDecodeFailed(codec, new byte[]{ValueCodecs.FORMAT_DEFLATE, 0, 0});
+        //压缩前字节数非法
+        assertDecodeFailed(codec, createCompressedBytes(ValueCodecs.COMPACT_BINARY.encode("x"), 0));
+        assertDecodeFailed(codec, createCompressedBytes(ValueCodecs.COMPACT_BINARY.encode("x"), -1));
+        //压缩数据损坏
+        byte[] corruptedBytes = createCompressedBytes(ValueCodecs.COMPACT_BINARY.encode(createText(4096)), -2);
+        Arrays.fill(corruptedBytes, 5, corruptedBytes.length, (byte) 0xFF);
+        assertDecodeFailed(codec, corruptedBytes);
+    }
+
+    @Test
+    public void testLengthMismatch() throws Exception {
+        DeflateCodec codec = new DeflateCodec();
+        byte[] rawBytes = ValueCodecs.COMPACT_BINARY.encode(createText(4096));
+        assertDecodeFailed(codec, createCompressedBytes(rawBytes, rawBytes.length + 1));
+        assertDecodeFailed(codec, createCompressedBytes(rawBytes, rawBytes.length - 1));
+    }
+
+    @Test
+    public void testTruncatedBytes() throws Exception {
+        DeflateCodec codec = new DeflateCodec(ValueCodecs.COMPACT_BINARY, 16);
+        byte[] encodedBytes = codec.encode(createText(8192));
+        assertEquals(ValueCodecs.FORMAT_DEFLATE, encodedBytes[0]);
+        for (int length = 1; length < encodedBytes.length; length++) {
+            assertDecodeFailed(codec, Arrays.copyOf(encodedBytes, length));
+        }
+    }
+
+    @Test
+    public void testOversizeRawLength() throws Exception {
+        //数据头声明的压缩前字节数超过限制时，不应分配缓冲区
+        byte[] bombBytes = {ValueCodecs.FORMAT_DEFLATE, 0x1F, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x03, 0x00};
+        assertDecodeFailed(new DeflateCodec(), bombBytes);
+        DeflateCodec limitedCodec = new DeflateCodec(ValueCodecs.COMPACT_BINARY, 16, Deflater.DEFAULT_COMPRESSION, 64 * 1024);
+        byte[] encodedBytes = new DeflateCodec(ValueCodecs.COMPACT_BINARY, 16).encode(createText(128 * 1024));
+        assertDecodeFailed(limitedCodec, encodedBytes);
+        assertEquals(createText(32 * 1024), limitedCodec.decode(limitedCodec.encode(createText(32 * 1024))));
+    }
+
+    @Test
+    public void testInflatedDataExceedsRawLength() throws Exception {
+        //实际解压后的数据超过数据头声明的字节数
+        byte[] rawBytes = new byte[16 * 1024 * 1024];
+        rawBytes[0] = ValueCodecs.FORMAT_COMPACT_BINARY;
+        assertDecodeFailed(new DeflateCodec(), createCompressedBytes(rawBytes, 1024));
+    }
+
+    @Test
+    public void testNestedDeflateData() throws Exception {
+        DeflateCodec codec = new DeflateCodec(ValueCodecs.COMPACT_BINARY, 16);
+        byte[] encodedBytes = codec.encode(createText(8192));
+        assertDecodeFailed(codec, createCompressedBytes(encodedBytes, encodedBytes.length));
+    }
+
+    private static String createText(int length) {
+        StringBuilder builder = new StringBuilder(length);
+        while (builder.length() < length) {
+            builder.append("key-").append(builder.length() % 97).append('=').append("value;");
+        }
+        builder.setLength(length);
+        return builder.toString();
+    }
+
+    /**
+     * 按 {@link DeflateCodec} 的数据格式压缩字节数组，数据头中的压缩前字节数使用指定的值，如果为 -2，则使用实际字节数。
+     */
+    private static byte[] createCompressedBytes(byte[] rawBytes, int rawLength) {
+        if (rawLength == -2) {
+            rawLength = rawBytes.length;
+        }
+        Deflater deflater = new Deflater();
+        try {
+            deflater.setInput(rawBytes);
+            deflater.finish();
+            byte[] buffer = new byte[rawBytes.length + 1024];
+            int length = 5;
+            while (!deflater.finished()) {
+                length += deflater.deflate(buffer, length, buffer.length - length);
+            }
+            buffer[0] = ValueCodecs.FORMAT_DEFLATE;
+            buffer[1] = (byte) (rawLength >>> 24);
+            buffer[2] = (byte) (rawLength >>> 16);
+            buffer[3] = (byte) (rawLength >>> 8);
+            buffer[4] = (byte) rawLength;
+            return Arrays.copyOf(buffer, length);
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static void assertDecodeFailed(DeflateCodec codec, byte[] encodedBytes) throws ClassNotFoundException {
+        try {
+            codec.decode(encodedBytes);
+            fail("Decode should be failed. Length: " + encodedBytes.length);
+        } catch (IOException ignored) {
+            //expected exception
+        }
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 heimuheimu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package com.heimuheimu.naiveconfig.redis;
+
+import com.heimuheimu.naiveconfig.redis.data.RedisData;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+/**
+ * {@link RedisDataDecoder} 单元测试，示例数据与 {@link RedisDataReaderTest} 共用。
+ *
+ * @author heimuheimu
+ */
+public class RedisDataDecoderTest {
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        RedisDataDecoder decoder = new RedisDataDecoder();
+        for (String sample : RedisDataReaderTest.SAMPLES) {
+            ByteBuffer buffer = ByteBuffer.wrap(sample.getBytes(RedisData.UTF8));
+            RedisData data = decoder.decode(buffer);
+            assertNotNull(sample, data);
+            assertEquals(sample, new String(data.getRespByteArray(), RedisData.UTF8));
+            assertFalse(buffer.hasRemaining());
+        }
+    }
+
+    @Test
+    public void testByteByByte() throws IOException {
+        RedisDataDecoder decoder = new RedisDataDecoder();
+        for (String sample : RedisDataReaderTest.SAMPLES) {
+            byte[] respBytes = sample.getBytes(RedisData.UTF8);
+            for (int i = 0; i < respBytes.length - 1; i++) {
+                assertNull(sample, decoder.decode(ByteBuffer.wrap(respBytes, i, 1)));
+            }
+            RedisData data = decoder.decode(ByteBuffer.wrap(respBytes, respBytes.length - 1, 1));
+            assertEquals(sample, new String(data.getRespByteArray(), RedisData.UTF8));
+        }
+    }
+
+    @Test
+    public void testMultipleFramesInOneBuffer() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        for (String sample : RedisDataReaderTest.SAMPLES) {
+            outputStream.write(sample.getBytes(RedisData.UTF8));
+        }
+        RedisDataDecoder decoder = new RedisDataDecoder();
+        ByteBuffer buffer = ByteBuffer.wrap(outputStream.toByteArray());
+        for (String sample : RedisDataReaderTest.SAMPLES) {
+            assertEquals(sample, new String(decoder.decode(buffer).getRespByteArray(), RedisData.UTF8));
+        }
+        assertFalse(buffer.hasRemaining());
+        assertNull(decoder.decode(buffer));
+    }
+
+    @Test
+    public void testMalformedData() {
+        assertDecodeFailed(new RedisDataDecoder(), "!unknown\r\n");
+        assertDecodeFailed(new RedisDataDecoder(), "+OK\n");
+        assertDecodeFailed(new RedisDataDecoder(), "$abc\r\nabc\r\n");
+        assertDecodeFailed(new RedisDataDecoder(), "$\r\n");
+        assertDecodeFailed(new RedisDataDecoder(), "$-2\r\n");
+        assertDecodeFailed(new RedisDataDecoder(), "$3\r\nabcde\r\n");
+        assertDecodeFailed(new RedisDataDecoder(), "*-5\r\n");
+        assertDecodeFailed(new RedisDataDecoder(), "*99999999999\r\n");
+        assertDecodeFailed(new RedisDataDecoder(), "%-1\r\n");
+        assertDecodeFailed(new RedisDataDecoder(), "=2\r\nab\r\n");
+        assertDecodeFailed(new RedisDataDecoder(), "=-1\r\n");
+    }
+
+    @Test
+    public void testTruncatedDataIsResumable() throws IOException {
+        for (String sample : RedisDataReaderTest.SAMPLES) {
+            byte[] respBytes = sample.getBytes(RedisData.UTF8);
+            for (int length = 0; length < respBytes.length; length++) {
+                RedisDataDecoder decoder = new RedisDataDecoder();
+                assertNull(sample + " truncated at " + length, decoder.decode(ByteBuffer.wrap(respBytes, 0, length)));
+                RedisData data = decoder.decode(ByteBuffer.wrap(respBytes, length, respBytes.length - length));
+                assertEquals(sample, new String(data.getRespByteArray(), RedisData.UTF8));
+            }
+        }
+    }
+
+    @Test
+    public void testReset() throws IOException {
+        RedisDataDecoder decoder = new RedisDataDecoder();
+        assertNull(decoder.decode(ByteBuffer.wrap("*2\r\n*1\r\n$5\r\nhel".getBytes(RedisData.UTF8))));
+        decoder.reset();
+        assertEquals("OK", decoder.decode(ByteBuffer.wrap("+OK\r\n".getBytes(RedisData.UTF8))).getText());
+    }
+
+    @Test
+    public void testOversizeLength() throws IOException {
+        RedisDataDecoder decoder = new RedisDataDecoder(16, 0);
+        assertEquals("0123456789abcdef", decoder.decode(ByteBuffer.wrap("$16\r\n0123456789abcdef\r\n".getBytes(RedisData.UTF8))).getText());
+        assertDecodeFailed(new RedisDataDecoder(16, 0), "$17\r\n0123456789abcdefg\r\n");
+        assertDecodeFailed(new RedisDataDecoder(16, 0), "+0123456789abcdefg\r\n");
+        assertDecodeFailed(new RedisDataDecoder(), "$" + (RedisDataDecoder.DEFAULT_MAX_BULK_LENGTH + 1) + "\r\n");
+        //长度前缀不可信任，不应按该长度预先分配元素数组
+        assertNull(new RedisDataDecoder().decode(ByteBuffer.wrap("*2147483647\r\n:1\r\n".getBytes(RedisData.UTF8))));
+        assertNull(new RedisDataDecoder().decode(ByteBuffer.wrap("%1073741823\r\n:1\r\n".getBytes(RedisData.UTF8))));
+        assertDecodeFailed(new RedisDataDecoder(), "%1073741824\r\n");
+    }
+
+    @Test
+    public void testGrowingElements() throws IOException {
+        StringBuilder builder = new StringBuilder("*5000\r\n");
+        for (int i = 0; i < 5000; i++) {
+            builder.append(':').append(i).append("\r\n");
+        }
+        RedisData data = new RedisDataDecoder().decode(ByteBuffer.wrap(builder.toString().getBytes(RedisData.UTF8)));
+        assertEquals(5000, data.size());
+        assertEquals("4999", data.get(4999).getText());
+    }
+
+    @Test
+    public void testDeepNesting() throws IOException {
+        RedisData data = new RedisDataDecoder().decode(ByteBuffer.wrap(
+                RedisDataReaderTest.createNestedArrays(RedisDataDecoder.DEFAULT_MAX_NESTING_DEPTH)));
+        for (int i = 0; i < RedisDataDecoder.DEFAULT_MAX_NESTING_DEPTH; i++) {
+            data = data.get(0);
+        }
+        assertEquals("1", data.getText());
+        assertDecodeFailed(new RedisDataDecoder(), RedisDataReaderTest.createNestedArrays(RedisDataDecoder.DEFAULT_MAX_NESTING_DEPTH + 1));
+        assertDecodeFailed(new RedisDataDecoder(), RedisDataReaderTest.createNestedArrays(100000));
+        assertNotNull(new RedisDataDecoder(0, 2).decode(ByteBuffer.wrap(RedisDataReaderTest.createNestedArrays(2))));
+        assertDecodeFailed(new RedisDataDecoder(0, 2), RedisDataReaderTest.createNestedArrays(3));
+    }
+
+    private static void assertDecodeFailed(RedisDataDecoder decoder, String resp) {
+        assertDecodeFailed(decoder, resp.getBytes(RedisData.UTF8));
+    }
+
+    private static void assertDecodeFailed(RedisDataDecoder decoder, byte[] respBytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(respBytes);
+        try {
+            while (buffer.hasRemaining()) {
+                decoder.decode(buffer);
+            }
+            fail("Decode should be failed: " + new String(Arrays.copyOf(respBytes, Math.min(respBytes.length, 32)), RedisData.UTF8));
+        } catch (IOException ignored) {
+            //expected exception
+        }
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 heimuheimu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package com.heimuheimu.naiveconfig.redis;
+
+import com.heimuheimu.naiveconfig.redis.data.RedisData;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+/**
+ * {@link RedisDataReader} 单元测试。
+ *
+ * @author heimuheimu
+ */
+public class RedisDataReaderTest {
+
+    /**
+     * RESP2 及 RESP3 各数据类型的示例数据
+     */
+    static final String[] SAMPLES = {
+            "+OK\r\n",
+            "-ERR unknown command\r\n",
+            ":-42\r\n",
+            "$5\r\nhello\r\n",
+            "$0\r\n\r\n",
+            "$-1\r\n",
+            "*-1\r\n",
+            "*0\r\n",
+            "*3\r\n$3\r\nfoo\r\n$-1\r\n*2\r\n:1\r\n+two\r\n",
+            "_\r\n",
+            "#t\r\n",
+            ",3.14\r\n",
+            "=15\r\ntxt:Some string\r\n",
+            "%2\r\n+first\r\n:1\r\n+second\r\n*1\r\n:2\r\n",
+            "~2\r\n+a\r\n+b\r\n",
+            ">3\r\n$7\r\nmessage\r\n$7\r\nchannel\r\n$7\r\npayload\r\n"
+    };
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        for (String sample : SAMPLES) {
+            byte[] respBytes = sample.getBytes(RedisData.UTF8);
+            RedisDataReader reader = new RedisDataReader(new ByteArrayInputStream(respBytes));
+            RedisData data = reader.read();
+            assertNotNull(sample, data);
+            assertEquals(sample, new String(data.getRespByteArray(), RedisData.UTF8));
+            assertNull(reader.read());
+        }
+    }
+
+    @Test
+    public void testMultipleFramesWithSmallBuffer() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        for (String sample : SAMPLES) {
+            outputStream.write(sample.getBytes(RedisData.UTF8));
+        }
+        RedisDataReader reader = new RedisDataReader(new OneByteInputStream(outputStream.toByteArray()), 1);
+        for (String sample : SAMPLES) {
+            assertEquals(sample, new String(reader.read().getRespByteArray(), RedisData.UTF8));
+        }
+        assertNull(reader.read());
+    }
+
+    @Test
+    public void testLargeBulkString() throws IOException {
+        byte[] valueBytes = new byte[1024 * 1024 + 7];
+        for (int i = 0; i < valueBytes.length; i++) {
+            valueBytes[i] = (byte) i;
+        }
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        outputStream.write(("$" + valueBytes.length + "\r\n").getBytes(RedisData.UTF8));
+        outputStream.write(valueBytes);
+        outputStream.write("\r\n:1\r\n".getBytes(RedisData.UTF8));
+        RedisDataReader reader = new RedisDataReader(new ByteArrayInputStream(outputStream.toByteArray()), 16);
+        assertArrayEquals(valueBytes, reader.read().getValueBytes());
+        assertEquals("1", reader.read().getText());
+    }
+
+    @Test
+    public void testMalformedData() throws IOException {
+        assertReadFailed("!unknown\r\n");
+        assertReadFailed("+OK\n");
+        assertReadFailed("$abc\r\nabc\r\n");
+        assertReadFailed("$\r\n");
+        assertReadFailed("$-2\r\n");
+        assertReadFailed("*-5\r\n");
+        assertReadFailed(":1\r\n*99999999999\r\n");
+        assertReadFailed("%-1\r\n");
+        assertReadFailed("=2\r\nab\r\n");
+        assertReadFailed("=-1\r\n");
+    }
+
+    @Test
+    public void testTruncatedData() throws IOException {
+        for (String sample : SAMPLES) {
+            byte[] respBytes = sample.getBytes(RedisData.UTF8);
+            for (int length = 0; length < respBytes.length; length++) {
+                RedisDataReader reader = new RedisDataReader(new ByteArrayInputStream(Arrays.copyOf(respBytes, length)));
+                assertNull(sample + " truncated at " + length, reader.read());
+            }
+        }
+    }
+
+    @Test
+    public void testOversizeLength() throws IOException {
+        assertReadFailed("$" + (RedisDataDecoder.DEFAULT_MAX_BULK_LENGTH + 1) + "\r\n");
+        //长度前缀不可信任，不应按该长度预先分配元素数组
+        RedisDataReader reader = new RedisDataReader(new ByteArrayInputStream("*2147483647\r\n:1\r\n".getBytes(RedisData.UTF8)));
+        assertNull(reader.read());
+        reader = new RedisDataReader(new ByteArrayInputStream("%1073741823\r\n:1\r\n".getBytes(RedisData.UTF8)));
+        assertNull(reader.read());
+        assertReadFailed("%1073741824\r\n");
+    }
+
+    @Test
+    public void testGrowingElements() throws IOException {
+        StringBuilder builder = new StringBuilder("*5000\r\n");
+        for (int i = 0; i < 5000; i++) {
+            builder.append(':').append(i).append("\r\n");
+        }
+        RedisData data = new RedisDataReader(new ByteArrayInputStream(builder.toString().getBytes(RedisData.UTF8))).read();
+        assertEquals(5000, data.size());
+        assertEquals("4999", data.get(4999).getText());
+    }
+
+    @Test
+    public void testDeepNesting() throws IOException {
+        RedisData data = new RedisDataReader(new ByteArrayInputStream(createNestedArrays(RedisDataDecoder.DEFAULT_MAX_NESTING_DEPTH))).read();
+        for (int i = 0; i < RedisDataDecoder.DEFAULT_MAX_NESTING_DEPTH; i++) {
+            data = data.get(0);
+        }
+        assertEquals("1", data.getText());
+        assertReadFailed(createNestedArrays(RedisDataDecoder.DEFAULT_MAX_NESTING_DEPTH + 1));
+        //嵌套层数远超线程栈深度时，应抛出 IOException 而非 StackOverflowError
+        assertReadFailed(createNestedArrays(100000));
+    }
+
+    /**
+     * 生成指定层数嵌套的单元素 Arrays，最内层元素为 Integer 1。
+     */
+    static byte[] createNestedArrays(int depth) {
+        StringBuilder builder = new StringBuilder(depth * 4 + 4);
+        for (int i = 0; i < depth; i++) {
+            builder.append("*1\r\n");
+        }
+        builder.append(":1\r\n");
+        return builder.toString().getBytes(RedisData.UTF8);
+    }
+
+    private static void assertReadFailed(String resp) {
+        assertReadFailed(resp.getBytes(RedisData.UTF8));
+    }
+
+    private static void assertReadFailed(byte[] respBytes) {
+        RedisDataReader reader = new RedisDataReader(new ByteArrayInputStream(respBytes));
+        try {
+            while (reader.read() != null) {
+                //read until failed
+            }
+            fail("Read should be failed. Length: " + respBytes.length);
+        } catch (IOException ignored) {
+            //expected exception
+        }
+    }
+
+    /**
+     * 每次最多返回一个字节的字节流，用于模拟数据分段到达。
+     */
+    private static class OneByteInputStream extends InputStream {
+
+        private final ByteArrayInputStream delegate;
+
+        private OneByteInputStream(byte[] bytes) {
+            this.delegate = new ByteArrayInputStream(bytes);
+        }
+
+        @Override
+        public int read() {
+            return delegate.read();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            return delegate.read(b, off, Math.min(len, 1));
+        }
+    }
+}
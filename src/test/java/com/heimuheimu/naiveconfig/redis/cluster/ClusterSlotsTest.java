@@ -0,0 +1,105 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 heimuheimu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package com.heimuheimu.naiveconfig.redis.cluster;
+
+import com.heimuheimu.naiveconfig.redis.data.RedisData;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * {@link ClusterSlots} 单元测试，期望值与 Redis 服务端 CLUSTER KEYSLOT 命令的结果一致。
+ *
+ * @author heimuheimu
+ */
+public class ClusterSlotsTest {
+
+    @Test
+    public void testKnownSlots() {
+        assertEquals(12182, ClusterSlots.getSlot("foo"));
+        assertEquals(5061, ClusterSlots.getSlot("bar"));
+        assertEquals(866, ClusterSlots.getSlot("hello"));
+        assertEquals(0, ClusterSlots.getSlot(""));
+        //CRC16（XMODEM）标准校验值："123456789" 的校验值为 0x31C3
+        assertEquals(0x31C3 & (ClusterSlots.SLOT_COUNT - 1), ClusterSlots.getSlot("123456789"));
+        assertEquals(16183, ClusterSlots.getSlot("配置"));
+    }
+
+    @Test
+    public void testHashTag() {
+        assertEquals(ClusterSlots.getSlot("user1000"), ClusterSlots.getSlot("{user1000}.following"));
+        assertEquals(ClusterSlots.getSlot("{user1000}.following"), ClusterSlots.getSlot("{user1000}.followers"));
+        assertEquals(ClusterSlots.getSlot("bar"), ClusterSlots.getSlot("foo{bar}{zap}"));
+        //仅使用第一个 '{' 之后的第一个 '}' 之前的内容
+        assertEquals(ClusterSlots.getSlot("{bar"), ClusterSlots.getSlot("foo{{bar}}zap"));
+        //花括号内的内容为空，或没有配对的 '}' 时，使用整个 Key
+        assertNotEquals(ClusterSlots.getSlot("bar"), ClusterSlots.getSlot("foo{}{bar}"));
+        assertEquals(crc16Slot("foo{}{bar}".getBytes(RedisData.UTF8)), ClusterSlots.getSlot("foo{}{bar}"));
+        assertEquals(crc16Slot("foo{bar".getBytes(RedisData.UTF8)), ClusterSlots.getSlot("foo{bar"));
+        assertEquals(crc16Slot("}bar{".getBytes(RedisData.UTF8)), ClusterSlots.getSlot("}bar{"));
+    }
+
+    @Test
+    public void testRandomKeys() {
+        Random random = new Random(16384);
+        for (int i = 0; i < 10000; i++) {
+            byte[] key = new byte[random.nextInt(64)];
+            random.nextBytes(key);
+            for (int j = 0; j < key.length; j++) {
+                if (key[j] == '{') {
+                    key[j] = 'x';
+                }
+            }
+            int slot = ClusterSlots.getSlot(key);
+            assertTrue(slot >= 0 && slot < ClusterSlots.SLOT_COUNT);
+            assertEquals(crc16Slot(key), slot);
+        }
+    }
+
+    @Test
+    public void testStringAndBytesAreConsistent() {
+        for (String key : new String[]{"foo", "{user}.a", "配置信息", "emoji 😀"}) {
+            assertEquals(ClusterSlots.getSlot(key.getBytes(RedisData.UTF8)), ClusterSlots.getSlot(key));
+        }
+    }
+
+    /**
+     * 逐位计算 CRC16（XMODEM）校验值后得到的哈希槽，用于验证查表实现。
+     */
+    private static int crc16Slot(byte[] bytes) {
+        int crc = 0;
+        for (byte b : bytes) {
+            crc ^= (b & 0xFF) << 8;
+            for (int i = 0; i < 8; i++) {
+                crc = (crc & 0x8000) != 0 ? (crc << 1) ^ 0x1021 : crc << 1;
+                crc &= 0xFFFF;
+            }
+        }
+        return crc % ClusterSlots.SLOT_COUNT;
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 heimuheimu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package com.heimuheimu.naiveconfig.redis.subscribe;
+
+import com.heimuheimu.naiveconfig.redis.RedisDataDecoder;
+import com.heimuheimu.naiveconfig.redis.data.RedisData;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+/**
+ * {@link SubscribeFrameReader} 单元测试。
+ *
+ * @author heimuheimu
+ */
+public class SubscribeFrameReaderTest {
+
+    private static final String MESSAGE_FRAME = "*3\r\n$7\r\nmessage\r\n$4\r\nch-1\r\n$5\r\nhello\r\n";
+
+    private static final String SUBSCRIBE_FRAME = "*3\r\n$9\r\nsubscribe\r\n$4\r\nch-1\r\n:1\r\n";
+
+    private static final String PONG_FRAME = "*2\r\n$4\r\npong\r\n$0\r\n\r\n";
+
+    @Test
+    public void testReadArrayFrames() throws IOException {
+        SubscribeFrameReader reader = createReader(MESSAGE_FRAME + SUBSCRIBE_FRAME + PONG_FRAME + "*2\r\n$-1\r\n+OK\r\n*-1\r\n");
+        SubscribeFrame frame = reader.read();
+        assertTrue(frame.isArray());
+        assertEquals(3, frame.size());
+        assertTrue(frame.matches(0, SubscribeFrame.MESSAGE));
+        assertTrue(frame.contentEquals(1, "ch-1".getBytes(RedisData.UTF8)));
+        assertEquals("hello", frame.getText(2));
+
+        frame = reader.read();
+        assertTrue(frame.matches(0, SubscribeFrame.SUBSCRIBE));
+        assertEquals("1", frame.getText(2));
+
+        frame = reader.read();
+        assertTrue(frame.matches(0, SubscribeFrame.PONG));
+        assertEquals("", frame.getText(1));
+
+        frame = reader.read();
+        assertEquals(2, frame.size());
+        assertNull(frame.getText(0));
+        assertEquals("OK", frame.getText(1));
+
+        frame = reader.read();
+        assertTrue(frame.isArray());
+        assertEquals(-1, frame.size());
+        assertNull(reader.read());
+    }
+
+    @Test
+    public void testReadSingleFrames() throws IOException {
+        SubscribeFrameReader reader = createReader("+OK\r\n-ERR wrong type\r\n:7\r\n$3\r\nabc\r\n");
+        SubscribeFrame frame = reader.read();
+        assertFalse(frame.isArray());
+        assertEquals("OK", frame.getText(0));
+        frame = reader.read();
+        assertTrue(frame.isError());
+        assertEquals("ERR wrong type", frame.getText(0));
+        assertEquals("7", reader.read().getText(0));
+        assertEquals("abc", reader.read().getText(0));
+        assertNull(reader.read());
+    }
+
+    @Test
+    public void testFragmentedFramesLargerThanBuffer() throws IOException {
+        char[] payload = new char[100 * 1024];
+        for (int i = 0; i < payload.length; i++) {
+            payload[i] = (char) ('a' + i % 26);
+        }
+        String largeFrame = "*3\r\n$7\r\nmessage\r\n$4\r\nch-2\r\n$" + payload.length + "\r\n" + new String(payload) + "\r\n";
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        for (int i = 0; i < 1000; i++) {
+            outputStream.write(MESSAGE_FRAME.getBytes(RedisData.UTF8));
+        }
+        outputStream.write(largeFrame.getBytes(RedisData.UTF8));
+        outputStream.write(MESSAGE_FRAME.getBytes(RedisData.UTF8));
+        SubscribeFrameReader reader = new SubscribeFrameReader(new ChunkedInputStream(outputStream.toByteArray(), 7));
+        for (int i = 0; i < 1000; i++) {
+            assertEquals("hello", reader.read().getText(2));
+        }
+        SubscribeFrame frame = reader.read();
+        assertEquals("ch-2", frame.getText(1));
+        assertEquals(new String(payload), frame.getText(2));
+        assertEquals("hello", reader.read().getText(2));
+        assertNull(reader.read());
+    }
+
+    @Test
+    public void testMalformedFrames() {
+        assertReadFailed("!unknown\r\n");
+        assertReadFailed("*1\r\n!unknown\r\n");
+        assertReadFailed("+OK\n");
+        assertReadFailed("*1\r\n$3\r\nabcd\r\n");
+        assertReadFailed("*1\r\n$abc\r\n");
+        assertReadFailed("*-2\r\n");
+        assertReadFailed("*1\r\n$-2\r\n");
+        assertReadFailed("*99999999999\r\n");
+    }
+
+    @Test
+    public void testTruncatedFrames() throws IOException {
+        for (String sample : new String[]{MESSAGE_FRAME, SUBSCRIBE_FRAME, PONG_FRAME, "+OK\r\n", "$3\r\nabc\r\n"}) {
+            byte[] respBytes = sample.getBytes(RedisData.UTF8);
+            for (int length = 0; length < respBytes.length; length++) {
+                SubscribeFrameReader reader = new SubscribeFrameReader(new ByteArrayInputStream(Arrays.copyOf(respBytes, length)));
+                assertNull(sample + " truncated at " + length, reader.read());
+            }
+        }
+    }
+
+    @Test
+    public void testOversizeLength() {
+        //长度前缀不可信任，不应按该长度分配数据帧的元素数组或接收缓冲区
+        assertReadFailed("*2147483647\r\n$1\r\na\r\n");
+        assertReadFailed("*1025\r\n");
+        assertReadFailed("*1\r\n$" + (RedisDataDecoder.DEFAULT_MAX_BULK_LENGTH + 1) + "\r\n");
+    }
+
+    @Test
+    public void testNestedArrays() {
+        assertReadFailed("*1\r\n*1\r\n:1\r\n");
+        assertReadFailed("*2\r\n$7\r\nmessage\r\n*-1\r\n");
+    }
+
+    private static SubscribeFrameReader createReader(String resp) {
+        return new SubscribeFrameReader(new ByteArrayInputStream(resp.getBytes(RedisData.UTF8)));
+    }
+
+    private static void assertReadFailed(String resp) {
+        SubscribeFrameReader reader = createReader(resp);
+        try {
+            while (reader.read() != null) {
+                //read until failed
+            }
+            fail("Read should be failed: " + resp.substring(0, Math.min(resp.length(), 32)));
+        } catch (IOException ignored) {
+            //expected exception
+        }
+    }
+
+    /**
+     * 每次最多返回指定字节数的字节流，用于模拟数据分段到达。
+     */
+    private static class ChunkedInputStream extends InputStream {
+
+        private final ByteArrayInputStream delegate;
+
+        private final int chunkSize;
+
+        private ChunkedInputStream(byte[] bytes, int chunkSize) {
+            this.delegate = new ByteArrayInputStream(bytes);
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        public int read() {
+            return delegate.read();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            return delegate.read(b, off, Math.min(len, chunkSize));
+        }
+    }
+}